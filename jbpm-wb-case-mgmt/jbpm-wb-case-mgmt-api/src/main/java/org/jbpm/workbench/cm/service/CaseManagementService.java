@@ -22,8 +22,13 @@ import java.util.Map;
 import org.jboss.errai.bus.server.annotations.Remote;
 import org.jbpm.workbench.cm.model.*;
 import org.jbpm.workbench.cm.util.Actions;
+import org.jbpm.workbench.cm.util.CaseActionStatus;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentChange;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentResult;
 
 @Remote
 public interface CaseManagementService {
@@ -40,12 +45,21 @@ public interface CaseManagementService {
                              String owner,
                              List<CaseRoleAssignmentSummary> roleAssignments);
 
-    List<CaseInstanceSummary> getCaseInstances(CaseInstanceSearchRequest request);
+    CaseInstanceSearchResult getCaseInstances(CaseInstanceSearchRequest request);
 
     CaseInstanceSummary getCaseInstance(String serverTemplateId,
                                         String containerId,
                                         String caseId);
 
+    /**
+     * @param sinceVersion version of the snapshot already known by the caller, may be null
+     * @return only the current version when it matches sinceVersion, the full snapshot otherwise
+     */
+    CaseInstanceSnapshot getCaseInstanceSnapshot(String serverTemplateId,
+                                                 String containerId,
+                                                 String caseId,
+                                                 String sinceVersion);
+
     void cancelCaseInstance(String serverTemplateId,
                             String containerId,
                             String caseId);
@@ -102,6 +116,15 @@ public interface CaseManagementService {
                              String roleName,
                              String group);
 
+    /**
+     * Applies all the role assignment changes of a case at once, changes that can not be applied are reported in the
+     * result together with the role assignments of the case once every change has been processed.
+     */
+    CaseRoleAssignmentResult updateRoleAssignments(String serverTemplateId,
+                                                   String containerId,
+                                                   String caseId,
+                                                   List<CaseRoleAssignmentChange> changes);
+
     List<CaseMilestoneSummary> getCaseMilestones(String containerId,
                                                  String caseId,
                                                  CaseMilestoneSearchRequest request);
@@ -114,6 +137,12 @@ public interface CaseManagementService {
                            String caseId,
                            String userId);
 
+    List<CaseActionSummary> getCaseActionsByStatus(String templateId,
+                                                   String container,
+                                                   String caseId,
+                                                   String userId,
+                                                   CaseActionStatus actionStatus);
+
     void addDynamicUserTask(String containerId,
                             String caseId,
                             String name,
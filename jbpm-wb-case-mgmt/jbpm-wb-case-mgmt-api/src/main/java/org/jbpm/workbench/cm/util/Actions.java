@@ -16,7 +16,9 @@
 
 package org.jbpm.workbench.cm.util;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.jbpm.workbench.cm.model.CaseActionSummary;
 
@@ -25,6 +27,7 @@ public class Actions {
     private List<CaseActionSummary> availableActions;
     private List<CaseActionSummary> inProgressAction;
     private List<CaseActionSummary> completeActions;
+    private Set<CaseActionStatus> pendingActions = new HashSet<>();
 
     public List<CaseActionSummary> getAvailableActions() {
         return availableActions;
@@ -49,4 +52,19 @@ public class Actions {
     public void setCompleteActions(List<CaseActionSummary> completeActions) {
         this.completeActions = completeActions;
     }
+
+    /**
+     * Action sections that could not be loaded in time, they need to be requested separately.
+     */
+    public Set<CaseActionStatus> getPendingActions() {
+        return pendingActions;
+    }
+
+    public void setPendingActions(Set<CaseActionStatus> pendingActions) {
+        this.pendingActions = pendingActions;
+    }
+
+    public boolean isPending(final CaseActionStatus actionStatus) {
+        return pendingActions != null && pendingActions.contains(actionStatus);
+    }
 }
\ No newline at end of file
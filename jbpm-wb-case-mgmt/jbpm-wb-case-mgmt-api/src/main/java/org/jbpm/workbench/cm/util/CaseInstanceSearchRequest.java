@@ -29,6 +29,12 @@ public class CaseInstanceSearchRequest {
 
     private Boolean sortByAsc = true;
 
+    private String owner;
+
+    private Integer page = 0;
+
+    private Integer pageSize = 10;
+
     public CaseInstanceSearchRequest() {
     }
 
@@ -56,12 +62,39 @@ public class CaseInstanceSearchRequest {
         this.sortByAsc = sortByAsc;
     }
 
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
     @Override
     public String toString() {
         return "CaseInstanceSearchRequest{" +
                 "status=" + status +
                 ", sortBy=" + sortBy +
                 ", sortByAsc=" + sortByAsc +
+                ", owner='" + owner + '\'' +
+                ", page=" + page +
+                ", pageSize=" + pageSize +
                 '}';
     }
 
@@ -82,7 +115,16 @@ public class CaseInstanceSearchRequest {
         if (getSortBy() != that.getSortBy()) {
             return false;
         }
-        return getSortByAsc() != null ? getSortByAsc().equals(that.getSortByAsc()) : that.getSortByAsc() == null;
+        if (getSortByAsc() != null ? !getSortByAsc().equals(that.getSortByAsc()) : that.getSortByAsc() != null) {
+            return false;
+        }
+        if (getOwner() != null ? !getOwner().equals(that.getOwner()) : that.getOwner() != null) {
+            return false;
+        }
+        if (getPage() != null ? !getPage().equals(that.getPage()) : that.getPage() != null) {
+            return false;
+        }
+        return getPageSize() != null ? getPageSize().equals(that.getPageSize()) : that.getPageSize() == null;
     }
 
     @Override
@@ -94,6 +136,12 @@ public class CaseInstanceSearchRequest {
         result = ~~result;
         result = 31 * result + (getSortByAsc() != null ? getSortByAsc().hashCode() : 0);
         result = ~~result;
+        result = 31 * result + (getOwner() != null ? getOwner().hashCode() : 0);
+        result = ~~result;
+        result = 31 * result + (getPage() != null ? getPage().hashCode() : 0);
+        result = ~~result;
+        result = 31 * result + (getPageSize() != null ? getPageSize().hashCode() : 0);
+        result = ~~result;
         return result;
     }
 }
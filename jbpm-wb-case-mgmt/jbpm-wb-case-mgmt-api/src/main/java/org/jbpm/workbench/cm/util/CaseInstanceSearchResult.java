@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+
+/**
+ * Single page of case instances matching a {@link CaseInstanceSearchRequest}, along with the total number of matches.
+ */
+@Portable
+public class CaseInstanceSearchResult {
+
+    private List<CaseInstanceSummary> caseInstances = new ArrayList<>();
+
+    private Long totalCount = 0L;
+
+    public CaseInstanceSearchResult() {
+    }
+
+    public CaseInstanceSearchResult(final List<CaseInstanceSummary> caseInstances,
+                                    final Long totalCount) {
+        this.caseInstances = caseInstances;
+        this.totalCount = totalCount;
+    }
+
+    public List<CaseInstanceSummary> getCaseInstances() {
+        return caseInstances;
+    }
+
+    public void setCaseInstances(List<CaseInstanceSummary> caseInstances) {
+        this.caseInstances = caseInstances;
+    }
+
+    public Long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CaseInstanceSearchResult{" +
+                "caseInstances=" + caseInstances +
+                ", totalCount=" + totalCount +
+                '}';
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jbpm.workbench.cm.model.CaseCommentSummary;
+import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
+import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.model.CaseMilestoneSummary;
+import org.jbpm.workbench.cm.model.CaseStageSummary;
+
+/**
+ * Everything the case instance screens display, gathered in a single request and stamped with a version
+ * derived from its content. When nothing changed since the version known by the caller, only the version is
+ * returned and {@link #isChanged()} is false.
+ */
+@Portable
+public class CaseInstanceSnapshot {
+
+    public static final int COMMENTS_PAGE_SIZE = 20;
+
+    private String version;
+
+    private boolean changed = true;
+
+    private CaseInstanceSummary caseInstance;
+
+    private CaseDefinitionSummary caseDefinition;
+
+    private List<CaseMilestoneSummary> milestones = new ArrayList<>();
+
+    private List<CaseStageSummary> stages = new ArrayList<>();
+
+    private List<CaseCommentSummary> comments = new ArrayList<>();
+
+    private Actions actions = new Actions();
+
+    public CaseInstanceSnapshot() {
+    }
+
+    public static CaseInstanceSnapshot unchanged(final String version) {
+        final CaseInstanceSnapshot snapshot = new CaseInstanceSnapshot();
+        snapshot.setVersion(version);
+        snapshot.setChanged(false);
+        return snapshot;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    public void setChanged(boolean changed) {
+        this.changed = changed;
+    }
+
+    public CaseInstanceSummary getCaseInstance() {
+        return caseInstance;
+    }
+
+    public void setCaseInstance(CaseInstanceSummary caseInstance) {
+        this.caseInstance = caseInstance;
+    }
+
+    public CaseDefinitionSummary getCaseDefinition() {
+        return caseDefinition;
+    }
+
+    public void setCaseDefinition(CaseDefinitionSummary caseDefinition) {
+        this.caseDefinition = caseDefinition;
+    }
+
+    /**
+     * @return milestones sorted as requested by a default {@link CaseMilestoneSearchRequest}
+     */
+    public List<CaseMilestoneSummary> getMilestones() {
+        return milestones;
+    }
+
+    public void setMilestones(List<CaseMilestoneSummary> milestones) {
+        this.milestones = milestones;
+    }
+
+    public List<CaseStageSummary> getStages() {
+        return stages;
+    }
+
+    public void setStages(List<CaseStageSummary> stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * @return first page of comments, with {@link #COMMENTS_PAGE_SIZE} comments at most
+     */
+    public List<CaseCommentSummary> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CaseCommentSummary> comments) {
+        this.comments = comments;
+    }
+
+    public Actions getActions() {
+        return actions;
+    }
+
+    public void setActions(Actions actions) {
+        this.actions = actions;
+    }
+
+    @Override
+    public String toString() {
+        return "CaseInstanceSnapshot{" +
+                "version='" + version + '\'' +
+                ", changed=" + changed +
+                ", caseInstance=" + caseInstance +
+                ", caseDefinition=" + caseDefinition +
+                ", milestones=" + milestones +
+                ", stages=" + stages +
+                ", comments=" + comments +
+                '}';
+    }
+}
@@ -19,6 +19,8 @@ package org.jbpm.workbench.cm.util;
 public enum CaseInstanceSortBy {
 
     CASE_ID,
-    START_TIME
+    START_TIME,
+    STATUS,
+    OWNER
 
 }
\ No newline at end of file
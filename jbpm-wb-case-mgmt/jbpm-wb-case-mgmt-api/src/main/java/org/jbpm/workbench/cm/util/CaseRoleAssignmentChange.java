@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.util;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Single user or group assignment to add to or remove from a case role.
+ */
+@Portable
+public class CaseRoleAssignmentChange {
+
+    private CaseRoleAssignmentOperation operation;
+
+    private String roleName;
+
+    private String name;
+
+    private String errorMessage;
+
+    public CaseRoleAssignmentChange() {
+    }
+
+    public CaseRoleAssignmentChange(final CaseRoleAssignmentOperation operation,
+                                    final String roleName,
+                                    final String name) {
+        this.operation = operation;
+        this.roleName = roleName;
+        this.name = name;
+    }
+
+    public static CaseRoleAssignmentChange assignUser(final String roleName,
+                                                      final String user) {
+        return new CaseRoleAssignmentChange(CaseRoleAssignmentOperation.ASSIGN_USER,
+                                            roleName,
+                                            user);
+    }
+
+    public static CaseRoleAssignmentChange assignGroup(final String roleName,
+                                                       final String group) {
+        return new CaseRoleAssignmentChange(CaseRoleAssignmentOperation.ASSIGN_GROUP,
+                                            roleName,
+                                            group);
+    }
+
+    public static CaseRoleAssignmentChange removeUser(final String roleName,
+                                                      final String user) {
+        return new CaseRoleAssignmentChange(CaseRoleAssignmentOperation.REMOVE_USER,
+                                            roleName,
+                                            user);
+    }
+
+    public static CaseRoleAssignmentChange removeGroup(final String roleName,
+                                                       final String group) {
+        return new CaseRoleAssignmentChange(CaseRoleAssignmentOperation.REMOVE_GROUP,
+                                            roleName,
+                                            group);
+    }
+
+    public CaseRoleAssignmentOperation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(CaseRoleAssignmentOperation operation) {
+        this.operation = operation;
+    }
+
+    public String getRoleName() {
+        return roleName;
+    }
+
+    public void setRoleName(String roleName) {
+        this.roleName = roleName;
+    }
+
+    /**
+     * @return user or group name, depending on the operation
+     */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return why the change could not be applied, null when it was applied or not applied yet
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidMultipleUnaryOperators")
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((operation == null) ? 0 : operation.hashCode());
+        result = ~~result;
+        result = prime * result + ((roleName == null) ? 0 : roleName.hashCode());
+        result = ~~result;
+        result = prime * result + ((name == null) ? 0 : name.hashCode());
+        result = ~~result;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        CaseRoleAssignmentChange other = (CaseRoleAssignmentChange) obj;
+        if (operation != other.operation) {
+            return false;
+        }
+        if (roleName == null) {
+            if (other.roleName != null) {
+                return false;
+            }
+        } else if (!roleName.equals(other.roleName)) {
+            return false;
+        }
+        if (name == null) {
+            if (other.name != null) {
+                return false;
+            }
+        } else if (!name.equals(other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "CaseRoleAssignmentChange{" +
+                "operation=" + operation +
+                ", roleName='" + roleName + '\'' +
+                ", name='" + name + '\'' +
+                ", errorMessage='" + errorMessage + '\'' +
+                '}';
+    }
+}
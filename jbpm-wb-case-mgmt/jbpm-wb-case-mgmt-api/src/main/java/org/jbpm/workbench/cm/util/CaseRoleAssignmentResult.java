@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jbpm.workbench.cm.model.CaseRoleAssignmentSummary;
+
+/**
+ * Outcome of a batch of {@link CaseRoleAssignmentChange}, with the role assignments of the case once applied.
+ */
+@Portable
+public class CaseRoleAssignmentResult {
+
+    private int appliedCount;
+
+    private List<CaseRoleAssignmentChange> failedChanges = new ArrayList<>();
+
+    private List<CaseRoleAssignmentSummary> roleAssignments = new ArrayList<>();
+
+    public CaseRoleAssignmentResult() {
+    }
+
+    public CaseRoleAssignmentResult(final int appliedCount,
+                                    final List<CaseRoleAssignmentChange> failedChanges,
+                                    final List<CaseRoleAssignmentSummary> roleAssignments) {
+        this.appliedCount = appliedCount;
+        this.failedChanges = failedChanges;
+        this.roleAssignments = roleAssignments;
+    }
+
+    public int getAppliedCount() {
+        return appliedCount;
+    }
+
+    public void setAppliedCount(int appliedCount) {
+        this.appliedCount = appliedCount;
+    }
+
+    public List<CaseRoleAssignmentChange> getFailedChanges() {
+        return failedChanges;
+    }
+
+    public void setFailedChanges(List<CaseRoleAssignmentChange> failedChanges) {
+        this.failedChanges = failedChanges;
+    }
+
+    public List<CaseRoleAssignmentSummary> getRoleAssignments() {
+        return roleAssignments;
+    }
+
+    public void setRoleAssignments(List<CaseRoleAssignmentSummary> roleAssignments) {
+        this.roleAssignments = roleAssignments;
+    }
+
+    public boolean hasFailures() {
+        return failedChanges != null && !failedChanges.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "CaseRoleAssignmentResult{" +
+                "appliedCount=" + appliedCount +
+                ", failedChanges=" + failedChanges +
+                ", roleAssignments=" + roleAssignments +
+                '}';
+    }
+}
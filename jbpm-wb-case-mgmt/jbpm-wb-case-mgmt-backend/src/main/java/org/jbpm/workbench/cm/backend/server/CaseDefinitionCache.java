@@ -0,0 +1,218 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.backend.server;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
+import org.jbpm.workbench.ks.utils.CoalescingCache;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerResourceList;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.client.KieServicesClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches case definitions per server template and container, they only change when a container is (re)deployed.
+ * The deployed containers are checked at most once per interval, the definitions of any container whose release or
+ * status changed are dropped. Until the next check definitions are served from memory.
+ */
+@ApplicationScoped
+public class CaseDefinitionCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaseDefinitionCache.class);
+
+    protected static final long DEFAULT_CHECK_INTERVAL = Long.getLong("org.jbpm.wb.case.definitions.check.interval",
+                                                                      10000);
+
+    private static final String ALL_DEFINITIONS = "all";
+
+    // entries are only dropped on container changes, a load started before a change is not kept
+    private final CoalescingCache<DefinitionKey, CaseDefinitionSummary> definitions = new CoalescingCache<>(Long.MAX_VALUE,
+                                                                                                          "case definition");
+
+    private final CoalescingCache<String, List<CaseDefinitionSummary>> allDefinitions = new CoalescingCache<>(Long.MAX_VALUE,
+                                                                                                            "case definitions");
+
+    private volatile Map<String, String> containerVersions;
+
+    private volatile long checkedAt = Long.MIN_VALUE / 2;
+
+    private KieServicesClient kieServicesClient;
+
+    private long checkInterval = DEFAULT_CHECK_INTERVAL;
+
+    public CaseDefinitionCache() {
+    }
+
+    @Inject
+    public CaseDefinitionCache(final KieServicesClient kieServicesClient) {
+        this.kieServicesClient = kieServicesClient;
+    }
+
+    protected CaseDefinitionCache(final KieServicesClient kieServicesClient,
+                                  final long checkInterval) {
+        this(kieServicesClient);
+        this.checkInterval = checkInterval;
+    }
+
+    public CaseDefinitionSummary getCaseDefinition(final String serverTemplateId,
+                                                   final String containerId,
+                                                   final String caseDefinitionId,
+                                                   final Supplier<CaseDefinitionSummary> loader) {
+        if (!checkContainers()) {
+            return loader.get();
+        }
+        final DefinitionKey key = new DefinitionKey(serverTemplateId,
+                                                    containerId,
+                                                    caseDefinitionId);
+        final CaseDefinitionSummary definition = definitions.get(key,
+                                                                 loader);
+        if (definition == null) {
+            // a definition not found yet may still be deployed, do not keep the miss
+            definitions.invalidate(key);
+        }
+        return definition;
+    }
+
+    public List<CaseDefinitionSummary> getCaseDefinitions(final Supplier<List<CaseDefinitionSummary>> loader) {
+        if (!checkContainers()) {
+            return loader.get();
+        }
+        return allDefinitions.get(ALL_DEFINITIONS,
+                                  () -> Collections.unmodifiableList(loader.get()));
+    }
+
+    /**
+     * Drops the cached definitions of the container in every server template.
+     */
+    public void invalidate(final String containerId) {
+        definitions.invalidateIf(key -> Objects.equals(key.containerId,
+                                                       containerId));
+        allDefinitions.invalidateAll();
+    }
+
+    public void invalidateAll() {
+        definitions.invalidateAll();
+        allDefinitions.invalidateAll();
+    }
+
+    /**
+     * Compares the deployed containers with the previous check, at most once per check interval. Returns false when
+     * the containers can not be listed, in that case definitions are not cached.
+     */
+    protected boolean checkContainers() {
+        if (System.currentTimeMillis() - checkedAt < checkInterval) {
+            return containerVersions != null;
+        }
+        synchronized (this) {
+            final long now = System.currentTimeMillis();
+            if (now - checkedAt < checkInterval) {
+                return containerVersions != null;
+            }
+            final Map<String, String> versions = getContainerVersions();
+            final Map<String, String> previous = containerVersions;
+            if (versions == null) {
+                invalidateAll();
+            } else if (previous != null) {
+                final Set<String> containerIds = new HashSet<>(previous.keySet());
+                containerIds.addAll(versions.keySet());
+                containerIds.stream()
+                        .filter(containerId -> !Objects.equals(previous.get(containerId),
+                                                               versions.get(containerId)))
+                        .forEach(this::invalidate);
+            }
+            containerVersions = versions;
+            checkedAt = now;
+            return versions != null;
+        }
+    }
+
+    /**
+     * @return release and status by container id, null when the containers can not be listed
+     */
+    protected Map<String, String> getContainerVersions() {
+        try {
+            final ServiceResponse<KieContainerResourceList> response = kieServicesClient.listContainers();
+            if (response == null || response.getType() != ServiceResponse.ResponseType.SUCCESS || response.getResult() == null) {
+                return null;
+            }
+            final Map<String, String> versions = new HashMap<>();
+            if (response.getResult().getContainers() != null) {
+                for (KieContainerResource container : response.getResult().getContainers()) {
+                    versions.put(container.getContainerId(),
+                                 (container.getResolvedReleaseId() == null ? container.getReleaseId() : container.getResolvedReleaseId()) +
+                                         "|" + container.getStatus());
+                }
+            }
+            return versions;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to list the deployed containers",
+                         e);
+            return null;
+        }
+    }
+
+    private static class DefinitionKey {
+
+        private final String serverTemplateId;
+        private final String containerId;
+        private final String caseDefinitionId;
+
+        DefinitionKey(final String serverTemplateId,
+                      final String containerId,
+                      final String caseDefinitionId) {
+            this.serverTemplateId = serverTemplateId;
+            this.containerId = containerId;
+            this.caseDefinitionId = caseDefinitionId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DefinitionKey that = (DefinitionKey) o;
+            return Objects.equals(serverTemplateId,
+                                  that.serverTemplateId) &&
+                    Objects.equals(containerId,
+                                   that.containerId) &&
+                    Objects.equals(caseDefinitionId,
+                                   that.caseDefinitionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serverTemplateId,
+                                containerId,
+                                caseDefinitionId);
+        }
+    }
+}
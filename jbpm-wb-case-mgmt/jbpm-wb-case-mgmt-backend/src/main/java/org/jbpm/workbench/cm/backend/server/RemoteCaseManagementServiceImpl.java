@@ -16,13 +16,40 @@
 
 package org.jbpm.workbench.cm.backend.server;
 
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.dashbuilder.dataset.filter.CoreFunctionType;
+import org.dashbuilder.dataset.group.AggregateFunctionType;
+import org.jboss.errai.security.shared.api.identity.User;
 import org.jboss.errai.bus.server.annotations.Service;
 import org.jbpm.workbench.cm.model.*;
 import org.jbpm.workbench.cm.predicate.HumanTaskNodePredicate;
@@ -31,22 +58,39 @@ import org.jbpm.workbench.cm.service.CaseManagementService;
 import org.jbpm.workbench.cm.util.Actions;
 import org.jbpm.workbench.cm.util.CaseActionStatus;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 import org.jbpm.workbench.cm.util.CaseInstanceSortBy;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentChange;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentResult;
 import org.jbpm.workbench.cm.util.CaseStageStatus;
+import org.jbpm.workbench.cm.util.CaseStatus;
+import org.jbpm.workbench.ks.security.CallerCredentialsProvider;
+import org.jbpm.workbench.ks.utils.CoalescingCache;
+import org.jbpm.workbench.ks.utils.KieServerUtils;
 import org.kie.server.api.model.cases.CaseComment;
 import org.kie.server.api.model.cases.CaseDefinition;
 import org.kie.server.api.model.cases.CaseFile;
-import org.kie.server.api.model.cases.CaseInstance;
 import org.kie.server.api.model.cases.CaseMilestone;
 import org.kie.server.api.model.cases.CaseStage;
 import org.kie.server.api.model.definition.ProcessDefinition;
+import org.kie.server.api.model.definition.QueryDefinition;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.api.model.definition.QueryParam;
 import org.kie.server.api.model.instance.NodeInstance;
 import org.kie.server.client.CaseServicesClient;
-import org.kie.server.client.UserTaskServicesClient;
+import org.kie.server.client.QueryServicesClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.commons.concurrent.Managed;
 
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 
@@ -54,39 +98,210 @@ import static java.util.stream.Collectors.toList;
 @ApplicationScoped
 public class RemoteCaseManagementServiceImpl implements CaseManagementService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RemoteCaseManagementServiceImpl.class);
+
     public static final int PAGE_SIZE_UNLIMITED = Integer.MAX_VALUE;
     public static final String CASE_OWNER_ROLE = "owner";
+    public static final String CASE_TASK_OWNERS_QUERY = "jbpmCaseTaskOwners";
+    public static final String COLUMN_WORK_ITEM_ID = "workItemId";
+    public static final String CASE_INSTANCES_QUERY = "jbpmCaseInstances";
+    public static final String COLUMN_CASE_PROCESS_INSTANCE_ID = "processInstanceId";
+    public static final String COLUMN_CASE_ID = "caseId";
+    public static final String COLUMN_CASE_STATUS = "status";
+    public static final String COLUMN_CASE_START_DATE = "startDate";
+    public static final String COLUMN_CASE_OWNER = "owner";
+    public static final String COLUMN_CASE_MEMBER = "member";
+    public static final String GROUP_FUNCTION = "group";
+    public static final int CASE_INSTANCES_PAGE_SIZE = 10;
+    // columns of a case instance row following the process instance id, as read by buildCaseInstance
+    protected static final List<String> CASE_INSTANCE_COLUMNS = Collections.unmodifiableList(Arrays.asList(COLUMN_CASE_ID,
+                                                                                                           "description",
+                                                                                                           COLUMN_CASE_STATUS,
+                                                                                                           "containerId",
+                                                                                                           "caseDefinitionId",
+                                                                                                           COLUMN_CASE_START_DATE,
+                                                                                                           "endDate",
+                                                                                                           COLUMN_CASE_OWNER));
+    public static final long CASE_ACTIONS_TIMEOUT = Long.getLong("org.jbpm.wb.case.actions.timeout",
+                                                                 5000L);
+    public static final long CASE_ACTIONS_PENDING_TTL = Long.getLong("org.jbpm.wb.case.actions.pending.ttl",
+                                                                     30000L);
+    public static final long CASE_SNAPSHOT_TTL = Long.getLong("org.jbpm.wb.case.snapshot.ttl",
+                                                              2000L);
 
     @Inject
     private CaseServicesClient client;
 
     @Inject
-    private UserTaskServicesClient userTaskServicesClient;
+    private QueryServicesClient queryServicesClient;
+
+    @Inject
+    private CaseDefinitionCache caseDefinitionCache;
+
+    @Inject
+    @Managed
+    private ExecutorService executorService;
+
+    @Inject
+    private User identity;
+
+    private CallerCredentialsProvider credentialsProvider = KieServerUtils.getCredentialsProvider();
+
+    private final Set<String> registeredQueries = ConcurrentHashMap.newKeySet();
+
+    private CoalescingCache<CaseSnapshotKey, CaseInstanceSnapshot> caseSnapshots = new CoalescingCache<>(CASE_SNAPSHOT_TTL,
+                                                                                                          "case snapshot");
+
+    private final ConcurrentMap<String, PendingCaseActions> pendingCaseActions = new ConcurrentHashMap<>();
+
+    private long caseActionsTimeout = CASE_ACTIONS_TIMEOUT;
 
     @Override
     public List<CaseDefinitionSummary> getCaseDefinitions() {
-        final List<CaseDefinition> caseDefinitions = client.getCaseDefinitions(0,
-                                                                               PAGE_SIZE_UNLIMITED,
-                                                                               CaseServicesClient.SORT_BY_CASE_DEFINITION_NAME,
-                                                                               true);
-        return caseDefinitions.stream().map(new CaseDefinitionMapper()).collect(toList());
+        return caseDefinitionCache.getCaseDefinitions(() -> {
+            final List<CaseDefinition> caseDefinitions = client.getCaseDefinitions(0,
+                                                                                   PAGE_SIZE_UNLIMITED,
+                                                                                   CaseServicesClient.SORT_BY_CASE_DEFINITION_NAME,
+                                                                                   true);
+            return caseDefinitions.stream().map(new CaseDefinitionMapper()).collect(toList());
+        });
     }
 
     @Override
     public CaseDefinitionSummary getCaseDefinition(final String serverTemplateId,
                                                    final String containerId,
                                                    final String caseDefinitionId) {
-        return ofNullable(client.getCaseDefinition(containerId,
-                                                   caseDefinitionId)).map(new CaseDefinitionMapper()).orElse(null);
+        return caseDefinitionCache.getCaseDefinition(serverTemplateId,
+                                                     containerId,
+                                                     caseDefinitionId,
+                                                     () -> ofNullable(client.getCaseDefinition(containerId,
+                                                                                               caseDefinitionId)).map(new CaseDefinitionMapper()).orElse(null));
     }
 
     @Override
-    public List<CaseInstanceSummary> getCaseInstances(final CaseInstanceSearchRequest request) {
-        final List<CaseInstance> caseInstances = client.getCaseInstances(singletonList(request.getStatus().getName()),
-                                                                         0,
-                                                                         PAGE_SIZE_UNLIMITED);
-        final Comparator<CaseInstanceSummary> comparator = getCaseInstanceSummaryComparator(request);
-        return caseInstances.stream().map(new CaseInstanceMapper()).sorted(comparator).collect(toList());
+    public CaseInstanceSearchResult getCaseInstances(final CaseInstanceSearchRequest request) {
+        registerQuery(CASE_INSTANCES_QUERY,
+                      "select log.processInstanceId, log.correlationKey as caseId, log.processInstanceDescription as description, " +
+                              "log.status, log.externalId as containerId, log.processId as caseDefinitionId, " +
+                              "log.start_date as startDate, log.end_date as endDate, owner.entityId as owner, member.entityId as member " +
+                              "from ProcessInstanceLog log inner join CaseRoleAssignmentLog owner " +
+                              "on owner.processInstanceId = log.processInstanceId and owner.roleName = '" + CASE_OWNER_ROLE + "' " +
+                              "inner join CaseRoleAssignmentLog member on member.processInstanceId = log.processInstanceId");
+
+        final List<QueryParam> filterParams = getCaseInstanceFilterParams(request);
+
+        // a case shows once per matching member (and owner) row, rows are grouped by case
+        final List<QueryParam> params = new ArrayList<>(filterParams);
+        params.add(new QueryParam(COLUMN_CASE_PROCESS_INSTANCE_ID,
+                                  GROUP_FUNCTION,
+                                  singletonList(COLUMN_CASE_PROCESS_INSTANCE_ID)));
+        CASE_INSTANCE_COLUMNS.forEach(column -> params.add(new QueryParam(column,
+                                                                          null,
+                                                                          singletonList(column))));
+
+        final QueryFilterSpec filterSpec = new QueryFilterSpec();
+        filterSpec.setParameters(params.toArray(new QueryParam[params.size()]));
+        filterSpec.setOrderBy(getCaseInstanceOrderBy(request));
+        filterSpec.setAscending(ofNullable(request.getSortByAsc()).orElse(true));
+        final List<List> rows = queryServicesClient.query(CASE_INSTANCES_QUERY,
+                                                          QueryServicesClient.QUERY_MAP_RAW,
+                                                          filterSpec,
+                                                          ofNullable(request.getPage()).orElse(0),
+                                                          ofNullable(request.getPageSize()).orElse(CASE_INSTANCES_PAGE_SIZE),
+                                                          List.class);
+
+        return new CaseInstanceSearchResult(rows.stream().map(this::buildCaseInstance).collect(toList()),
+                                            countCaseInstances(filterParams));
+    }
+
+    /**
+     * Besides the request filters, only cases where the user, or one of the user's roles or groups, holds a case role
+     * are returned, as the kie server case queries do.
+     */
+    protected List<QueryParam> getCaseInstanceFilterParams(final CaseInstanceSearchRequest request) {
+        final List<QueryParam> filterParams = new ArrayList<>();
+        filterParams.add(new QueryParam(COLUMN_CASE_STATUS,
+                                        CoreFunctionType.EQUALS_TO.toString(),
+                                        singletonList(request.getStatus().getId())));
+        if (!isNullOrEmpty(request.getOwner())) {
+            filterParams.add(new QueryParam(COLUMN_CASE_OWNER,
+                                            CoreFunctionType.EQUALS_TO.toString(),
+                                            singletonList(request.getOwner())));
+        }
+        filterParams.add(new QueryParam(COLUMN_CASE_MEMBER,
+                                        CoreFunctionType.IN.toString(),
+                                        getCallerEntities()));
+        return filterParams;
+    }
+
+    protected List<String> getCallerEntities() {
+        final Set<String> entities = new LinkedHashSet<>();
+        if (identity.getIdentifier() != null) {
+            entities.add(identity.getIdentifier());
+        }
+        if (identity.getRoles() != null) {
+            identity.getRoles().forEach(role -> entities.add(role.getName()));
+        }
+        if (identity.getGroups() != null) {
+            identity.getGroups().forEach(group -> entities.add(group.getName()));
+        }
+        return new ArrayList<>(entities);
+    }
+
+    protected String getCaseInstanceOrderBy(final CaseInstanceSearchRequest request) {
+        switch (ofNullable(request.getSortBy()).orElse(CaseInstanceSortBy.CASE_ID)) {
+            case START_TIME:
+                return COLUMN_CASE_START_DATE;
+            case STATUS:
+                return COLUMN_CASE_STATUS;
+            case OWNER:
+                return COLUMN_CASE_OWNER;
+            case CASE_ID:
+            default:
+                return COLUMN_CASE_ID;
+        }
+    }
+
+    protected Long countCaseInstances(final List<QueryParam> filterParams) {
+        final List<QueryParam> countParams = new ArrayList<>(filterParams);
+        // cases, not the joined member and owner rows, are counted
+        countParams.add(new QueryParam(COLUMN_CASE_PROCESS_INSTANCE_ID,
+                                       AggregateFunctionType.DISTINCT.toString(),
+                                       singletonList(COLUMN_CASE_PROCESS_INSTANCE_ID)));
+        final QueryFilterSpec filterSpec = new QueryFilterSpec();
+        filterSpec.setParameters(countParams.toArray(new QueryParam[countParams.size()]));
+        final List<List> rows = queryServicesClient.query(CASE_INSTANCES_QUERY,
+                                                          QueryServicesClient.QUERY_MAP_RAW,
+                                                          filterSpec,
+                                                          0,
+                                                          1,
+                                                          List.class);
+        if (rows.isEmpty() || rows.get(0).isEmpty()) {
+            return 0L;
+        }
+        return ((Number) rows.get(0).get(0)).longValue();
+    }
+
+    protected CaseInstanceSummary buildCaseInstance(final List row) {
+        return CaseInstanceSummary.builder()
+                .caseId((String) row.get(1))
+                .description((String) row.get(2))
+                .status(CaseStatus.fromId(((Number) row.get(3)).intValue()))
+                .containerId((String) row.get(4))
+                .caseDefinitionId((String) row.get(5))
+                .startedAt(toDate(row.get(6)))
+                .completedAt(toDate(row.get(7)))
+                .owner((String) row.get(8))
+                .roleAssignments(emptyList())
+                .stages(emptyList())
+                .build();
+    }
+
+    private static Date toDate(final Object value) {
+        if (value instanceof Long) {
+            return new Date((Long) value);
+        }
+        return (Date) value;
     }
 
     protected Comparator<CaseInstanceSummary> getCaseInstanceSummaryComparator(final CaseInstanceSearchRequest request) {
@@ -95,6 +310,13 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
             case START_TIME:
                 comparator = comparing(CaseInstanceSummary::getStartedAt);
                 break;
+            case STATUS:
+                comparator = comparing(CaseInstanceSummary::getStatus);
+                break;
+            case OWNER:
+                comparator = comparing(CaseInstanceSummary::getOwner,
+                                       nullsFirst(naturalOrder()));
+                break;
             case CASE_ID:
             default:
                 comparator = comparing(CaseInstanceSummary::getCaseId);
@@ -128,6 +350,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                    final String caseId) {
         client.cancelCaseInstance(containerId,
                                   caseId);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     @Override
@@ -137,6 +361,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
         client.closeCaseInstance(containerId,
                                  caseId,
                                  comment);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
 
     }
 
@@ -154,6 +380,215 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                 .orElse(null);
     }
 
+    @Override
+    public CaseInstanceSnapshot getCaseInstanceSnapshot(final String serverTemplateId,
+                                                        final String containerId,
+                                                        final String caseId,
+                                                        final String sinceVersion) {
+        final CaseInstanceSnapshot snapshot = getSharedCaseInstanceSnapshot(serverTemplateId,
+                                                                            containerId,
+                                                                            caseId);
+        if (snapshot.getVersion().equals(sinceVersion)) {
+            return CaseInstanceSnapshot.unchanged(snapshot.getVersion());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Snapshots are shared for a short time by all the screens of a case opened by the same caller, concurrent
+     * requests wait for the snapshot being gathered instead of gathering their own. Comments and actions are read
+     * with the caller's credentials, so snapshots are never shared between callers.
+     */
+    protected CaseInstanceSnapshot getSharedCaseInstanceSnapshot(final String serverTemplateId,
+                                                                 final String containerId,
+                                                                 final String caseId) {
+        return caseSnapshots.get(new CaseSnapshotKey(getCallerKey(),
+                                                     serverTemplateId,
+                                                     containerId,
+                                                     caseId),
+                                 () -> gatherCaseInstanceSnapshot(serverTemplateId,
+                                                                  containerId,
+                                                                  caseId));
+    }
+
+    protected CaseInstanceSnapshot gatherCaseInstanceSnapshot(final String serverTemplateId,
+                                                              final String containerId,
+                                                              final String caseId) {
+        final Future<CaseInstanceSummary> caseInstanceFuture = submit(() -> getCaseInstance(serverTemplateId,
+                                                                                            containerId,
+                                                                                            caseId));
+        final Future<List<CaseMilestoneSummary>> milestonesFuture = submit(() -> getCaseMilestones(containerId,
+                                                                                                   caseId,
+                                                                                                   new CaseMilestoneSearchRequest()));
+        final Future<List<CaseStageSummary>> stagesFuture = submit(() -> getCaseStages(containerId,
+                                                                                       caseId));
+        final Future<List<CaseCommentSummary>> commentsFuture = submit(() -> getComments(serverTemplateId,
+                                                                                         containerId,
+                                                                                         caseId,
+                                                                                         0,
+                                                                                         CaseInstanceSnapshot.COMMENTS_PAGE_SIZE));
+        // the action sections are submitted by getCaseActions itself, calling it from a worker would hold that worker
+        // while the sections wait in the queue behind it
+        final Actions actions = getCaseActions(serverTemplateId,
+                                               containerId,
+                                               caseId,
+                                               null);
+
+        final CaseInstanceSnapshot snapshot = new CaseInstanceSnapshot();
+        snapshot.setCaseInstance(getResult(caseInstanceFuture));
+        if (snapshot.getCaseInstance() != null && snapshot.getCaseInstance().getCaseDefinitionId() != null) {
+            snapshot.setCaseDefinition(getCaseDefinition(serverTemplateId,
+                                                         containerId,
+                                                         snapshot.getCaseInstance().getCaseDefinitionId()));
+        }
+        snapshot.setMilestones(getResult(milestonesFuture));
+        snapshot.setStages(getResult(stagesFuture));
+        snapshot.setComments(getResult(commentsFuture));
+        snapshot.setActions(actions);
+        snapshot.setVersion(getCaseSnapshotVersion(snapshot));
+        return snapshot;
+    }
+
+    /**
+     * Digest of the fields shown by the case screens. Summaries only compare their ids and their textual form is not
+     * meant to be stable, so every field is added explicitly.
+     */
+    protected String getCaseSnapshotVersion(final CaseInstanceSnapshot snapshot) {
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        final CaseInstanceSummary caseInstance = snapshot.getCaseInstance();
+        if (caseInstance == null) {
+            putFields(hasher);
+        } else {
+            putFields(hasher,
+                      caseInstance.getCaseId(),
+                      caseInstance.getDescription(),
+                      caseInstance.getStatus(),
+                      caseInstance.getContainerId(),
+                      caseInstance.getOwner(),
+                      caseInstance.getStartedAt(),
+                      caseInstance.getCompletedAt(),
+                      caseInstance.getCaseDefinitionId());
+            putAll(hasher,
+                   caseInstance.getRoleAssignments(),
+                   role -> putFields(hasher,
+                                     role.getName(),
+                                     role.getUsers(),
+                                     role.getGroups()));
+            putAll(hasher,
+                   caseInstance.getStages(),
+                   stage -> putStage(hasher,
+                                     stage));
+        }
+        final CaseDefinitionSummary caseDefinition = snapshot.getCaseDefinition();
+        if (caseDefinition == null) {
+            putFields(hasher);
+        } else {
+            putFields(hasher,
+                      caseDefinition.getId(),
+                      caseDefinition.getName(),
+                      caseDefinition.getContainerId(),
+                      caseDefinition.getRoles() == null ? null : new TreeMap<>(caseDefinition.getRoles()));
+        }
+        putAll(hasher,
+               snapshot.getMilestones(),
+               milestone -> putFields(hasher,
+                                      milestone.getName(),
+                                      milestone.getIdentifier(),
+                                      milestone.isAchieved(),
+                                      milestone.getAchievedAt(),
+                                      milestone.getStatus()));
+        putAll(hasher,
+               snapshot.getStages(),
+               stage -> putStage(hasher,
+                                 stage));
+        putAll(hasher,
+               snapshot.getComments(),
+               comment -> putFields(hasher,
+                                    comment.getId(),
+                                    comment.getAuthor(),
+                                    comment.getText(),
+                                    comment.getAddedAt()));
+        final Actions actions = snapshot.getActions();
+        putAll(hasher,
+               actions.getAvailableActions(),
+               action -> putAction(hasher,
+                                   action));
+        putAll(hasher,
+               actions.getInProgressAction(),
+               action -> putAction(hasher,
+                                   action));
+        putAll(hasher,
+               actions.getCompleteActions(),
+               action -> putAction(hasher,
+                                   action));
+        putFields(hasher,
+                  new TreeSet<>(actions.getPendingActions()));
+        return hasher.hash().toString();
+    }
+
+    private static void putStage(final Hasher hasher,
+                                 final CaseStageSummary stage) {
+        putFields(hasher,
+                  stage.getName(),
+                  stage.getIdentifier(),
+                  stage.getStatus());
+        putAll(hasher,
+               stage.getAdHocActions(),
+               action -> putAction(hasher,
+                                   action));
+    }
+
+    private static void putAction(final Hasher hasher,
+                                  final CaseActionSummary action) {
+        putFields(hasher,
+                  action.getId(),
+                  action.getName(),
+                  action.getType(),
+                  action.getCreatedOn(),
+                  action.getStage() == null ? null : action.getStage().getIdentifier(),
+                  action.getActualOwner(),
+                  action.getActionType(),
+                  action.getActionStatus());
+    }
+
+    private static <T> void putAll(final Hasher hasher,
+                                   final List<T> items,
+                                   final Consumer<T> itemFields) {
+        if (items == null) {
+            hasher.putInt(-1);
+            return;
+        }
+        hasher.putInt(items.size());
+        items.forEach(itemFields);
+    }
+
+    /**
+     * Values are length prefixed, so that adjacent fields can not be confused.
+     */
+    private static void putFields(final Hasher hasher,
+                                  final Object... values) {
+        hasher.putInt(values.length);
+        for (Object value : values) {
+            if (value == null) {
+                hasher.putInt(-1);
+                continue;
+            }
+            final String text = value instanceof Date ? String.valueOf(((Date) value).getTime()) : value.toString();
+            hasher.putInt(text.length());
+            hasher.putString(text,
+                             StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Drops the snapshots of the case for every caller and server template.
+     */
+    protected void invalidateCaseSnapshot(final String containerId,
+                                          final String caseId) {
+        caseSnapshots.invalidateIf(key -> key.isCase(containerId,
+                                                     caseId));
+    }
+
     @Override
     public void assignUserToRole(final String serverTemplateId,
                                  final String containerId,
@@ -164,6 +599,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                 caseId,
                                 roleName,
                                 user);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     @Override
@@ -176,6 +613,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                  caseId,
                                  roleName,
                                  group);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     @Override
@@ -188,6 +627,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                   caseId,
                                   roleName,
                                   user);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     @Override
@@ -200,6 +641,84 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                    caseId,
                                    roleName,
                                    group);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
+    }
+
+    @Override
+    public CaseRoleAssignmentResult updateRoleAssignments(final String serverTemplateId,
+                                                          final String containerId,
+                                                          final String caseId,
+                                                          final List<CaseRoleAssignmentChange> changes) {
+        // changes are equal by role, name and operation, a list keeps every submitted change, duplicates included
+        final List<Map.Entry<CaseRoleAssignmentChange, Future<?>>> futures = new ArrayList<>(changes.size());
+        for (CaseRoleAssignmentChange change : changes) {
+            futures.add(new AbstractMap.SimpleImmutableEntry<>(change,
+                                                               submit(() -> {
+                                                                   applyRoleAssignmentChange(containerId,
+                                                                                             caseId,
+                                                                                             change);
+                                                                   return null;
+                                                               })));
+        }
+
+        final List<CaseRoleAssignmentChange> failedChanges = new ArrayList<>();
+        try {
+            for (Map.Entry<CaseRoleAssignmentChange, Future<?>> entry : futures) {
+                try {
+                    getResult(entry.getValue());
+                } catch (RuntimeException e) {
+                    final CaseRoleAssignmentChange change = entry.getKey();
+                    change.setErrorMessage(e.getMessage());
+                    failedChanges.add(change);
+                }
+            }
+        } finally {
+            invalidateCaseSnapshot(containerId,
+                                   caseId);
+        }
+
+        final List<CaseRoleAssignmentSummary> roleAssignments = client.getRoleAssignments(containerId,
+                                                                                          caseId)
+                .stream()
+                .map(new RoleAssignmentsMapper())
+                .collect(toList());
+        return new CaseRoleAssignmentResult(changes.size() - failedChanges.size(),
+                                            failedChanges,
+                                            roleAssignments);
+    }
+
+    protected void applyRoleAssignmentChange(final String containerId,
+                                             final String caseId,
+                                             final CaseRoleAssignmentChange change) {
+        switch (change.getOperation()) {
+            case ASSIGN_USER:
+                client.assignUserToRole(containerId,
+                                        caseId,
+                                        change.getRoleName(),
+                                        change.getName());
+                break;
+            case ASSIGN_GROUP:
+                client.assignGroupToRole(containerId,
+                                         caseId,
+                                         change.getRoleName(),
+                                         change.getName());
+                break;
+            case REMOVE_USER:
+                client.removeUserFromRole(containerId,
+                                          caseId,
+                                          change.getRoleName(),
+                                          change.getName());
+                break;
+            case REMOVE_GROUP:
+                client.removeGroupFromRole(containerId,
+                                           caseId,
+                                           change.getRoleName(),
+                                           change.getName());
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported role assignment operation: " + change.getOperation());
+        }
     }
 
     @Override
@@ -225,6 +744,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                           caseId,
                           author,
                           text);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     @Override
@@ -239,6 +760,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                              commentId,
                              author,
                              text);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     @Override
@@ -249,6 +772,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
         client.removeComment(containerId,
                              caseId,
                              commentId);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     @Override
@@ -286,38 +811,249 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                   String container,
                                   String caseId,
                                   String userId) {
+        // sections are loaded concurrently, the ones not ready before the deadline keep loading and are handed to the
+        // client's follow-up request for them
+        final PendingCaseActions sections = new PendingCaseActions(submit(() -> getAdHocActions(serverTemplateId,
+                                                                                                container,
+                                                                                                caseId)),
+                                                                   submit(() -> getInProgressActions(container,
+                                                                                                     caseId)),
+                                                                   submit(() -> getCompletedActions(container,
+                                                                                                    caseId)),
+                                                                   System.currentTimeMillis() + CASE_ACTIONS_PENDING_TTL);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(caseActionsTimeout);
+        final List<CaseActionSummary> inProgressActions = getBeforeDeadline(sections.inProgress,
+                                                                            deadline);
+        final List<CaseActionSummary> completedActions = getBeforeDeadline(sections.completed,
+                                                                           deadline);
+        final List<CaseActionSummary> adHocActions = getBeforeDeadline(sections.adHoc,
+                                                                       deadline);
+
         final Actions actions = new Actions();
-        final List<CaseActionSummary> adHocActions = getAdHocActions(serverTemplateId,
-                                                                     container,
-                                                                     caseId);
-        final List<CaseActionSummary> inProgressActions = getInProgressActions(container,
-                                                                               caseId);
-        final List<CaseActionSummary> completedActions = getCompletedActions(container,
-                                                                             caseId);
-        actions.setInProgressAction(inProgressActions);
-        actions.setCompleteActions(completedActions);
-        actions.setAvailableActions(
-                adHocActions.stream()
-                        .filter(action -> {
-                            if (new MilestoneNodePredicate().negate().test(action.getType())) {
-                                return true;
-                            }
-                            if (findMilestone(inProgressActions,
-                                              action.getName())) {
-                                return false;
-                            }
-                            if (findMilestone(completedActions,
-                                              action.getName())) {
-                                return false;
-                            }
-                            return true;
-                        })
-                        .filter(action -> new InProgressHumanTaskPredicate().negate().test(action,
-                                                                                           inProgressActions))
-                        .collect(toList()));
+        if (inProgressActions == null) {
+            actions.getPendingActions().add(CaseActionStatus.IN_PROGRESS);
+        } else {
+            actions.setInProgressAction(inProgressActions);
+        }
+        if (completedActions == null) {
+            actions.getPendingActions().add(CaseActionStatus.COMPLETED);
+        } else {
+            actions.setCompleteActions(completedActions);
+        }
+        // available actions are filtered by the in progress and completed ones, so all of them are needed
+        if (adHocActions == null || inProgressActions == null || completedActions == null) {
+            actions.getPendingActions().add(CaseActionStatus.AVAILABLE);
+        } else {
+            actions.setAvailableActions(getAvailableActions(adHocActions,
+                                                            inProgressActions,
+                                                            completedActions));
+        }
+
+        final String pendingKey = getPendingCaseActionsKey(serverTemplateId,
+                                                           container,
+                                                           caseId);
+        if (actions.getPendingActions().isEmpty()) {
+            pendingCaseActions.remove(pendingKey);
+        } else {
+            purgeExpiredPendingCaseActions();
+            pendingCaseActions.put(pendingKey,
+                                   sections);
+        }
         return actions;
     }
 
+    /**
+     * Sections left pending by the last {@link #getCaseActions(String, String, String, String)} call of the same caller
+     * are taken from the loads still running, only the sections not loaded by that call are read again.
+     */
+    @Override
+    public List<CaseActionSummary> getCaseActionsByStatus(String serverTemplateId,
+                                                          String container,
+                                                          String caseId,
+                                                          String userId,
+                                                          CaseActionStatus actionStatus) {
+        final PendingCaseActions pending = getPendingCaseActions(serverTemplateId,
+                                                                 container,
+                                                                 caseId);
+        switch (actionStatus) {
+            case IN_PROGRESS:
+                return getActions(pending == null ? null : pending.inProgress,
+                                  () -> getInProgressActions(container,
+                                                             caseId));
+            case COMPLETED:
+                return getActions(pending == null ? null : pending.completed,
+                                  () -> getCompletedActions(container,
+                                                            caseId));
+            case AVAILABLE:
+            default:
+                if (pending == null) {
+                    final Future<List<CaseActionSummary>> adHocFuture = submit(() -> getAdHocActions(serverTemplateId,
+                                                                                                     container,
+                                                                                                     caseId));
+                    final Future<List<CaseActionSummary>> inProgressFuture = submit(() -> getInProgressActions(container,
+                                                                                                               caseId));
+                    return getAvailableActions(getResult(adHocFuture),
+                                               getResult(inProgressFuture),
+                                               getCompletedActions(container,
+                                                                   caseId));
+                }
+                return getAvailableActions(getActions(pending.adHoc,
+                                                      () -> getAdHocActions(serverTemplateId,
+                                                                            container,
+                                                                            caseId)),
+                                           getActions(pending.inProgress,
+                                                      () -> getInProgressActions(container,
+                                                                                 caseId)),
+                                           getActions(pending.completed,
+                                                      () -> getCompletedActions(container,
+                                                                                caseId)));
+        }
+    }
+
+    /**
+     * @return the result of the pending load, or of a new one when there is none or it failed
+     */
+    protected List<CaseActionSummary> getActions(final Future<List<CaseActionSummary>> pending,
+                                                 final Supplier<List<CaseActionSummary>> loader) {
+        if (pending != null) {
+            try {
+                return getResult(pending);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Pending case actions failed, loading them again",
+                             e);
+            }
+        }
+        return loader.get();
+    }
+
+    protected PendingCaseActions getPendingCaseActions(final String serverTemplateId,
+                                                       final String containerId,
+                                                       final String caseId) {
+        final String key = getPendingCaseActionsKey(serverTemplateId,
+                                                    containerId,
+                                                    caseId);
+        final PendingCaseActions pending = pendingCaseActions.get(key);
+        if (pending == null) {
+            return null;
+        }
+        if (pending.isExpired(System.currentTimeMillis())) {
+            pendingCaseActions.remove(key,
+                                      pending);
+            return null;
+        }
+        return pending;
+    }
+
+    protected void purgeExpiredPendingCaseActions() {
+        final long now = System.currentTimeMillis();
+        pendingCaseActions.values().removeIf(pending -> pending.isExpired(now));
+    }
+
+    protected String getPendingCaseActionsKey(final String serverTemplateId,
+                                              final String containerId,
+                                              final String caseId) {
+        return getCallerKey() + "/" + serverTemplateId + "/" + containerId + "/" + caseId;
+    }
+
+    /**
+     * Digest of the credentials the kie server calls of the current request run with. Results read with them are
+     * only handed to requests of the same caller.
+     */
+    protected String getCallerKey() {
+        final String authorization = credentialsProvider.getCallerAuthorization();
+        if (authorization == null) {
+            return "";
+        }
+        return Hashing.sha256().hashString(authorization,
+                                           StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * @return the result of the future, or null when it is not available before the deadline
+     */
+    protected <T> T getBeforeDeadline(final Future<T> future,
+                                      final long deadline) {
+        try {
+            return future.get(Math.max(0,
+                                       deadline - System.nanoTime()),
+                              TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return null;
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Runs the task on the managed executor with the credentials of the calling user.
+     */
+    protected <T> Future<T> submit(final Callable<T> task) {
+        return executorService.submit(credentialsProvider.withCallerCredentials(task));
+    }
+
+    protected <T> T getResult(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+        return new RuntimeException(e.getCause());
+    }
+
+    protected List<CaseActionSummary> getAvailableActions(final List<CaseActionSummary> adHocActions,
+                                                          final List<CaseActionSummary> inProgressActions,
+                                                          final List<CaseActionSummary> completedActions) {
+        return adHocActions.stream()
+                .filter(action -> {
+                    if (new MilestoneNodePredicate().negate().test(action.getType())) {
+                        return true;
+                    }
+                    if (findMilestone(inProgressActions,
+                                      action.getName())) {
+                        return false;
+                    }
+                    if (findMilestone(completedActions,
+                                      action.getName())) {
+                        return false;
+                    }
+                    return true;
+                })
+                .filter(action -> new InProgressHumanTaskPredicate().negate().test(action,
+                                                                                   inProgressActions))
+                .collect(toList());
+    }
+
+    void setExecutorService(final ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    void setCaseActionsTimeout(final long caseActionsTimeout) {
+        this.caseActionsTimeout = caseActionsTimeout;
+    }
+
+    int getPendingCaseActionsSize() {
+        return pendingCaseActions.size();
+    }
+
+    void setCaseSnapshotTtl(final long caseSnapshotTtl) {
+        this.caseSnapshots = new CoalescingCache<>(caseSnapshotTtl,
+                                                   "case snapshot");
+    }
+
     protected boolean findMilestone(final List<CaseActionSummary> actions,
                                     final String name) {
         return actions.stream().filter(action -> name.equals(action.getName())).findAny().isPresent();
@@ -325,17 +1061,19 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
 
     public List<CaseActionSummary> getInProgressActions(String containerId,
                                                         String caseId) {
-        List<NodeInstance> activeNodes = client.getActiveNodes(containerId,
-                                                               caseId,
-                                                               0,
-                                                               PAGE_SIZE_UNLIMITED);
-        return activeNodes.stream()
-                .map(s -> new CaseActionNodeInstanceMapper(
-                        (new HumanTaskNodePredicate().test(s.getNodeType()) ?
-                                userTaskServicesClient.findTaskByWorkItemId(s.getWorkItemId()).getActualOwner() :
-                                ""),
-                        CaseActionStatus.IN_PROGRESS).apply(s))
-                .collect(toList());
+        final List<NodeInstance> activeNodes = getCaseActiveNodes(containerId,
+                                                                  caseId);
+        return mapNodeInstances(activeNodes,
+                                getTaskOwners(activeNodes),
+                                CaseActionStatus.IN_PROGRESS);
+    }
+
+    public List<NodeInstance> getCaseActiveNodes(String containerId,
+                                                 String caseId) {
+        return client.getActiveNodes(containerId,
+                                     caseId,
+                                     0,
+                                     PAGE_SIZE_UNLIMITED);
     }
 
     public List<NodeInstance> getCaseCompletedNodes(String containerId,
@@ -348,17 +1086,83 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
 
     public List<CaseActionSummary> getCompletedActions(String containerId,
                                                        String caseId) {
-        List<NodeInstance> activeNodes = getCaseCompletedNodes(containerId,
-                                                               caseId);
-        return activeNodes.stream()
+        final List<NodeInstance> completedNodes = getCaseCompletedNodes(containerId,
+                                                                        caseId);
+        return mapNodeInstances(completedNodes,
+                                getTaskOwners(completedNodes),
+                                CaseActionStatus.COMPLETED);
+    }
+
+    protected List<CaseActionSummary> mapNodeInstances(final List<NodeInstance> nodes,
+                                                       final Map<Long, String> taskOwners,
+                                                       final CaseActionStatus status) {
+        final HumanTaskNodePredicate humanTaskNodePredicate = new HumanTaskNodePredicate();
+        return nodes.stream()
                 .map(s -> new CaseActionNodeInstanceMapper(
-                        (new HumanTaskNodePredicate().test(s.getNodeType()) ?
-                                userTaskServicesClient.findTaskByWorkItemId(s.getWorkItemId()).getActualOwner() :
+                        (humanTaskNodePredicate.test(s.getNodeType()) ?
+                                taskOwners.get(s.getWorkItemId()) :
                                 ""),
-                        CaseActionStatus.COMPLETED).apply(s))
+                        status).apply(s))
                 .collect(toList());
     }
 
+    /**
+     * Resolves the actual owners of all human task nodes with a single query over their work item ids.
+     * @return actual owner by work item id
+     */
+    protected Map<Long, String> getTaskOwners(final List<NodeInstance> nodes) {
+        final HumanTaskNodePredicate humanTaskNodePredicate = new HumanTaskNodePredicate();
+        final List<Long> workItemIds = nodes.stream()
+                .filter(s -> humanTaskNodePredicate.test(s.getNodeType()) && s.getWorkItemId() != null)
+                .map(NodeInstance::getWorkItemId)
+                .distinct()
+                .collect(toList());
+        if (workItemIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        registerQuery(CASE_TASK_OWNERS_QUERY,
+                      "select t.workItemId, t.actualOwner from AuditTaskImpl t");
+
+        final QueryFilterSpec filterSpec = new QueryFilterSpec();
+        filterSpec.setParameters(new QueryParam[]{
+                new QueryParam(COLUMN_WORK_ITEM_ID,
+                               CoreFunctionType.IN.toString(),
+                               workItemIds)
+        });
+        final List<List> rows = queryServicesClient.query(CASE_TASK_OWNERS_QUERY,
+                                                          QueryServicesClient.QUERY_MAP_RAW,
+                                                          filterSpec,
+                                                          0,
+                                                          workItemIds.size(),
+                                                          List.class);
+
+        final Map<Long, String> owners = new HashMap<>();
+        for (List row : rows) {
+            owners.put(((Number) row.get(0)).longValue(),
+                       (String) row.get(1));
+        }
+        return owners;
+    }
+
+    /**
+     * Registers a query definition on the kie server the first time it is needed, the case management
+     * application does not load the workbench query definitions.
+     */
+    protected void registerQuery(final String name,
+                                 final String expression) {
+        if (registeredQueries.contains(name)) {
+            return;
+        }
+        final QueryDefinition definition = new QueryDefinition();
+        definition.setName(name);
+        definition.setSource("${org.kie.server.persistence.ds}");
+        definition.setExpression(expression);
+        definition.setTarget("CUSTOM");
+        queryServicesClient.replaceQuery(definition);
+        registeredQueries.add(name);
+    }
+
     public List<CaseActionSummary> getAdHocFragments(String containerId,
                                                      String caseId) {
         return client.getAdHocFragments(containerId,
@@ -401,6 +1205,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                   actors,
                                   groups,
                                   data);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     public void addDynamicUserTaskToStage(String containerId,
@@ -419,6 +1225,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                          actors,
                                          groups,
                                          data);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     public void addDynamicSubProcess(String containerId,
@@ -429,6 +1237,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                     caseId,
                                     processId,
                                     data);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     public void addDynamicSubProcessToStage(String containerId,
@@ -441,6 +1251,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                            stageId,
                                            processId,
                                            data);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     @Override
@@ -454,6 +1266,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                            stageId,
                                            adHocName,
                                            data);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     @Override
@@ -465,6 +1279,8 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                     caseId,
                                     adHocName,
                                     data);
+        invalidateCaseSnapshot(containerId,
+                               caseId);
     }
 
     @Override
@@ -475,6 +1291,80 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
         return processDefinitions.stream().map(new ProcessDefinitionMapper()).collect(toList());
     }
 
+    protected static class PendingCaseActions {
+
+        private final Future<List<CaseActionSummary>> adHoc;
+        private final Future<List<CaseActionSummary>> inProgress;
+        private final Future<List<CaseActionSummary>> completed;
+        private final long expiresAt;
+
+        PendingCaseActions(final Future<List<CaseActionSummary>> adHoc,
+                           final Future<List<CaseActionSummary>> inProgress,
+                           final Future<List<CaseActionSummary>> completed,
+                           final long expiresAt) {
+            this.adHoc = adHoc;
+            this.inProgress = inProgress;
+            this.completed = completed;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(final long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private static class CaseSnapshotKey {
+
+        private final String caller;
+        private final String serverTemplateId;
+        private final String containerId;
+        private final String caseId;
+
+        CaseSnapshotKey(final String caller,
+                        final String serverTemplateId,
+                        final String containerId,
+                        final String caseId) {
+            this.caller = caller;
+            this.serverTemplateId = serverTemplateId;
+            this.containerId = containerId;
+            this.caseId = caseId;
+        }
+
+        boolean isCase(final String containerId,
+                       final String caseId) {
+            return Objects.equals(this.containerId,
+                                  containerId) && Objects.equals(this.caseId,
+                                                                 caseId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CaseSnapshotKey key = (CaseSnapshotKey) o;
+            return Objects.equals(caller,
+                                  key.caller) &&
+                    Objects.equals(serverTemplateId,
+                                   key.serverTemplateId) &&
+                    Objects.equals(containerId,
+                                   key.containerId) &&
+                    Objects.equals(caseId,
+                                   key.caseId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(caller,
+                                serverTemplateId,
+                                containerId,
+                                caseId);
+        }
+    }
+
     public static class InProgressHumanTaskPredicate implements BiPredicate<CaseActionSummary, List<CaseActionSummary>> {
 
         @Override
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.backend.server;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerResourceList;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.ReleaseId;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.client.KieServicesClient;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CaseDefinitionCacheTest {
+
+    private final String serverTemplateId = "serverTemplateId";
+    private final String containerId = "containerId";
+    private final String otherContainerId = "otherContainerId";
+    private final String caseDefinitionId = "caseDefinitionId";
+
+    @Mock
+    private KieServicesClient kieServicesClient;
+
+    private CaseDefinitionCache cache;
+
+    private AtomicInteger loads;
+
+    private static KieContainerResource newContainer(final String containerId,
+                                                     final String version) {
+        return new KieContainerResource(containerId,
+                                        new ReleaseId("org.jbpm",
+                                                      containerId,
+                                                      version),
+                                        KieContainerStatus.STARTED);
+    }
+
+    @Before
+    public void setup() {
+        cache = new CaseDefinitionCache(kieServicesClient,
+                                        0);
+        loads = new AtomicInteger();
+    }
+
+    private void mockContainers(final KieContainerResource... containers) {
+        when(kieServicesClient.listContainers()).thenReturn(new ServiceResponse<>(ServiceResponse.ResponseType.SUCCESS,
+                                                                                  "",
+                                                                                  new KieContainerResourceList(Arrays.asList(containers))));
+    }
+
+    private Supplier<CaseDefinitionSummary> loader(final String containerId) {
+        return () -> {
+            loads.incrementAndGet();
+            return CaseDefinitionSummary.builder().id(caseDefinitionId).containerId(containerId).build();
+        };
+    }
+
+    private CaseDefinitionSummary getCaseDefinition(final String containerId) {
+        return cache.getCaseDefinition(serverTemplateId,
+                                       containerId,
+                                       caseDefinitionId,
+                                       loader(containerId));
+    }
+
+    @Test
+    public void testDefinitionCached() {
+        mockContainers(newContainer(containerId,
+                                    "1.0"));
+
+        final CaseDefinitionSummary definition = getCaseDefinition(containerId);
+
+        assertSame(definition,
+                   getCaseDefinition(containerId));
+        assertEquals(1,
+                     loads.get());
+    }
+
+    @Test
+    public void testDefinitionsPerServerTemplate() {
+        mockContainers(newContainer(containerId,
+                                    "1.0"));
+
+        getCaseDefinition(containerId);
+        cache.getCaseDefinition("otherServerTemplateId",
+                                containerId,
+                                caseDefinitionId,
+                                loader(containerId));
+
+        assertEquals(2,
+                     loads.get());
+    }
+
+    @Test
+    public void testRedeployedContainerInvalidated() {
+        mockContainers(newContainer(containerId,
+                                    "1.0"),
+                       newContainer(otherContainerId,
+                                    "1.0"));
+        getCaseDefinition(containerId);
+        getCaseDefinition(otherContainerId);
+
+        mockContainers(newContainer(containerId,
+                                    "1.1"),
+                       newContainer(otherContainerId,
+                                    "1.0"));
+        getCaseDefinition(containerId);
+        getCaseDefinition(otherContainerId);
+
+        // only the redeployed container is loaded again
+        assertEquals(3,
+                     loads.get());
+    }
+
+    @Test
+    public void testRemovedContainerInvalidated() {
+        mockContainers(newContainer(containerId,
+                                    "1.0"));
+        getCaseDefinition(containerId);
+
+        mockContainers();
+        getCaseDefinition(containerId);
+
+        assertEquals(2,
+                     loads.get());
+    }
+
+    @Test
+    public void testNotCachedWhenContainersUnavailable() {
+        when(kieServicesClient.listContainers()).thenThrow(new RuntimeException("unavailable"));
+
+        getCaseDefinition(containerId);
+        getCaseDefinition(containerId);
+
+        assertEquals(2,
+                     loads.get());
+    }
+
+    @Test
+    public void testContainersCheckedOncePerInterval() {
+        cache = new CaseDefinitionCache(kieServicesClient,
+                                        60000);
+        mockContainers(newContainer(containerId,
+                                    "1.0"));
+
+        getCaseDefinition(containerId);
+        getCaseDefinition(containerId);
+        cache.getCaseDefinitions(() -> singletonList(CaseDefinitionSummary.builder().id(caseDefinitionId).build()));
+
+        verify(kieServicesClient).listContainers();
+        assertEquals(1,
+                     loads.get());
+    }
+
+    @Test
+    public void testAllDefinitionsInvalidatedByAnyContainer() {
+        final AtomicInteger listLoads = new AtomicInteger();
+        final Supplier<List<CaseDefinitionSummary>> listLoader = () -> {
+            listLoads.incrementAndGet();
+            return singletonList(CaseDefinitionSummary.builder().id(caseDefinitionId).build());
+        };
+        mockContainers(newContainer(containerId,
+                                    "1.0"));
+        cache.getCaseDefinitions(listLoader);
+        cache.getCaseDefinitions(listLoader);
+        assertEquals(1,
+                     listLoads.get());
+
+        mockContainers(newContainer(containerId,
+                                    "1.0"),
+                       newContainer(otherContainerId,
+                                    "1.0"));
+        cache.getCaseDefinitions(listLoader);
+
+        assertEquals(2,
+                     listLoads.get());
+    }
+}
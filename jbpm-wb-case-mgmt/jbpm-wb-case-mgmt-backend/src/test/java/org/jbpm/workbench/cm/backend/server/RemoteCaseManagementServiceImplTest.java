@@ -20,23 +20,42 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import org.assertj.core.api.SoftAssertions;
+import org.dashbuilder.dataset.filter.CoreFunctionType;
+import org.dashbuilder.dataset.group.AggregateFunctionType;
+import org.jboss.errai.security.shared.api.Group;
+import org.jboss.errai.security.shared.api.GroupImpl;
+import org.jboss.errai.security.shared.api.Role;
+import org.jboss.errai.security.shared.api.RoleImpl;
+import org.jboss.errai.security.shared.api.identity.User;
 import org.jbpm.workbench.cm.model.*;
 import org.jbpm.workbench.cm.predicate.MilestoneNodePredicate;
 import org.jbpm.workbench.cm.util.Actions;
 import org.jbpm.workbench.cm.util.CaseActionStatus;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.jbpm.workbench.cm.util.CaseInstanceSortBy;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentChange;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentResult;
 import org.jbpm.workbench.cm.util.CaseStageStatus;
+import org.jbpm.workbench.cm.util.CaseStatus;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.server.api.model.cases.*;
+import org.kie.server.api.model.definition.QueryDefinition;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.api.model.definition.QueryParam;
 import org.kie.server.api.model.instance.NodeInstance;
-import org.kie.server.api.model.instance.TaskInstance;
 import org.kie.server.client.CaseServicesClient;
-import org.kie.server.client.UserTaskServicesClient;
+import org.kie.server.client.QueryServicesClient;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -82,12 +101,26 @@ public class RemoteCaseManagementServiceImplTest {
     private CaseServicesClient clientMock;
 
     @Mock
-    private UserTaskServicesClient userTaskServicesClient;
+    private QueryServicesClient queryServicesClient;
+
+    @Mock
+    private User identity;
+
+    @Spy
+    private CaseDefinitionCache caseDefinitionCache = new CaseDefinitionCache();
 
     @Spy
     @InjectMocks
     private RemoteCaseManagementServiceImpl testedService;
 
+    @Before
+    public void setup() {
+        testedService.setExecutorService(MoreExecutors.newDirectExecutorService());
+        when(identity.getIdentifier()).thenReturn(userId);
+        when(identity.getRoles()).thenReturn(Collections.<Role>singleton(new RoleImpl("managers")));
+        when(identity.getGroups()).thenReturn(Collections.<Group>singleton(new GroupImpl("HR")));
+    }
+
     @Test
     public void testGetCaseDefinitions_singleCaseDefinition() {
         final CaseDefinition definition = createTestDefinition();
@@ -142,83 +175,180 @@ public class RemoteCaseManagementServiceImplTest {
         assertNull(shouldBeNull);
     }
 
+    private void mockCaseInstanceRows(final List<List> rows,
+                                      final long totalCount) {
+        when(queryServicesClient.query(eq(CASE_INSTANCES_QUERY),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       anyInt(),
+                                       anyInt(),
+                                       eq(List.class))).thenAnswer(invocation -> {
+            final QueryFilterSpec filterSpec = (QueryFilterSpec) invocation.getArguments()[2];
+            final boolean countQuery = Arrays.stream(filterSpec.getParameters()).anyMatch(p -> AggregateFunctionType.DISTINCT.toString().equals(p.getOperator()));
+            return countQuery ? singletonList(singletonList(totalCount)) : rows;
+        });
+    }
+
+    private List<Object> newCaseInstanceRow(final String caseId,
+                                            final String owner) {
+        return Arrays.asList(1L,
+                             caseId,
+                             caseDescription,
+                             CaseStatus.OPEN.getId(),
+                             containerId,
+                             caseDefinitionId,
+                             10000L,
+                             null,
+                             owner);
+    }
+
     @Test
     public void getCaseInstances_singleCaseInstance() {
         final CaseInstanceSearchRequest request = new CaseInstanceSearchRequest();
-        final CaseInstance instance = createTestInstance(caseId);
-        when(clientMock.getCaseInstances(eq(singletonList(request.getStatus().getName())),
-                                         anyInt(),
-                                         anyInt())).thenReturn(singletonList(instance));
-
-        final List<CaseInstanceSummary> instances = testedService.getCaseInstances(request);
-        assertNotNull(instances);
+        mockCaseInstanceRows(singletonList(newCaseInstanceRow(caseId,
+                                                              author)),
+                             1);
+
+        final CaseInstanceSearchResult result = testedService.getCaseInstances(request);
+        assertNotNull(result);
+        assertEquals(Long.valueOf(1),
+                     result.getTotalCount());
         assertEquals(1,
-                     instances.size());
-        assertCaseInstance(instance,
-                           instances.get(0));
+                     result.getCaseInstances().size());
+        final CaseInstanceSummary summary = result.getCaseInstances().get(0);
+        assertEquals(caseId,
+                     summary.getCaseId());
+        assertEquals(caseDescription,
+                     summary.getDescription());
+        assertEquals(CaseStatus.OPEN,
+                     summary.getStatus());
+        assertEquals(containerId,
+                     summary.getContainerId());
+        assertEquals(caseDefinitionId,
+                     summary.getCaseDefinitionId());
+        assertEquals(new Date(10000L),
+                     summary.getStartedAt());
+        assertNull(summary.getCompletedAt());
+        assertEquals(author,
+                     summary.getOwner());
+        verify(queryServicesClient).replaceQuery(any(QueryDefinition.class));
+        verify(clientMock,
+               never()).getCaseInstances(anyList(),
+                                         anyInt(),
+                                         anyInt());
     }
 
     @Test
     public void getCaseInstances_emptyList() {
         final CaseInstanceSearchRequest request = new CaseInstanceSearchRequest();
-        when(clientMock.getCaseInstances(eq(singletonList(request.getStatus().getName())),
-                                         anyInt(),
-                                         anyInt())).thenReturn(emptyList());
-
-        final List<CaseInstanceSummary> instances = testedService.getCaseInstances(request);
-        assertNotNull(instances);
-        assertTrue(instances.isEmpty());
+        mockCaseInstanceRows(emptyList(),
+                             0);
+
+        final CaseInstanceSearchResult result = testedService.getCaseInstances(request);
+        assertNotNull(result);
+        assertTrue(result.getCaseInstances().isEmpty());
+        assertEquals(Long.valueOf(0),
+                     result.getTotalCount());
     }
 
     @Test
-    public void getCaseInstances_sortCaseInstanceList() {
-        CaseInstance c1 = createTestInstance("id1");
-        c1.setStartedAt(new Date(10000));
-
-        CaseInstance c2 = createTestInstance("id2");
-        c2.setStartedAt(new Date(10));
-
-        when(clientMock.getCaseInstances(anyList(),
-                                         anyInt(),
-                                         anyInt())).thenReturn(Arrays.asList(c1,
-                                                                             c2));
-
-        CaseInstanceSearchRequest defaultSortRequest = new CaseInstanceSearchRequest(); //Default sort is by CASE_ID
-        List<CaseInstanceSummary> sortedInstances = testedService.getCaseInstances(defaultSortRequest);
-        assertEquals("id1",
-                     sortedInstances.get(0).getCaseId());
-        assertEquals("id2",
-                     sortedInstances.get(1).getCaseId());
+    public void getCaseInstances_pagingSortingAndFilteringPushedDown() {
+        final CaseInstanceSearchRequest request = new CaseInstanceSearchRequest();
+        request.setStatus(CaseStatus.CLOSED);
+        request.setOwner(author);
+        request.setSortBy(CaseInstanceSortBy.OWNER);
+        request.setSortByAsc(false);
+        request.setPage(3);
+        request.setPageSize(20);
+        mockCaseInstanceRows(singletonList(newCaseInstanceRow(caseId,
+                                                              author)),
+                             300000);
+
+        final CaseInstanceSearchResult result = testedService.getCaseInstances(request);
+
+        assertEquals(Long.valueOf(300000),
+                     result.getTotalCount());
+        final ArgumentCaptor<QueryFilterSpec> filterSpecCaptor = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient).query(eq(CASE_INSTANCES_QUERY),
+                                          eq(QueryServicesClient.QUERY_MAP_RAW),
+                                          filterSpecCaptor.capture(),
+                                          eq(3),
+                                          eq(20),
+                                          eq(List.class));
+        final QueryFilterSpec filterSpec = filterSpecCaptor.getValue();
+        assertEquals(COLUMN_CASE_OWNER,
+                     filterSpec.getOrderBy());
+        assertFalse(filterSpec.isAscending());
+        final QueryParam[] params = filterSpec.getParameters();
+        assertEquals(COLUMN_CASE_STATUS,
+                     params[0].getColumn());
+        assertEquals(CoreFunctionType.EQUALS_TO.toString(),
+                     params[0].getOperator());
+        assertEquals(singletonList(CaseStatus.CLOSED.getId()),
+                     params[0].getValue());
+        assertEquals(COLUMN_CASE_OWNER,
+                     params[1].getColumn());
+        assertEquals(singletonList(author),
+                     params[1].getValue());
+        assertEquals(COLUMN_CASE_MEMBER,
+                     params[2].getColumn());
+        assertEquals(CoreFunctionType.IN.toString(),
+                     params[2].getOperator());
+        assertEquals(Arrays.asList(userId,
+                                   "managers",
+                                   "HR"),
+                     params[2].getValue());
+        assertEquals(COLUMN_CASE_PROCESS_INSTANCE_ID,
+                     params[3].getColumn());
+        assertEquals(GROUP_FUNCTION,
+                     params[3].getOperator());
+        assertEquals(3 + 1 + CASE_INSTANCE_COLUMNS.size(),
+                     params.length);
+    }
 
-        CaseInstanceSearchRequest sortByIdRequest = new CaseInstanceSearchRequest();
-        sortByIdRequest.setSortBy(CaseInstanceSortBy.CASE_ID);
-        sortByIdRequest.setSortByAsc(true);
-        sortedInstances = testedService.getCaseInstances(sortByIdRequest);
-        assertEquals("id1",
-                     sortedInstances.get(0).getCaseId());
-        assertEquals("id2",
-                     sortedInstances.get(1).getCaseId());
-        sortByIdRequest.setSortByAsc(false);
-        sortedInstances = testedService.getCaseInstances(sortByIdRequest);
-        assertEquals("id2",
-                     sortedInstances.get(0).getCaseId());
-        assertEquals("id1",
-                     sortedInstances.get(1).getCaseId());
+    @Test
+    public void getCaseInstances_countsDistinctCases() {
+        mockCaseInstanceRows(emptyList(),
+                             2);
+
+        testedService.getCaseInstances(new CaseInstanceSearchRequest());
+
+        final ArgumentCaptor<QueryFilterSpec> filterSpecCaptor = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient,
+               times(2)).query(eq(CASE_INSTANCES_QUERY),
+                               eq(QueryServicesClient.QUERY_MAP_RAW),
+                               filterSpecCaptor.capture(),
+                               anyInt(),
+                               anyInt(),
+                               eq(List.class));
+        final QueryParam[] countParams = filterSpecCaptor.getAllValues().get(1).getParameters();
+        final QueryParam countParam = countParams[countParams.length - 1];
+        assertEquals(COLUMN_CASE_PROCESS_INSTANCE_ID,
+                     countParam.getColumn());
+        assertEquals(AggregateFunctionType.DISTINCT.toString(),
+                     countParam.getOperator());
+        assertEquals(COLUMN_CASE_MEMBER,
+                     countParams[countParams.length - 2].getColumn());
+    }
 
-        CaseInstanceSearchRequest sortByStarted = new CaseInstanceSearchRequest();
-        sortByStarted.setSortBy(CaseInstanceSortBy.START_TIME);
-        sortByStarted.setSortByAsc(true);
-        sortedInstances = testedService.getCaseInstances(sortByStarted);
-        assertEquals("id2",
-                     sortedInstances.get(0).getCaseId());
-        assertEquals("id1",
-                     sortedInstances.get(1).getCaseId());
-        sortByStarted.setSortByAsc(false);
-        sortedInstances = testedService.getCaseInstances(sortByStarted);
-        assertEquals("id1",
-                     sortedInstances.get(0).getCaseId());
-        assertEquals("id2",
-                     sortedInstances.get(1).getCaseId());
+    @Test
+    public void getCaseInstanceSummaryComparatorTest() {
+        final CaseInstanceSummary c1 = CaseInstanceSummary.builder().caseId("id1").startedAt(new Date(10000)).owner("b").build();
+        final CaseInstanceSummary c2 = CaseInstanceSummary.builder().caseId("id2").startedAt(new Date(10)).owner("a").build();
+
+        final CaseInstanceSearchRequest request = new CaseInstanceSearchRequest(); //Default sort is by CASE_ID
+        assertTrue(testedService.getCaseInstanceSummaryComparator(request).compare(c1,
+                                                                                   c2) < 0);
+        request.setSortByAsc(false);
+        assertTrue(testedService.getCaseInstanceSummaryComparator(request).compare(c1,
+                                                                                   c2) > 0);
+        request.setSortBy(CaseInstanceSortBy.START_TIME);
+        request.setSortByAsc(true);
+        assertTrue(testedService.getCaseInstanceSummaryComparator(request).compare(c1,
+                                                                                   c2) > 0);
+        request.setSortBy(CaseInstanceSortBy.OWNER);
+        assertTrue(testedService.getCaseInstanceSummaryComparator(request).compare(c1,
+                                                                                   c2) > 0);
     }
 
     @Test
@@ -299,6 +429,184 @@ public class RemoteCaseManagementServiceImplTest {
         assertNull(cis);
     }
 
+    private CaseInstanceSummary mockCaseInstanceSnapshot(final List<CaseCommentSummary> comments) {
+        final CaseInstanceSummary cis = CaseInstanceSummary.builder()
+                .caseId(caseId)
+                .containerId(containerId)
+                .caseDefinitionId(caseDefinitionId)
+                .roleAssignments(emptyList())
+                .stages(emptyList())
+                .build();
+        doReturn(cis).when(testedService).getCaseInstance(serverTemplateId,
+                                                          containerId,
+                                                          caseId);
+        doReturn(CaseDefinitionSummary.builder().id(caseDefinitionId).build()).when(testedService).getCaseDefinition(serverTemplateId,
+                                                                                                                      containerId,
+                                                                                                                      caseDefinitionId);
+        doReturn(emptyList()).when(testedService).getCaseMilestones(eq(containerId),
+                                                                    eq(caseId),
+                                                                    any(CaseMilestoneSearchRequest.class));
+        doReturn(emptyList()).when(testedService).getCaseStages(containerId,
+                                                                caseId);
+        doReturn(comments).when(testedService).getComments(serverTemplateId,
+                                                           containerId,
+                                                           caseId,
+                                                           0,
+                                                           CaseInstanceSnapshot.COMMENTS_PAGE_SIZE);
+        doReturn(new Actions()).when(testedService).getCaseActions(serverTemplateId,
+                                                                   containerId,
+                                                                   caseId,
+                                                                   null);
+        return cis;
+    }
+
+    @Test
+    public void getCaseInstanceSnapshot_unchangedSinceVersion() {
+        final CaseInstanceSummary cis = mockCaseInstanceSnapshot(emptyList());
+
+        final CaseInstanceSnapshot snapshot = testedService.getCaseInstanceSnapshot(serverTemplateId,
+                                                                                    containerId,
+                                                                                    caseId,
+                                                                                    null);
+        assertTrue(snapshot.isChanged());
+        assertNotNull(snapshot.getVersion());
+        assertEquals(cis,
+                     snapshot.getCaseInstance());
+        assertEquals(caseDefinitionId,
+                     snapshot.getCaseDefinition().getId());
+
+        final CaseInstanceSnapshot unchanged = testedService.getCaseInstanceSnapshot(serverTemplateId,
+                                                                                     containerId,
+                                                                                     caseId,
+                                                                                     snapshot.getVersion());
+        assertFalse(unchanged.isChanged());
+        assertEquals(snapshot.getVersion(),
+                     unchanged.getVersion());
+        assertNull(unchanged.getCaseInstance());
+
+        // the second request is served by the shared snapshot
+        verify(testedService).getCaseStages(containerId,
+                                            caseId);
+    }
+
+    @Test
+    public void getCaseInstanceSnapshot_invalidatedByChanges() {
+        mockCaseInstanceSnapshot(emptyList());
+        final CaseInstanceSnapshot snapshot = testedService.getCaseInstanceSnapshot(serverTemplateId,
+                                                                                    containerId,
+                                                                                    caseId,
+                                                                                    null);
+
+        final CaseCommentSummary comment = CaseCommentSummary.builder().id(commentId).author(author).text(text).build();
+        mockCaseInstanceSnapshot(singletonList(comment));
+        testedService.addComment(serverTemplateId,
+                                 containerId,
+                                 caseId,
+                                 author,
+                                 text);
+
+        final CaseInstanceSnapshot changed = testedService.getCaseInstanceSnapshot(serverTemplateId,
+                                                                                   containerId,
+                                                                                   caseId,
+                                                                                   snapshot.getVersion());
+        assertTrue(changed.isChanged());
+        assertNotEquals(snapshot.getVersion(),
+                        changed.getVersion());
+        assertEquals(singletonList(comment),
+                     changed.getComments());
+        verify(testedService,
+               times(2)).getCaseStages(containerId,
+                                       caseId);
+    }
+
+    @Test
+    public void getCaseInstanceSnapshot_notSharedBetweenCallers() {
+        mockCaseInstanceSnapshot(emptyList());
+
+        doReturn("caller").when(testedService).getCallerKey();
+        testedService.getCaseInstanceSnapshot(serverTemplateId,
+                                              containerId,
+                                              caseId,
+                                              null);
+        doReturn("otherCaller").when(testedService).getCallerKey();
+        testedService.getCaseInstanceSnapshot(serverTemplateId,
+                                              containerId,
+                                              caseId,
+                                              null);
+
+        verify(testedService,
+               times(2)).getCaseStages(containerId,
+                                       caseId);
+    }
+
+    @Test
+    public void getCaseInstanceSnapshot_actionsWithSingleWorker() {
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            testedService.setExecutorService(executorService);
+            testedService.setCaseActionsTimeout(1000);
+            mockCaseInstanceSnapshot(emptyList());
+            doCallRealMethod().when(testedService).getCaseActions(serverTemplateId,
+                                                                  containerId,
+                                                                  caseId,
+                                                                  null);
+            when(clientMock.getAdHocFragments(containerId,
+                                              caseId)).thenReturn(emptyList());
+            when(clientMock.getActiveNodes(eq(containerId),
+                                           eq(caseId),
+                                           anyInt(),
+                                           anyInt())).thenReturn(emptyList());
+            when(clientMock.getCompletedNodes(eq(containerId),
+                                              eq(caseId),
+                                              anyInt(),
+                                              anyInt())).thenReturn(emptyList());
+
+            final CaseInstanceSnapshot snapshot = testedService.getCaseInstanceSnapshot(serverTemplateId,
+                                                                                        containerId,
+                                                                                        caseId,
+                                                                                        null);
+
+            // the action sections do not queue behind a worker waiting for them
+            assertTrue(snapshot.getActions().getPendingActions().isEmpty());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getCaseSnapshotVersion_changedCommentText() {
+        final CaseInstanceSnapshot snapshot = new CaseInstanceSnapshot();
+        snapshot.setActions(new Actions());
+        snapshot.setComments(singletonList(CaseCommentSummary.builder().id(commentId).author(author).text(text).build()));
+        final String version = testedService.getCaseSnapshotVersion(snapshot);
+
+        // summaries are equal by id, the edited text still changes the version
+        snapshot.setComments(singletonList(CaseCommentSummary.builder().id(commentId).author(author).text("edited").build()));
+
+        assertNotEquals(version,
+                        testedService.getCaseSnapshotVersion(snapshot));
+    }
+
+    @Test
+    public void getCaseInstanceSnapshot_expired() {
+        testedService.setCaseSnapshotTtl(0);
+        mockCaseInstanceSnapshot(emptyList());
+
+        final CaseInstanceSnapshot snapshot = testedService.getCaseInstanceSnapshot(serverTemplateId,
+                                                                                    containerId,
+                                                                                    caseId,
+                                                                                    null);
+        final CaseInstanceSnapshot unchanged = testedService.getCaseInstanceSnapshot(serverTemplateId,
+                                                                                     containerId,
+                                                                                     caseId,
+                                                                                     snapshot.getVersion());
+
+        assertFalse(unchanged.isChanged());
+        verify(testedService,
+               times(2)).getCaseStages(containerId,
+                                       caseId);
+    }
+
     @Test
     public void testGetComments_singleComment() {
         final CaseComment caseComment = createTestComment();
@@ -440,6 +748,81 @@ public class RemoteCaseManagementServiceImplTest {
                                          commentId);
     }
 
+    @Test
+    public void testUpdateRoleAssignments() {
+        final String role = "role";
+        final String group = "group";
+        final CaseRoleAssignment roleAssignment = new CaseRoleAssignment();
+        roleAssignment.setName(role);
+        roleAssignment.setUsers(singletonList(userId));
+        roleAssignment.setGroups(emptyList());
+        when(clientMock.getRoleAssignments(containerId,
+                                           caseId)).thenReturn(singletonList(roleAssignment));
+        doThrow(new RuntimeException("unknown group")).when(clientMock).removeGroupFromRole(containerId,
+                                                                                             caseId,
+                                                                                             role,
+                                                                                             group);
+
+        final CaseRoleAssignmentResult result = testedService.updateRoleAssignments(serverTemplateId,
+                                                                                    containerId,
+                                                                                    caseId,
+                                                                                    Arrays.asList(CaseRoleAssignmentChange.assignUser(role,
+                                                                                                                                      userId),
+                                                                                                  CaseRoleAssignmentChange.removeGroup(role,
+                                                                                                                                       group)));
+
+        verify(clientMock).assignUserToRole(containerId,
+                                            caseId,
+                                            role,
+                                            userId);
+        verify(clientMock).removeGroupFromRole(containerId,
+                                               caseId,
+                                               role,
+                                               group);
+        verify(testedService).invalidateCaseSnapshot(containerId,
+                                                     caseId);
+        assertEquals(1,
+                     result.getAppliedCount());
+        assertEquals(1,
+                     result.getFailedChanges().size());
+        assertEquals(CaseRoleAssignmentChange.removeGroup(role,
+                                                          group),
+                     result.getFailedChanges().get(0));
+        assertEquals("unknown group",
+                     result.getFailedChanges().get(0).getErrorMessage());
+        assertEquals(singletonList(CaseRoleAssignmentSummary.builder().name(role).users(singletonList(userId)).groups(emptyList()).build()),
+                     result.getRoleAssignments());
+    }
+
+    @Test
+    public void testUpdateRoleAssignmentsWithDuplicateChanges() {
+        final String role = "role";
+        when(clientMock.getRoleAssignments(containerId,
+                                           caseId)).thenReturn(emptyList());
+        doThrow(new RuntimeException("unknown user")).when(clientMock).assignUserToRole(containerId,
+                                                                                         caseId,
+                                                                                         role,
+                                                                                         userId);
+
+        final CaseRoleAssignmentResult result = testedService.updateRoleAssignments(serverTemplateId,
+                                                                                    containerId,
+                                                                                    caseId,
+                                                                                    Arrays.asList(CaseRoleAssignmentChange.assignUser(role,
+                                                                                                                                      userId),
+                                                                                                  CaseRoleAssignmentChange.assignUser(role,
+                                                                                                                                      userId)));
+
+        verify(clientMock,
+               times(2)).assignUserToRole(containerId,
+                                          caseId,
+                                          role,
+                                          userId);
+        assertEquals(0,
+                     result.getAppliedCount());
+        assertEquals(2,
+                     result.getFailedChanges().size());
+    }
+
     @Test
     public void getCaseMilestones_sorting() {
         CaseMilestone c1 = createTestMilestone("id1",
@@ -689,13 +1072,12 @@ public class RemoteCaseManagementServiceImplTest {
                                           anyInt())).thenReturn(Arrays.asList(node5,
                                                                               node6));
 
-        TaskInstance t1 = TaskInstance.builder()
-                .actualOwner("Koe")
-                .build();
-
-        when(userTaskServicesClient.findTaskByWorkItemId(node1.getWorkItemId())).thenReturn(t1);
-        when(userTaskServicesClient.findTaskByWorkItemId(node3.getWorkItemId())).thenReturn(t1);
-        when(userTaskServicesClient.findTaskByWorkItemId(node5.getWorkItemId())).thenReturn(t1);
+        mockTaskOwners(Arrays.asList(node1.getWorkItemId(),
+                                     "Koe"),
+                       Arrays.asList(node3.getWorkItemId(),
+                                     "Koe"),
+                       Arrays.asList(node5.getWorkItemId(),
+                                     "Koe"));
 
         Actions actions = testedService.getCaseActions(serverTemplateId,
                                                        containerId,
@@ -743,15 +1125,144 @@ public class RemoteCaseManagementServiceImplTest {
                                              eq(caseId),
                                              eq(0),
                                              anyInt());
-        verify(userTaskServicesClient).findTaskByWorkItemId(node1.getWorkItemId());
-        verify(userTaskServicesClient,
-               never()).findTaskByWorkItemId(node2.getWorkItemId());
-        verify(userTaskServicesClient).findTaskByWorkItemId(node3.getWorkItemId());
-        verify(userTaskServicesClient,
-               never()).findTaskByWorkItemId(node4.getWorkItemId());
-        verify(userTaskServicesClient).findTaskByWorkItemId(node5.getWorkItemId());
-        verify(userTaskServicesClient,
-               never()).findTaskByWorkItemId(node6.getWorkItemId());
+        assertEquals("Koe",
+                     actions.getInProgressAction().get(0).getActualOwner());
+        assertEquals("Koe",
+                     actions.getCompleteActions().get(0).getActualOwner());
+
+        final ArgumentCaptor<QueryFilterSpec> filterSpecCaptor = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient,
+               times(2)).query(eq(CASE_TASK_OWNERS_QUERY),
+                               eq(QueryServicesClient.QUERY_MAP_RAW),
+                               filterSpecCaptor.capture(),
+                               eq(0),
+                               anyInt(),
+                               eq(List.class));
+        final List<Object> workItemIds = new ArrayList<>();
+        filterSpecCaptor.getAllValues().forEach(filterSpec -> {
+            final QueryParam workItemParam = filterSpec.getParameters()[0];
+            assertEquals(COLUMN_WORK_ITEM_ID,
+                         workItemParam.getColumn());
+            workItemIds.addAll((List) workItemParam.getValue());
+        });
+        assertEquals(3,
+                     workItemIds.size());
+        assertTrue(workItemIds.containsAll(Arrays.asList(node1.getWorkItemId(),
+                                                         node3.getWorkItemId(),
+                                                         node5.getWorkItemId())));
+        verify(queryServicesClient).replaceQuery(any(QueryDefinition.class));
+        assertTrue(actions.getPendingActions().isEmpty());
+    }
+
+    @Test
+    public void getCaseActionsTest_pendingCompletedActions() throws Exception {
+        final ExecutorService executorService = Executors.newCachedThreadPool();
+        final CountDownLatch completedNodesLatch = new CountDownLatch(1);
+        try {
+            testedService.setExecutorService(executorService);
+            testedService.setCaseActionsTimeout(100);
+            final CaseInstance ci = createTestInstance(caseId);
+            ci.setStages(emptyList());
+            when(clientMock.getCaseInstance(containerId,
+                                            caseId,
+                                            false,
+                                            true,
+                                            true,
+                                            true)).thenReturn(ci);
+            when(clientMock.getAdHocFragments(containerId,
+                                              caseId)).thenReturn(emptyList());
+            final NodeInstance activeNode = createTestNodeInstance("active",
+                                                                   "Service Task",
+                                                                   1L);
+            when(clientMock.getActiveNodes(eq(containerId),
+                                           eq(caseId),
+                                           anyInt(),
+                                           anyInt())).thenReturn(singletonList(activeNode));
+            when(clientMock.getCompletedNodes(eq(containerId),
+                                              eq(caseId),
+                                              anyInt(),
+                                              anyInt())).thenAnswer(invocation -> {
+                completedNodesLatch.await();
+                return emptyList();
+            });
+
+            final Actions actions = testedService.getCaseActions(serverTemplateId,
+                                                                 containerId,
+                                                                 caseId,
+                                                                 userId);
+
+            assertEquals(1,
+                         actions.getInProgressAction().size());
+            assertNull(actions.getCompleteActions());
+            assertNull(actions.getAvailableActions());
+            assertFalse(actions.isPending(CaseActionStatus.IN_PROGRESS));
+            assertTrue(actions.isPending(CaseActionStatus.COMPLETED));
+            assertTrue(actions.isPending(CaseActionStatus.AVAILABLE));
+            assertEquals(1,
+                         testedService.getPendingCaseActionsSize());
+
+            // the follow-up requests get the sections loaded by the first call instead of loading them again
+            completedNodesLatch.countDown();
+            assertTrue(testedService.getCaseActionsByStatus(serverTemplateId,
+                                                            containerId,
+                                                            caseId,
+                                                            userId,
+                                                            CaseActionStatus.COMPLETED).isEmpty());
+            assertTrue(testedService.getCaseActionsByStatus(serverTemplateId,
+                                                            containerId,
+                                                            caseId,
+                                                            userId,
+                                                            CaseActionStatus.AVAILABLE).isEmpty());
+            verify(clientMock).getCompletedNodes(eq(containerId),
+                                                 eq(caseId),
+                                                 anyInt(),
+                                                 anyInt());
+            verify(clientMock).getActiveNodes(eq(containerId),
+                                              eq(caseId),
+                                              anyInt(),
+                                              anyInt());
+            verify(clientMock).getAdHocFragments(containerId,
+                                                 caseId);
+        } finally {
+            completedNodesLatch.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getCaseActionsByStatusTest() {
+        final NodeInstance nodeInstance = createTestNodeInstance("completedNode",
+                                                                 "Service Task",
+                                                                 1L);
+        when(clientMock.getCompletedNodes(containerId,
+                                          caseId,
+                                          0,
+                                          PAGE_SIZE_UNLIMITED)).thenReturn(singletonList(nodeInstance));
+
+        final List<CaseActionSummary> result = testedService.getCaseActionsByStatus(serverTemplateId,
+                                                                                    containerId,
+                                                                                    caseId,
+                                                                                    userId,
+                                                                                    CaseActionStatus.COMPLETED);
+
+        assertEquals(1,
+                     result.size());
+        assertCaseActionNodeInstance(nodeInstance,
+                                     result.get(0));
+        verify(clientMock,
+               never()).getActiveNodes(anyString(),
+                                       anyString(),
+                                       anyInt(),
+                                       anyInt());
+    }
+
+    private void mockTaskOwners(final List... rows) {
+        when(queryServicesClient.query(eq(CASE_TASK_OWNERS_QUERY),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(0),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(Arrays.asList(rows));
     }
 
     @Test
@@ -766,16 +1277,13 @@ public class RemoteCaseManagementServiceImplTest {
         NodeInstance node2 = createTestNodeInstance("active2",
                                                     "Service Task",
                                                     node2WorkItemId);
-        TaskInstance t1 = TaskInstance.builder()
-                .actualOwner(taskActualOwner)
-                .build();
-
         when(clientMock.getActiveNodes(eq(containerId),
                                        eq(caseId),
                                        anyInt(),
                                        anyInt())).thenReturn(Arrays.asList(node1,
                                                                            node2));
-        when(userTaskServicesClient.findTaskByWorkItemId(node1WorkItemId)).thenReturn(t1);
+        mockTaskOwners(Arrays.asList(node1WorkItemId,
+                                     taskActualOwner));
 
         List<CaseActionSummary> actionsSummaries = testedService.getInProgressActions(containerId,
                                                                                       caseId);
@@ -794,9 +1302,12 @@ public class RemoteCaseManagementServiceImplTest {
                                      actionsSummaries.get(0));
         assertCaseActionNodeInstance(node2,
                                      actionsSummaries.get(1));
-        verify(userTaskServicesClient).findTaskByWorkItemId(node1WorkItemId);
-        verify(userTaskServicesClient,
-               never()).findTaskByWorkItemId(node2WorkItemId);
+        verify(queryServicesClient).query(eq(CASE_TASK_OWNERS_QUERY),
+                                          eq(QueryServicesClient.QUERY_MAP_RAW),
+                                          any(QueryFilterSpec.class),
+                                          eq(0),
+                                          eq(1),
+                                          eq(List.class));
     }
 
     @Test
@@ -866,19 +1377,19 @@ public class RemoteCaseManagementServiceImplTest {
         final NodeInstance nodeInstance = createTestNodeInstance("completedNode",
                                                                  NODE_TYPE_HUMAN_TASK,
                                                                  1L);
-        final TaskInstance taskInstance = TaskInstance.builder().actualOwner("owner").build();
         when(clientMock.getCompletedNodes(containerId,
                                           caseId,
                                           0,
                                           PAGE_SIZE_UNLIMITED)).thenReturn(singletonList(nodeInstance));
-        when(userTaskServicesClient.findTaskByWorkItemId(nodeInstance.getWorkItemId())).thenReturn(taskInstance);
+        mockTaskOwners(Arrays.asList(nodeInstance.getWorkItemId(),
+                                     "owner"));
 
         final List<CaseActionSummary> result = testedService.getCompletedActions(containerId,
                                                                                  caseId);
         SoftAssertions.assertSoftly(softly -> {
             softly.assertThat(result.get(0).getName()).isEqualTo(nodeInstance.getName());
             softly.assertThat(result.get(0).getType()).isEqualTo(nodeInstance.getNodeType());
-            softly.assertThat(result.get(0).getActualOwner()).isEqualTo(taskInstance.getActualOwner());
+            softly.assertThat(result.get(0).getActualOwner()).isEqualTo("owner");
             softly.assertThat(result.get(0).getActionStatus()).isEqualTo(CaseActionStatus.COMPLETED);
         });
     }
@@ -896,7 +1407,7 @@ public class RemoteCaseManagementServiceImplTest {
         final List<CaseActionSummary> result = testedService.getCompletedActions(containerId,
                                                                                  caseId);
 
-        verifyZeroInteractions(userTaskServicesClient);
+        verifyZeroInteractions(queryServicesClient);
 
         SoftAssertions.assertSoftly(softly -> {
             softly.assertThat(result.get(0).getName()).isEqualTo(nodeInstance.getName());
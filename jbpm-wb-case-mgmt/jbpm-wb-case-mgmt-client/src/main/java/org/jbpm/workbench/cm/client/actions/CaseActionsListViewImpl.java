@@ -66,6 +66,10 @@ public class CaseActionsListViewImpl extends AbstractView<CaseActionsPresenter>
     @DataField("empty-list-item")
     private Div emptyContainer;
 
+    @Inject
+    @DataField("loading-list-item")
+    private Div loadingContainer;
+
     @Inject
     @DataField("pagination")
     private PaginationViewImpl pagination;
@@ -93,6 +97,8 @@ public class CaseActionsListViewImpl extends AbstractView<CaseActionsPresenter>
         pagination.init(caseActionList,
                         this,
                         PAGE_SIZE);
+        addCSSClass(loadingContainer,
+                    "hidden");
         if (caseActionList.isEmpty()) {
             removeCSSClass(emptyContainer,
                            "hidden");
@@ -103,6 +109,16 @@ public class CaseActionsListViewImpl extends AbstractView<CaseActionsPresenter>
         actionsListHeaderCounter.setTextContent(String.valueOf(caseActionList.size()));
     }
 
+    @Override
+    public void setLoading() {
+        caseActionList.setModel(new ArrayList<>());
+        addCSSClass(emptyContainer,
+                    "hidden");
+        removeCSSClass(loadingContainer,
+                       "hidden");
+        actionsListHeaderCounter.setTextContent("");
+    }
+
     @Override
     public void removeAllTasks() {
         caseActionList.setModel(new ArrayList<>());
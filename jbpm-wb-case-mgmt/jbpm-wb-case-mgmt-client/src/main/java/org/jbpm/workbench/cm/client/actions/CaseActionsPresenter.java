@@ -37,6 +37,7 @@ import org.jbpm.workbench.cm.predicate.SubProcessNodePredicate;
 import org.jbpm.workbench.cm.util.Actions;
 import org.jbpm.workbench.cm.util.CaseActionStatus;
 import org.jbpm.workbench.cm.util.CaseActionType;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.jbpm.workbench.cm.util.CaseStageStatus;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
@@ -78,8 +79,20 @@ public class CaseActionsPresenter extends AbstractCaseInstancePresenter<CaseActi
         newActionView.clearAllProcessDefinitions();
     }
 
+    @Override
+    protected void loadCaseSnapshot(final CaseInstanceSnapshot snapshot) {
+        loadNewActionOptions(snapshot.getCaseInstance());
+        loadActions(snapshot.getActions(),
+                    true);
+    }
+
     @Override
     protected void loadCaseInstance(final CaseInstanceSummary cis) {
+        loadNewActionOptions(cis);
+        refreshData(true);
+    }
+
+    protected void loadNewActionOptions(final CaseInstanceSummary cis) {
         view.updateListHeaders();
         setCaseStagesList(cis.getStages());
         processDefinitionSummaryMap.clear();
@@ -95,7 +108,6 @@ public class CaseActionsPresenter extends AbstractCaseInstancePresenter<CaseActi
                     newActionView.setProcessDefinitions(processDefinitionNames);
                 }
         ).getProcessDefinitions(containerId);
-        refreshData(true);
     }
 
     void setCaseStagesList(final List<CaseStageSummary> caseStagesList) {
@@ -186,8 +198,51 @@ public class CaseActionsPresenter extends AbstractCaseInstancePresenter<CaseActi
     }
 
     protected void refreshData(final boolean refreshAvailableActions) {
-        caseService.call((Actions actions) -> {
-            if (refreshAvailableActions) {
+        caseService.call((Actions actions) -> loadActions(actions,
+                                                          refreshAvailableActions)).getCaseActions(serverTemplateId,
+                                                                                                   containerId,
+                                                                                                   caseId,
+                                                                                                   identity.getIdentifier());
+    }
+
+    protected void loadActions(final Actions actions,
+                               final boolean refreshAvailableActions) {
+        if (refreshAvailableActions) {
+            setActions(CaseActionStatus.AVAILABLE,
+                       actions,
+                       actions.getAvailableActions());
+        }
+        setActions(CaseActionStatus.IN_PROGRESS,
+                   actions,
+                   actions.getInProgressAction());
+        setActions(CaseActionStatus.COMPLETED,
+                   actions,
+                   actions.getCompleteActions());
+    }
+
+    protected void setActions(final CaseActionStatus actionStatus,
+                              final Actions actions,
+                              final List<CaseActionSummary> actionsList) {
+        if (actions.isPending(actionStatus)) {
+            // section not loaded in time, show it as loading until it arrives on its own
+            view.setActionsLoading(actionStatus);
+            caseService.call((List<CaseActionSummary> pendingActions) -> setActionsList(actionStatus,
+                                                                                        pendingActions))
+                    .getCaseActionsByStatus(serverTemplateId,
+                                            containerId,
+                                            caseId,
+                                            identity.getIdentifier(),
+                                            actionStatus);
+        } else {
+            setActionsList(actionStatus,
+                           actionsList);
+        }
+    }
+
+    protected void setActionsList(final CaseActionStatus actionStatus,
+                                  final List<CaseActionSummary> actionsList) {
+        switch (actionStatus) {
+            case AVAILABLE: {
                 List<CaseActionSummary> availableActions = new ArrayList<>();
                 availableActions.add(CaseActionSummary.builder()
                                              .name(translationService.getTranslation(NEW_USER_TASK))
@@ -199,15 +254,18 @@ public class CaseActionsPresenter extends AbstractCaseInstancePresenter<CaseActi
                                              .actionType(DYNAMIC_SUBPROCESS_TASK)
                                              .actionStatus(CaseActionStatus.AVAILABLE)
                                              .build());
-                availableActions.addAll(actions.getAvailableActions());
+                availableActions.addAll(actionsList);
                 view.setAvailableActionsList(availableActions);
+                break;
             }
-            view.setInProgressActionsList(actions.getInProgressAction());
-            view.setCompletedActionsList(actions.getCompleteActions());
-        }).getCaseActions(serverTemplateId,
-                          containerId,
-                          caseId,
-                          identity.getIdentifier());
+            case IN_PROGRESS: {
+                view.setInProgressActionsList(actionsList);
+                break;
+            }
+            case COMPLETED: {
+                view.setCompletedActionsList(actionsList);
+            }
+        }
     }
 
     void setAction(final CaseActionItemView caseActionItem) {
@@ -306,6 +364,8 @@ public class CaseActionsPresenter extends AbstractCaseInstancePresenter<CaseActi
 
         void setCompletedActionsList(List<CaseActionSummary> caseActionList);
 
+        void setActionsLoading(CaseActionStatus actionStatus);
+
         void updateListHeaders();
     }
 
@@ -315,6 +375,8 @@ public class CaseActionsPresenter extends AbstractCaseInstancePresenter<CaseActi
 
         void setCaseActionList(List<CaseActionSummary> caseActionList);
 
+        void setLoading();
+
         void updateActionsHeader(final String heatherText,
                                  final String... stylesClass);
     }
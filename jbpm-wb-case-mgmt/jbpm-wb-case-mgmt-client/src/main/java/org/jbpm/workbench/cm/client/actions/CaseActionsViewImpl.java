@@ -27,6 +27,7 @@ import org.jboss.errai.ui.shared.api.annotations.DataField;
 import org.jboss.errai.ui.shared.api.annotations.Templated;
 import org.jbpm.workbench.cm.client.util.AbstractView;
 import org.jbpm.workbench.cm.model.CaseActionSummary;
+import org.jbpm.workbench.cm.util.CaseActionStatus;
 
 @Dependent
 @Templated
@@ -90,6 +91,20 @@ public class CaseActionsViewImpl extends AbstractView<CaseActionsPresenter> impl
         completedActions.setCaseActionList(caseActionList);
     }
 
+    @Override
+    public void setActionsLoading(final CaseActionStatus actionStatus) {
+        switch (actionStatus) {
+            case AVAILABLE:
+                availableActions.setLoading();
+                break;
+            case IN_PROGRESS:
+                inProgressActions.setLoading();
+                break;
+            case COMPLETED:
+                completedActions.setLoading();
+        }
+    }
+
     @Override
     public void updateListHeaders() {
         availableActions.updateActionsHeader(translationService.format(AVAILABLE_ACTIONS),
@@ -25,6 +25,7 @@ import org.jboss.errai.security.shared.api.identity.User;
 import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter;
 import org.jbpm.workbench.cm.model.CaseCommentSummary;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
 import org.uberfire.client.mvp.UberElement;
@@ -46,7 +47,7 @@ public class CaseCommentsPresenter extends AbstractCaseInstancePresenter<CaseCom
     boolean sortAsc = false;
 
     int currentPage = 0;
-    public static final int PAGE_SIZE = 20;
+    public static final int PAGE_SIZE = CaseInstanceSnapshot.COMMENTS_PAGE_SIZE;
 
     List<CaseCommentSummary> visibleComments = new ArrayList<CaseCommentSummary>();
     
@@ -71,6 +72,18 @@ public class CaseCommentsPresenter extends AbstractCaseInstancePresenter<CaseCom
     protected void clearCaseInstance() {
     }
 
+    @Override
+    protected void loadCaseSnapshot(final CaseInstanceSnapshot snapshot) {
+        // the snapshot only holds the first page of comments
+        if (currentPage == 0) {
+            view.clearCommentInputForm();
+            visibleComments.clear();
+            addComments(snapshot.getComments());
+        } else {
+            loadCaseInstance(snapshot.getCaseInstance());
+        }
+    }
+
     @Override
     protected void loadCaseInstance(final CaseInstanceSummary cis) {
         refreshComments();
@@ -78,17 +91,7 @@ public class CaseCommentsPresenter extends AbstractCaseInstancePresenter<CaseCom
     
     private void commentsServiceCall(int currentPage) {
         caseService.call(
-                (List<CaseCommentSummary> comments) -> {
-                    visibleComments.addAll(comments);
-                    if (comments.size() < PAGE_SIZE) {
-                        view.hideLoadButton();
-                    }
-                    view.setCaseCommentList(visibleComments.stream()
-                            .sorted((sortAsc ?
-                                    comparing(CaseCommentSummary::getAddedAt) :
-                                    comparing(CaseCommentSummary::getAddedAt).reversed()))
-                            .collect(toList()));
-                }
+                (List<CaseCommentSummary> comments) -> addComments(comments)
         ).getComments(serverTemplateId, 
                       containerId, 
                       caseId, 
@@ -96,6 +99,18 @@ public class CaseCommentsPresenter extends AbstractCaseInstancePresenter<CaseCom
                       PAGE_SIZE);
     }
 
+    private void addComments(final List<CaseCommentSummary> comments) {
+        visibleComments.addAll(comments);
+        if (comments.size() < PAGE_SIZE) {
+            view.hideLoadButton();
+        }
+        view.setCaseCommentList(visibleComments.stream()
+                .sorted((sortAsc ?
+                        comparing(CaseCommentSummary::getAddedAt) :
+                        comparing(CaseCommentSummary::getAddedAt).reversed()))
+                .collect(toList()));
+    }
+
     public void refreshComments() {
         view.clearCommentInputForm();
         visibleComments.clear();
@@ -34,6 +34,7 @@ import org.jbpm.workbench.cm.client.util.AbstractPresenter;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.service.CaseManagementService;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
 import org.uberfire.client.mvp.PlaceManager;
@@ -76,7 +77,27 @@ public class CaseInstanceListPresenter extends AbstractPresenter<CaseInstanceLis
     }
 
     protected void refreshData() {
-        caseService.call((List<CaseInstanceSummary> cases) -> view.setCaseInstanceList(cases)).getCaseInstances(view.getValue());
+        final CaseInstanceSearchRequest request = view.getValue();
+        caseService.call((CaseInstanceSearchResult result) -> {
+            view.setCaseInstanceList(result.getCaseInstances());
+            view.setPagination(request.getPage(),
+                               request.getPageSize(),
+                               result.getTotalCount());
+        }).getCaseInstances(request);
+    }
+
+    protected void nextPage() {
+        final CaseInstanceSearchRequest request = view.getValue();
+        request.setPage(request.getPage() + 1);
+        refreshData();
+    }
+
+    protected void previousPage() {
+        final CaseInstanceSearchRequest request = view.getValue();
+        if (request.getPage() > 0) {
+            request.setPage(request.getPage() - 1);
+            refreshData();
+        }
     }
 
     protected void selectCaseInstance(final CaseInstanceSummary cis) {
@@ -113,6 +134,7 @@ public class CaseInstanceListPresenter extends AbstractPresenter<CaseInstanceLis
     }
 
     protected void searchCaseInstances() {
+        view.getValue().setPage(0);
         refreshData();
     }
 
@@ -126,5 +148,9 @@ public class CaseInstanceListPresenter extends AbstractPresenter<CaseInstanceLis
 
         void setCaseInstanceList(List<CaseInstanceSummary> caseInstanceList);
 
+        void setPagination(Integer page,
+                           Integer pageSize,
+                           Long totalCount);
+
     }
 }
\ No newline at end of file
@@ -111,7 +111,7 @@ public class CaseInstanceListSearchViewImpl extends AbstractView<CaseInstanceLis
 
         searchRequest.addPropertyChangeHandler("sortBy",
                                                e -> {
-                                                   if (e.getNewValue() == CaseInstanceSortBy.CASE_ID) {
+                                                   if (e.getNewValue() == CaseInstanceSortBy.CASE_ID || e.getNewValue() == CaseInstanceSortBy.OWNER) {
                                                        addCSSClass(sortStartedAsc,
                                                                    "hidden");
                                                        addCSSClass(sortStartedDesc,
@@ -126,7 +126,12 @@ public class CaseInstanceListSearchViewImpl extends AbstractView<CaseInstanceLis
                                                    }
                                                });
 
-        searchRequest.addPropertyChangeHandler(e -> presenter.searchCaseInstances());
+        searchRequest.addPropertyChangeHandler(e -> {
+            // page changes are driven by the presenter, any other change starts a new search
+            if (!"page".equals(e.getPropertyName())) {
+                presenter.searchCaseInstances();
+            }
+        });
     }
 
     @Override
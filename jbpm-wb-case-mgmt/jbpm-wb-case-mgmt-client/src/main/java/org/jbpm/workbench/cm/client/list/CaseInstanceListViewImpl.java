@@ -20,13 +20,19 @@ import java.util.List;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 
+import org.jboss.errai.common.client.dom.Button;
 import org.jboss.errai.common.client.dom.Div;
 import org.jboss.errai.common.client.dom.HTMLElement;
+import org.jboss.errai.common.client.dom.MouseEvent;
+import org.jboss.errai.common.client.dom.Span;
 import org.jboss.errai.databinding.client.api.DataBinder;
 import org.jboss.errai.databinding.client.components.ListComponent;
+import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jboss.errai.ui.shared.api.annotations.AutoBound;
 import org.jboss.errai.ui.shared.api.annotations.Bound;
 import org.jboss.errai.ui.shared.api.annotations.DataField;
+import org.jboss.errai.ui.shared.api.annotations.EventHandler;
+import org.jboss.errai.ui.shared.api.annotations.ForEvent;
 import org.jboss.errai.ui.shared.api.annotations.Templated;
 import org.jbpm.workbench.cm.client.util.AbstractView;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
@@ -34,6 +40,7 @@ import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
 
 import static org.jboss.errai.common.client.dom.DOMUtil.addCSSClass;
 import static org.jboss.errai.common.client.dom.DOMUtil.removeCSSClass;
+import static org.jbpm.workbench.cm.client.resources.i18n.Constants.CASES_PAGE_INFO;
 
 @Dependent
 @Templated(stylesheet = "CaseInstanceListViewImpl.css")
@@ -51,6 +58,25 @@ public class CaseInstanceListViewImpl extends AbstractView<CaseInstanceListPrese
     @DataField("list-view")
     private Div viewContainer;
 
+    @Inject
+    @DataField("pagination")
+    private Div pagination;
+
+    @Inject
+    @DataField("prev-page")
+    private Button prevPage;
+
+    @Inject
+    @DataField("next-page")
+    private Button nextPage;
+
+    @Inject
+    @DataField("page-info")
+    private Span pageInfo;
+
+    @Inject
+    private TranslationService translationService;
+
     @Inject
     @AutoBound
     private DataBinder<List<CaseInstanceSummary>> caseInstanceList;
@@ -89,6 +115,39 @@ public class CaseInstanceListViewImpl extends AbstractView<CaseInstanceListPrese
         }
     }
 
+    @Override
+    public void setPagination(final Integer page,
+                              final Integer pageSize,
+                              final Long totalCount) {
+        if (totalCount <= pageSize && page == 0) {
+            addCSSClass(pagination,
+                        "hidden");
+            return;
+        }
+        removeCSSClass(pagination,
+                       "hidden");
+        final long first = Math.min((long) page * pageSize + 1,
+                                    totalCount);
+        final long last = Math.min((long) (page + 1) * pageSize,
+                                   totalCount);
+        pageInfo.setTextContent(translationService.format(CASES_PAGE_INFO,
+                                                          first,
+                                                          last,
+                                                          totalCount));
+        prevPage.setDisabled(page == 0);
+        nextPage.setDisabled(last >= totalCount);
+    }
+
+    @EventHandler("prev-page")
+    public void onPrevPageClick(final @ForEvent("click") MouseEvent event) {
+        presenter.previousPage();
+    }
+
+    @EventHandler("next-page")
+    public void onNextPageClick(final @ForEvent("click") MouseEvent event) {
+        presenter.nextPage();
+    }
+
     @Override
     public HTMLElement getElement() {
         return viewContainer;
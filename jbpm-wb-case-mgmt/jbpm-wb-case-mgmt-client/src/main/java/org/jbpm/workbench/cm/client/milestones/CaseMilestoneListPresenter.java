@@ -22,6 +22,7 @@ import javax.enterprise.context.Dependent;
 import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseMilestoneSummary;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
@@ -46,6 +47,16 @@ public class CaseMilestoneListPresenter extends AbstractCaseInstancePresenter<Ca
         view.removeAllMilestones();
     }
 
+    @Override
+    protected void loadCaseSnapshot(final CaseInstanceSnapshot snapshot) {
+        // the snapshot milestones are sorted in the default order only
+        if (Boolean.TRUE.equals(view.getCaseMilestoneSearchRequest().getSortByAsc())) {
+            view.setCaseMilestoneList(snapshot.getMilestones());
+        } else {
+            loadCaseInstance(snapshot.getCaseInstance());
+        }
+    }
+
     @Override
     protected void loadCaseInstance(final CaseInstanceSummary cis) {
         refreshData(caseId);
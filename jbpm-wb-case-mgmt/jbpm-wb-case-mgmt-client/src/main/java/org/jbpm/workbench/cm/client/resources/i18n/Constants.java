@@ -164,6 +164,9 @@ public interface Constants {
     @TranslationKey(defaultValue = "")
     String INVALID_ROLE_ASSIGNMENT = "InvalidRoleAssignment";
 
+    @TranslationKey(defaultValue = "")
+    String ROLE_ASSIGNMENT_CHANGES_FAILED = "RoleAssignmentChangesFailed";
+
     @TranslationKey(defaultValue = "")
     String MILESTONE = "Milestone";
 
@@ -172,4 +175,7 @@ public interface Constants {
 
     @TranslationKey(defaultValue = "")
     String HUMAN_TASK = "HumanTask";
+
+    @TranslationKey(defaultValue = "")
+    String CASES_PAGE_INFO = "CasesPageInfo";
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.jbpm.workbench.cm.client.roles;
 import java.util.ArrayList;
 import java.util.List;
 import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
 import com.google.gwt.user.client.TakesValue;
@@ -27,11 +28,16 @@ import org.jbpm.workbench.cm.client.util.CaseRolesValidations;
 import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseRoleAssignmentSummary;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentChange;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentResult;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
 import org.uberfire.client.mvp.UberElement;
 import org.uberfire.mvp.Command;
+import org.uberfire.workbench.events.NotificationEvent;
 
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.jbpm.workbench.cm.client.resources.i18n.Constants.*;
 import static org.jbpm.workbench.cm.client.util.CaseRolesAssignmentFilterBy.valueOf;
@@ -51,6 +57,9 @@ public class CaseRolesPresenter extends AbstractCaseInstancePresenter<CaseRolesP
     @Inject
     private CaseRolesValidations caseRolesValidations;
 
+    @Inject
+    private Event<NotificationEvent> notification;
+
     @WorkbenchPartTitle
     public String getTittle() {
         return translationService.format(ROLES);
@@ -71,6 +80,16 @@ public class CaseRolesPresenter extends AbstractCaseInstancePresenter<CaseRolesP
         view.setBadge(getCaseRolesAssignments().size());
     }
 
+    @Override
+    protected void loadCaseSnapshot(final CaseInstanceSnapshot snapshot) {
+        final CaseInstanceSummary cis = snapshot.getCaseInstance();
+        if (cis == null || cis.getCaseDefinitionId() == null || cis.getRoleAssignments().isEmpty()) {
+            return;
+        }
+        loadCaseRoles(cis,
+                      snapshot.getCaseDefinition());
+    }
+
     @Override
     protected void loadCaseInstance(final CaseInstanceSummary cis) {
         loadCaseRoles(cis);
@@ -81,20 +100,24 @@ public class CaseRolesPresenter extends AbstractCaseInstancePresenter<CaseRolesP
             return;
         }
         caseService.call(
-                (CaseDefinitionSummary cds) -> {
-                    if (cds == null) {
-                        return;
-                    }
-                    caseDefinition = cds;
-                    setCaseRolesAssignments(cis.getRoleAssignments());
-                    view.setBadge(getCaseRolesAssignments().size());
-                    filterCaseRoles();
-                }
+                (CaseDefinitionSummary cds) -> loadCaseRoles(cis,
+                                                             cds)
         ).getCaseDefinition(serverTemplateId,
                             containerId,
                             cis.getCaseDefinitionId());
     }
 
+    protected void loadCaseRoles(final CaseInstanceSummary cis,
+                                 final CaseDefinitionSummary cds) {
+        if (cds == null) {
+            return;
+        }
+        caseDefinition = cds;
+        setCaseRolesAssignments(cis.getRoleAssignments());
+        view.setBadge(getCaseRolesAssignments().size());
+        filterCaseRoles();
+    }
+
     public void filterCaseRoles() {
         final List<CaseRoleAssignmentSummary> filteredCaseRoles;
 
@@ -262,39 +285,54 @@ public class CaseRolesPresenter extends AbstractCaseInstancePresenter<CaseRolesP
         currentRoleAssignments.setGroups(new ArrayList<>(newGroupsAssignments));
         filterCaseRoles();
 
+        final List<CaseRoleAssignmentChange> changes = new ArrayList<>();
+
         List<String> usersToRemove = new ArrayList<>(prevUserAssignments);
         usersToRemove.removeAll(newUserAssignments);
-        usersToRemove.forEach(
-                user -> caseService.call().removeUserFromRole(serverTemplateId,
-                                                              containerId,
-                                                              caseId,
-                                                              roleName,
-                                                              user));
+        usersToRemove.forEach(user -> changes.add(CaseRoleAssignmentChange.removeUser(roleName,
+                                                                                     user)));
 
         newUserAssignments.removeAll(prevUserAssignments);
-        newUserAssignments.forEach(
-                user -> caseService.call().assignUserToRole(serverTemplateId,
-                                                            containerId,
-                                                            caseId,
-                                                            roleName,
-                                                            user));
+        newUserAssignments.forEach(user -> changes.add(CaseRoleAssignmentChange.assignUser(roleName,
+                                                                                          user)));
 
         List<String> groupsToRemove = new ArrayList<>(prevGroupsAssignments);
         groupsToRemove.removeAll(newGroupsAssignments);
-        groupsToRemove.forEach(
-                group -> caseService.call().removeGroupFromRole(serverTemplateId,
-                                                                containerId,
-                                                                caseId,
-                                                                roleName,
-                                                                group));
+        groupsToRemove.forEach(group -> changes.add(CaseRoleAssignmentChange.removeGroup(roleName,
+                                                                                        group)));
 
         newGroupsAssignments.removeAll(prevGroupsAssignments);
-        newGroupsAssignments.forEach(
-                group -> caseService.call().assignGroupToRole(serverTemplateId,
-                                                              containerId,
-                                                              caseId,
-                                                              roleName,
-                                                              group));
+        newGroupsAssignments.forEach(group -> changes.add(CaseRoleAssignmentChange.assignGroup(roleName,
+                                                                                              group)));
+
+        if (changes.isEmpty()) {
+            return;
+        }
+        caseService.call(
+                (CaseRoleAssignmentResult result) -> onRoleAssignmentsUpdated(result)
+        ).updateRoleAssignments(serverTemplateId,
+                                containerId,
+                                caseId,
+                                changes);
+    }
+
+    protected void onRoleAssignmentsUpdated(final CaseRoleAssignmentResult result) {
+        if (result == null) {
+            return;
+        }
+        if (result.hasFailures()) {
+            final String failedChanges = result.getFailedChanges().stream()
+                    .map(change -> change.getRoleName() + ": " + change.getName())
+                    .collect(joining(", "));
+            notification.fire(new NotificationEvent(translationService.format(ROLE_ASSIGNMENT_CHANGES_FAILED,
+                                                                              failedChanges),
+                                                    NotificationEvent.NotificationType.ERROR));
+        }
+        if (result.getRoleAssignments() != null && !result.getRoleAssignments().isEmpty()) {
+            setCaseRolesAssignments(result.getRoleAssignments());
+            view.setBadge(getCaseRolesAssignments().size());
+        }
+        filterCaseRoles();
     }
 
     protected void removeUserFromRole(final String userName,
@@ -22,6 +22,7 @@ import org.jbpm.workbench.cm.client.resources.i18n.Constants;
 import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseStageSummary;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.jbpm.workbench.cm.util.CaseStageStatus;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
@@ -43,13 +44,20 @@ public class CaseStagesPresenter extends AbstractCaseInstancePresenter<CaseStage
         view.removeAllStages();
     }
 
+    @Override
+    protected void loadCaseSnapshot(final CaseInstanceSnapshot snapshot) {
+        loadCaseStages(snapshot.getStages());
+    }
+
     @Override
     protected void loadCaseInstance(final CaseInstanceSummary cis) {
-        caseService.call((List<CaseStageSummary> stages) -> {
-            view.setCaseStagesList(stages);
-            setStages();
-        }).getCaseStages(containerId,
-                         caseId);
+        caseService.call((List<CaseStageSummary> stages) -> loadCaseStages(stages)).getCaseStages(containerId,
+                                                                                                 caseId);
+    }
+
+    protected void loadCaseStages(final List<CaseStageSummary> stages) {
+        view.setCaseStagesList(stages);
+        setStages();
     }
 
     void setStages() {
@@ -24,6 +24,7 @@ import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jbpm.workbench.cm.client.events.CaseRefreshEvent;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.service.CaseManagementService;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.uberfire.client.mvp.UberElement;
 import org.uberfire.lifecycle.OnStartup;
 import org.uberfire.mvp.PlaceRequest;
@@ -44,6 +45,8 @@ public abstract class AbstractCaseInstancePresenter<V extends UberElement> exten
 
     protected String containerId;
 
+    protected String snapshotVersion;
+
     @Inject
     protected TranslationService translationService;
 
@@ -58,6 +61,7 @@ public abstract class AbstractCaseInstancePresenter<V extends UberElement> exten
                                                    null);
         this.containerId = place.getParameter(PARAMETER_CONTAINER_ID,
                                               null);
+        this.snapshotVersion = null;
         findCaseInstance();
     }
 
@@ -65,12 +69,29 @@ public abstract class AbstractCaseInstancePresenter<V extends UberElement> exten
 
     protected abstract void clearCaseInstance();
 
+    /**
+     * Loads the screen from the case instance snapshot shared by all the case screens, presenters that display
+     * other parts of the case override it to avoid requesting them separately.
+     */
+    protected void loadCaseSnapshot(final CaseInstanceSnapshot snapshot) {
+        loadCaseInstance(snapshot.getCaseInstance());
+    }
+
     public void findCaseInstance() {
-        clearCaseInstance();
         if (isCaseInstanceValid()) {
-            caseService.call((CaseInstanceSummary cis) -> loadCaseInstance(cis)).getCaseInstance(serverTemplateId,
-                                                                                                 containerId,
-                                                                                                 caseId);
+            caseService.call((CaseInstanceSnapshot snapshot) -> {
+                if (snapshot == null || !snapshot.isChanged()) {
+                    return;
+                }
+                snapshotVersion = snapshot.getVersion();
+                clearCaseInstance();
+                loadCaseSnapshot(snapshot);
+            }).getCaseInstanceSnapshot(serverTemplateId,
+                                       containerId,
+                                       caseId,
+                                       snapshotVersion);
+        } else {
+            clearCaseInstance();
         }
     }
 
@@ -30,6 +30,7 @@ import org.jbpm.workbench.cm.model.ProcessDefinitionSummary;
 import org.jbpm.workbench.cm.util.Actions;
 import org.jbpm.workbench.cm.util.CaseActionStatus;
 import org.jbpm.workbench.cm.util.CaseActionType;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -106,6 +107,15 @@ public class ActionsPresenterTest extends AbstractCaseInstancePresenterTest {
         when(actions.getCompleteActions()).thenReturn(caseActionSummaryList);
     }
 
+    @Override
+    protected void setupCaseInstance(final CaseInstanceSummary cis,
+                                     final String serverTemplateId) {
+        final CaseInstanceSnapshot snapshot = newCaseInstanceSnapshot(cis);
+        snapshot.setActions(actions);
+        setupCaseInstance(snapshot,
+                          serverTemplateId);
+    }
+
     @Test
     public void clearAndLoadCaseInstanceTest() {
         when(caseManagementService.getProcessDefinitions(containerId)).thenReturn(singletonList(ProcessDefinitionSummary.builder()
@@ -151,11 +161,13 @@ public class ActionsPresenterTest extends AbstractCaseInstancePresenterTest {
     }
 
     private void verifyActionsLoaded() {
-        verify(presenter).refreshData(true);
-        verify(caseManagementService).getCaseActions(serverTemplateId,
-                                                     containerId,
-                                                     caseId,
-                                                     identity.getIdentifier());
+        verify(presenter).loadActions(actions,
+                                      true);
+        verify(caseManagementService,
+               never()).getCaseActions(anyString(),
+                                       anyString(),
+                                       anyString(),
+                                       anyString());
 
         final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
         verify(caseAllActionsView).setAvailableActionsList(captor.capture());
@@ -170,6 +182,32 @@ public class ActionsPresenterTest extends AbstractCaseInstancePresenterTest {
         verify(caseAllActionsView).setCompletedActionsList(caseActionSummaryList);
     }
 
+    @Test
+    public void testRefreshData_pendingCompletedActions() {
+        final List<CaseActionSummary> completedActions = Lists.newArrayList(createCaseActionSummary(CaseActionStatus.COMPLETED));
+        when(actions.isPending(CaseActionStatus.COMPLETED)).thenReturn(true);
+        when(caseManagementService.getCaseActionsByStatus(serverTemplateId,
+                                                          containerId,
+                                                          caseId,
+                                                          identity.getIdentifier(),
+                                                          CaseActionStatus.COMPLETED)).thenReturn(completedActions);
+
+        setupCaseInstance(cis,
+                          serverTemplateId);
+
+        verify(caseAllActionsView).setInProgressActionsList(caseActionSummaryList);
+        verify(caseAllActionsView).setActionsLoading(CaseActionStatus.COMPLETED);
+        verify(caseAllActionsView,
+               never()).setActionsLoading(CaseActionStatus.IN_PROGRESS);
+        verify(caseManagementService).getCaseActionsByStatus(serverTemplateId,
+                                                             containerId,
+                                                             caseId,
+                                                             identity.getIdentifier(),
+                                                             CaseActionStatus.COMPLETED);
+        verify(caseAllActionsView).setCompletedActionsList(completedActions);
+        verify(caseAllActionsView).setAvailableActionsList(anyList());
+    }
+
     @Test
     public void testSetAdHocAction_statusAvailable() {
         final CaseActionSummary caseActionSummary = createCaseActionSummary(CaseActionStatus.AVAILABLE);
@@ -28,6 +28,7 @@ import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter;
 import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenterTest;
 import org.jbpm.workbench.cm.model.CaseCommentSummary;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
@@ -38,6 +39,7 @@ import org.uberfire.mvp.PlaceRequest;
 import org.uberfire.mvp.impl.DefaultPlaceRequest;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
@@ -70,19 +72,19 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
         final CaseInstanceSummary cis = newCaseInstanceSummary();
         final CaseCommentSummary caseComment = CaseCommentSummary.builder().id(commentId).author(author).text(text).addedAt(addedAt).build();
 
-        when(caseManagementService.getComments(serverTemplateId, 
-                                               cis.getContainerId(), 
-                                               cis.getCaseId(), 
-                                               0, 
-                                               presenter.getPageSize())).thenReturn(
-                Collections.singletonList(caseComment));
         when(identity.getIdentifier()).thenReturn(author);
 
-        setupCaseInstance(cis,
-                          serverTemplateId);
+        setupCaseComments(cis,
+                          Collections.singletonList(caseComment));
 
         verify(caseCommentsView).setCaseCommentList(Collections.singletonList(caseComment));
         verifyClearCaseInstance(1);
+        verify(caseManagementService,
+               never()).getComments(anyString(),
+                                    anyString(),
+                                    anyString(),
+                                    anyInt(),
+                                    anyInt());
     }
 
     @Test
@@ -115,8 +117,8 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
                                                presenter.getPageSize())).thenReturn(
                 Collections.singletonList(caseComment));
 
-        setupCaseInstance(cis,
-                          serverTemplateId);
+        setupCaseComments(cis,
+                          Collections.singletonList(caseComment));
         presenter.updateCaseComment(caseComment,
                                     newCommentText);
 
@@ -143,8 +145,8 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
                                                presenter.getPageSize())).thenReturn(
                 Collections.singletonList(caseComment));
 
-        setupCaseInstance(cis,
-                          serverTemplateId);
+        setupCaseComments(cis,
+                          Collections.singletonList(caseComment));
 
         presenter.deleteCaseComment(caseComment);
         verify(caseManagementService).removeComment(eq(serverTemplateId),
@@ -180,6 +182,14 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
                                     1);
     }
 
+    private void setupCaseComments(final CaseInstanceSummary cis,
+                                   final List<CaseCommentSummary> comments) {
+        final CaseInstanceSnapshot snapshot = newCaseInstanceSnapshot(cis);
+        snapshot.setComments(comments);
+        setupCaseInstance(snapshot,
+                          serverTemplateId);
+    }
+
     private void verifyClearCaseInstance(int times) {
         verify(caseCommentsView,
                times(times)).clearCommentInputForm();
@@ -201,9 +211,10 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
         presenter.onStartup(placeRequest);
 
         verify(caseManagementService,
-               times(timesCalled)).getCaseInstance(anyString(),
-                                                   anyString(),
-                                                   anyString());
+               times(timesCalled)).getCaseInstanceSnapshot(anyString(),
+                                                           anyString(),
+                                                           anyString(),
+                                                           any());
     }
 
     @Test
@@ -217,16 +228,9 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
         final CaseCommentSummary caseComment1 = CaseCommentSummary.builder().id(comment1_id).author(author).text(text).addedAt(first).build();
         final CaseCommentSummary caseComment2 = CaseCommentSummary.builder().id(comment2_id).author(author).text(text).addedAt(second).build();
 
-        when(caseManagementService.getComments(serverTemplateId, 
-                                               cis.getContainerId(), 
-                                               cis.getCaseId(), 
-                                               0, 
-                                               presenter.getPageSize())).thenReturn(
-                Arrays.asList(caseComment1,
-                              caseComment2));
-
-        setupCaseInstance(cis,
-                          serverTemplateId);
+        setupCaseComments(cis,
+                          Arrays.asList(caseComment1,
+                                        caseComment2));
         final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
         verify(caseCommentsView).setCaseCommentList(captor.capture());
         assertEquals(comment2_id,
@@ -254,10 +258,7 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
             caseCommentSummary.add(comment);
         }
         
-        when(caseManagementService.getComments(serverTemplateId, cis.getContainerId(), cis.getCaseId(), 0, presenter.getPageSize())).thenReturn(
-                caseCommentSummary.subList(0, 20));
-
-        setupCaseInstance(cis, serverTemplateId);
+        setupCaseComments(cis, caseCommentSummary.subList(0, 20));
         
         presenter.loadMoreCaseComments();
         
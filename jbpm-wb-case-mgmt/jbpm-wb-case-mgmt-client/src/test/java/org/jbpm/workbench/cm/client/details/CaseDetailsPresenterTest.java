@@ -19,6 +19,7 @@ package org.jbpm.workbench.cm.client.details;
 import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenterTest;
 import org.jbpm.workbench.cm.client.events.CaseRefreshEvent;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -56,9 +57,10 @@ public class CaseDetailsPresenterTest extends AbstractCaseInstancePresenterTest
         verify(view).setValue(new CaseInstanceSummary());
         verifyNoMoreInteractions(view);
         verify(caseManagementService,
-               never()).getCaseInstance(anyString(),
-                                        anyString(),
-                                        anyString());
+               never()).getCaseInstanceSnapshot(anyString(),
+                                                anyString(),
+                                                anyString(),
+                                                any());
     }
 
     @Test
@@ -69,9 +71,10 @@ public class CaseDetailsPresenterTest extends AbstractCaseInstancePresenterTest
         verify(view).setValue(new CaseInstanceSummary());
         verify(view).setValue(cis);
         verifyNoMoreInteractions(view);
-        verify(caseManagementService).getCaseInstance(serverTemplateId,
-                                                      cis.getContainerId(),
-                                                      cis.getCaseId());
+        verify(caseManagementService).getCaseInstanceSnapshot(serverTemplateId,
+                                                              cis.getContainerId(),
+                                                              cis.getCaseId(),
+                                                              null);
     }
 
     @Test
@@ -87,9 +90,28 @@ public class CaseDetailsPresenterTest extends AbstractCaseInstancePresenterTest
                times(2)).setValue(cis);
 
         verifyNoMoreInteractions(view);
-        verify(caseManagementService,
-               times(2)).getCaseInstance(serverTemplateId,
-                                         cis.getContainerId(),
-                                         cis.getCaseId());
+        verify(caseManagementService).getCaseInstanceSnapshot(serverTemplateId,
+                                                              cis.getContainerId(),
+                                                              cis.getCaseId(),
+                                                              null);
+        verify(caseManagementService).getCaseInstanceSnapshot(serverTemplateId,
+                                                              cis.getContainerId(),
+                                                              cis.getCaseId(),
+                                                              snapshotVersion);
+    }
+
+    @Test
+    public void testOnCaseRefreshEvent_unchanged() {
+        final CaseInstanceSummary cis = setupCaseInstance(serverTemplateId);
+        when(caseManagementService.getCaseInstanceSnapshot(serverTemplateId,
+                                                           cis.getContainerId(),
+                                                           cis.getCaseId(),
+                                                           snapshotVersion)).thenReturn(CaseInstanceSnapshot.unchanged(snapshotVersion));
+
+        presenter.onCaseRefreshEvent(new CaseRefreshEvent(cis.getCaseId()));
+
+        verify(view).setValue(new CaseInstanceSummary());
+        verify(view).setValue(cis);
+        verifyNoMoreInteractions(view);
     }
-}
\ No newline at end of file
+}
@@ -24,6 +24,7 @@ import org.jbpm.workbench.cm.client.overview.CaseOverviewPresenter;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.service.CaseManagementService;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 import org.jbpm.workbench.cm.util.CaseStatus;
 import org.junit.Before;
 import org.junit.Test;
@@ -70,7 +71,8 @@ public class CaseInstanceListPresenterTest {
     @Before
     public void init() {
         caseService = new CallerMock<>(caseManagementService);
-        when(caseManagementService.getCaseInstances(any(CaseInstanceSearchRequest.class))).thenReturn(caseInstanceSummaryList);
+        when(caseManagementService.getCaseInstances(any(CaseInstanceSearchRequest.class))).thenAnswer(invocation -> new CaseInstanceSearchResult(caseInstanceSummaryList,
+                                                                                                                                                   (long) caseInstanceSummaryList.size()));
         presenter.setCaseService(caseService);
         when(view.getValue()).thenReturn(new CaseInstanceSearchRequest());
     }
@@ -118,6 +120,44 @@ public class CaseInstanceListPresenterTest {
                      captor.getValue().size());
     }
 
+    @Test
+    public void testPaging() {
+        final CaseInstanceSearchRequest request = view.getValue();
+
+        presenter.nextPage();
+
+        assertEquals(Integer.valueOf(1),
+                     request.getPage());
+        verify(view).setPagination(1,
+                                   request.getPageSize(),
+                                   (long) caseInstanceSummaryList.size());
+
+        presenter.previousPage();
+
+        assertEquals(Integer.valueOf(0),
+                     request.getPage());
+        verify(view).setPagination(0,
+                                   request.getPageSize(),
+                                   (long) caseInstanceSummaryList.size());
+
+        presenter.previousPage();
+
+        verify(caseManagementService,
+               times(2)).getCaseInstances(request);
+    }
+
+    @Test
+    public void testSearchResetsPage() {
+        final CaseInstanceSearchRequest request = view.getValue();
+        request.setPage(5);
+
+        presenter.searchCaseInstances();
+
+        assertEquals(Integer.valueOf(0),
+                     request.getPage());
+        verify(caseManagementService).getCaseInstances(request);
+    }
+
     @Test
     public void testInit() {
         presenter.init();
@@ -24,6 +24,7 @@ import org.jbpm.workbench.cm.client.util.CaseMilestoneStatus;
 import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseMilestoneSummary;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
 import org.junit.Before;
 import org.junit.Test;
@@ -106,15 +107,32 @@ public class CaseMilestonesPresenterTest extends AbstractCaseInstancePresenterTe
     @Test
     public void testLoadCaseInstance() {
         List<CaseMilestoneSummary> milestones = singletonList(createCaseMilestone());
-        when(caseManagementService.getCaseMilestones(anyString(),
-                                                     anyString(),
-                                                     any(CaseMilestoneSearchRequest.class))).thenReturn(milestones);
+        final CaseInstanceSnapshot snapshot = newCaseInstanceSnapshot(cis);
+        snapshot.setMilestones(milestones);
 
-        setupCaseInstance(cis,
+        setupCaseInstance(snapshot,
                           serverTemplateId);
 
         verifyClearCaseInstance();
         verify(caseMilestoneListView).setCaseMilestoneList(milestones);
+        verify(caseManagementService,
+               never()).getCaseMilestones(anyString(),
+                                          anyString(),
+                                          any(CaseMilestoneSearchRequest.class));
+    }
+
+    @Test
+    public void testLoadCaseInstance_sortedDescending() {
+        final CaseMilestoneSearchRequest searchRequest = new CaseMilestoneSearchRequest();
+        searchRequest.setSortByAsc(false);
+        when(caseMilestoneListView.getCaseMilestoneSearchRequest()).thenReturn(searchRequest);
+
+        setupCaseInstance(cis,
+                          serverTemplateId);
+
+        verify(caseManagementService).getCaseMilestones(cis.getContainerId(),
+                                                        cis.getCaseId(),
+                                                        searchRequest);
     }
 
     @Test
@@ -123,10 +141,9 @@ public class CaseMilestonesPresenterTest extends AbstractCaseInstancePresenterTe
                           serverTemplateId);
         presenter.searchCaseMilestones();
 
-        verify(caseManagementService,
-               times(2)).getCaseMilestones(cis.getContainerId(),
-                                           cis.getCaseId(),
-                                           caseMilestoneListView.getCaseMilestoneSearchRequest());
+        verify(caseManagementService).getCaseMilestones(cis.getContainerId(),
+                                                        cis.getCaseId(),
+                                                        caseMilestoneListView.getCaseMilestoneSearchRequest());
         final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
         verify(caseMilestoneListView,
                times(2)).setCaseMilestoneList(captor.capture());
@@ -93,9 +93,10 @@ public class CaseOverviewPresenterTest extends AbstractCaseInstancePresenterTest
         verify(view).setCaseOwner("");
         verifyNoMoreInteractions(view);
         verify(caseManagementService,
-               never()).getCaseInstance(anyString(),
-                                        anyString(),
-                                        anyString());
+               never()).getCaseInstanceSnapshot(anyString(),
+                                                anyString(),
+                                                anyString(),
+                                                any());
     }
 
     @Test
@@ -120,10 +121,14 @@ public class CaseOverviewPresenterTest extends AbstractCaseInstancePresenterTest
                times(2)).setCaseId("");
         verify(view,
                times(2)).setCaseTitle("");
-        verify(caseManagementService,
-               times(2)).getCaseInstance(serverTemplateId,
-                                         cis.getContainerId(),
-                                         cis.getCaseId());
+        verify(caseManagementService).getCaseInstanceSnapshot(serverTemplateId,
+                                                              cis.getContainerId(),
+                                                              cis.getCaseId(),
+                                                              null);
+        verify(caseManagementService).getCaseInstanceSnapshot(serverTemplateId,
+                                                              cis.getContainerId(),
+                                                              cis.getCaseId(),
+                                                              snapshotVersion);
     }
 
     @Test
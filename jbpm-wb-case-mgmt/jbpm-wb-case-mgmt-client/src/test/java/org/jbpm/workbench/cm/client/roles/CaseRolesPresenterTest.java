@@ -25,6 +25,9 @@ import org.jbpm.workbench.cm.client.util.CaseRolesValidations;
 import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseRoleAssignmentSummary;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentChange;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentResult;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,6 +36,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.mocks.EventSourceMock;
+import org.uberfire.workbench.events.NotificationEvent;
 
 import static java.util.Collections.*;
 import static org.junit.Assert.*;
@@ -62,6 +67,9 @@ public class CaseRolesPresenterTest extends AbstractCaseInstancePresenterTest {
     @Mock
     CaseRolesPresenter.EditRoleAssignmentView editRoleAssignmentView;
 
+    @Mock
+    EventSourceMock<NotificationEvent> notification;
+
     @Spy
     @InjectMocks
     CaseRolesPresenter presenter;
@@ -163,14 +171,18 @@ public class CaseRolesPresenterTest extends AbstractCaseInstancePresenterTest {
         setCaseDefinitionID(CASE_DEFINITION_ID,
                             caseDefinition,
                             caseInstance);
-        when(caseManagementService.getCaseDefinition(serverTemplateId,
-                                                     caseInstance.getContainerId(),
-                                                     caseInstance.getCaseDefinitionId())).thenReturn(caseDefinition);
         when(view.getFilterValue()).thenReturn("All");
+        final CaseInstanceSnapshot snapshot = newCaseInstanceSnapshot(caseInstance);
+        snapshot.setCaseDefinition(caseDefinition);
 
-        setupCaseInstance(caseInstance,
+        setupCaseInstance(snapshot,
                           serverTemplateId);
 
+        verify(caseManagementService,
+               never()).getCaseDefinition(anyString(),
+                                          anyString(),
+                                          anyString());
+
         verify(view).removeAllRoles();
         verify(view).setBadge(0);
 
@@ -553,10 +565,11 @@ public class CaseRolesPresenterTest extends AbstractCaseInstancePresenterTest {
                                        new ArrayList<>(Arrays.asList(USER)),
                                        new ArrayList<>(Arrays.asList(GROUP)));
 
-        verifyStoreRoleAssignmentsCalls(0,
-                                        0,
-                                        0,
-                                        0);
+        verify(caseManagementService,
+               never()).updateRoleAssignments(anyString(),
+                                              anyString(),
+                                              anyString(),
+                                              anyListOf(CaseRoleAssignmentChange.class));
     }
 
     @Test
@@ -574,20 +587,11 @@ public class CaseRolesPresenterTest extends AbstractCaseInstancePresenterTest {
                                        new ArrayList<>(Arrays.asList(USER)),
                                        new ArrayList<>(Arrays.asList(GROUP)));
 
-        verifyStoreRoleAssignmentsCalls(0,
-                                        0,
-                                        1,
-                                        1);
-        verify(caseManagementService).removeUserFromRole(anyString(),
-                                                         anyString(),
-                                                         anyString(),
-                                                         anyString(),
-                                                         eq("test_user"));
-        verify(caseManagementService).removeGroupFromRole(anyString(),
-                                                          anyString(),
-                                                          anyString(),
-                                                          anyString(),
-                                                          eq("test_group"));
+        assertEquals(Arrays.asList(CaseRoleAssignmentChange.removeUser(CASE_ROLE,
+                                                                       "test_user"),
+                                   CaseRoleAssignmentChange.removeGroup(CASE_ROLE,
+                                                                        "test_group")),
+                     captureRoleAssignmentChanges());
     }
 
     @Test
@@ -602,61 +606,85 @@ public class CaseRolesPresenterTest extends AbstractCaseInstancePresenterTest {
                                        new ArrayList<>(Arrays.asList(USER)),
                                        new ArrayList<>(Arrays.asList(GROUP)));
 
-        verifyStoreRoleAssignmentsCalls(1,
-                                        1,
-                                        1,
-                                        1);
-
-        verify(caseManagementService).assignUserToRole(anyString(),
-                                                       anyString(),
-                                                       anyString(),
-                                                       anyString(),
-                                                       eq(USER));
-        verify(caseManagementService).assignGroupToRole(anyString(),
-                                                        anyString(),
-                                                        anyString(),
-                                                        anyString(),
-                                                        eq(GROUP));
-        verify(caseManagementService).removeUserFromRole(anyString(),
+        assertEquals(Arrays.asList(CaseRoleAssignmentChange.removeUser(CASE_ROLE,
+                                                                       "test_user"),
+                                   CaseRoleAssignmentChange.assignUser(CASE_ROLE,
+                                                                       USER),
+                                   CaseRoleAssignmentChange.removeGroup(CASE_ROLE,
+                                                                        "test_group"),
+                                   CaseRoleAssignmentChange.assignGroup(CASE_ROLE,
+                                                                        GROUP)),
+                     captureRoleAssignmentChanges());
+        verify(caseManagementService,
+               never()).assignUserToRole(anyString(),
+                                         anyString(),
+                                         anyString(),
+                                         anyString(),
+                                         anyString());
+    }
+
+    @Test
+    public void testStoreRoleAssignments_updatedRoleAssignments() {
+        final CaseRoleAssignmentSummary cras = createTestCaseRoleAssignmentSummary(CASE_ROLE,
+                                                                                   emptyList(),
+                                                                                   emptyList());
+        final List<CaseRoleAssignmentSummary> updatedRoleAssignments = singletonList(CaseRoleAssignmentSummary.builder()
+                                                                                                               .name(CASE_ROLE)
+                                                                                                               .users(singletonList(USER))
+                                                                                                               .build());
+        when(caseManagementService.updateRoleAssignments(anyString(),
                                                          anyString(),
+                                                         anyString(),
+                                                         anyListOf(CaseRoleAssignmentChange.class)))
+                .thenReturn(new CaseRoleAssignmentResult(1,
+                                                         new ArrayList<>(),
+                                                         updatedRoleAssignments));
+        when(view.getFilterValue()).thenReturn("All");
+
+        presenter.storeRoleAssignments(cras,
+                                       new ArrayList<>(Arrays.asList(USER)),
+                                       new ArrayList<>());
+
+        assertEquals(updatedRoleAssignments,
+                     presenter.getCaseRolesAssignments());
+        verify(view).setBadge(1);
+        verify(view).displayCaseRolesList(updatedRoleAssignments);
+        verifyZeroInteractions(notification);
+    }
+
+    @Test
+    public void testStoreRoleAssignments_failedChanges() {
+        final CaseRoleAssignmentSummary cras = createTestCaseRoleAssignmentSummary(CASE_ROLE,
+                                                                                   emptyList(),
+                                                                                   emptyList());
+        final CaseRoleAssignmentChange failedChange = CaseRoleAssignmentChange.assignUser(CASE_ROLE,
+                                                                                          USER);
+        failedChange.setErrorMessage("error");
+        when(caseManagementService.updateRoleAssignments(anyString(),
                                                          anyString(),
                                                          anyString(),
-                                                         eq("test_user"));
-        verify(caseManagementService).removeGroupFromRole(anyString(),
-                                                          anyString(),
-                                                          anyString(),
-                                                          anyString(),
-                                                          eq("test_group"));
+                                                         anyListOf(CaseRoleAssignmentChange.class)))
+                .thenReturn(new CaseRoleAssignmentResult(0,
+                                                         singletonList(failedChange),
+                                                         singletonList(cras)));
+        when(view.getFilterValue()).thenReturn("All");
+
+        presenter.storeRoleAssignments(cras,
+                                       new ArrayList<>(Arrays.asList(USER)),
+                                       new ArrayList<>());
+
+        verify(notification).fire(any(NotificationEvent.class));
+        verify(translationService).format(ROLE_ASSIGNMENT_CHANGES_FAILED,
+                                          CASE_ROLE + ": " + USER);
     }
 
-    private void verifyStoreRoleAssignmentsCalls(int timesAddUser,
-                                                 int timesAddGroup,
-                                                 int timesRemoveUser,
-                                                 int timesRemoveGroup) {
-        verify(caseManagementService,
-               times(timesAddUser)).assignUserToRole(anyString(),
-                                                     anyString(),
-                                                     anyString(),
-                                                     anyString(),
-                                                     anyString());
-        verify(caseManagementService,
-               times(timesAddGroup)).assignGroupToRole(anyString(),
-                                                       anyString(),
-                                                       anyString(),
-                                                       anyString(),
-                                                       anyString());
-        verify(caseManagementService,
-               times(timesRemoveUser)).removeUserFromRole(anyString(),
-                                                          anyString(),
-                                                          anyString(),
-                                                          anyString(),
-                                                          anyString());
-        verify(caseManagementService,
-               times(timesRemoveGroup)).removeGroupFromRole(anyString(),
-                                                            anyString(),
+    private List<CaseRoleAssignmentChange> captureRoleAssignmentChanges() {
+        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(caseManagementService).updateRoleAssignments(anyString(),
                                                             anyString(),
                                                             anyString(),
-                                                            anyString());
+                                                            captor.capture());
+        return captor.getValue();
     }
 
     @Test
@@ -19,8 +19,8 @@ package org.jbpm.workbench.cm.client.stages;
 import java.util.List;
 
 import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenterTest;
-import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseStageSummary;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -59,11 +59,9 @@ public class CaseStagesPresenterTest extends AbstractCaseInstancePresenterTest {
     public void testClearAndLoadCaseInstance() {
         final List<CaseStageSummary> stages = asList(createCaseStageSummary(AVAILABLE.getStatus()),
                                                      createCaseStageSummary(COMPLETED.getStatus()));
-        when(caseManagementService.getCaseStages(any(),
-                                                 any())).thenReturn(stages);
-
-        final CaseInstanceSummary cis = newCaseInstanceSummary();
-        setupCaseInstance(cis,
+        final CaseInstanceSnapshot snapshot = newCaseInstanceSnapshot(newCaseInstanceSummary());
+        snapshot.setStages(stages);
+        setupCaseInstance(snapshot,
                           serverTemplateId);
 
         verify(caseStagesView).removeAllStages();
@@ -71,6 +69,9 @@ public class CaseStagesPresenterTest extends AbstractCaseInstancePresenterTest {
         verify(caseStagesView).getCaseStageComponentList();
         verify(presenter).setStages();
         verifyNoMoreInteractions(caseStagesView);
+        verify(caseManagementService,
+               never()).getCaseStages(any(),
+                                      any());
     }
 
     @Test
@@ -24,6 +24,7 @@ import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseStageSummary;
 import org.jbpm.workbench.cm.service.CaseManagementService;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.jbpm.workbench.cm.util.CaseStatus;
 import org.junit.Before;
 import org.mockito.Mock;
@@ -34,7 +35,9 @@ import org.uberfire.mvp.impl.DefaultPlaceRequest;
 import static org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter.PARAMETER_CASE_ID;
 import static org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter.PARAMETER_CONTAINER_ID;
 import static org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter.PARAMETER_SERVER_TEMPLATE_ID;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 
 public abstract class AbstractCaseInstancePresenterTest {
@@ -42,7 +45,8 @@ public abstract class AbstractCaseInstancePresenterTest {
     final protected static String serverTemplateId = "serverTemplateId",
                                   containerId = "containerId",
                                   caseDefId = "caseDefinitionId",
-                                  caseId = "caseId";
+                                  caseId = "caseId",
+                                  snapshotVersion = "snapshotVersion";
 
     @Mock
     protected CaseManagementService caseManagementService;
@@ -66,6 +70,13 @@ public abstract class AbstractCaseInstancePresenterTest {
                 .build();
     }
 
+    protected static CaseInstanceSnapshot newCaseInstanceSnapshot(final CaseInstanceSummary cis) {
+        final CaseInstanceSnapshot snapshot = new CaseInstanceSnapshot();
+        snapshot.setVersion(snapshotVersion);
+        snapshot.setCaseInstance(cis);
+        return snapshot;
+    }
+
     protected CaseStageSummary createCaseStageSummary(final String stageStatus) {
         return CaseStageSummary.builder()
                                .identifier("stage")
@@ -90,6 +101,13 @@ public abstract class AbstractCaseInstancePresenterTest {
 
     protected void setupCaseInstance(final CaseInstanceSummary cis,
                                      final String serverTemplateId) {
+        setupCaseInstance(newCaseInstanceSnapshot(cis),
+                          serverTemplateId);
+    }
+
+    protected void setupCaseInstance(final CaseInstanceSnapshot snapshot,
+                                     final String serverTemplateId) {
+        final CaseInstanceSummary cis = snapshot.getCaseInstance();
         final PlaceRequest placeRequest = new DefaultPlaceRequest();
         placeRequest.addParameter(PARAMETER_SERVER_TEMPLATE_ID,
                                   serverTemplateId);
@@ -97,9 +115,10 @@ public abstract class AbstractCaseInstancePresenterTest {
                                   cis.getContainerId());
         placeRequest.addParameter(PARAMETER_CASE_ID,
                                   cis.getCaseId());
-        when(caseManagementService.getCaseInstance(serverTemplateId,
-                                                   cis.getContainerId(),
-                                                   cis.getCaseId())).thenReturn(cis);
+        when(caseManagementService.getCaseInstanceSnapshot(eq(serverTemplateId),
+                                                           eq(cis.getContainerId()),
+                                                           eq(cis.getCaseId()),
+                                                           any())).thenReturn(snapshot);
 
         getPresenter().onStartup(placeRequest);
     }
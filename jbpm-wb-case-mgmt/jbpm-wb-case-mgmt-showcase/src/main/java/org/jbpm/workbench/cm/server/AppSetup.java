@@ -28,7 +28,7 @@ import org.jboss.errai.security.shared.service.AuthenticationService;
 import org.kie.server.api.KieServerConstants;
 import org.kie.server.client.CaseServicesClient;
 import org.kie.server.client.KieServicesClient;
-import org.kie.server.client.UserTaskServicesClient;
+import org.kie.server.client.QueryServicesClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.uberfire.commons.services.cdi.ApplicationStarted;
@@ -70,9 +70,9 @@ public class AppSetup {
 
     @Produces
     @ApplicationScoped
-    public UserTaskServicesClient produceUserTaskServicesClient(final KieServicesClient kieServicesClient) {
-        LOGGER.info("Creating UserTaskServicesClient...");
-        return kieServicesClient.getServicesClient(UserTaskServicesClient.class);
+    public QueryServicesClient produceQueryServicesClient(final KieServicesClient kieServicesClient) {
+        LOGGER.info("Creating QueryServicesClient...");
+        return kieServicesClient.getServicesClient(QueryServicesClient.class);
     }
 
     @Produces
@@ -19,9 +19,9 @@ package org.jbpm.workbench.cm.server;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import javax.annotation.PostConstruct;
 import javax.enterprise.inject.Specializes;
@@ -41,7 +41,11 @@ import org.jbpm.workbench.cm.model.ProcessDefinitionSummary;
 import org.jbpm.workbench.cm.util.CaseActionStatus;
 import org.jbpm.workbench.cm.util.CaseActionType;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
+import org.jbpm.workbench.cm.util.CaseInstanceSnapshot;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentChange;
+import org.jbpm.workbench.cm.util.CaseRoleAssignmentResult;
 import org.jbpm.workbench.cm.util.CaseStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,13 +70,15 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
     private final ObjectMapper mapper = new ObjectMapper();
     private List<CaseDefinitionSummary> caseDefinitionList = emptyList();
     private List<CaseInstanceSummary> caseInstanceList = new ArrayList<>();
+    private Map<String, CaseInstanceSummary> caseInstanceMap = new ConcurrentHashMap<>();
     private List<CaseStageSummary> caseStageList = new ArrayList<>();
-    private Map<String, List<CaseCommentSummary>> caseCommentMap = new HashMap<>();
+    private Map<String, List<CaseCommentSummary>> caseCommentMap = new ConcurrentHashMap<>();
     private List<CaseMilestoneSummary> caseMilestoneList = new ArrayList<>();
     private List<CaseCommentSummary> caseCommentList = new ArrayList<>();
-    private Map<String, List<CaseActionSummary>> caseActionMap = new HashMap<>();
+    private Map<String, List<CaseActionSummary>> caseActionMap = new ConcurrentHashMap<>();
     private List<CaseActionSummary> caseActionList = new ArrayList<>();
     private List<ProcessDefinitionSummary> processDefinitionList = emptyList();
+    private SyntheticCaseDataGenerator syntheticData = SyntheticCaseDataGenerator.fromSystemProperties();
 
     @PostConstruct
     public void init() {
@@ -90,6 +96,19 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                                                PROCESS_DEFINITION_JSON);
         LOGGER.info("Loaded {} case definitions",
                     caseDefinitionList.size());
+        if (syntheticData.isEnabled()) {
+            final long start = System.currentTimeMillis();
+            syntheticData.generateCaseInstances(caseDefinitionList).forEach(this::addCaseInstance);
+            LOGGER.info("Generated {} synthetic case instances in {} ms",
+                        syntheticData.getCases(),
+                        System.currentTimeMillis() - start);
+        }
+    }
+
+    private void addCaseInstance(final CaseInstanceSummary caseInstance) {
+        caseInstanceList.add(caseInstance);
+        caseInstanceMap.put(caseInstance.getCaseId(),
+                            caseInstance);
     }
 
     private <T> List<T> readJsonValues(final Class<T> type,
@@ -110,11 +129,13 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
     public CaseDefinitionSummary getCaseDefinition(final String serverTemplateId,
                                                    final String containerId,
                                                    final String caseDefinitionId) {
+        syntheticData.simulateLatency();
         return caseDefinitionList.stream().filter(c -> c.getId().equals(caseDefinitionId)).findFirst().get();
     }
 
     @Override
     public List<CaseDefinitionSummary> getCaseDefinitions() {
+        syntheticData.simulateLatency();
         return caseDefinitionList;
     }
 
@@ -138,7 +159,7 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                 .stages(caseStageList)
                 .roleAssignments(roleAssignments)
                 .build();
-        caseInstanceList.add(ci);
+        addCaseInstance(ci);
 
         List<CaseActionSummary> actions = new ArrayList<>(caseActionList);
         caseActionMap.putIfAbsent(ci.getCaseId(),
@@ -157,18 +178,36 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
     }
 
     @Override
-    public List<CaseInstanceSummary> getCaseInstances(final CaseInstanceSearchRequest request) {
-        return caseInstanceList.stream()
+    public CaseInstanceSearchResult getCaseInstances(final CaseInstanceSearchRequest request) {
+        syntheticData.simulateLatency();
+        final List<CaseInstanceSummary> caseInstances = caseInstanceList.stream()
                 .filter(c -> c.getStatus().equals(request.getStatus()))
+                .filter(c -> Strings.isNullOrEmpty(request.getOwner()) || request.getOwner().equals(c.getOwner()))
                 .sorted(getCaseInstanceSummaryComparator(request))
                 .collect(toList());
+        return new CaseInstanceSearchResult(caseInstances.stream()
+                                                    .skip((long) request.getPage() * request.getPageSize())
+                                                    .limit(request.getPageSize())
+                                                    .collect(toList()),
+                                            (long) caseInstances.size());
     }
 
     @Override
     public CaseInstanceSummary getCaseInstance(final String serverTemplateId,
                                                final String containerId,
                                                final String caseId) {
-        return caseInstanceList.stream().filter(c -> c.getCaseId().equals(caseId)).findFirst().get();
+        syntheticData.simulateLatency();
+        return ofNullable(caseInstanceMap.get(caseId)).get();
+    }
+
+    @Override
+    protected CaseInstanceSnapshot getSharedCaseInstanceSnapshot(final String serverTemplateId,
+                                                                 final String containerId,
+                                                                 final String caseId) {
+        // mock data is updated in place without invalidating shared snapshots, always gather a fresh one
+        return gatherCaseInstanceSnapshot(serverTemplateId,
+                                          containerId,
+                                          caseId);
     }
 
     @Override
@@ -193,8 +232,8 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                                                 final String caseId, 
                                                 final Integer page, 
                                                 final Integer pageSize) {
-
-        List<CaseCommentSummary> allComments = caseCommentMap.get(caseId);
+        syntheticData.simulateLatency();
+        List<CaseCommentSummary> allComments = getCaseComments(caseId);
         List<CaseCommentSummary> subList = new ArrayList<>();
 
         int allCommentsSize = allComments.size();
@@ -217,15 +256,12 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                            final String caseId,
                            final String author,
                            final String text) {
-        final List<CaseCommentSummary> commentSummaryList = caseCommentMap.getOrDefault(caseId,
-                                                                                        new ArrayList<>());
+        final List<CaseCommentSummary> commentSummaryList = getCaseComments(caseId);
 
         final String newId = String.valueOf(commentIdGenerator++);
 
         final CaseCommentSummary caseCommentSummary = CaseCommentSummary.builder().id(newId).author(author).text(text).addedAt(new Date()).build();
         commentSummaryList.add(caseCommentSummary);
-        caseCommentMap.putIfAbsent(caseId,
-                                   commentSummaryList);
     }
 
     @Override
@@ -235,7 +271,7 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                               final String commentId,
                               final String author,
                               final String text) {
-        ofNullable(caseCommentMap.get(caseId)).ifPresent(l -> l.stream().filter(c -> c.getId().equals(commentId)).findFirst().ifPresent(c -> c.setText(text)));
+        getCaseComments(caseId).stream().filter(c -> c.getId().equals(commentId)).findFirst().ifPresent(c -> c.setText(text));
     }
 
     @Override
@@ -243,7 +279,7 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                               final String containerId,
                               final String caseId,
                               final String commentId) {
-        ofNullable(caseCommentMap.get(caseId)).ifPresent(l -> l.stream().filter(c -> c.getId().equals(commentId)).findFirst().ifPresent(c -> l.remove(c)));
+        getCaseComments(caseId).removeIf(c -> c.getId().equals(commentId));
     }
 
     @Override
@@ -290,9 +326,49 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                           r -> r.getGroups().remove(group));
     }
 
+    @Override
+    public CaseRoleAssignmentResult updateRoleAssignments(final String serverTemplateId,
+                                                          final String containerId,
+                                                          final String caseId,
+                                                          final List<CaseRoleAssignmentChange> changes) {
+        changes.forEach(change -> executeOnCaseRole(caseId,
+                                                    change.getRoleName(),
+                                                    r -> {
+                                                        switch (change.getOperation()) {
+                                                            case ASSIGN_USER:
+                                                                r.getUsers().add(change.getName());
+                                                                break;
+                                                            case ASSIGN_GROUP:
+                                                                r.getGroups().add(change.getName());
+                                                                break;
+                                                            case REMOVE_USER:
+                                                                r.getUsers().remove(change.getName());
+                                                                break;
+                                                            case REMOVE_GROUP:
+                                                                r.getGroups().remove(change.getName());
+                                                                break;
+                                                        }
+                                                    }));
+        return new CaseRoleAssignmentResult(changes.size(),
+                                            new ArrayList<>(),
+                                            getCaseInstance(serverTemplateId,
+                                                            containerId,
+                                                            caseId).getRoleAssignments());
+    }
+
     private void executeOnCaseInstance(final String caseId,
                                        final Consumer<CaseInstanceSummary> consumer) {
-        caseInstanceList.stream().filter(c -> c.getCaseId().equals(caseId)).findFirst().ifPresent(consumer);
+        ofNullable(caseInstanceMap.get(caseId)).ifPresent(consumer);
+    }
+
+    private List<CaseCommentSummary> getCaseComments(final String caseId) {
+        return caseCommentMap.computeIfAbsent(caseId,
+                                              id -> syntheticData.isSyntheticCase(id) ? syntheticData.generateComments(id) : new ArrayList<>());
+    }
+
+    private List<CaseActionSummary> getCaseActionList(final String caseId) {
+        return caseActionMap.computeIfAbsent(caseId,
+                                             id -> syntheticData.isSyntheticCase(id) ? syntheticData.generateActions(id) : new ArrayList<>());
     }
 
     private void executeOnCaseRole(final String caseId,
@@ -316,7 +392,9 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
     public List<CaseMilestoneSummary> getCaseMilestones(final String containerId,
                                                         final String caseId,
                                                         final CaseMilestoneSearchRequest request) {
-        return caseMilestoneList.stream()
+        syntheticData.simulateLatency();
+        final List<CaseMilestoneSummary> milestones = syntheticData.isSyntheticCase(caseId) ? syntheticData.generateMilestones(caseId) : caseMilestoneList;
+        return milestones.stream()
                 .sorted(getCaseMilestoneSummaryComparator(request))
                 .collect(toList());
     }
@@ -324,24 +402,31 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
     @Override
     public List<CaseStageSummary> getCaseStages(final String containerId,
                                                 final String caseId) {
+        syntheticData.simulateLatency();
+        if (syntheticData.isSyntheticCase(caseId)) {
+            return syntheticData.generateStages(caseId);
+        }
         return caseStageList;
     }
 
     public List<CaseActionSummary> getAdHocFragments(String containerId,
                                                      String caseId) {
-        return ofNullable(caseActionMap.get(caseId)).orElse(emptyList()).stream()
+        syntheticData.simulateLatency();
+        return getCaseActionList(caseId).stream()
                 .filter(c -> CaseActionType.AD_HOC_TASK == c.getActionType()).collect(toList());
     }
 
     public List<CaseActionSummary> getInProgressActions(String containerId,
                                                         String caseId) {
-        return ofNullable(caseActionMap.get(caseId)).orElse(emptyList()).stream()
+        syntheticData.simulateLatency();
+        return getCaseActionList(caseId).stream()
                 .filter(c -> CaseActionStatus.IN_PROGRESS == c.getActionStatus()).collect(toList());
     }
 
     public List<CaseActionSummary> getCompletedActions(String containerId,
                                                        String caseId) {
-        return ofNullable(caseActionMap.get(caseId)).orElse(emptyList()).stream()
+        syntheticData.simulateLatency();
+        return getCaseActionList(caseId).stream()
                 .filter(c -> CaseActionStatus.COMPLETED == c.getActionStatus()).collect(toList());
     }
 
@@ -353,8 +438,7 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                                    String actors,
                                    String groups,
                                    Map<String, Object> data) {
-        final List<CaseActionSummary> actionSummaryList = caseActionMap.getOrDefault(caseId,
-                                                                                     new ArrayList<>());
+        final List<CaseActionSummary> actionSummaryList = getCaseActionList(caseId);
         final CaseActionSummary action = CaseActionSummary.builder()
                 .id(actionIdGenerator++)
                 .name(name)
@@ -364,8 +448,6 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                 .createdOn(new Date())
                 .build();
         actionSummaryList.add(action);
-        caseActionMap.putIfAbsent(caseId,
-                                  actionSummaryList);
     }
 
     public void addDynamicUserTaskToStage(String containerId,
@@ -376,8 +458,7 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                                           String actors,
                                           String groups,
                                           Map<String, Object> data) {
-        final List<CaseActionSummary> actionSummaryList = caseActionMap.getOrDefault(caseId,
-                                                                                     new ArrayList<>());
+        final List<CaseActionSummary> actionSummaryList = getCaseActionList(caseId);
         final CaseActionSummary action = CaseActionSummary.builder()
                 .id(actionIdGenerator++)
                 .name(name)
@@ -387,8 +468,6 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                 .createdOn(new Date())
                 .build();
         actionSummaryList.add(action);
-        caseActionMap.putIfAbsent(caseId,
-                                  actionSummaryList);
     }
 
     @Override
@@ -397,8 +476,7 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                                           String stageId,
                                           String adHocName,
                                           Map<String, Object> data) {
-        final List<CaseActionSummary> actionSummaryList = caseActionMap.getOrDefault(caseId,
-                                                                                     new ArrayList<>());
+        final List<CaseActionSummary> actionSummaryList = getCaseActionList(caseId);
         final CaseActionSummary action = CaseActionSummary.builder()
                 .id(actionIdGenerator++)
                 .name(adHocName)
@@ -406,8 +484,6 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                 .createdOn(new Date())
                 .build();
         actionSummaryList.add(action);
-        caseActionMap.putIfAbsent(caseId,
-                                  actionSummaryList);
     }
 
     @Override
@@ -415,8 +491,7 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                                    String caseId,
                                    String adHocName,
                                    Map<String, Object> data) {
-        final List<CaseActionSummary> actionSummaryList = caseActionMap.getOrDefault(caseId,
-                                                                                     new ArrayList<>());
+        final List<CaseActionSummary> actionSummaryList = getCaseActionList(caseId);
         final CaseActionSummary action = CaseActionSummary.builder()
                 .id(actionIdGenerator++)
                 .name(adHocName)
@@ -424,8 +499,6 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                 .createdOn(new Date())
                 .build();
         actionSummaryList.add(action);
-        caseActionMap.putIfAbsent(caseId,
-                                  actionSummaryList);
     }
 
     @Override
@@ -433,8 +506,7 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                                      String caseId,
                                      String processId,
                                      Map<String, Object> data) {
-        final List<CaseActionSummary> actionSummaryList = caseActionMap.getOrDefault(caseId,
-                                                                                     new ArrayList<>());
+        final List<CaseActionSummary> actionSummaryList = getCaseActionList(caseId);
         final CaseActionSummary action = CaseActionSummary.builder()
                 .id(actionIdGenerator++)
                 .name("subprocess: " + processId)
@@ -442,8 +514,6 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                 .createdOn(new Date())
                 .build();
         actionSummaryList.add(action);
-        caseActionMap.putIfAbsent(caseId,
-                                  actionSummaryList);
     }
 
     @Override
@@ -452,8 +522,7 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                                             String stageId,
                                             String processId,
                                             Map<String, Object> data) {
-        final List<CaseActionSummary> actionSummaryList = caseActionMap.getOrDefault(caseId,
-                                                                                     new ArrayList<>());
+        final List<CaseActionSummary> actionSummaryList = getCaseActionList(caseId);
         final CaseActionSummary action = CaseActionSummary.builder()
                 .id(actionIdGenerator++)
                 .name("subprocess: " + processId + " inStage:" + stageId)
@@ -461,8 +530,6 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
                 .createdOn(new Date())
                 .build();
         actionSummaryList.add(action);
-        caseActionMap.putIfAbsent(caseId,
-                                  actionSummaryList);
     }
 
     @Override
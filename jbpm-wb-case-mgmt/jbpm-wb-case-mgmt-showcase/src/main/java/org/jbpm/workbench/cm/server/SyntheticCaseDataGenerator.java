@@ -0,0 +1,267 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.server;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Strings;
+import org.jbpm.workbench.cm.model.CaseActionSummary;
+import org.jbpm.workbench.cm.model.CaseCommentSummary;
+import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
+import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.model.CaseMilestoneSummary;
+import org.jbpm.workbench.cm.model.CaseRoleAssignmentSummary;
+import org.jbpm.workbench.cm.model.CaseStageSummary;
+import org.jbpm.workbench.cm.util.CaseActionStatus;
+import org.jbpm.workbench.cm.util.CaseActionType;
+import org.jbpm.workbench.cm.util.CaseStageStatus;
+import org.jbpm.workbench.cm.util.CaseStatus;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Generates large volumes of case data for {@link MockCaseManagementService}, so that paging, sorting and rendering
+ * of the case screens can be measured without a KIE Server. Disabled unless a number of cases is configured.
+ * <p>
+ * Only the case instances are generated upfront, milestones, stages, comments and actions of a case are derived on
+ * demand from the case id and the seed, so the same case always gets the same data.
+ */
+public class SyntheticCaseDataGenerator {
+
+    public static final String CASES = "org.jbpm.wb.case.mock.cases";
+    public static final String MILESTONES = "org.jbpm.wb.case.mock.milestones";
+    public static final String STAGES = "org.jbpm.wb.case.mock.stages";
+    public static final String STAGE_ACTIONS = "org.jbpm.wb.case.mock.stage.actions";
+    public static final String COMMENTS = "org.jbpm.wb.case.mock.comments";
+    public static final String ACTIONS = "org.jbpm.wb.case.mock.actions";
+    public static final String LATENCY = "org.jbpm.wb.case.mock.latency";
+    public static final String LATENCY_JITTER = "org.jbpm.wb.case.mock.latency.jitter";
+    public static final String SEED = "org.jbpm.wb.case.mock.seed";
+
+    public static final String CASE_ID_PREFIX = "SYNTH-";
+
+    private static final String[] OWNERS = {"admin", "krisv", "john", "mary", "sales-rep", "jack", "katy"};
+    private static final CaseStatus[] STATUSES = {CaseStatus.OPEN, CaseStatus.OPEN, CaseStatus.OPEN, CaseStatus.CLOSED, CaseStatus.CANCELLED};
+    private static final CaseStageStatus[] STAGE_STATUSES = CaseStageStatus.values();
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    private final int cases;
+    private final int milestones;
+    private final int stages;
+    private final int stageActions;
+    private final int comments;
+    private final int actions;
+    private final long latency;
+    private final long latencyJitter;
+    private final long seed;
+    private final long baseTime = System.currentTimeMillis();
+
+    public SyntheticCaseDataGenerator(final int cases,
+                                      final int milestones,
+                                      final int stages,
+                                      final int stageActions,
+                                      final int comments,
+                                      final int actions,
+                                      final long latency,
+                                      final long latencyJitter,
+                                      final long seed) {
+        this.cases = cases;
+        this.milestones = milestones;
+        this.stages = stages;
+        this.stageActions = stageActions;
+        this.comments = comments;
+        this.actions = actions;
+        this.latency = latency;
+        this.latencyJitter = latencyJitter;
+        this.seed = seed;
+    }
+
+    public static SyntheticCaseDataGenerator fromSystemProperties() {
+        return new SyntheticCaseDataGenerator(Integer.getInteger(CASES,
+                                                                 0),
+                                              Integer.getInteger(MILESTONES,
+                                                                 10),
+                                              Integer.getInteger(STAGES,
+                                                                 5),
+                                              Integer.getInteger(STAGE_ACTIONS,
+                                                                 4),
+                                              Integer.getInteger(COMMENTS,
+                                                                 100),
+                                              Integer.getInteger(ACTIONS,
+                                                                 20),
+                                              Long.getLong(LATENCY,
+                                                           0L),
+                                              Long.getLong(LATENCY_JITTER,
+                                                           0L),
+                                              Long.getLong(SEED,
+                                                           42L));
+    }
+
+    public boolean isEnabled() {
+        return cases > 0;
+    }
+
+    public boolean isSyntheticCase(final String caseId) {
+        return isEnabled() && caseId != null && caseId.startsWith(CASE_ID_PREFIX);
+    }
+
+    public int getCases() {
+        return cases;
+    }
+
+    public List<CaseInstanceSummary> generateCaseInstances(final List<CaseDefinitionSummary> caseDefinitions) {
+        if (!isEnabled() || caseDefinitions.isEmpty()) {
+            return emptyList();
+        }
+        final Random random = new Random(seed);
+        final List<CaseInstanceSummary> caseInstances = new ArrayList<>(cases);
+        for (int i = 1; i <= cases; i++) {
+            final CaseDefinitionSummary caseDefinition = caseDefinitions.get(random.nextInt(caseDefinitions.size()));
+            final String owner = OWNERS[random.nextInt(OWNERS.length)];
+            final CaseStatus status = STATUSES[random.nextInt(STATUSES.length)];
+            final Date startedAt = new Date(baseTime - (long) (random.nextDouble() * 365 * DAY));
+            final List<CaseRoleAssignmentSummary> roleAssignments = new ArrayList<>();
+            final List<String> owners = new ArrayList<>();
+            owners.add(owner);
+            roleAssignments.add(CaseRoleAssignmentSummary.builder()
+                                        .name("owner")
+                                        .users(owners)
+                                        .build());
+            caseInstances.add(CaseInstanceSummary.builder()
+                                      .caseId(CASE_ID_PREFIX + Strings.padStart(String.valueOf(i),
+                                                                                7,
+                                                                                '0'))
+                                      .description("Synthetic case " + i)
+                                      .owner(owner)
+                                      .status(status)
+                                      .startedAt(startedAt)
+                                      .completedAt(status == CaseStatus.OPEN ? null : new Date(startedAt.getTime() + random.nextInt(30) * DAY))
+                                      .caseDefinitionId(caseDefinition.getId())
+                                      .containerId(caseDefinition.getContainerId())
+                                      .roleAssignments(roleAssignments)
+                                      .build());
+        }
+        return caseInstances;
+    }
+
+    public List<CaseMilestoneSummary> generateMilestones(final String caseId) {
+        final Random random = random(caseId,
+                                     1);
+        final List<CaseMilestoneSummary> caseMilestones = new ArrayList<>(milestones);
+        for (int i = 1; i <= milestones; i++) {
+            final boolean achieved = random.nextInt(3) == 0;
+            caseMilestones.add(CaseMilestoneSummary.builder()
+                                       .identifier("Milestone" + i)
+                                       .name("Milestone " + i + " of " + caseId)
+                                       .achieved(achieved)
+                                       .achievedAt(achieved ? new Date(baseTime - random.nextInt(365) * DAY) : null)
+                                       .status(achieved ? "Completed" : "Available")
+                                       .build());
+        }
+        return caseMilestones;
+    }
+
+    public List<CaseStageSummary> generateStages(final String caseId) {
+        final Random random = random(caseId,
+                                     2);
+        final List<CaseStageSummary> caseStages = new ArrayList<>(stages);
+        for (int i = 1; i <= stages; i++) {
+            final CaseStageSummary stage = CaseStageSummary.builder()
+                    .identifier("_stage_" + i)
+                    .name("Stage " + i)
+                    .status(STAGE_STATUSES[random.nextInt(STAGE_STATUSES.length)].getStatus())
+                    .build();
+            final List<CaseActionSummary> adHocActions = new ArrayList<>(stageActions);
+            for (int j = 1; j <= stageActions; j++) {
+                adHocActions.add(CaseActionSummary.builder()
+                                         .id((long) i * 1000 + j)
+                                         .name("adhoc_stage" + i + "_" + j)
+                                         .actionType(CaseActionType.AD_HOC_TASK)
+                                         .actionStatus(CaseActionStatus.AVAILABLE)
+                                         .stage(CaseStageSummary.builder()
+                                                        .identifier(stage.getIdentifier())
+                                                        .name(stage.getName())
+                                                        .status(stage.getStatus())
+                                                        .build())
+                                         .build());
+            }
+            stage.setAdHocActions(adHocActions);
+            caseStages.add(stage);
+        }
+        return caseStages;
+    }
+
+    public List<CaseCommentSummary> generateComments(final String caseId) {
+        final Random random = random(caseId,
+                                     3);
+        final List<CaseCommentSummary> caseComments = new ArrayList<>(comments);
+        for (int i = 1; i <= comments; i++) {
+            caseComments.add(CaseCommentSummary.builder()
+                                     .id(caseId + "-comment-" + i)
+                                     .author(OWNERS[random.nextInt(OWNERS.length)])
+                                     .text("Comment " + i + " on " + caseId)
+                                     .addedAt(new Date(baseTime - (long) (random.nextDouble() * 365 * DAY)))
+                                     .build());
+        }
+        return caseComments;
+    }
+
+    public List<CaseActionSummary> generateActions(final String caseId) {
+        final Random random = random(caseId,
+                                     4);
+        final List<CaseActionSummary> caseActions = new ArrayList<>(actions);
+        for (int i = 1; i <= actions; i++) {
+            final boolean adHoc = random.nextInt(4) == 0;
+            caseActions.add(CaseActionSummary.builder()
+                                    .id((long) i)
+                                    .name((adHoc ? "adhoc_" : "task_") + i)
+                                    .type("Human Task")
+                                    .actualOwner(OWNERS[random.nextInt(OWNERS.length)])
+                                    .createdOn(new Date(baseTime - (long) (random.nextDouble() * 30 * DAY)))
+                                    .actionType(adHoc ? CaseActionType.AD_HOC_TASK : CaseActionType.DYNAMIC_USER_TASK)
+                                    .actionStatus(adHoc ? CaseActionStatus.AVAILABLE : random.nextBoolean() ? CaseActionStatus.IN_PROGRESS : CaseActionStatus.COMPLETED)
+                                    .build());
+        }
+        return caseActions;
+    }
+
+    /**
+     * Blocks the calling thread for the configured latency, plus a random jitter, to mimic a remote KIE Server call.
+     */
+    public void simulateLatency() {
+        if (latency <= 0 && latencyJitter <= 0) {
+            return;
+        }
+        final long delay = Math.max(0,
+                                    latency) + (latencyJitter > 0 ? ThreadLocalRandom.current().nextLong(latencyJitter + 1) : 0);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Random random(final String caseId,
+                          final int part) {
+        return new Random(seed * 31 + caseId.hashCode() * 17L + part);
+    }
+}
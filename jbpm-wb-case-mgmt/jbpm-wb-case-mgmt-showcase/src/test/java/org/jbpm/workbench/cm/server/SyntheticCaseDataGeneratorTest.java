@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.server;
+
+import java.util.List;
+
+import org.jbpm.workbench.cm.model.CaseCommentSummary;
+import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
+import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.model.CaseStageSummary;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.*;
+
+public class SyntheticCaseDataGeneratorTest {
+
+    private final List<CaseDefinitionSummary> caseDefinitions = singletonList(CaseDefinitionSummary.builder()
+                                                                                      .id("caseDefinitionId")
+                                                                                      .containerId("containerId")
+                                                                                      .build());
+
+    private SyntheticCaseDataGenerator newGenerator(final int cases) {
+        return new SyntheticCaseDataGenerator(cases,
+                                              3,
+                                              2,
+                                              4,
+                                              25,
+                                              10,
+                                              0,
+                                              0,
+                                              7);
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        final SyntheticCaseDataGenerator generator = newGenerator(0);
+
+        assertFalse(generator.isEnabled());
+        assertFalse(generator.isSyntheticCase(SyntheticCaseDataGenerator.CASE_ID_PREFIX + "0000001"));
+        assertTrue(generator.generateCaseInstances(caseDefinitions).isEmpty());
+    }
+
+    @Test
+    public void testGenerateCaseInstances() {
+        final SyntheticCaseDataGenerator generator = newGenerator(1000);
+
+        final List<CaseInstanceSummary> caseInstances = generator.generateCaseInstances(caseDefinitions);
+
+        assertEquals(1000,
+                     caseInstances.size());
+        assertEquals(1000,
+                     caseInstances.stream().map(CaseInstanceSummary::getCaseId).distinct().count());
+        caseInstances.forEach(ci -> {
+            assertTrue(generator.isSyntheticCase(ci.getCaseId()));
+            assertEquals("containerId",
+                         ci.getContainerId());
+            assertNotNull(ci.getStatus());
+            assertEquals(ci.getOwner(),
+                         ci.getRoleAssignments().get(0).getUsers().get(0));
+        });
+    }
+
+    @Test
+    public void testCaseDataIsStablePerCase() {
+        final SyntheticCaseDataGenerator generator = newGenerator(10);
+        final String caseId = generator.generateCaseInstances(caseDefinitions).get(0).getCaseId();
+
+        final List<CaseCommentSummary> comments = generator.generateComments(caseId);
+        final List<CaseStageSummary> stages = generator.generateStages(caseId);
+
+        assertEquals(25,
+                     comments.size());
+        assertEquals(2,
+                     stages.size());
+        assertEquals(4,
+                     stages.get(0).getAdHocActions().size());
+        assertEquals(3,
+                     generator.generateMilestones(caseId).size());
+        assertEquals(10,
+                     generator.generateActions(caseId).size());
+        assertEquals(comments.get(5).getAddedAt(),
+                     generator.generateComments(caseId).get(5).getAddedAt());
+        assertEquals(stages.get(1).getStatus(),
+                     generator.generateStages(caseId).get(1).getStatus());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.common.model;
+
+import java.io.Serializable;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Progress of a running bulk operation (process starts, job cancellations...), polled by the user that submitted it.
+ */
+@Portable
+public class BulkOperationProgress implements Serializable {
+
+    private static final long serialVersionUID = -3208718561745310342L;
+
+    private String batchId;
+    private int processed;
+    private int failed;
+    private int total;
+    private boolean finished;
+
+    public BulkOperationProgress() {
+    }
+
+    public BulkOperationProgress(final String batchId,
+                                 final int processed,
+                                 final int failed,
+                                 final int total,
+                                 final boolean finished) {
+        this.batchId = batchId;
+        this.processed = processed;
+        this.failed = failed;
+        this.total = total;
+        this.finished = finished;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(String batchId) {
+        this.batchId = batchId;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(int processed) {
+        this.processed = processed;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    /**
+     * @return true once the operation returned, also when it stopped before processing every item
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public void setFinished(boolean finished) {
+        this.finished = finished;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOperationProgress{" +
+                "batchId='" + batchId + '\'' +
+                ", processed=" + processed +
+                ", failed=" + failed +
+                ", total=" + total +
+                ", finished=" + finished +
+                '}';
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.common.model;
+
+import java.io.Serializable;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Outcome of a bulk operation for a single item, identified by its id (process instance, task, job...).
+ */
+@Portable
+public class BulkOperationResult<T> implements Serializable {
+
+    private static final long serialVersionUID = 2785143617640135012L;
+
+    private T id;
+    private boolean success;
+    private String errorMessage;
+
+    public BulkOperationResult() {
+    }
+
+    public BulkOperationResult(final T id,
+                               final boolean success,
+                               final String errorMessage) {
+        this.id = id;
+        this.success = success;
+        this.errorMessage = errorMessage;
+    }
+
+    public static <T> BulkOperationResult<T> success(final T id) {
+        return new BulkOperationResult<T>(id,
+                                          true,
+                                          null);
+    }
+
+    public static <T> BulkOperationResult<T> failure(final T id,
+                                                     final String errorMessage) {
+        return new BulkOperationResult<T>(id,
+                                          false,
+                                          errorMessage);
+    }
+
+    public T getId() {
+        return id;
+    }
+
+    public void setId(T id) {
+        this.id = id;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidMultipleUnaryOperators")
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        result = ~~result;
+        result = prime * result + (success ? 1231 : 1237);
+        result = ~~result;
+        result = prime * result + ((errorMessage == null) ? 0 : errorMessage.hashCode());
+        result = ~~result;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        BulkOperationResult other = (BulkOperationResult) obj;
+        if (id == null) {
+            if (other.id != null) {
+                return false;
+            }
+        } else if (!id.equals(other.id)) {
+            return false;
+        }
+        if (success != other.success) {
+            return false;
+        }
+        if (errorMessage == null) {
+            if (other.errorMessage != null) {
+                return false;
+            }
+        } else if (!errorMessage.equals(other.errorMessage)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOperationResult{" +
+                "id=" + id +
+                ", success=" + success +
+                ", errorMessage='" + errorMessage + '\'' +
+                '}';
+    }
+}
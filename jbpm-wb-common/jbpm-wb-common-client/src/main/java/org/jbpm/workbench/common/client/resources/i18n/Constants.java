@@ -152,6 +152,8 @@ public interface Constants extends Messages {
 
     String Bulk_Actions();
 
+    String Bulk_More_Items(int count);
+
     String ExecutionServerUnavailable();
 
     String NoServerConnected();
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.common.client.util;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jbpm.workbench.common.client.resources.i18n.Constants;
+
+/**
+ * Reports the items of a bulk operation that failed or were skipped in a single notification, listing only the first
+ * {@link #MAX_ITEMS_SHOWN} items so that a large selection does not flood the screen with notifications.
+ */
+public class BulkOperationNotifications {
+
+    public static final int MAX_ITEMS_SHOWN = 5;
+
+    public static <T> void notifyItems(final List<T> items,
+                                       final Function<T, String> describer,
+                                       final Consumer<String> notifier) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        notifier.accept(describeItems(items,
+                                      describer));
+    }
+
+    public static <T> String describeItems(final List<T> items,
+                                           final Function<T, String> describer) {
+        final StringBuilder description = new StringBuilder();
+        final int shown = Math.min(items.size(),
+                                   MAX_ITEMS_SHOWN);
+        for (int i = 0; i < shown; i++) {
+            if (i > 0) {
+                description.append("; ");
+            }
+            description.append(describer.apply(items.get(i)));
+        }
+        if (items.size() > shown) {
+            description.append("; ").append(Constants.INSTANCE.Bulk_More_Items(items.size() - shown));
+        }
+        return description.toString();
+    }
+}
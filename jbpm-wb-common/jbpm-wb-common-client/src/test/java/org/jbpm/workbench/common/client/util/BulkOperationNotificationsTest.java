@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.common.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.jbpm.workbench.common.client.resources.i18n.Constants;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class BulkOperationNotificationsTest {
+
+    @Test
+    public void testDescribeItems() {
+        assertEquals("1; 2; 3",
+                     BulkOperationNotifications.describeItems(Arrays.asList(1,
+                                                                            2,
+                                                                            3),
+                                                              String::valueOf));
+    }
+
+    @Test
+    public void testDescribeItemsCapped() {
+        final List<Integer> items = new ArrayList<>();
+        for (int i = 1; i <= BulkOperationNotifications.MAX_ITEMS_SHOWN + 3; i++) {
+            items.add(i);
+        }
+
+        assertEquals("1; 2; 3; 4; 5; " + Constants.INSTANCE.Bulk_More_Items(3),
+                     BulkOperationNotifications.describeItems(items,
+                                                              String::valueOf));
+    }
+
+    @Test
+    public void testNotifyItems() {
+        final List<String> notifications = new ArrayList<>();
+
+        BulkOperationNotifications.notifyItems(Collections.<Integer>emptyList(),
+                                               String::valueOf,
+                                               notifications::add);
+        assertTrue(notifications.isEmpty());
+
+        BulkOperationNotifications.notifyItems(Arrays.asList(1,
+                                                             2),
+                                               String::valueOf,
+                                               notifications::add);
+        assertEquals(Collections.singletonList("1; 2"),
+                     notifications);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.es.model;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jbpm.workbench.es.util.ExecutionErrorType;
+
+/**
+ * Execution errors a bulk acknowledge applies to. Either the error ids grouped by deployment, or, when no ids are
+ * given, every unacknowledged error matching the filter. Filter values left empty match any error, no deployment means
+ * all the deployments of the server template.
+ */
+@Portable
+public class ExecutionErrorBatch implements Serializable {
+
+    private static final long serialVersionUID = -2471845369021836115L;
+
+    private String serverTemplateId;
+    private Map<String, List<String>> deploymentErrors = new HashMap<>();
+    private String deploymentId;
+    private String processId;
+    private ExecutionErrorType type;
+    private Date errorDateFrom;
+    private Date errorDateTo;
+
+    public ExecutionErrorBatch() {
+    }
+
+    public ExecutionErrorBatch(final String serverTemplateId,
+                               final Map<String, List<String>> deploymentErrors) {
+        this.serverTemplateId = serverTemplateId;
+        this.deploymentErrors = deploymentErrors;
+    }
+
+    public static ExecutionErrorBatch matching(final String serverTemplateId,
+                                               final String deploymentId,
+                                               final String processId,
+                                               final ExecutionErrorType type,
+                                               final Date errorDateFrom,
+                                               final Date errorDateTo) {
+        final ExecutionErrorBatch batch = new ExecutionErrorBatch();
+        batch.setServerTemplateId(serverTemplateId);
+        batch.setDeploymentId(deploymentId);
+        batch.setProcessId(processId);
+        batch.setType(type);
+        batch.setErrorDateFrom(errorDateFrom);
+        batch.setErrorDateTo(errorDateTo);
+        return batch;
+    }
+
+    public boolean isFilterBatch() {
+        return deploymentErrors == null || deploymentErrors.isEmpty();
+    }
+
+    public String getServerTemplateId() {
+        return serverTemplateId;
+    }
+
+    public void setServerTemplateId(String serverTemplateId) {
+        this.serverTemplateId = serverTemplateId;
+    }
+
+    public Map<String, List<String>> getDeploymentErrors() {
+        return deploymentErrors;
+    }
+
+    public void setDeploymentErrors(Map<String, List<String>> deploymentErrors) {
+        this.deploymentErrors = deploymentErrors;
+    }
+
+    public String getDeploymentId() {
+        return deploymentId;
+    }
+
+    public void setDeploymentId(String deploymentId) {
+        this.deploymentId = deploymentId;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public void setProcessId(String processId) {
+        this.processId = processId;
+    }
+
+    public ExecutionErrorType getType() {
+        return type;
+    }
+
+    public void setType(ExecutionErrorType type) {
+        this.type = type;
+    }
+
+    public Date getErrorDateFrom() {
+        return errorDateFrom;
+    }
+
+    public void setErrorDateFrom(Date errorDateFrom) {
+        this.errorDateFrom = errorDateFrom;
+    }
+
+    public Date getErrorDateTo() {
+        return errorDateTo;
+    }
+
+    public void setErrorDateTo(Date errorDateTo) {
+        this.errorDateTo = errorDateTo;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionErrorBatch{" +
+                "serverTemplateId='" + serverTemplateId + '\'' +
+                ", deploymentErrors=" + deploymentErrors +
+                ", deploymentId='" + deploymentId + '\'' +
+                ", processId='" + processId + '\'' +
+                ", type=" + type +
+                ", errorDateFrom=" + errorDateFrom +
+                ", errorDateTo=" + errorDateTo +
+                '}';
+    }
+}
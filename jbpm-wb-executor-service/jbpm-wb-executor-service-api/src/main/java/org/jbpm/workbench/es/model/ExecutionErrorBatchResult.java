@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.es.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jbpm.workbench.common.model.BulkOperationResult;
+
+/**
+ * Outcome of an {@link ExecutionErrorBatch}, only the errors that could not be acknowledged are listed.
+ */
+@Portable
+public class ExecutionErrorBatchResult implements Serializable {
+
+    private static final long serialVersionUID = 3318224506417269584L;
+
+    private int acknowledgedCount;
+    private List<BulkOperationResult<String>> failures = new ArrayList<>();
+
+    public ExecutionErrorBatchResult() {
+    }
+
+    public ExecutionErrorBatchResult(final int acknowledgedCount,
+                                     final List<BulkOperationResult<String>> failures) {
+        this.acknowledgedCount = acknowledgedCount;
+        this.failures = failures;
+    }
+
+    public int getAcknowledgedCount() {
+        return acknowledgedCount;
+    }
+
+    public void setAcknowledgedCount(int acknowledgedCount) {
+        this.acknowledgedCount = acknowledgedCount;
+    }
+
+    public List<BulkOperationResult<String>> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<BulkOperationResult<String>> failures) {
+        this.failures = failures;
+    }
+
+    public boolean hasFailures() {
+        return failures != null && !failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionErrorBatchResult{" +
+                "acknowledgedCount=" + acknowledgedCount +
+                ", failures=" + failures +
+                '}';
+    }
+}
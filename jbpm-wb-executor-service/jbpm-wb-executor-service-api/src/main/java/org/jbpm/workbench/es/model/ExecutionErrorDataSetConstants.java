@@ -18,6 +18,7 @@ package org.jbpm.workbench.es.model;
 public interface ExecutionErrorDataSetConstants {
 
     String EXECUTION_ERROR_LIST_DATASET = "jbpmExecutionErrorList";
+    String EXECUTION_ERROR_BATCH_DATASET = "jbpmExecutionErrorBatch";
 
     String COLUMN_ERROR_ACK = "ERROR_ACK";
     String COLUMN_ERROR_ACK_AT = "ERROR_ACK_AT";
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.es.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jbpm.workbench.es.util.RequestStatus;
+
+/**
+ * Jobs a bulk executor operation applies to. Either the job ids grouped by deployment, or, when no ids are given, every
+ * job in one of the given statuses, optionally restricted to a deployment and a command.
+ */
+@Portable
+public class RequestBatch implements Serializable {
+
+    private static final long serialVersionUID = 6193028406524728171L;
+
+    private String batchId;
+    private String serverTemplateId;
+    private Map<String, List<Long>> deploymentRequests = new HashMap<>();
+    private List<RequestStatus> statuses = new ArrayList<>();
+    private String deploymentId;
+    private String commandName;
+
+    public RequestBatch() {
+    }
+
+    public RequestBatch(final String serverTemplateId,
+                        final Map<String, List<Long>> deploymentRequests) {
+        this.serverTemplateId = serverTemplateId;
+        this.deploymentRequests = deploymentRequests;
+    }
+
+    public static RequestBatch matching(final String serverTemplateId,
+                                        final List<RequestStatus> statuses,
+                                        final String deploymentId,
+                                        final String commandName) {
+        final RequestBatch batch = new RequestBatch();
+        batch.setServerTemplateId(serverTemplateId);
+        batch.setStatuses(statuses);
+        batch.setDeploymentId(deploymentId);
+        batch.setCommandName(commandName);
+        return batch;
+    }
+
+    public boolean isFilterBatch() {
+        return (deploymentRequests == null || deploymentRequests.isEmpty()) && statuses != null && !statuses.isEmpty();
+    }
+
+    /**
+     * @return id to poll the progress of the batch with
+     * {@link org.jbpm.workbench.es.service.ExecutorService#getBatchProgress(String)}, the batch is only logged when
+     * not set
+     */
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(String batchId) {
+        this.batchId = batchId;
+    }
+
+    public String getServerTemplateId() {
+        return serverTemplateId;
+    }
+
+    public void setServerTemplateId(String serverTemplateId) {
+        this.serverTemplateId = serverTemplateId;
+    }
+
+    public Map<String, List<Long>> getDeploymentRequests() {
+        return deploymentRequests;
+    }
+
+    public void setDeploymentRequests(Map<String, List<Long>> deploymentRequests) {
+        this.deploymentRequests = deploymentRequests;
+    }
+
+    public List<RequestStatus> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(List<RequestStatus> statuses) {
+        this.statuses = statuses;
+    }
+
+    public String getDeploymentId() {
+        return deploymentId;
+    }
+
+    public void setDeploymentId(String deploymentId) {
+        this.deploymentId = deploymentId;
+    }
+
+    public String getCommandName() {
+        return commandName;
+    }
+
+    public void setCommandName(String commandName) {
+        this.commandName = commandName;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestBatch{" +
+                "batchId='" + batchId + '\'' +
+                ", serverTemplateId='" + serverTemplateId + '\'' +
+                ", deploymentRequests=" + deploymentRequests +
+                ", statuses=" + statuses +
+                ", deploymentId='" + deploymentId + '\'' +
+                ", commandName='" + commandName + '\'' +
+                '}';
+    }
+}
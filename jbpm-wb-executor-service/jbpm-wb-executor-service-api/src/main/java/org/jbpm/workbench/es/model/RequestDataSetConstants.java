@@ -18,6 +18,9 @@ package org.jbpm.workbench.es.model;
 public interface RequestDataSetConstants {
 
     String REQUEST_LIST_DATASET = "jbpmRequestList";
+    String REQUEST_HEALTH_DATASET = "jbpmRequestHealth";
+    String REQUEST_THROUGHPUT_DATASET = "jbpmRequestThroughput";
+    String REQUEST_BATCH_DATASET = "jbpmRequestBatch";
 
     String COLUMN_ID = "id";
     String COLUMN_TIMESTAMP = "timestamp";
@@ -31,4 +34,6 @@ public interface RequestDataSetConstants {
     String COLUMN_PROCESS_INSTANCE_ID = "processInstanceId";
     String COLUMN_PROCESS_INSTANCE_DESCRIPTION = "processInstanceDescription";
     String COLUMN_JOB_DEPLOYMENT_ID = "deploymentId";
+    String COLUMN_JOBS = "jobs";
+    String COLUMN_OLDEST_TIMESTAMP = "oldestTimestamp";
 }
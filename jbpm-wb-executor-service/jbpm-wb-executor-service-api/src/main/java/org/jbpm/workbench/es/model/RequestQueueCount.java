@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.es.model;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jbpm.workbench.es.util.RequestStatus;
+
+/**
+ * Number of jobs in a status for a deployment and command, with the timestamp of the oldest of them.
+ */
+@Portable
+public class RequestQueueCount implements Serializable {
+
+    private static final long serialVersionUID = -1186340532916473512L;
+
+    private RequestStatus status;
+    private String deploymentId;
+    private String commandName;
+    private long count;
+    private Date oldestTimestamp;
+
+    public RequestQueueCount() {
+    }
+
+    public RequestQueueCount(final RequestStatus status,
+                             final String deploymentId,
+                             final String commandName,
+                             final long count,
+                             final Date oldestTimestamp) {
+        this.status = status;
+        this.deploymentId = deploymentId;
+        this.commandName = commandName;
+        this.count = count;
+        this.oldestTimestamp = oldestTimestamp;
+    }
+
+    public RequestStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RequestStatus status) {
+        this.status = status;
+    }
+
+    public String getDeploymentId() {
+        return deploymentId;
+    }
+
+    public void setDeploymentId(String deploymentId) {
+        this.deploymentId = deploymentId;
+    }
+
+    public String getCommandName() {
+        return commandName;
+    }
+
+    public void setCommandName(String commandName) {
+        this.commandName = commandName;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Date getOldestTimestamp() {
+        return oldestTimestamp;
+    }
+
+    public void setOldestTimestamp(Date oldestTimestamp) {
+        this.oldestTimestamp = oldestTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestQueueCount{" +
+                "status=" + status +
+                ", deploymentId='" + deploymentId + '\'' +
+                ", commandName='" + commandName + '\'' +
+                ", count=" + count +
+                ", oldestTimestamp=" + oldestTimestamp +
+                '}';
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.es.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jbpm.workbench.es.util.RequestStatus;
+
+/**
+ * Snapshot of the executor backlog of a server template: job counts by status, deployment and command, the age of the
+ * oldest queued job and the number of jobs completed and failed over the recent throughput window.
+ * <p>
+ * Jobs do not record when they finished, the throughput counts the done and failed jobs that were due within the
+ * window. It is a proxy for the jobs completed in the window, retried or long delayed jobs are left out.
+ */
+@Portable
+public class RequestQueueHealth implements Serializable {
+
+    private static final long serialVersionUID = 4620914830581722741L;
+
+    private Date computedAt;
+    private List<RequestQueueCount> counts = new ArrayList<>();
+    private Long oldestQueuedAge;
+    private long throughputWindow;
+    private long completedInWindow;
+    private long failedInWindow;
+
+    public RequestQueueHealth() {
+    }
+
+    public RequestQueueHealth(final Date computedAt,
+                              final List<RequestQueueCount> counts,
+                              final Long oldestQueuedAge,
+                              final long throughputWindow,
+                              final long completedInWindow,
+                              final long failedInWindow) {
+        this.computedAt = computedAt;
+        this.counts = counts;
+        this.oldestQueuedAge = oldestQueuedAge;
+        this.throughputWindow = throughputWindow;
+        this.completedInWindow = completedInWindow;
+        this.failedInWindow = failedInWindow;
+    }
+
+    /**
+     * @return number of jobs in the status, across deployments and commands
+     */
+    public long getCount(final RequestStatus status) {
+        long total = 0;
+        for (RequestQueueCount count : counts) {
+            if (count.getStatus() == status) {
+                total += count.getCount();
+            }
+        }
+        return total;
+    }
+
+    public Date getComputedAt() {
+        return computedAt;
+    }
+
+    public void setComputedAt(Date computedAt) {
+        this.computedAt = computedAt;
+    }
+
+    public List<RequestQueueCount> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(List<RequestQueueCount> counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * @return milliseconds the oldest queued job has been due, null when no job is queued
+     */
+    public Long getOldestQueuedAge() {
+        return oldestQueuedAge;
+    }
+
+    public void setOldestQueuedAge(Long oldestQueuedAge) {
+        this.oldestQueuedAge = oldestQueuedAge;
+    }
+
+    /**
+     * @return length in milliseconds of the window the completed and failed counts are computed over
+     */
+    public long getThroughputWindow() {
+        return throughputWindow;
+    }
+
+    public void setThroughputWindow(long throughputWindow) {
+        this.throughputWindow = throughputWindow;
+    }
+
+    public long getCompletedInWindow() {
+        return completedInWindow;
+    }
+
+    public void setCompletedInWindow(long completedInWindow) {
+        this.completedInWindow = completedInWindow;
+    }
+
+    public long getFailedInWindow() {
+        return failedInWindow;
+    }
+
+    public void setFailedInWindow(long failedInWindow) {
+        this.failedInWindow = failedInWindow;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestQueueHealth{" +
+                "computedAt=" + computedAt +
+                ", counts=" + counts +
+                ", oldestQueuedAge=" + oldestQueuedAge +
+                ", throughputWindow=" + throughputWindow +
+                ", completedInWindow=" + completedInWindow +
+                ", failedInWindow=" + failedInWindow +
+                '}';
+    }
+}
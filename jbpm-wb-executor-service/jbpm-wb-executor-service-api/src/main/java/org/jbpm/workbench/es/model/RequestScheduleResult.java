@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.es.model;
+
+import java.io.Serializable;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Outcome of a single {@link RequestScheduleSpec} of a batch, by position: either the id of the scheduled job or the
+ * error.
+ */
+@Portable
+public class RequestScheduleResult implements Serializable {
+
+    private static final long serialVersionUID = -5524418076397812653L;
+
+    private int index;
+    private Long requestId;
+    private String errorMessage;
+
+    public RequestScheduleResult() {
+    }
+
+    public RequestScheduleResult(final int index,
+                                 final Long requestId,
+                                 final String errorMessage) {
+        this.index = index;
+        this.requestId = requestId;
+        this.errorMessage = errorMessage;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(Long requestId) {
+        this.requestId = requestId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isSuccess() {
+        return requestId != null;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidMultipleUnaryOperators")
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + index;
+        hash = ~~hash;
+        hash = 31 * hash + (this.requestId != null ? this.requestId.hashCode() : 0);
+        hash = ~~hash;
+        hash = 31 * hash + (this.errorMessage != null ? this.errorMessage.hashCode() : 0);
+        hash = ~~hash;
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final RequestScheduleResult other = (RequestScheduleResult) obj;
+        if (this.index != other.index) {
+            return false;
+        }
+        if (this.requestId == null ? other.requestId != null : !this.requestId.equals(other.requestId)) {
+            return false;
+        }
+        if (this.errorMessage == null ? other.errorMessage != null : !this.errorMessage.equals(other.errorMessage)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestScheduleResult{" +
+                "index=" + index +
+                ", requestId=" + requestId +
+                ", errorMessage='" + errorMessage + '\'' +
+                '}';
+    }
+}
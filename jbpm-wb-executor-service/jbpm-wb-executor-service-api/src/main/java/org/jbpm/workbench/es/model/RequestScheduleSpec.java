@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.es.model;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * A job to schedule as part of a batch, the same values {@link org.jbpm.workbench.es.service.ExecutorService#scheduleRequest}
+ * takes. No deployment schedules the job outside of any container, no date runs it as soon as possible.
+ */
+@Portable
+public class RequestScheduleSpec implements Serializable {
+
+    private static final long serialVersionUID = 2837509437115472310L;
+
+    private String commandName;
+    private String deploymentId;
+    private Date scheduledDate;
+    private Map<String, String> context = new HashMap<>();
+
+    public RequestScheduleSpec() {
+    }
+
+    public RequestScheduleSpec(final String commandName,
+                               final String deploymentId,
+                               final Date scheduledDate,
+                               final Map<String, String> context) {
+        this.commandName = commandName;
+        this.deploymentId = deploymentId;
+        this.scheduledDate = scheduledDate;
+        this.context = context;
+    }
+
+    public String getCommandName() {
+        return commandName;
+    }
+
+    public void setCommandName(String commandName) {
+        this.commandName = commandName;
+    }
+
+    public String getDeploymentId() {
+        return deploymentId;
+    }
+
+    public void setDeploymentId(String deploymentId) {
+        this.deploymentId = deploymentId;
+    }
+
+    public Date getScheduledDate() {
+        return scheduledDate;
+    }
+
+    public void setScheduledDate(Date scheduledDate) {
+        this.scheduledDate = scheduledDate;
+    }
+
+    public Map<String, String> getContext() {
+        return context;
+    }
+
+    public void setContext(Map<String, String> context) {
+        this.context = context;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestScheduleSpec{" +
+                "commandName='" + commandName + '\'' +
+                ", deploymentId='" + deploymentId + '\'' +
+                ", scheduledDate=" + scheduledDate +
+                ", context=" + context +
+                '}';
+    }
+}
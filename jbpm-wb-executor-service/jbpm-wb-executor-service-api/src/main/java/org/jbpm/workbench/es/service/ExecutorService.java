@@ -17,11 +17,20 @@
 package org.jbpm.workbench.es.service;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.errai.bus.server.annotations.Remote;
+import org.jbpm.workbench.common.model.BulkOperationProgress;
+import org.jbpm.workbench.common.model.BulkOperationResult;
+import org.jbpm.workbench.es.model.ExecutionErrorBatch;
+import org.jbpm.workbench.es.model.ExecutionErrorBatchResult;
 import org.jbpm.workbench.es.model.ExecutionErrorSummary;
+import org.jbpm.workbench.es.model.RequestBatch;
 import org.jbpm.workbench.es.model.RequestDetails;
+import org.jbpm.workbench.es.model.RequestQueueHealth;
+import org.jbpm.workbench.es.model.RequestScheduleResult;
+import org.jbpm.workbench.es.model.RequestScheduleSpec;
 
 @Remote
 public interface ExecutorService {
@@ -35,6 +44,14 @@ public interface ExecutorService {
                          Date date,
                          Map<String, String> ctx);
 
+    /**
+     * Schedules all the jobs of the plan. Every spec is validated before any job is submitted, valid ones are then
+     * scheduled concurrently, invalid or failing ones do not stop the others.
+     * @return one result per spec, in the order of the specs
+     */
+    List<RequestScheduleResult> scheduleRequests(String serverTemplateId,
+                                                 List<RequestScheduleSpec> specs);
+
     void cancelRequest(String serverTemplateId,
                        String deploymentId,
                        Long requestId);
@@ -43,10 +60,43 @@ public interface ExecutorService {
                         String deploymentId,
                         Long requestId);
 
+    /**
+     * Cancels every job of the batch, progress is reported per chunk through {@link #getBatchProgress(String)}.
+     * @return the result of every job
+     */
+    List<BulkOperationResult<Long>> cancelRequests(RequestBatch batch);
+
+    /**
+     * Puts every job of the batch back into the execution queue, progress is reported per chunk through
+     * {@link #getBatchProgress(String)}.
+     * @return the result of every job
+     */
+    List<BulkOperationResult<Long>> requeueRequests(RequestBatch batch);
+
+    /**
+     * Progress of a job batch of the current user still running on this node, polled while the cancel or requeue
+     * call is in flight.
+     * @return null when no batch with that id was submitted by the current user
+     */
+    BulkOperationProgress getBatchProgress(String batchId);
+
+    /**
+     * Job counts by status, deployment and command, age of the oldest queued job and recent throughput, computed with
+     * grouped queries on the server and cached for a few seconds.
+     */
+    RequestQueueHealth getQueueHealth(String serverTemplateId);
+
     void acknowledgeError(String serverTemplateId,
                           String deploymentId,
                           String... errorId);
 
+    /**
+     * Acknowledges the errors of the batch, sending the ids of a deployment to the server in chunks instead of one
+     * call per error.
+     * @return number of errors acknowledged and the ones that failed
+     */
+    ExecutionErrorBatchResult acknowledgeErrors(ExecutionErrorBatch batch);
+
     ExecutionErrorSummary getError(String serverTemplateId,
                                    String deploymentId,
                                    String errorId);
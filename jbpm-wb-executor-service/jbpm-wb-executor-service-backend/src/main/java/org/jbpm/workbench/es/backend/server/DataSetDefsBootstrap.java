@@ -44,6 +44,30 @@ public class DataSetDefsBootstrap extends AbstractDataSetDefsBootstrap {
                                                       .label(COLUMN_PROCESS_INSTANCE_DESCRIPTION)
                                                       .label(COLUMN_JOB_DEPLOYMENT_ID)
             );
+        } else if (event.getDefinition().getName().equals(REQUEST_HEALTH_DATASET)) {
+            registerDataSetDefinition(event.getDefinition(),
+                                      builder ->
+                                              builder.label(COLUMN_STATUS)
+                                                      .label(COLUMN_JOB_DEPLOYMENT_ID)
+                                                      .label(COLUMN_COMMANDNAME)
+                                                      .number(COLUMN_JOBS)
+                                                      .date(COLUMN_OLDEST_TIMESTAMP)
+            );
+        } else if (event.getDefinition().getName().equals(REQUEST_THROUGHPUT_DATASET)) {
+            registerDataSetDefinition(event.getDefinition(),
+                                      builder ->
+                                              builder.number(COLUMN_ID)
+                                                      .label(COLUMN_STATUS)
+                                                      .date(COLUMN_TIMESTAMP)
+            );
+        } else if (event.getDefinition().getName().equals(REQUEST_BATCH_DATASET)) {
+            registerDataSetDefinition(event.getDefinition(),
+                                      builder ->
+                                              builder.number(COLUMN_ID)
+                                                      .label(COLUMN_JOB_DEPLOYMENT_ID)
+                                                      .label(COLUMN_STATUS)
+                                                      .label(COLUMN_COMMANDNAME)
+            );
         } else if (event.getDefinition().getName().equals(EXECUTION_ERROR_LIST_DATASET)) {
             registerDataSetDefinition(event.getDefinition(),
                                       builder ->
@@ -60,6 +84,15 @@ public class DataSetDefsBootstrap extends AbstractDataSetDefsBootstrap {
                                                       .label(COLUMN_PROCESS_ID)
                                                       .number(COLUMN_PROCESS_INST_ID)
                                                       .label(COLUMN_ERROR_TYPE));
+        } else if (event.getDefinition().getName().equals(EXECUTION_ERROR_BATCH_DATASET)) {
+            registerDataSetDefinition(event.getDefinition(),
+                                      builder ->
+                                              builder.label(COLUMN_ERROR_ID)
+                                                      .label(COLUMN_DEPLOYMENT_ID)
+                                                      .number(COLUMN_ERROR_ACK)
+                                                      .label(COLUMN_PROCESS_ID)
+                                                      .label(COLUMN_ERROR_TYPE)
+                                                      .date(COLUMN_ERROR_DATE));
         }
     }
 }
\ No newline at end of file
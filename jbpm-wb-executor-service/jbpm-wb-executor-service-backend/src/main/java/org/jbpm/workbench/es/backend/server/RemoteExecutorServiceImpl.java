@@ -16,29 +16,81 @@
 
 package org.jbpm.workbench.es.backend.server;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
 
+import org.dashbuilder.dataset.filter.CoreFunctionType;
+import org.dashbuilder.dataset.group.AggregateFunctionType;
 import org.jboss.errai.bus.server.annotations.Service;
+import org.jbpm.workbench.common.model.BulkOperationProgress;
+import org.jbpm.workbench.common.model.BulkOperationResult;
+import org.jbpm.workbench.es.model.ExecutionErrorBatch;
+import org.jbpm.workbench.es.model.ExecutionErrorBatchResult;
 import org.jbpm.workbench.es.model.ExecutionErrorSummary;
+import org.jbpm.workbench.es.model.RequestBatch;
+import org.jbpm.workbench.es.util.RequestStatus;
 import org.jbpm.workbench.ks.integration.AbstractKieServerService;
+import org.jbpm.workbench.ks.integration.BulkOperationExecutor;
+import org.jbpm.workbench.ks.integration.BulkOperationProgressRegistry;
 import org.jbpm.workbench.es.model.RequestDetails;
+import org.jbpm.workbench.es.model.RequestQueueCount;
+import org.jbpm.workbench.es.model.RequestQueueHealth;
+import org.jbpm.workbench.es.model.RequestScheduleResult;
+import org.jbpm.workbench.es.model.RequestScheduleSpec;
 import org.jbpm.workbench.es.service.ExecutorService;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerResourceList;
+import org.kie.server.api.model.ServiceResponse;
 import org.kie.server.api.model.admin.ExecutionErrorInstance;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.api.model.definition.QueryParam;
 import org.kie.server.api.model.instance.JobRequestInstance;
 import org.kie.server.api.model.instance.RequestInfoInstance;
 import org.kie.server.client.JobServicesClient;
+import org.kie.server.client.QueryServicesClient;
 import org.kie.server.client.admin.ProcessAdminServicesClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static java.util.Optional.ofNullable;
+import static org.jbpm.workbench.es.model.ExecutionErrorDataSetConstants.*;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.*;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 @Service
 @ApplicationScoped
 public class RemoteExecutorServiceImpl extends AbstractKieServerService implements ExecutorService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RemoteExecutorServiceImpl.class);
+
+    protected static final int REQUEST_QUERY_PAGE_SIZE = 1000;
+
+    private static final String CONTAINER_ID = "containerId";
+
+    protected static final long THROUGHPUT_WINDOW = Long.getLong("org.jbpm.wb.executor.health.throughput.window",
+                                                                 300000);
+
+    @Inject
+    private BulkOperationExecutor bulkOperationExecutor;
+
+    @Inject
+    private BulkOperationProgressRegistry progressRegistry;
+
+    @Inject
+    private RequestQueueHealthCache queueHealthCache;
+
     @Override
     public RequestDetails getRequestDetails(String serverTemplateId,
                                             String deploymentId,
@@ -67,16 +119,130 @@ public class RemoteExecutorServiceImpl extends AbstractKieServerService implemen
                                 Map<String, String> ctx) {
         JobServicesClient jobClient = getClient(serverTemplateId,
                                                 JobServicesClient.class);
+        final Long requestId = jobClient.scheduleRequest(ctx == null ? null : ctx.get(CONTAINER_ID),
+                                                         newJobRequest(commandName,
+                                                                       date,
+                                                                       ctx));
+        queueHealthCache.invalidate(serverTemplateId);
+        return requestId;
+    }
+
+    @Override
+    public List<RequestScheduleResult> scheduleRequests(final String serverTemplateId,
+                                                        final List<RequestScheduleSpec> specs) {
+        if (specs == null || specs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final JobServicesClient jobClient = getClient(serverTemplateId,
+                                                      JobServicesClient.class);
+        final RequestScheduleResult[] results = new RequestScheduleResult[specs.size()];
+        final Set<String> deploymentIds = specs.stream()
+                .map(this::getDeploymentId)
+                .filter(deploymentId -> deploymentId != null)
+                .collect(toSet());
+        final Set<String> deployedIds = deploymentIds.isEmpty() ? null : findDeployedIds(serverTemplateId);
+
+        final List<Integer> validSpecs = new ArrayList<>();
+        for (int i = 0; i < specs.size(); i++) {
+            final String error = validate(specs.get(i),
+                                          deployedIds);
+            if (error == null) {
+                validSpecs.add(i);
+            } else {
+                results[i] = new RequestScheduleResult(i,
+                                                       null,
+                                                       error);
+            }
+        }
+
+        bulkOperationExecutor.invokeAll(validSpecs,
+                                        index -> scheduleRequest(jobClient,
+                                                                 index,
+                                                                 specs.get(index)))
+                .forEach(result -> results[result.getIndex()] = result);
+        queueHealthCache.invalidate(serverTemplateId);
+        return Arrays.asList(results);
+    }
+
+    protected RequestScheduleResult scheduleRequest(final JobServicesClient jobClient,
+                                                    final int index,
+                                                    final RequestScheduleSpec spec) {
+        try {
+            return new RequestScheduleResult(index,
+                                             jobClient.scheduleRequest(getDeploymentId(spec),
+                                                                       newJobRequest(spec.getCommandName(),
+                                                                                     spec.getScheduledDate(),
+                                                                                     spec.getContext())),
+                                             null);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Failed to schedule command '{}' at position {}",
+                         spec.getCommandName(),
+                         index,
+                         e);
+            return new RequestScheduleResult(index,
+                                             null,
+                                             e.getMessage());
+        }
+    }
+
+    /**
+     * @return the reason the spec can not be scheduled, null when valid
+     */
+    protected String validate(final RequestScheduleSpec spec,
+                              final Set<String> deployedIds) {
+        if (spec == null || spec.getCommandName() == null || spec.getCommandName().trim().isEmpty()) {
+            return "Command name is required";
+        }
+        final String deploymentId = getDeploymentId(spec);
+        if (deploymentId != null && deployedIds != null && !deployedIds.contains(deploymentId)) {
+            return "Deployment '" + deploymentId + "' is not available";
+        }
+        return null;
+    }
+
+    /**
+     * @return ids of the containers deployed on the server template, null when they can not be listed so that the
+     * jobs are submitted and the server reports missing deployments
+     */
+    protected Set<String> findDeployedIds(final String serverTemplateId) {
+        try {
+            final ServiceResponse<KieContainerResourceList> response = getKieServicesClient(serverTemplateId).listContainers();
+            if (response == null || response.getType() != ServiceResponse.ResponseType.SUCCESS || response.getResult() == null) {
+                return null;
+            }
+            return response.getResult().getContainers() == null ? Collections.emptySet() : response.getResult().getContainers().stream()
+                    .map(KieContainerResource::getContainerId)
+                    .collect(toSet());
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to list the containers of server template '{}'",
+                         serverTemplateId,
+                         e);
+            return null;
+        }
+    }
+
+    protected String getDeploymentId(final RequestScheduleSpec spec) {
+        if (spec == null) {
+            return null;
+        }
+        if (spec.getDeploymentId() != null && !spec.getDeploymentId().isEmpty()) {
+            return spec.getDeploymentId();
+        }
+        return spec.getContext() == null ? null : spec.getContext().get(CONTAINER_ID);
+    }
+
+    protected JobRequestInstance newJobRequest(final String commandName,
+                                               final Date date,
+                                               final Map<String, String> ctx) {
         HashMap<String, Object> data = new HashMap<>();
         if (ctx != null && !ctx.isEmpty()) {
             data = new HashMap<String, Object>(ctx);
         }
-        JobRequestInstance jobRequest = JobRequestInstance.builder()
+        return JobRequestInstance.builder()
                 .command(commandName)
                 .data(data)
                 .scheduledDate(date)
                 .build();
-        return jobClient.scheduleRequest((String)data.get("containerId"), jobRequest);
     }
 
     @Override
@@ -88,6 +254,7 @@ public class RemoteExecutorServiceImpl extends AbstractKieServerService implemen
                                                 JobServicesClient.class);
         
         jobClient.cancelRequest(deploymentId, requestId);
+        queueHealthCache.invalidate(serverTemplateId);
     
     }
 
@@ -98,9 +265,242 @@ public class RemoteExecutorServiceImpl extends AbstractKieServerService implemen
         JobServicesClient jobClient = getClient(serverTemplateId,
                                                     JobServicesClient.class);
         jobClient.requeueRequest(deploymentId, requestId);
+        queueHealthCache.invalidate(serverTemplateId);
         
     }
 
+    @Override
+    public List<BulkOperationResult<Long>> cancelRequests(final RequestBatch batch) {
+        final JobServicesClient jobClient = getClient(batch.getServerTemplateId(),
+                                                      JobServicesClient.class);
+        return processRequestBatch(batch,
+                                   "cancel",
+                                   request -> jobClient.cancelRequest(request.getDeploymentId(),
+                                                                      request.getRequestId()));
+    }
+
+    @Override
+    public List<BulkOperationResult<Long>> requeueRequests(final RequestBatch batch) {
+        final JobServicesClient jobClient = getClient(batch.getServerTemplateId(),
+                                                      JobServicesClient.class);
+        return processRequestBatch(batch,
+                                   "requeue",
+                                   request -> jobClient.requeueRequest(request.getDeploymentId(),
+                                                                       request.getRequestId()));
+    }
+
+    /**
+     * Splits the jobs of the batch in chunks and runs the chunks concurrently, jobs of a chunk one after the other. A
+     * failing job does not stop the others.
+     */
+    protected List<BulkOperationResult<Long>> processRequestBatch(final RequestBatch batch,
+                                                                  final String operationName,
+                                                                  final Consumer<RequestReference> operation) {
+        final String batchId = batch.getBatchId() == null ? UUID.randomUUID().toString() : batch.getBatchId();
+        final List<RequestReference> requests = batch.isFilterBatch() ? findMatchingRequests(getClient(batch.getServerTemplateId(),
+                                                                                                       QueryServicesClient.class),
+                                                                                             batch) : toRequestReferences(batch.getDeploymentRequests());
+        final BulkOperationProgressRegistry.Tracker progress = progressRegistry.start(batch.getBatchId(),
+                                                                                     requests.size());
+        final List<List<BulkOperationResult<Long>>> chunkResults;
+        try {
+            chunkResults = bulkOperationExecutor.invokeAll(BulkOperationExecutor.partition(requests,
+                                                                                           BulkOperationExecutor.DEFAULT_BATCH_SIZE),
+                                                           chunk -> {
+                                                               final List<BulkOperationResult<Long>> results = processRequestChunk(chunk,
+                                                                                                                                   operationName,
+                                                                                                                                   operation);
+                                                               progress.processed(results.size(),
+                                                                                  (int) results.stream().filter(result -> !result.isSuccess()).count());
+                                                               return results;
+                                                           });
+        } finally {
+            progress.finish();
+            queueHealthCache.invalidate(batch.getServerTemplateId());
+        }
+        final List<BulkOperationResult<Long>> results = chunkResults.stream()
+                .flatMap(List::stream)
+                .collect(toList());
+        LOGGER.debug("Batch '{}': {} of {} jobs failed to {}",
+                     batchId,
+                     results.stream().filter(result -> !result.isSuccess()).count(),
+                     results.size(),
+                     operationName);
+        return results;
+    }
+
+    @Override
+    public BulkOperationProgress getBatchProgress(final String batchId) {
+        return progressRegistry.getProgress(batchId);
+    }
+
+    protected List<BulkOperationResult<Long>> processRequestChunk(final List<RequestReference> chunk,
+                                                                  final String operationName,
+                                                                  final Consumer<RequestReference> operation) {
+        final List<BulkOperationResult<Long>> results = new ArrayList<>(chunk.size());
+        for (RequestReference request : chunk) {
+            try {
+                operation.accept(request);
+                results.add(BulkOperationResult.success(request.getRequestId()));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to {} job {} of deployment '{}': {}",
+                            operationName,
+                            request.getRequestId(),
+                            request.getDeploymentId(),
+                            e.getMessage());
+                results.add(BulkOperationResult.failure(request.getRequestId(),
+                                                        e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    protected List<RequestReference> toRequestReferences(final Map<String, List<Long>> deploymentRequests) {
+        final List<RequestReference> requests = new ArrayList<>();
+        if (deploymentRequests != null) {
+            deploymentRequests.forEach((deploymentId, requestIds) -> requestIds.forEach(requestId -> requests.add(new RequestReference(deploymentId,
+                                                                                                                                       requestId))));
+        }
+        return requests;
+    }
+
+    /**
+     * Collects all the jobs matching the batch filter before any of them is updated, so the pages being read do not
+     * shift while jobs change status. The filter is applied by the query on the server, only the ids and deployments
+     * of the matching jobs are read.
+     */
+    protected List<RequestReference> findMatchingRequests(final QueryServicesClient queryClient,
+                                                          final RequestBatch batch) {
+        final List<QueryParam> params = new ArrayList<>();
+        if (!batch.getStatuses().isEmpty()) {
+            params.add(new QueryParam(COLUMN_STATUS,
+                                      CoreFunctionType.IN.toString(),
+                                      batch.getStatuses().stream().map(RequestStatus::name).collect(toList())));
+        }
+        if (batch.getDeploymentId() != null && !batch.getDeploymentId().isEmpty()) {
+            params.add(new QueryParam(COLUMN_JOB_DEPLOYMENT_ID,
+                                      CoreFunctionType.EQUALS_TO.toString(),
+                                      Collections.singletonList(batch.getDeploymentId())));
+        }
+        if (batch.getCommandName() != null && !batch.getCommandName().isEmpty()) {
+            params.add(new QueryParam(COLUMN_COMMANDNAME,
+                                      CoreFunctionType.EQUALS_TO.toString(),
+                                      Collections.singletonList(batch.getCommandName())));
+        }
+        final QueryFilterSpec filterSpec = new QueryFilterSpec();
+        filterSpec.setOrderBy(COLUMN_ID);
+        filterSpec.setAscending(true);
+        filterSpec.setParameters(params.toArray(new QueryParam[0]));
+        return queryAll(queryClient,
+                        REQUEST_BATCH_DATASET,
+                        filterSpec).stream()
+                .map(row -> new RequestReference((String) row.get(1),
+                                                 toLong(row.get(0))))
+                .collect(toList());
+    }
+
+    @Override
+    public RequestQueueHealth getQueueHealth(final String serverTemplateId) {
+        return queueHealthCache.get(serverTemplateId,
+                                    () -> loadQueueHealth(serverTemplateId));
+    }
+
+    protected RequestQueueHealth loadQueueHealth(final String serverTemplateId) {
+        final QueryServicesClient queryClient = getClient(serverTemplateId,
+                                                          QueryServicesClient.class);
+        final long now = System.currentTimeMillis();
+
+        final List<RequestQueueCount> counts = queryAll(queryClient,
+                                                        REQUEST_HEALTH_DATASET,
+                                                        new QueryFilterSpec()).stream()
+                .map(row -> new RequestQueueCount(toStatus(row.get(0)),
+                                                  (String) row.get(1),
+                                                  (String) row.get(2),
+                                                  toLong(row.get(3)),
+                                                  toDate(row.get(4))))
+                .filter(count -> count.getStatus() != null)
+                .collect(toList());
+        final Long oldestQueuedAge = counts.stream()
+                .filter(count -> count.getStatus() == RequestStatus.QUEUED && count.getOldestTimestamp() != null)
+                .map(count -> Math.max(0,
+                                       now - count.getOldestTimestamp().getTime()))
+                .max(Long::compare)
+                .orElse(null);
+
+        // counted by status on the server. RequestInfo has no completion time, the timestamp a job was due at is used
+        // as a proxy: a job finished in the window but due before it is not counted
+        final QueryFilterSpec throughputSpec = new QueryFilterSpec();
+        throughputSpec.setParameters(new QueryParam[]{
+                new QueryParam(COLUMN_TIMESTAMP,
+                               CoreFunctionType.GREATER_OR_EQUALS_TO.toString(),
+                               Collections.singletonList(new Date(now - THROUGHPUT_WINDOW))),
+                new QueryParam(COLUMN_STATUS,
+                               "group",
+                               Collections.singletonList(COLUMN_STATUS)),
+                new QueryParam(COLUMN_ID,
+                               AggregateFunctionType.COUNT.toString(),
+                               Collections.singletonList(COLUMN_JOBS))
+        });
+        final Map<RequestStatus, Long> throughput = new HashMap<>();
+        queryAll(queryClient,
+                 REQUEST_THROUGHPUT_DATASET,
+                 throughputSpec).forEach(row -> {
+            final RequestStatus status = toStatus(row.get(0));
+            if (status != null) {
+                throughput.put(status,
+                               toLong(row.get(1)));
+            }
+        });
+
+        return new RequestQueueHealth(new Date(now),
+                                      counts,
+                                      oldestQueuedAge,
+                                      THROUGHPUT_WINDOW,
+                                      throughput.getOrDefault(RequestStatus.DONE,
+                                                              0L),
+                                      throughput.getOrDefault(RequestStatus.ERROR,
+                                                              0L));
+    }
+
+    protected List<List> queryAll(final QueryServicesClient queryClient,
+                                  final String queryName,
+                                  final QueryFilterSpec filterSpec) {
+        final List<List> rows = new ArrayList<>();
+        int page = 0;
+        List<List> pageRows;
+        do {
+            pageRows = ofNullable(queryClient.query(queryName,
+                                                    QueryServicesClient.QUERY_MAP_RAW,
+                                                    filterSpec,
+                                                    page++,
+                                                    REQUEST_QUERY_PAGE_SIZE,
+                                                    List.class)).orElse(new ArrayList<>());
+            rows.addAll(pageRows);
+        } while (pageRows.size() == REQUEST_QUERY_PAGE_SIZE);
+        return rows;
+    }
+
+    protected RequestStatus toStatus(final Object value) {
+        try {
+            return value == null ? null : RequestStatus.valueOf(value.toString());
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Ignoring jobs with unknown status {}",
+                         value);
+            return null;
+        }
+    }
+
+    protected long toLong(final Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    protected Date toDate(final Object value) {
+        if (value instanceof Date) {
+            return (Date) value;
+        }
+        return value instanceof Number ? new Date(((Number) value).longValue()) : null;
+    }
+
     @Override
     public void acknowledgeError(String serverTemplateId,
                                  String deploymentId,
@@ -111,6 +511,101 @@ public class RemoteExecutorServiceImpl extends AbstractKieServerService implemen
                                                     errorId);
     }
 
+    @Override
+    public ExecutionErrorBatchResult acknowledgeErrors(final ExecutionErrorBatch batch) {
+        final ProcessAdminServicesClient processAdminClient = getClient(batch.getServerTemplateId(),
+                                                                        ProcessAdminServicesClient.class);
+        final Map<String, List<String>> deploymentErrors = batch.isFilterBatch() ? findMatchingErrors(getClient(batch.getServerTemplateId(),
+                                                                                                                QueryServicesClient.class),
+                                                                                                      batch) : batch.getDeploymentErrors();
+        final List<ErrorChunk> chunks = new ArrayList<>();
+        deploymentErrors.forEach((deploymentId, errorIds) -> BulkOperationExecutor.partition(errorIds,
+                                                                                             BulkOperationExecutor.DEFAULT_BATCH_SIZE)
+                .forEach(ids -> chunks.add(new ErrorChunk(deploymentId,
+                                                          ids))));
+
+        final List<List<BulkOperationResult<String>>> chunkResults = bulkOperationExecutor.invokeAll(chunks,
+                                                                                                     chunk -> acknowledgeErrorChunk(processAdminClient,
+                                                                                                                                    chunk));
+        final List<BulkOperationResult<String>> results = chunkResults.stream()
+                .flatMap(List::stream)
+                .collect(toList());
+        return new ExecutionErrorBatchResult((int) results.stream().filter(BulkOperationResult::isSuccess).count(),
+                                             results.stream().filter(result -> !result.isSuccess()).collect(toList()));
+    }
+
+    /**
+     * Acknowledges the errors of a chunk in a single call, when it fails all the errors of the chunk are reported as
+     * failed with the server message.
+     */
+    protected List<BulkOperationResult<String>> acknowledgeErrorChunk(final ProcessAdminServicesClient processAdminClient,
+                                                                      final ErrorChunk chunk) {
+        try {
+            processAdminClient.acknowledgeError(chunk.getDeploymentId(),
+                                                chunk.getErrorIds().toArray(new String[0]));
+            return chunk.getErrorIds().stream()
+                    .map(BulkOperationResult::success)
+                    .collect(toList());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to acknowledge {} error(s) of deployment '{}': {}",
+                        chunk.getErrorIds().size(),
+                        chunk.getDeploymentId(),
+                        e.getMessage());
+            return chunk.getErrorIds().stream()
+                    .map(errorId -> BulkOperationResult.failure(errorId,
+                                                                e.getMessage()))
+                    .collect(toList());
+        }
+    }
+
+    /**
+     * Collects the unacknowledged errors matching the batch filter, grouped by deployment, before any of them is
+     * acknowledged so the pages being read do not shift. The filter is applied by the query on the server for all
+     * the deployments at once.
+     */
+    protected Map<String, List<String>> findMatchingErrors(final QueryServicesClient queryClient,
+                                                           final ExecutionErrorBatch batch) {
+        final List<QueryParam> params = new ArrayList<>();
+        params.add(new QueryParam(COLUMN_ERROR_ACK,
+                                  CoreFunctionType.EQUALS_TO.toString(),
+                                  Collections.singletonList(0)));
+        if (batch.getDeploymentId() != null && !batch.getDeploymentId().isEmpty()) {
+            params.add(new QueryParam(COLUMN_DEPLOYMENT_ID,
+                                      CoreFunctionType.EQUALS_TO.toString(),
+                                      Collections.singletonList(batch.getDeploymentId())));
+        }
+        if (batch.getProcessId() != null && !batch.getProcessId().isEmpty()) {
+            params.add(new QueryParam(COLUMN_PROCESS_ID,
+                                      CoreFunctionType.EQUALS_TO.toString(),
+                                      Collections.singletonList(batch.getProcessId())));
+        }
+        if (batch.getType() != null) {
+            params.add(new QueryParam(COLUMN_ERROR_TYPE,
+                                      CoreFunctionType.EQUALS_TO.toString(),
+                                      Collections.singletonList(batch.getType().getType())));
+        }
+        if (batch.getErrorDateFrom() != null) {
+            params.add(new QueryParam(COLUMN_ERROR_DATE,
+                                      CoreFunctionType.GREATER_OR_EQUALS_TO.toString(),
+                                      Collections.singletonList(batch.getErrorDateFrom())));
+        }
+        if (batch.getErrorDateTo() != null) {
+            params.add(new QueryParam(COLUMN_ERROR_DATE,
+                                      CoreFunctionType.LOWER_OR_EQUALS_TO.toString(),
+                                      Collections.singletonList(batch.getErrorDateTo())));
+        }
+        final QueryFilterSpec filterSpec = new QueryFilterSpec();
+        filterSpec.setOrderBy(COLUMN_ERROR_ID);
+        filterSpec.setAscending(true);
+        filterSpec.setParameters(params.toArray(new QueryParam[0]));
+        final Map<String, List<String>> deploymentErrors = new HashMap<>();
+        queryAll(queryClient,
+                 EXECUTION_ERROR_BATCH_DATASET,
+                 filterSpec).forEach(row -> deploymentErrors.computeIfAbsent((String) row.get(1),
+                                                                             key -> new ArrayList<>()).add((String) row.get(0)));
+        return deploymentErrors;
+    }
+
     @Override
     public ExecutionErrorSummary getError(String serverTemplateId,
                                           String deploymentId,
@@ -121,4 +616,44 @@ public class RemoteExecutorServiceImpl extends AbstractKieServerService implemen
                                                                                                                  errorId));
         return executionErrorInstance.map(new ExecutionErrorSummaryMapper()).orElse(null);
     }
-}
\ No newline at end of file
+
+    protected static class RequestReference {
+
+        private final String deploymentId;
+        private final Long requestId;
+
+        RequestReference(final String deploymentId,
+                         final Long requestId) {
+            this.deploymentId = deploymentId;
+            this.requestId = requestId;
+        }
+
+        public String getDeploymentId() {
+            return deploymentId;
+        }
+
+        public Long getRequestId() {
+            return requestId;
+        }
+    }
+
+    protected static class ErrorChunk {
+
+        private final String deploymentId;
+        private final List<String> errorIds;
+
+        ErrorChunk(final String deploymentId,
+                   final List<String> errorIds) {
+            this.deploymentId = deploymentId;
+            this.errorIds = errorIds;
+        }
+
+        public String getDeploymentId() {
+            return deploymentId;
+        }
+
+        public List<String> getErrorIds() {
+            return errorIds;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.es.backend.server;
+
+import java.util.function.Supplier;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.jbpm.workbench.es.model.RequestQueueHealth;
+import org.jbpm.workbench.ks.utils.CoalescingCache;
+
+/**
+ * Keeps the executor queue health of each server template for a few seconds, so that backlog dashboards refreshed by
+ * many users share the grouped queries. Concurrent requests wait for the load in progress instead of issuing their own.
+ * Workbench job operations invalidate the entry of their server template.
+ */
+@ApplicationScoped
+public class RequestQueueHealthCache {
+
+    protected static final long DEFAULT_TTL = Long.getLong("org.jbpm.wb.executor.health.cache.ttl",
+                                                           5000);
+
+    private final CoalescingCache<String, RequestQueueHealth> cache;
+
+    public RequestQueueHealthCache() {
+        this(DEFAULT_TTL);
+    }
+
+    protected RequestQueueHealthCache(final long ttl) {
+        this.cache = new CoalescingCache<>(ttl,
+                                           "queue health");
+    }
+
+    public RequestQueueHealth get(final String serverTemplateId,
+                                  final Supplier<RequestQueueHealth> loader) {
+        return cache.get(serverTemplateId,
+                         loader);
+    }
+
+    public void invalidate(final String serverTemplateId) {
+        cache.invalidate(serverTemplateId);
+    }
+}
@@ -27,8 +27,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import static org.jbpm.workbench.es.model.ExecutionErrorDataSetConstants.EXECUTION_ERROR_BATCH_DATASET;
 import static org.jbpm.workbench.es.model.ExecutionErrorDataSetConstants.EXECUTION_ERROR_LIST_DATASET;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.REQUEST_BATCH_DATASET;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.REQUEST_HEALTH_DATASET;
 import static org.jbpm.workbench.es.model.RequestDataSetConstants.REQUEST_LIST_DATASET;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.REQUEST_THROUGHPUT_DATASET;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
@@ -62,6 +66,68 @@ public class DataSetDefsBootstrapTest {
                      dataSetDef.getColumns().size());
     }
 
+    @Test
+    public void testRequestHealthDataSet() {
+        QueryDefinition qd = QueryDefinition.builder().name(REQUEST_HEALTH_DATASET).expression("SELECT *").source("source").target("target").build();
+        dataSetsBootstrap.registerDataSetDefinitions(new QueryDefinitionLoaded(qd));
+
+        ArgumentCaptor<SQLDataSetDef> argument = ArgumentCaptor.forClass(SQLDataSetDef.class);
+        verify(dataSetDefRegistry).registerDataSetDef(argument.capture());
+
+        SQLDataSetDef dataSetDef = argument.getValue();
+        assertEquals(REQUEST_HEALTH_DATASET,
+                     dataSetDef.getUUID());
+        assertEquals(KieServerDataSetProvider.TYPE,
+                     dataSetDef.getProvider());
+        assertEquals(5,
+                     dataSetDef.getColumns().size());
+    }
+
+    @Test
+    public void testRequestThroughputDataSet() {
+        QueryDefinition qd = QueryDefinition.builder().name(REQUEST_THROUGHPUT_DATASET).expression("SELECT *").source("source").target("target").build();
+        dataSetsBootstrap.registerDataSetDefinitions(new QueryDefinitionLoaded(qd));
+
+        ArgumentCaptor<SQLDataSetDef> argument = ArgumentCaptor.forClass(SQLDataSetDef.class);
+        verify(dataSetDefRegistry).registerDataSetDef(argument.capture());
+
+        SQLDataSetDef dataSetDef = argument.getValue();
+        assertEquals(REQUEST_THROUGHPUT_DATASET,
+                     dataSetDef.getUUID());
+        assertEquals(3,
+                     dataSetDef.getColumns().size());
+    }
+
+    @Test
+    public void testRequestBatchDataSet() {
+        QueryDefinition qd = QueryDefinition.builder().name(REQUEST_BATCH_DATASET).expression("SELECT *").source("source").target("target").build();
+        dataSetsBootstrap.registerDataSetDefinitions(new QueryDefinitionLoaded(qd));
+
+        ArgumentCaptor<SQLDataSetDef> argument = ArgumentCaptor.forClass(SQLDataSetDef.class);
+        verify(dataSetDefRegistry).registerDataSetDef(argument.capture());
+
+        SQLDataSetDef dataSetDef = argument.getValue();
+        assertEquals(REQUEST_BATCH_DATASET,
+                     dataSetDef.getUUID());
+        assertEquals(4,
+                     dataSetDef.getColumns().size());
+    }
+
+    @Test
+    public void testErrorBatchDataSet() {
+        QueryDefinition qd = QueryDefinition.builder().name(EXECUTION_ERROR_BATCH_DATASET).expression("SELECT *").source("source").target("target").build();
+        dataSetsBootstrap.registerDataSetDefinitions(new QueryDefinitionLoaded(qd));
+
+        ArgumentCaptor<SQLDataSetDef> argument = ArgumentCaptor.forClass(SQLDataSetDef.class);
+        verify(dataSetDefRegistry).registerDataSetDef(argument.capture());
+
+        SQLDataSetDef dataSetDef = argument.getValue();
+        assertEquals(EXECUTION_ERROR_BATCH_DATASET,
+                     dataSetDef.getUUID());
+        assertEquals(6,
+                     dataSetDef.getColumns().size());
+    }
+
     @Test
     public void testErrorListDataSet() {
         QueryDefinition qd = QueryDefinition.builder().name(EXECUTION_ERROR_LIST_DATASET).expression("SELECT *").source("source").target("target").build();
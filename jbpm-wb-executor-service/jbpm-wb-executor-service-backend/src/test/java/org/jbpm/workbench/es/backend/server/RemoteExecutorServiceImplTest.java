@@ -20,27 +20,90 @@ import static org.jbpm.workbench.es.backend.server.ExecutionErrorSummaryMapperTe
 import static org.jbpm.workbench.es.backend.server.ExecutionErrorSummaryMapperTest.createTestError;
 import static org.jbpm.workbench.es.backend.server.RequestDetailsMapperTest.assertRequestDetails;
 import static org.jbpm.workbench.es.backend.server.RequestSummaryMapperTest.newRequestInfoInstance;
+import static java.util.Collections.singletonList;
+import static org.jbpm.workbench.es.model.ExecutionErrorDataSetConstants.COLUMN_ERROR_ACK;
+import static org.jbpm.workbench.es.model.ExecutionErrorDataSetConstants.COLUMN_ERROR_DATE;
+import static org.jbpm.workbench.es.model.ExecutionErrorDataSetConstants.COLUMN_ERROR_ID;
+import static org.jbpm.workbench.es.model.ExecutionErrorDataSetConstants.COLUMN_ERROR_TYPE;
+import static org.jbpm.workbench.es.model.ExecutionErrorDataSetConstants.COLUMN_PROCESS_ID;
+import static org.jbpm.workbench.es.model.ExecutionErrorDataSetConstants.EXECUTION_ERROR_BATCH_DATASET;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.COLUMN_COMMANDNAME;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.COLUMN_ID;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.COLUMN_JOBS;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.COLUMN_JOB_DEPLOYMENT_ID;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.COLUMN_STATUS;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.COLUMN_TIMESTAMP;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.REQUEST_BATCH_DATASET;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.REQUEST_HEALTH_DATASET;
+import static org.jbpm.workbench.es.model.RequestDataSetConstants.REQUEST_THROUGHPUT_DATASET;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jbpm.workbench.common.model.BulkOperationProgress;
+import org.jbpm.workbench.common.model.BulkOperationResult;
+import org.jbpm.workbench.es.model.ExecutionErrorBatch;
+import org.jbpm.workbench.es.model.ExecutionErrorBatchResult;
 import org.jbpm.workbench.es.model.ExecutionErrorSummary;
+import org.jbpm.workbench.es.model.RequestBatch;
 import org.jbpm.workbench.es.model.RequestDetails;
+import org.jbpm.workbench.es.model.RequestQueueHealth;
+import org.jbpm.workbench.es.model.RequestScheduleResult;
+import org.jbpm.workbench.es.model.RequestScheduleSpec;
+import org.jbpm.workbench.es.util.ExecutionErrorType;
+import org.jbpm.workbench.es.util.RequestStatus;
+import org.jbpm.workbench.ks.integration.BulkOperationExecutor;
+import org.jbpm.workbench.ks.integration.BulkOperationProgressRegistry;
 import org.jbpm.workbench.ks.integration.KieServerIntegration;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.internal.identity.IdentityProvider;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerResourceList;
+import org.kie.server.api.model.ServiceResponse;
 import org.kie.server.api.model.admin.ExecutionErrorInstance;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.api.model.definition.QueryParam;
+import org.kie.server.api.model.instance.JobRequestInstance;
 import org.kie.server.api.model.instance.RequestInfoInstance;
 import org.kie.server.client.JobServicesClient;
 import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.QueryServicesClient;
 import org.kie.server.client.admin.ProcessAdminServicesClient;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.Matchers;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -55,14 +118,31 @@ public class RemoteExecutorServiceImplTest {
     @Mock
     ProcessAdminServicesClient processAdminServicesClient;
 
+    @Spy
+    BulkOperationExecutor bulkOperationExecutor = new BulkOperationExecutor(Executors.newCachedThreadPool());
+
+    @Mock
+    QueryServicesClient queryServicesClient;
+
+    IdentityProvider identityProvider = mock(IdentityProvider.class);
+
+    @Spy
+    BulkOperationProgressRegistry progressRegistry = new BulkOperationProgressRegistry(identityProvider);
+
+    @Spy
+    RequestQueueHealthCache queueHealthCache = new RequestQueueHealthCache(60000);
+
     @InjectMocks
     RemoteExecutorServiceImpl executorService;
 
+    KieServicesClient servicesClient;
+
     @Before
     public void init() {
-        final KieServicesClient servicesClient = mock(KieServicesClient.class);
+        servicesClient = mock(KieServicesClient.class);
         when(servicesClient.getServicesClient(JobServicesClient.class)).thenReturn(jobServicesClient);
         when(servicesClient.getServicesClient(ProcessAdminServicesClient.class)).thenReturn(processAdminServicesClient);
+        when(servicesClient.getServicesClient(QueryServicesClient.class)).thenReturn(queryServicesClient);
         when(kieServerIntegration.getServerClient(anyString())).thenReturn(servicesClient);
     }
 
@@ -142,4 +222,391 @@ public class RemoteExecutorServiceImplTest {
         assertExecutionErrorSummary(errorInstance,
                                     errorSummary);
     }
+
+    @Test
+    public void testRequeueRequests() {
+        final Map<String, List<Long>> deploymentRequests = new HashMap<>();
+        deploymentRequests.put("deployment1",
+                               Arrays.asList(1L,
+                                             2L));
+        deploymentRequests.put("deployment2",
+                               singletonList(3L));
+        doThrow(new RuntimeException("not in error")).when(jobServicesClient).requeueRequest("deployment1",
+                                                                                              2L);
+        final RequestBatch batch = new RequestBatch("serverTemplateId",
+                                                    deploymentRequests);
+        batch.setBatchId("batchId");
+
+        final List<BulkOperationResult<Long>> results = executorService.requeueRequests(batch);
+
+        assertEquals(3,
+                     results.size());
+        assertTrue(results.contains(BulkOperationResult.success(1L)));
+        assertTrue(results.contains(BulkOperationResult.success(3L)));
+        assertTrue(results.contains(BulkOperationResult.failure(2L,
+                                                                "not in error")));
+        verify(jobServicesClient).requeueRequest("deployment1",
+                                                 1L);
+        verify(jobServicesClient).requeueRequest("deployment2",
+                                                 3L);
+
+        final BulkOperationProgress progress = executorService.getBatchProgress("batchId");
+        assertEquals(3,
+                     progress.getProcessed());
+        assertEquals(1,
+                     progress.getFailed());
+        assertEquals(3,
+                     progress.getTotal());
+        assertTrue(progress.isFinished());
+
+        // progress is only handed to the user that submitted the batch
+        when(identityProvider.getName()).thenReturn("otherUser");
+        assertNull(executorService.getBatchProgress("batchId"));
+    }
+
+    @Test
+    public void testCancelRequestsInChunks() {
+        final List<Long> requestIds = IntStream.rangeClosed(1,
+                                                            BulkOperationExecutor.DEFAULT_BATCH_SIZE + 1)
+                .mapToObj(Long::valueOf)
+                .collect(Collectors.toList());
+        final Map<String, List<Long>> deploymentRequests = new HashMap<>();
+        deploymentRequests.put("deployment",
+                               requestIds);
+        final RequestBatch batch = new RequestBatch("serverTemplateId",
+                                                    deploymentRequests);
+        batch.setBatchId("batchId");
+        final List<BulkOperationProgressRegistry.Tracker> trackers = new ArrayList<>();
+        doAnswer(invocation -> {
+            final BulkOperationProgressRegistry.Tracker tracker = spy((BulkOperationProgressRegistry.Tracker) invocation.callRealMethod());
+            trackers.add(tracker);
+            return tracker;
+        }).when(progressRegistry).start(anyString(),
+                                        anyInt());
+
+        final List<BulkOperationResult<Long>> results = executorService.cancelRequests(batch);
+
+        assertEquals(requestIds.size(),
+                     results.size());
+        assertTrue(results.stream().allMatch(BulkOperationResult::isSuccess));
+        verify(jobServicesClient,
+               times(requestIds.size())).cancelRequest(eq("deployment"),
+                                                       any(Long.class));
+        // progress is reported once per chunk
+        verify(trackers.get(0)).processed(BulkOperationExecutor.DEFAULT_BATCH_SIZE,
+                                          0);
+        verify(trackers.get(0)).processed(1,
+                                          0);
+        verify(trackers.get(0)).finish();
+    }
+
+    @Test
+    public void testRequeueMatchingRequests() {
+        final List<List> page = IntStream.rangeClosed(1,
+                                                      RemoteExecutorServiceImpl.REQUEST_QUERY_PAGE_SIZE)
+                .mapToObj(i -> Arrays.asList(i,
+                                             "deployment",
+                                             RequestStatus.ERROR.name(),
+                                             "command"))
+                .collect(Collectors.toList());
+        when(queryServicesClient.query(eq(REQUEST_BATCH_DATASET),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(0),
+                                       eq(RemoteExecutorServiceImpl.REQUEST_QUERY_PAGE_SIZE),
+                                       eq(List.class))).thenReturn(page);
+        when(queryServicesClient.query(eq(REQUEST_BATCH_DATASET),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(1),
+                                       eq(RemoteExecutorServiceImpl.REQUEST_QUERY_PAGE_SIZE),
+                                       eq(List.class))).thenReturn(singletonList(Arrays.asList(5000L,
+                                                                                               "deployment",
+                                                                                               RequestStatus.ERROR.name(),
+                                                                                               "command")));
+
+        final List<BulkOperationResult<Long>> results = executorService.requeueRequests(RequestBatch.matching("serverTemplateId",
+                                                                                                              singletonList(RequestStatus.ERROR),
+                                                                                                              "deployment",
+                                                                                                              "command"));
+
+        assertEquals(RemoteExecutorServiceImpl.REQUEST_QUERY_PAGE_SIZE + 1,
+                     results.size());
+        verify(jobServicesClient).requeueRequest("deployment",
+                                                 2L);
+        verify(jobServicesClient).requeueRequest("deployment",
+                                                 5000L);
+        verify(jobServicesClient,
+               never()).getRequestsByStatus(anyListOf(String.class),
+                                            anyInt(),
+                                            anyInt());
+
+        final ArgumentCaptor<QueryFilterSpec> captor = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient,
+               times(2)).query(eq(REQUEST_BATCH_DATASET),
+                               anyString(),
+                               captor.capture(),
+                               anyInt(),
+                               anyInt(),
+                               eq(List.class));
+        final QueryFilterSpec filterSpec = captor.getValue();
+        assertEquals(COLUMN_ID,
+                     filterSpec.getOrderBy());
+        assertEquals(Arrays.asList(COLUMN_STATUS,
+                                   COLUMN_JOB_DEPLOYMENT_ID,
+                                   COLUMN_COMMANDNAME),
+                     Arrays.stream(filterSpec.getParameters()).map(QueryParam::getColumn).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("IN",
+                                   "EQUALS_TO",
+                                   "EQUALS_TO"),
+                     Arrays.stream(filterSpec.getParameters()).map(QueryParam::getOperator).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(singletonList(RequestStatus.ERROR.name()),
+                                   singletonList("deployment"),
+                                   singletonList("command")),
+                     Arrays.stream(filterSpec.getParameters()).map(QueryParam::getValue).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testRequestBatchWithoutRequests() {
+        final RequestBatch batch = new RequestBatch("serverTemplateId",
+                                                    new HashMap<>());
+
+        assertFalse(batch.isFilterBatch());
+        assertTrue(executorService.cancelRequests(batch).isEmpty());
+        verify(queryServicesClient,
+               never()).query(anyString(),
+                              anyString(),
+                              any(QueryFilterSpec.class),
+                              anyInt(),
+                              anyInt(),
+                              eq(List.class));
+    }
+
+    @Test
+    public void testAcknowledgeErrors() {
+        final List<String> errorIds = IntStream.rangeClosed(1,
+                                                            BulkOperationExecutor.DEFAULT_BATCH_SIZE + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.toList());
+        final Map<String, List<String>> deploymentErrors = new HashMap<>();
+        deploymentErrors.put("deployment1",
+                             errorIds);
+        deploymentErrors.put("deployment2",
+                             singletonList("error"));
+        doThrow(new RuntimeException("not found")).when(processAdminServicesClient).acknowledgeError("deployment2",
+                                                                                                     "error");
+
+        final ExecutionErrorBatchResult result = executorService.acknowledgeErrors(new ExecutionErrorBatch("serverTemplateId",
+                                                                                                           deploymentErrors));
+
+        assertEquals(errorIds.size(),
+                     result.getAcknowledgedCount());
+        assertEquals(singletonList(BulkOperationResult.failure("error",
+                                                               "not found")),
+                     result.getFailures());
+        verify(processAdminServicesClient).acknowledgeError("deployment1",
+                                                            errorIds.subList(0,
+                                                                             BulkOperationExecutor.DEFAULT_BATCH_SIZE).toArray(new String[0]));
+        verify(processAdminServicesClient).acknowledgeError("deployment1",
+                                                            String.valueOf(errorIds.size()));
+    }
+
+    @Test
+    public void testAcknowledgeMatchingErrors() {
+        final Date yesterday = new Date(System.currentTimeMillis() - 24 * 60 * 60 * 1000);
+        when(queryServicesClient.query(eq(EXECUTION_ERROR_BATCH_DATASET),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(0),
+                                       eq(RemoteExecutorServiceImpl.REQUEST_QUERY_PAGE_SIZE),
+                                       eq(List.class))).thenReturn(Arrays.asList(Arrays.asList("1",
+                                                                                               "deployment1"),
+                                                                                 Arrays.asList("4",
+                                                                                               "deployment2")));
+
+        final ExecutionErrorBatchResult result = executorService.acknowledgeErrors(ExecutionErrorBatch.matching("serverTemplateId",
+                                                                                                                null,
+                                                                                                                "process",
+                                                                                                                ExecutionErrorType.JOB,
+                                                                                                                yesterday,
+                                                                                                                null));
+
+        assertEquals(2,
+                     result.getAcknowledgedCount());
+        assertFalse(result.hasFailures());
+        verify(processAdminServicesClient).acknowledgeError("deployment1",
+                                                            "1");
+        verify(processAdminServicesClient).acknowledgeError("deployment2",
+                                                            "4");
+        verify(processAdminServicesClient,
+               times(2)).acknowledgeError(anyString(),
+                                          Matchers.<String>anyVararg());
+        verify(processAdminServicesClient,
+               never()).getErrors(anyString(),
+                                  Matchers.anyBoolean(),
+                                  anyInt(),
+                                  anyInt());
+
+        final ArgumentCaptor<QueryFilterSpec> captor = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient).query(eq(EXECUTION_ERROR_BATCH_DATASET),
+                                          anyString(),
+                                          captor.capture(),
+                                          anyInt(),
+                                          anyInt(),
+                                          eq(List.class));
+        final QueryFilterSpec filterSpec = captor.getValue();
+        assertEquals(COLUMN_ERROR_ID,
+                     filterSpec.getOrderBy());
+        assertEquals(Arrays.asList(COLUMN_ERROR_ACK,
+                                   COLUMN_PROCESS_ID,
+                                   COLUMN_ERROR_TYPE,
+                                   COLUMN_ERROR_DATE),
+                     Arrays.stream(filterSpec.getParameters()).map(QueryParam::getColumn).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("EQUALS_TO",
+                                   "EQUALS_TO",
+                                   "EQUALS_TO",
+                                   "GREATER_OR_EQUALS_TO"),
+                     Arrays.stream(filterSpec.getParameters()).map(QueryParam::getOperator).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(singletonList(0),
+                                   singletonList("process"),
+                                   singletonList(ExecutionErrorType.JOB.getType()),
+                                   singletonList(yesterday)),
+                     Arrays.stream(filterSpec.getParameters()).map(QueryParam::getValue).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testScheduleRequests() {
+        when(servicesClient.listContainers()).thenReturn(new ServiceResponse<>(ServiceResponse.ResponseType.SUCCESS,
+                                                                               "",
+                                                                               new KieContainerResourceList(singletonList(new KieContainerResource("deployment",
+                                                                                                                                                   null)))));
+        when(jobServicesClient.scheduleRequest(eq("deployment"),
+                                               any(JobRequestInstance.class))).thenReturn(10L);
+        when(jobServicesClient.scheduleRequest((String) isNull(),
+                                               any(JobRequestInstance.class))).thenThrow(new RuntimeException("unknown command"));
+        final Map<String, String> context = new HashMap<>();
+        context.put("containerId",
+                    "deployment");
+
+        final List<RequestScheduleResult> results = executorService.scheduleRequests("serverTemplateId",
+                                                                                     Arrays.asList(new RequestScheduleSpec("command",
+                                                                                                                           null,
+                                                                                                                           null,
+                                                                                                                           context),
+                                                                                                   new RequestScheduleSpec(" ",
+                                                                                                                           "deployment",
+                                                                                                                           null,
+                                                                                                                           null),
+                                                                                                   new RequestScheduleSpec("command",
+                                                                                                                           "otherDeployment",
+                                                                                                                           null,
+                                                                                                                           null),
+                                                                                                   new RequestScheduleSpec("command",
+                                                                                                                           null,
+                                                                                                                           new Date(),
+                                                                                                                           null)));
+
+        assertEquals(Arrays.asList(new RequestScheduleResult(0,
+                                                             10L,
+                                                             null),
+                                   new RequestScheduleResult(1,
+                                                             null,
+                                                             "Command name is required"),
+                                   new RequestScheduleResult(2,
+                                                             null,
+                                                             "Deployment 'otherDeployment' is not available"),
+                                   new RequestScheduleResult(3,
+                                                             null,
+                                                             "unknown command")),
+                     results);
+        verify(servicesClient).listContainers();
+        verify(jobServicesClient,
+               never()).scheduleRequest(eq("otherDeployment"),
+                                        any(JobRequestInstance.class));
+        final ArgumentCaptor<JobRequestInstance> captor = ArgumentCaptor.forClass(JobRequestInstance.class);
+        verify(jobServicesClient).scheduleRequest(eq("deployment"),
+                                                  captor.capture());
+        assertEquals("command",
+                     captor.getValue().getCommand());
+        assertEquals("deployment",
+                     captor.getValue().getData().get("containerId"));
+    }
+
+    @Test
+    public void testGetQueueHealth() {
+        final long now = System.currentTimeMillis();
+        final List<List> healthRows = Arrays.asList(Arrays.asList("QUEUED",
+                                                                  "deployment",
+                                                                  "command",
+                                                                  10,
+                                                                  now - 60000),
+                                                    Arrays.asList("QUEUED",
+                                                                  "otherDeployment",
+                                                                  "command",
+                                                                  5,
+                                                                  new Date(now + 60000)),
+                                                    Arrays.asList("ERROR",
+                                                                  "deployment",
+                                                                  "command",
+                                                                  2L,
+                                                                  now - 120000));
+        final List<List> throughputRows = Arrays.asList(Arrays.asList("DONE",
+                                                                      42),
+                                                        Arrays.asList("ERROR",
+                                                                      3));
+        when(queryServicesClient.query(eq(REQUEST_HEALTH_DATASET),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(0),
+                                       eq(RemoteExecutorServiceImpl.REQUEST_QUERY_PAGE_SIZE),
+                                       eq(List.class))).thenReturn(healthRows);
+        when(queryServicesClient.query(eq(REQUEST_THROUGHPUT_DATASET),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(0),
+                                       eq(RemoteExecutorServiceImpl.REQUEST_QUERY_PAGE_SIZE),
+                                       eq(List.class))).thenReturn(throughputRows);
+
+        final RequestQueueHealth health = executorService.getQueueHealth("serverTemplateId");
+
+        assertEquals(3,
+                     health.getCounts().size());
+        assertEquals(15,
+                     health.getCount(RequestStatus.QUEUED));
+        assertEquals(2,
+                     health.getCount(RequestStatus.ERROR));
+        assertTrue(health.getOldestQueuedAge() >= 60000);
+        assertEquals(42,
+                     health.getCompletedInWindow());
+        assertEquals(3,
+                     health.getFailedInWindow());
+        assertEquals(RemoteExecutorServiceImpl.THROUGHPUT_WINDOW,
+                     health.getThroughputWindow());
+
+        final ArgumentCaptor<QueryFilterSpec> captor = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient).query(eq(REQUEST_THROUGHPUT_DATASET),
+                                          anyString(),
+                                          captor.capture(),
+                                          anyInt(),
+                                          anyInt(),
+                                          eq(List.class));
+        assertEquals(Arrays.asList("GREATER_OR_EQUALS_TO",
+                                   "group",
+                                   "COUNT"),
+                     Arrays.stream(captor.getValue().getParameters()).map(QueryParam::getOperator).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(COLUMN_TIMESTAMP,
+                                   COLUMN_STATUS,
+                                   COLUMN_ID),
+                     Arrays.stream(captor.getValue().getParameters()).map(QueryParam::getColumn).collect(Collectors.toList()));
+        assertEquals(singletonList(COLUMN_JOBS),
+                     captor.getValue().getParameters()[2].getValue());
+
+        assertSame(health,
+                   executorService.getQueueHealth("serverTemplateId"));
+        executorService.cancelRequest("serverTemplateId",
+                                      "deployment",
+                                      1L);
+        assertNotSame(health,
+                      executorService.getQueueHealth("serverTemplateId"));
+    }
 }
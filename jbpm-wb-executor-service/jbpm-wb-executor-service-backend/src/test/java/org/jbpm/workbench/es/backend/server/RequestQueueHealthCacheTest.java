@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.es.backend.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jbpm.workbench.es.model.RequestQueueHealth;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RequestQueueHealthCacheTest {
+
+    @Test
+    public void testCachedPerServerTemplateUntilInvalidated() {
+        final RequestQueueHealthCache cache = new RequestQueueHealthCache(60000);
+        final AtomicInteger loads = new AtomicInteger();
+
+        final RequestQueueHealth health = cache.get("serverTemplateId",
+                                                    () -> newHealth(loads));
+        assertSame(health,
+                   cache.get("serverTemplateId",
+                             () -> newHealth(loads)));
+        assertEquals(1,
+                     loads.get());
+
+        cache.get("otherServerTemplateId",
+                  () -> newHealth(loads));
+        assertEquals(2,
+                     loads.get());
+
+        cache.invalidate("serverTemplateId");
+        assertNotSame(health,
+                      cache.get("serverTemplateId",
+                                () -> newHealth(loads)));
+        assertEquals(3,
+                     loads.get());
+    }
+
+    @Test
+    public void testDisabledCache() {
+        final RequestQueueHealthCache cache = new RequestQueueHealthCache(0);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.get("serverTemplateId",
+                  () -> newHealth(loads));
+        cache.get("serverTemplateId",
+                  () -> newHealth(loads));
+
+        assertEquals(2,
+                     loads.get());
+    }
+
+    @Test
+    public void testFailureNotCached() {
+        final RequestQueueHealthCache cache = new RequestQueueHealthCache(60000);
+        final AtomicInteger loads = new AtomicInteger();
+
+        try {
+            cache.get("serverTemplateId",
+                      () -> {
+                          throw new IllegalStateException("error");
+                      });
+            fail("Load failure should be propagated");
+        } catch (IllegalStateException e) {
+            assertEquals("error",
+                         e.getMessage());
+        }
+        assertNotNull(cache.get("serverTemplateId",
+                                () -> newHealth(loads)));
+        assertEquals(1,
+                     loads.get());
+    }
+
+    private RequestQueueHealth newHealth(final AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new RequestQueueHealth();
+    }
+}
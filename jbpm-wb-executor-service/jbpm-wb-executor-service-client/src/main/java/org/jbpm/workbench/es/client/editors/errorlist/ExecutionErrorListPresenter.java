@@ -16,7 +16,9 @@
 package org.jbpm.workbench.es.client.editors.errorlist;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import javax.enterprise.context.Dependent;
@@ -30,10 +32,13 @@ import org.jbpm.workbench.common.client.PerspectiveIds;
 import org.jbpm.workbench.common.client.list.AbstractMultiGridPresenter;
 import org.jbpm.workbench.common.client.list.MultiGridView;
 import org.jbpm.workbench.common.client.menu.RefreshMenuBuilder;
+import org.jbpm.workbench.common.client.util.BulkOperationNotifications;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.es.client.editors.errordetails.ExecutionErrorDetailsPresenter;
 import org.jbpm.workbench.es.client.editors.events.ExecutionErrorSelectedEvent;
 import org.jbpm.workbench.es.client.i18n.Constants;
+import org.jbpm.workbench.es.model.ExecutionErrorBatch;
+import org.jbpm.workbench.es.model.ExecutionErrorBatchResult;
 import org.jbpm.workbench.es.model.ExecutionErrorSummary;
 import org.jbpm.workbench.es.service.ExecutorService;
 import org.jbpm.workbench.es.util.ExecutionErrorType;
@@ -194,16 +199,37 @@ public class ExecutionErrorListPresenter extends AbstractMultiGridPresenter<Exec
         if (execErrorsSelected == null || execErrorsSelected.isEmpty()) {
             return;
         }
+        final Map<String, List<String>> deploymentErrors = new HashMap<>();
+        final List<ExecutionErrorSummary> acknowledged = new ArrayList<>();
         for (ExecutionErrorSummary selected : execErrorsSelected) {
             if (selected.isAcknowledged()) {
-                //TODO i18n
-                view.displayNotification("Error " + selected.getErrorId() + "is already acknowledge");
-                continue;
+                acknowledged.add(selected);
             } else {
-                acknowledgeExecutionError(selected.getErrorId(),
-                                          selected.getDeploymentId());
+                deploymentErrors.computeIfAbsent(selected.getDeploymentId(),
+                                                 key -> new ArrayList<>()).add(selected.getErrorId());
             }
         }
+        BulkOperationNotifications.notifyItems(acknowledged,
+                                               selected -> constants.ExecutionErrorAlreadyAcknowledged(selected.getErrorId()),
+                                               view::displayNotification);
+        if (deploymentErrors.isEmpty()) {
+            return;
+        }
+        executorService.call((ExecutionErrorBatchResult result) -> onBulkAcknowledgeCompleted(result))
+                .acknowledgeErrors(new ExecutionErrorBatch(getSelectedServerTemplate(),
+                                                           deploymentErrors));
+    }
+
+    protected void onBulkAcknowledgeCompleted(final ExecutionErrorBatchResult result) {
+        if (result != null) {
+            view.displayNotification(constants.ExecutionErrorsBulkAcknowledged(result.getAcknowledgedCount(),
+                                                                               result.getFailures().size()));
+            BulkOperationNotifications.notifyItems(result.getFailures(),
+                                                   failure -> constants.ExecutionErrorAcknowledgeFailed(failure.getId(),
+                                                                                                        failure.getErrorMessage()),
+                                                   view::displayNotification);
+        }
+        refreshGrid();
     }
 
     @WorkbenchMenu
@@ -18,9 +18,13 @@ package org.jbpm.workbench.es.client.editors.requestlist;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
@@ -34,11 +38,14 @@ import org.jbpm.workbench.common.client.list.AbstractMultiGridPresenter;
 import org.jbpm.workbench.common.client.list.MultiGridView;
 import org.jbpm.workbench.common.client.menu.PrimaryActionMenuBuilder;
 import org.jbpm.workbench.common.client.menu.RefreshMenuBuilder;
+import org.jbpm.workbench.common.client.util.BulkOperationNotifications;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
 import org.jbpm.workbench.es.client.editors.events.JobSelectedEvent;
 import org.jbpm.workbench.es.client.editors.quicknewjob.NewJobPresenter;
 import org.jbpm.workbench.es.client.i18n.Constants;
+import org.jbpm.workbench.es.model.RequestBatch;
 import org.jbpm.workbench.es.model.RequestSummary;
 import org.jbpm.workbench.es.model.events.RequestChangedEvent;
 import org.jbpm.workbench.es.service.ExecutorService;
@@ -321,30 +328,64 @@ public class RequestListPresenter extends AbstractMultiGridPresenter<RequestSumm
         if (jobsSelected == null || jobsSelected.isEmpty()) {
             return;
         }
-        for (RequestSummary selected : jobsSelected) {
-            if (!getCancelActionCondition().test(selected)) {
-                view.displayNotification(constants.Job_Can_Not_Be_Cancelled(selected.getJobId()));
-                continue;
-            } else {
-                cancelRequest(selected.getDeploymentId(),
-                              selected.getJobId());
-            }
+        final Map<String, List<Long>> deploymentRequests = groupByDeployment(jobsSelected,
+                                                                             getCancelActionCondition(),
+                                                                             job -> constants.Job_Can_Not_Be_Cancelled(job.getJobId()));
+        if (deploymentRequests.isEmpty()) {
+            return;
         }
+        executorServices.call((List<BulkOperationResult<Long>> results) -> onBulkOperationCompleted(results))
+                .cancelRequests(new RequestBatch(getSelectedServerTemplate(),
+                                                 deploymentRequests));
     }
 
     public void bulkRequeue(List<RequestSummary> jobsSelected) {
         if (jobsSelected == null || jobsSelected.isEmpty()) {
             return;
         }
-        for (RequestSummary selected : jobsSelected) {
-            if (!getRequeueActionCondition().test(selected)) {
-                view.displayNotification(constants.Job_Can_Not_Be_Requeued(selected.getJobId()));
-                continue;
+        final Map<String, List<Long>> deploymentRequests = groupByDeployment(jobsSelected,
+                                                                             getRequeueActionCondition(),
+                                                                             job -> constants.Job_Can_Not_Be_Requeued(job.getJobId()));
+        if (deploymentRequests.isEmpty()) {
+            return;
+        }
+        executorServices.call((List<BulkOperationResult<Long>> results) -> onBulkOperationCompleted(results))
+                .requeueRequests(new RequestBatch(getSelectedServerTemplate(),
+                                                  deploymentRequests));
+    }
+
+    protected Map<String, List<Long>> groupByDeployment(final List<RequestSummary> jobs,
+                                                        final Predicate<RequestSummary> actionCondition,
+                                                        final Function<RequestSummary, String> notApplicableMessage) {
+        final Map<String, List<Long>> deploymentRequests = new HashMap<>();
+        final List<RequestSummary> notApplicable = new ArrayList<>();
+        for (RequestSummary job : jobs) {
+            if (actionCondition.test(job)) {
+                deploymentRequests.computeIfAbsent(job.getDeploymentId(),
+                                                   key -> new ArrayList<>()).add(job.getJobId());
             } else {
-                requeueRequest(selected.getDeploymentId(),
-                               selected.getJobId());
+                notApplicable.add(job);
             }
         }
+        BulkOperationNotifications.notifyItems(notApplicable,
+                                               notApplicableMessage,
+                                               view::displayNotification);
+        return deploymentRequests;
+    }
+
+    protected void onBulkOperationCompleted(final List<BulkOperationResult<Long>> results) {
+        if (results != null) {
+            final List<BulkOperationResult<Long>> failures = results.stream()
+                    .filter(result -> !result.isSuccess())
+                    .collect(Collectors.toList());
+            view.displayNotification(constants.JobsBulkOperationCompleted(results.size() - failures.size(),
+                                                                          failures.size()));
+            BulkOperationNotifications.notifyItems(failures,
+                                                   result -> constants.JobBulkOperationFailed(String.valueOf(result.getId()),
+                                                                                              result.getErrorMessage()),
+                                                   view::displayNotification);
+        }
+        refreshGrid();
     }
 
     public interface RequestListView extends MultiGridView<RequestSummary, RequestListPresenter> {
@@ -260,4 +260,18 @@ public interface Constants extends Messages {
     String Requeue_Jobs_Confirmation();
 
     String Job_Can_Not_Be_Requeued(Long jobId);
+
+    String JobsBulkOperationCompleted(int succeeded,
+                                      int failed);
+
+    String JobBulkOperationFailed(String jobId,
+                                  String error);
+
+    String ExecutionErrorAlreadyAcknowledged(String executionErrorId);
+
+    String ExecutionErrorsBulkAcknowledged(int acknowledged,
+                                           int failed);
+
+    String ExecutionErrorAcknowledgeFailed(String executionErrorId,
+                                           String error);
 }
@@ -34,11 +34,15 @@ import org.jbpm.workbench.common.client.filters.basic.BasicFilterAddEvent;
 import org.jbpm.workbench.common.client.filters.basic.BasicFilterRemoveEvent;
 import org.jbpm.workbench.common.client.list.ListTable;
 import org.jbpm.workbench.common.client.menu.ServerTemplateSelectorMenuBuilder;
+import org.jbpm.workbench.common.client.util.BulkOperationNotifications;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
 import org.jbpm.workbench.es.client.editors.errordetails.ExecutionErrorDetailsPresenter;
 import org.jbpm.workbench.es.client.editors.events.ExecutionErrorSelectedEvent;
 import org.jbpm.workbench.es.client.i18n.Constants;
+import org.jbpm.workbench.es.model.ExecutionErrorBatch;
+import org.jbpm.workbench.es.model.ExecutionErrorBatchResult;
 import org.jbpm.workbench.es.model.ExecutionErrorSummary;
 import org.jbpm.workbench.es.service.ExecutorService;
 import org.jbpm.workbench.es.util.ExecutionErrorType;
@@ -63,6 +67,7 @@ import org.uberfire.mvp.PlaceRequest;
 import org.uberfire.security.ResourceRef;
 import org.uberfire.security.authz.AuthorizationManager;
 
+import static java.util.Collections.singletonList;
 import static org.jbpm.workbench.common.client.PerspectiveIds.SEARCH_PARAMETER_PROCESS_INSTANCE_ID;
 import static org.jbpm.workbench.es.model.ExecutionErrorDataSetConstants.*;
 import static org.junit.Assert.*;
@@ -197,15 +202,49 @@ public class ExecutionErrorListPresenterTest {
                                 ExecutionErrorSummary.builder().errorId(error3_ID).deploymentId(error3_deploymentId).acknowledged(true).build()
                         ));
 
+        when(executorServiceMock.acknowledgeErrors(any(ExecutionErrorBatch.class))).thenReturn(new ExecutionErrorBatchResult(1,
+                                                                                                                           singletonList(BulkOperationResult.failure(error2_ID,
+                                                                                                                                                                     "error"))));
+
         presenter.bulkAcknowledge(testErrors);
 
-        verify(executorServiceMock).acknowledgeError(anyString(),
-                                                     eq(error1_deploymentId),
-                                                     eq(error1_ID));
-        verify(executorServiceMock).acknowledgeError(anyString(),
-                                                     eq(error2_deploymentId),
-                                                     eq(error2_ID));
+        final ArgumentCaptor<ExecutionErrorBatch> captor = ArgumentCaptor.forClass(ExecutionErrorBatch.class);
+        verify(executorServiceMock).acknowledgeErrors(captor.capture());
+        assertEquals(singletonList(error1_ID),
+                     captor.getValue().getDeploymentErrors().get(error1_deploymentId));
+        assertEquals(singletonList(error2_ID),
+                     captor.getValue().getDeploymentErrors().get(error2_deploymentId));
+        assertFalse(captor.getValue().getDeploymentErrors().containsKey(error3_deploymentId));
         verifyNoMoreInteractions(executorServiceMock);
+        verify(viewMock).displayNotification(Constants.INSTANCE.ExecutionErrorAlreadyAcknowledged(error3_ID));
+        verify(viewMock).displayNotification(Constants.INSTANCE.ExecutionErrorsBulkAcknowledged(1,
+                                                                                                1));
+        verify(viewMock).displayNotification(Constants.INSTANCE.ExecutionErrorAcknowledgeFailed(error2_ID,
+                                                                                                "error"));
+    }
+
+    @Test
+    public void bulkAcknowledgeFailuresNotifiedOnceTest() {
+        final ArrayList<ExecutionErrorSummary> testErrors = new ArrayList<>();
+        final ArrayList<BulkOperationResult<String>> failures = new ArrayList<>();
+        for (int i = 1; i <= BulkOperationNotifications.MAX_ITEMS_SHOWN + 2; i++) {
+            testErrors.add(ExecutionErrorSummary.builder().errorId("error" + i).deploymentId("deploymentId").acknowledged(false).build());
+            testErrors.add(ExecutionErrorSummary.builder().errorId("acknowledged" + i).deploymentId("deploymentId").acknowledged(true).build());
+            failures.add(BulkOperationResult.failure("error" + i,
+                                                     "error"));
+        }
+        when(executorServiceMock.acknowledgeErrors(any(ExecutionErrorBatch.class))).thenReturn(new ExecutionErrorBatchResult(0,
+                                                                                                                           failures));
+
+        presenter.bulkAcknowledge(testErrors);
+
+        verify(viewMock).displayNotification(Constants.INSTANCE.ExecutionErrorsBulkAcknowledged(0,
+                                                                                                failures.size()));
+        verify(viewMock).displayNotification(startsWith(Constants.INSTANCE.ExecutionErrorAcknowledgeFailed("error1",
+                                                                                                           "error")));
+        verify(viewMock).displayNotification(startsWith(Constants.INSTANCE.ExecutionErrorAlreadyAcknowledged("acknowledged1")));
+        verify(viewMock,
+               times(3)).displayNotification(anyString());
     }
 
     @Test
@@ -34,11 +34,14 @@ import org.jbpm.workbench.common.client.filters.basic.BasicFilterAddEvent;
 import org.jbpm.workbench.common.client.filters.basic.BasicFilterRemoveEvent;
 import org.jbpm.workbench.common.client.list.ListTable;
 import org.jbpm.workbench.common.client.menu.ServerTemplateSelectorMenuBuilder;
+import org.jbpm.workbench.common.client.util.BulkOperationNotifications;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
 import org.jbpm.workbench.es.client.editors.events.JobSelectedEvent;
 import org.jbpm.workbench.es.client.editors.quicknewjob.NewJobPresenter;
 import org.jbpm.workbench.es.client.i18n.Constants;
+import org.jbpm.workbench.es.model.RequestBatch;
 import org.jbpm.workbench.es.model.RequestSummary;
 import org.jbpm.workbench.es.model.events.RequestChangedEvent;
 import org.jbpm.workbench.es.service.ExecutorService;
@@ -563,21 +566,28 @@ public class RequestListPresenterTest {
                                                   deploymentId,
                                                   RequestStatus.ERROR));
 
+        when(executorServiceMock.cancelRequests(any(RequestBatch.class))).thenReturn(Arrays.asList(BulkOperationResult.success(jobId_1),
+                                                                                                   BulkOperationResult.failure(jobId_2,
+                                                                                                                               "error")));
+
         presenter.bulkCancel(requestSummaries);
 
-        verify(executorServiceMock).cancelRequest(anyString(),
-                                                  anyString(),
-                                                  eq(jobId_1));
-        verify(executorServiceMock).cancelRequest(anyString(),
-                                                  anyString(),
-                                                  eq(jobId_2));
+        final ArgumentCaptor<RequestBatch> captor = ArgumentCaptor.forClass(RequestBatch.class);
+        verify(executorServiceMock).cancelRequests(captor.capture());
+        assertEquals(serverTemplateTest,
+                     captor.getValue().getServerTemplateId());
+        assertEquals(Arrays.asList(jobId_1,
+                                   jobId_2),
+                     captor.getValue().getDeploymentRequests().get(deploymentId));
         verify(executorServiceMock,
                never()).cancelRequest(anyString(),
                                       anyString(),
-                                      eq(jobId_3));
-        verify(viewMock).displayNotification(Constants.INSTANCE.RequestCanceled(jobId_1));
-        verify(viewMock).displayNotification(Constants.INSTANCE.RequestCanceled(jobId_2));
+                                      anyLong());
         verify(viewMock).displayNotification(Constants.INSTANCE.Job_Can_Not_Be_Cancelled(jobId_3));
+        verify(viewMock).displayNotification(Constants.INSTANCE.JobsBulkOperationCompleted(1,
+                                                                                           1));
+        verify(viewMock).displayNotification(Constants.INSTANCE.JobBulkOperationFailed(String.valueOf(jobId_2),
+                                                                                        "error"));
     }
 
     @Test
@@ -604,22 +614,57 @@ public class RequestListPresenterTest {
                                                   deploymentId,
                                                   RequestStatus.QUEUED));
 
+        when(executorServiceMock.requeueRequests(any(RequestBatch.class))).thenReturn(Arrays.asList(BulkOperationResult.success(jobId_1),
+                                                                                                    BulkOperationResult.failure(jobId_2,
+                                                                                                                                "error")));
+
         presenter.bulkRequeue(requestSummaries);
 
-        verify(executorServiceMock).requeueRequest(anyString(),
-                                                   anyString(),
-                                                   eq(jobId_1));
-        verify(executorServiceMock).requeueRequest(anyString(),
-                                                   anyString(),
-                                                   eq(jobId_2));
+        final ArgumentCaptor<RequestBatch> captor = ArgumentCaptor.forClass(RequestBatch.class);
+        verify(executorServiceMock).requeueRequests(captor.capture());
+        assertEquals(serverTemplateTest,
+                     captor.getValue().getServerTemplateId());
+        assertEquals(Arrays.asList(jobId_1,
+                                   jobId_2),
+                     captor.getValue().getDeploymentRequests().get(deploymentId));
         verify(executorServiceMock,
                never()).requeueRequest(anyString(),
                                        anyString(),
-                                       eq(jobId_3));
-        verify(viewMock).displayNotification(Constants.INSTANCE.RequestRequeued(jobId_1));
-        verify(viewMock).displayNotification(Constants.INSTANCE.RequestRequeued(jobId_2));
+                                       anyLong());
         verify(viewMock).displayNotification(Constants.INSTANCE.Job_Can_Not_Be_Requeued(jobId_3));
+        verify(viewMock).displayNotification(Constants.INSTANCE.JobsBulkOperationCompleted(1,
+                                                                                           1));
+        verify(viewMock).displayNotification(Constants.INSTANCE.JobBulkOperationFailed(String.valueOf(jobId_2),
+                                                                                        "error"));
     }
 
+    @Test
+    public void bulkCancelJobsFailuresNotifiedOnceTest() {
+        presenter.setSelectedServerTemplate(new ServerTemplate("serverTemplateTest", null));
+        final ArrayList<RequestSummary> requestSummaries = new ArrayList<>();
+        final ArrayList<BulkOperationResult<Long>> results = new ArrayList<>();
+        for (long jobId = 1; jobId <= BulkOperationNotifications.MAX_ITEMS_SHOWN + 2; jobId++) {
+            requestSummaries.add(createRequestSummary(jobId,
+                                                      "key",
+                                                      "deploymentId",
+                                                      RequestStatus.QUEUED));
+            requestSummaries.add(createRequestSummary(jobId + 100,
+                                                      "key",
+                                                      "deploymentId",
+                                                      RequestStatus.DONE));
+            results.add(BulkOperationResult.failure(jobId,
+                                                    "error"));
+        }
+        when(executorServiceMock.cancelRequests(any(RequestBatch.class))).thenReturn(results);
 
+        presenter.bulkCancel(requestSummaries);
+
+        verify(viewMock).displayNotification(Constants.INSTANCE.JobsBulkOperationCompleted(0,
+                                                                                           results.size()));
+        verify(viewMock).displayNotification(startsWith(Constants.INSTANCE.JobBulkOperationFailed("1",
+                                                                                                   "error")));
+        verify(viewMock).displayNotification(startsWith(Constants.INSTANCE.Job_Can_Not_Be_Cancelled(101L)));
+        verify(viewMock,
+               times(3)).displayNotification(anyString());
+    }
 }
\ No newline at end of file
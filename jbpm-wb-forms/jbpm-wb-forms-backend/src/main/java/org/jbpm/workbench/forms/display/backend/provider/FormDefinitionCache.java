@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.forms.display.backend.provider;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.jbpm.workbench.ks.utils.CoalescingCache;
+import org.kie.workbench.common.forms.model.FormDefinition;
+
+/**
+ * Keeps the form definitions parsed from the raw form content of a process or task, so that rendering the same form
+ * again only binds the data. Entries are keyed by server template, deployment and form name and remember the content
+ * they were parsed from, a different content (e.g. the container was redeployed) replaces the entry. Concurrent
+ * requests for a form that is being parsed wait for that parse instead of running their own.
+ * <p>
+ * Cached definitions are shared by every rendering context created from them and must not be modified.
+ */
+@ApplicationScoped
+public class FormDefinitionCache {
+
+    protected static final long DEFAULT_TTL = Long.getLong("org.jbpm.wb.forms.definition.cache.ttl",
+                                                           600000);
+
+    private final CoalescingCache<Key, List<FormDefinition>> cache;
+
+    public FormDefinitionCache() {
+        this(DEFAULT_TTL);
+    }
+
+    protected FormDefinitionCache(final long ttl) {
+        this.cache = new CoalescingCache<>(ttl,
+                                           "form definitions");
+    }
+
+    public List<FormDefinition> get(final String serverTemplateId,
+                                    final String deploymentId,
+                                    final String formName,
+                                    final String formContent,
+                                    final Supplier<List<FormDefinition>> parser) {
+        // invalid content is not cached, waiting requests get the error and the next one parses again
+        return cache.get(new Key(serverTemplateId,
+                                 deploymentId,
+                                 formName),
+                         formContent,
+                         parser);
+    }
+
+    protected int size() {
+        return cache.size();
+    }
+
+    protected static class Key {
+
+        private final String serverTemplateId;
+        private final String deploymentId;
+        private final String formName;
+
+        Key(final String serverTemplateId,
+            final String deploymentId,
+            final String formName) {
+            this.serverTemplateId = serverTemplateId;
+            this.deploymentId = deploymentId;
+            this.formName = formName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return Objects.equals(serverTemplateId,
+                                  key.serverTemplateId) &&
+                    Objects.equals(deploymentId,
+                                   key.deploymentId) &&
+                    Objects.equals(formName,
+                                   key.formName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serverTemplateId,
+                                deploymentId,
+                                formName);
+        }
+    }
+}
@@ -44,18 +44,26 @@ public abstract class KieWorkbenchFormsValuesProcessor<T extends RenderingSettin
 
     public static final String SETTINGS_ATRA_NAME = "_rendering_settings";
 
+    private static final Gson GSON = new Gson();
+
+    private static final JsonParser PARSER = new JsonParser();
+
     protected FormDefinitionSerializer formSerializer;
 
     protected BackendFormRenderingContextManager contextManager;
 
     protected DynamicBPMNFormGenerator dynamicBPMNFormGenerator;
 
+    protected FormDefinitionCache formDefinitionCache;
+
     public KieWorkbenchFormsValuesProcessor(FormDefinitionSerializer formSerializer,
                                             BackendFormRenderingContextManager contextManager,
-                                            DynamicBPMNFormGenerator dynamicBPMNFormGenerator) {
+                                            DynamicBPMNFormGenerator dynamicBPMNFormGenerator,
+                                            FormDefinitionCache formDefinitionCache) {
         this.formSerializer = formSerializer;
         this.contextManager = contextManager;
         this.dynamicBPMNFormGenerator = dynamicBPMNFormGenerator;
+        this.formDefinitionCache = formDefinitionCache;
     }
 
     public KieWorkbenchFormRenderingSettings generateRenderingContext(T settings) {
@@ -124,28 +132,51 @@ public abstract class KieWorkbenchFormsValuesProcessor<T extends RenderingSettin
     protected ContextForms parseForms(T settings) {
         ContextForms result = new ContextForms();
 
-        JsonParser parser = new JsonParser();
-        Gson gson = new Gson();
-        JsonElement element = parser.parse(settings.getFormContent());
+        List<FormDefinition> formDefinitions = formDefinitionCache.get(settings.getServerTemplateId(),
+                                                                       getContainerKey(settings),
+                                                                       getFormName(settings),
+                                                                       settings.getFormContent(),
+                                                                       () -> deserializeForms(settings.getFormContent()));
+
+        formDefinitions.forEach(formDefinition -> {
+            if (formDefinition.getName().startsWith(getFormName(settings) + BPMNVariableUtils.TASK_FORM_SUFFIX)) {
+                result.setRootForm(formDefinition);
+            } else {
+                result.getNestedForms().add(formDefinition);
+            }
+        });
+        return result;
+    }
+
+    protected List<FormDefinition> deserializeForms(String formContent) {
+        List<FormDefinition> result = new ArrayList<>();
+
+        JsonElement element = PARSER.parse(formContent);
 
         JsonArray forms = element.getAsJsonArray();
         forms.forEach(jsonForm -> {
-            String content = gson.toJson(jsonForm);
+            String content = GSON.toJson(jsonForm);
 
             if (!StringUtils.isEmpty(content)) {
                 FormDefinition formDefinition = formSerializer.deserialize(content);
                 if (formDefinition != null) {
-                    if (formDefinition.getName().startsWith(getFormName(settings) + BPMNVariableUtils.TASK_FORM_SUFFIX)) {
-                        result.setRootForm(formDefinition);
-                    } else {
-                        result.getNestedForms().add(formDefinition);
-                    }
+                    result.add(formDefinition);
                 }
             }
         });
         return result;
     }
 
+    /*
+     * Deployment ids of the rendering settings carry the time of the render ("serverTemplate@container@timestamp"),
+     * only the container part identifies the forms.
+     */
+    protected String getContainerKey(T settings) {
+        String deploymentId = getDeploymentId(settings);
+        return deploymentId == null ? null : StringUtils.substringBeforeLast(deploymentId,
+                                                                           "@");
+    }
+
     protected ContextForms generateDefaultForms(T settings) {
         ContextForms result = new ContextForms();
 
@@ -176,6 +207,8 @@ public abstract class KieWorkbenchFormsValuesProcessor<T extends RenderingSettin
 
     protected abstract String getFormName(T settings);
 
+    protected abstract String getDeploymentId(T settings);
+
     protected abstract void prepareContext(T settings,
                                            BackendFormRenderingContext context);
 
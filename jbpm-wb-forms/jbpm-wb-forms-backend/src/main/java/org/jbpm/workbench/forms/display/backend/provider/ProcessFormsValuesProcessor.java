@@ -44,10 +44,12 @@ public class ProcessFormsValuesProcessor extends KieWorkbenchFormsValuesProcesso
     @Inject
     public ProcessFormsValuesProcessor(FormDefinitionSerializer formSerializer,
                                        BackendFormRenderingContextManager contextManager,
-                                       DynamicBPMNFormGenerator dynamicBPMNFormGenerator) {
+                                       DynamicBPMNFormGenerator dynamicBPMNFormGenerator,
+                                       FormDefinitionCache formDefinitionCache) {
         super(formSerializer,
               contextManager,
-              dynamicBPMNFormGenerator);
+              dynamicBPMNFormGenerator,
+              formDefinitionCache);
     }
 
     @Override
@@ -55,6 +57,11 @@ public class ProcessFormsValuesProcessor extends KieWorkbenchFormsValuesProcesso
         return settings.getProcess().getId();
     }
 
+    @Override
+    protected String getDeploymentId(ProcessRenderingSettings settings) {
+        return settings.getProcess().getDeploymentId();
+    }
+
     @Override
     protected Map<String, Object> getOutputValues(Map<String, Object> values,
                                                   FormDefinition form,
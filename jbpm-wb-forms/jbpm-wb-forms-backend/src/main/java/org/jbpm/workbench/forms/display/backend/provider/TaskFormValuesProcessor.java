@@ -48,10 +48,12 @@ public class TaskFormValuesProcessor extends KieWorkbenchFormsValuesProcessor<Ta
     @Inject
     public TaskFormValuesProcessor(FormDefinitionSerializer formSerializer,
                                    BackendFormRenderingContextManager contextManager,
-                                   DynamicBPMNFormGenerator dynamicBPMNFormGenerator) {
+                                   DynamicBPMNFormGenerator dynamicBPMNFormGenerator,
+                                   FormDefinitionCache formDefinitionCache) {
         super(formSerializer,
               contextManager,
-              dynamicBPMNFormGenerator);
+              dynamicBPMNFormGenerator,
+              formDefinitionCache);
     }
 
     @Override
@@ -59,6 +61,11 @@ public class TaskFormValuesProcessor extends KieWorkbenchFormsValuesProcessor<Ta
         return settings.getTask().getFormName();
     }
 
+    @Override
+    protected String getDeploymentId(TaskRenderingSettings settings) {
+        return settings.getTask().getDeploymentId();
+    }
+
     @Override
     protected Map<String, Object> getOutputValues(Map<String, Object> values,
                                                   FormDefinition form,
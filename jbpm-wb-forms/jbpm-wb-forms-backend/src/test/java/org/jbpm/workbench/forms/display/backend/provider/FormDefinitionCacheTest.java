@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.forms.display.backend.provider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.kie.workbench.common.forms.model.FormDefinition;
+
+import static org.junit.Assert.*;
+
+public class FormDefinitionCacheTest {
+
+    private static final String CONTENT = "[{\"id\":\"form\"}]";
+
+    @Test
+    public void testParsedOncePerContent() {
+        final FormDefinitionCache cache = new FormDefinitionCache(60000);
+        final AtomicInteger parses = new AtomicInteger();
+
+        final List<FormDefinition> forms = get(cache,
+                                               "containerId",
+                                               CONTENT,
+                                               parses);
+        assertSame(forms,
+                   get(cache,
+                       "containerId",
+                       CONTENT,
+                       parses));
+        assertEquals(1,
+                     parses.get());
+
+        get(cache,
+            "otherContainerId",
+            CONTENT,
+            parses);
+        assertEquals(2,
+                     parses.get());
+        assertEquals(2,
+                     cache.size());
+    }
+
+    @Test
+    public void testChangedContentReparsed() {
+        final FormDefinitionCache cache = new FormDefinitionCache(60000);
+        final AtomicInteger parses = new AtomicInteger();
+
+        get(cache,
+            "containerId",
+            CONTENT,
+            parses);
+        get(cache,
+            "containerId",
+            "[]",
+            parses);
+        get(cache,
+            "containerId",
+            "[]",
+            parses);
+
+        assertEquals(2,
+                     parses.get());
+        assertEquals(1,
+                     cache.size());
+    }
+
+    @Test
+    public void testFailureNotCached() {
+        final FormDefinitionCache cache = new FormDefinitionCache(60000);
+        final AtomicInteger parses = new AtomicInteger();
+
+        try {
+            cache.get("serverTemplateId",
+                      "containerId",
+                      "invoices",
+                      "{",
+                      () -> {
+                          throw new IllegalStateException("Malformed form");
+                      });
+            fail("Parse failure expected");
+        } catch (IllegalStateException e) {
+            assertEquals("Malformed form",
+                         e.getMessage());
+        }
+        assertEquals(0,
+                     cache.size());
+
+        get(cache,
+            "containerId",
+            "{",
+            parses);
+        assertEquals(1,
+                     parses.get());
+    }
+
+    @Test
+    public void testDisabledCache() {
+        final FormDefinitionCache cache = new FormDefinitionCache(0);
+        final AtomicInteger parses = new AtomicInteger();
+
+        get(cache,
+            "containerId",
+            CONTENT,
+            parses);
+        get(cache,
+            "containerId",
+            CONTENT,
+            parses);
+
+        assertEquals(2,
+                     parses.get());
+        assertEquals(0,
+                     cache.size());
+    }
+
+    private List<FormDefinition> get(final FormDefinitionCache cache,
+                                     final String deploymentId,
+                                     final String content,
+                                     final AtomicInteger parses) {
+        return cache.get("serverTemplateId",
+                         deploymentId,
+                         "invoices",
+                         content,
+                         () -> {
+                             parses.incrementAndGet();
+                             return new ArrayList<>();
+                         });
+    }
+}
@@ -57,7 +57,8 @@ public class ProcessFormsValuesProcessorTest extends AbstractFormsValuesProcesso
                                                                                 new FormModelSerializer(),
                                                                                 new TestMetaDataEntryManager()),
                                                backendFormRenderingContextManager,
-                                               dynamicBPMNFormGenerator);
+                                               dynamicBPMNFormGenerator,
+                                               new FormDefinitionCache());
     }
 
     @Override
@@ -52,7 +52,8 @@ public class ProcessFormsValuesProcessorWithWrongValuesTest extends AbstractForm
                                                                                 new FormModelSerializer(),
                                                                                 new TestMetaDataEntryManager()),
                                                backendFormRenderingContextManager,
-                                               dynamicBPMNFormGenerator);
+                                               dynamicBPMNFormGenerator,
+                                               new FormDefinitionCache());
     }
 
     @Override
@@ -106,6 +106,7 @@ public class TaskFormValuesProcessorTest extends AbstractFormsValuesProcessorTes
                                                  DynamicBPMNFormGenerator dynamicBPMNFormGenerator) {
         return new TaskFormValuesProcessor(serializer,
                                            backendFormRenderingContextManager,
-                                           dynamicBPMNFormGenerator);
+                                           dynamicBPMNFormGenerator,
+                                           new FormDefinitionCache());
     }
 }
@@ -66,6 +66,7 @@ public class TaskFormValuesProcessorWithWrongTypesTest extends AbstractFormsValu
     TaskFormValuesProcessor getProcessorInstance(FormDefinitionSerializer serializer, BackendFormRenderingContextManager backendFormRenderingContextManager, DynamicBPMNFormGenerator dynamicBPMNFormGenerator) {
         return new TaskFormValuesProcessor(serializer,
                                            backendFormRenderingContextManager,
-                                           dynamicBPMNFormGenerator);
+                                           dynamicBPMNFormGenerator,
+                                           new FormDefinitionCache());
     }
 }
@@ -25,6 +25,7 @@ import java.util.Map;
 import org.jbpm.workbench.forms.display.api.KieWorkbenchFormRenderingSettings;
 import org.jbpm.workbench.forms.display.backend.provider.AbstractFormProvidingEngineTest;
 import org.jbpm.workbench.forms.display.backend.provider.AbstractKieWorkbenchFormsProvider;
+import org.jbpm.workbench.forms.display.backend.provider.FormDefinitionCache;
 import org.jbpm.workbench.forms.display.backend.provider.ProcessFormsValuesProcessor;
 import org.jbpm.workbench.forms.display.backend.provider.model.Invoice;
 import org.jbpm.workbench.forms.display.backend.provider.model.InvoiceLine;
@@ -76,7 +77,8 @@ public abstract class AbstractStartProcessFormTest<PROVIDER extends AbstractKieW
                                                                DynamicBPMNFormGenerator dynamicBPMNFormGenerator) {
         return new ProcessFormsValuesProcessor(formSerializer,
                                                contextManager,
-                                               dynamicBPMNFormGenerator);
+                                               dynamicBPMNFormGenerator,
+                                               new FormDefinitionCache());
     }
 
     @Override
@@ -25,6 +25,7 @@ import java.util.Map;
 import org.jbpm.workbench.forms.display.api.KieWorkbenchFormRenderingSettings;
 import org.jbpm.workbench.forms.display.backend.provider.AbstractFormProvidingEngineTest;
 import org.jbpm.workbench.forms.display.backend.provider.AbstractKieWorkbenchFormsProvider;
+import org.jbpm.workbench.forms.display.backend.provider.FormDefinitionCache;
 import org.jbpm.workbench.forms.display.backend.provider.TaskFormValuesProcessor;
 import org.jbpm.workbench.forms.display.backend.provider.model.Client;
 import org.jbpm.workbench.forms.display.backend.provider.model.Invoice;
@@ -98,7 +99,8 @@ public abstract class AbstractTaskFormProvidingTest<PROVIDER extends AbstractKie
                                                            DynamicBPMNFormGenerator dynamicBPMNFormGenerator) {
         return new TaskFormValuesProcessor(formSerializer,
                                            contextManager,
-                                           dynamicBPMNFormGenerator);
+                                           dynamicBPMNFormGenerator,
+                                           new FormDefinitionCache());
     }
 
     @Override
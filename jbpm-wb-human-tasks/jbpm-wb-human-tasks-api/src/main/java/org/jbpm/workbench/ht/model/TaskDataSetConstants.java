@@ -21,6 +21,8 @@ public final class TaskDataSetConstants {
     public static final String HUMAN_TASKS_WITH_USER_DATASET = "jbpmHumanTasksWithUser";
     public static final String HUMAN_TASKS_WITH_ADMIN_DATASET = "jbpmHumanTasksWithAdmin";
     public static final String HUMAN_TASKS_WITH_VARIABLES_DATASET = "jbpmHumanTasksWithVariables";
+    public static final String HUMAN_TASK_COMMENTS_DATASET = "jbpmHumanTaskComments";
+    public static final String HUMAN_TASKS_NEXT_READY_DATASET = "jbpmHumanTasksNextReady";
 
     public static final String COLUMN_ACTIVATION_TIME = "activationTime";
     public static final String COLUMN_ACTUAL_OWNER = "actualOwner";
@@ -48,7 +50,13 @@ public final class TaskDataSetConstants {
     public static final String COLUMN_TASK_VARIABLE_NAME = "name";
     public static final String COLUMN_TASK_VARIABLE_VALUE = "value";
 
+    public static final String COLUMN_COMMENT_ID = "id";
+    public static final String COLUMN_COMMENT_TASK_ID = "taskId";
+    public static final String COLUMN_COMMENT_DEPLOYMENT_ID = "deploymentId";
+
     public static final String COLUMN_ERROR_COUNT = "errorCount";
 
+    public static final String COLUMN_NO_DUE_DATE = "noDueDate";
+
     private TaskDataSetConstants() {}
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ht.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Aggregated view of a task, only the requested {@link TaskDetailsPart}s are populated.
+ */
+@Portable
+public class TaskDetails implements Serializable {
+
+    private static final long serialVersionUID = -3472196613504869104L;
+
+    private TaskSummary task;
+    private List<CommentSummary> comments;
+    private List<TaskEventSummary> events;
+    private TaskAssignmentSummary assignment;
+
+    public TaskDetails() {
+    }
+
+    public TaskSummary getTask() {
+        return task;
+    }
+
+    public void setTask(TaskSummary task) {
+        this.task = task;
+    }
+
+    public List<CommentSummary> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CommentSummary> comments) {
+        this.comments = comments;
+    }
+
+    public List<TaskEventSummary> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<TaskEventSummary> events) {
+        this.events = events;
+    }
+
+    public TaskAssignmentSummary getAssignment() {
+        return assignment;
+    }
+
+    public void setAssignment(TaskAssignmentSummary assignment) {
+        this.assignment = assignment;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskDetails{" +
+                "task=" + task +
+                ", comments=" + comments +
+                ", events=" + events +
+                ", assignment=" + assignment +
+                '}';
+    }
+}
@@ -19,10 +19,14 @@ package org.jbpm.workbench.ht.service;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jboss.errai.bus.server.annotations.Remote;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.ht.model.CommentSummary;
 import org.jbpm.workbench.ht.model.TaskAssignmentSummary;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
 import org.jbpm.workbench.ht.model.TaskEventSummary;
 import org.jbpm.workbench.ht.model.TaskSummary;
 
@@ -33,6 +37,25 @@ public interface TaskService {
                         String containerId,
                         Long taskId);
 
+    /**
+     * Loads the requested parts of a task in a single call, all parts are loaded when <code>parts</code> is null or
+     * empty. Comments (newest first) and events are limited to their first page of <code>pageSize</code> entries, the
+     * next pages are read with the paged {@link #getTaskComments} and {@link #getTaskEvents}.
+     */
+    TaskDetails getTaskDetails(String serverTemplateId,
+                               String containerId,
+                               Long taskId,
+                               Set<TaskDetailsPart> parts,
+                               Integer pageSize);
+
+    /**
+     * Claims the next task the current user can work on, highest priority first and then earliest due date. Only
+     * tasks of the given containers are considered when <code>containerIds</code> is not empty. Returns the claimed
+     * task with its input data as domain data, or null when no task is available.
+     */
+    TaskSummary claimNextTask(String serverTemplateId,
+                              List<String> containerIds);
+
     void updateTask(String serverTemplateId,
                     String containerId,
                     Long taskId,
@@ -65,6 +88,29 @@ public interface TaskService {
                      String containerId,
                      Long taskId);
 
+    List<BulkOperationResult<Long>> claimTasks(String serverTemplateId,
+                                               Map<String, List<Long>> containerTasks);
+
+    List<BulkOperationResult<Long>> releaseTasks(String serverTemplateId,
+                                                 Map<String, List<Long>> containerTasks);
+
+    List<BulkOperationResult<Long>> startTasks(String serverTemplateId,
+                                               Map<String, List<Long>> containerTasks);
+
+    List<BulkOperationResult<Long>> completeTasks(String serverTemplateId,
+                                                  Map<String, List<Long>> containerTasks,
+                                                  Map<String, Object> output);
+
+    List<BulkOperationResult<Long>> resumeTasks(String serverTemplateId,
+                                                Map<String, List<Long>> containerTasks);
+
+    List<BulkOperationResult<Long>> suspendTasks(String serverTemplateId,
+                                                 Map<String, List<Long>> containerTasks);
+
+    List<BulkOperationResult<Long>> delegateTasks(String serverTemplateId,
+                                                  Map<String, List<Long>> containerTasks,
+                                                  String entity);
+
     void saveTaskContent(String serverTemplateId,
                          String containerId,
                          Long taskId,
@@ -85,6 +131,24 @@ public interface TaskService {
                                          String containerId,
                                          Long taskId);
 
+    /**
+     * Returns a page of the task comments, newest first.
+     */
+    List<CommentSummary> getTaskComments(String serverTemplateId,
+                                         String containerId,
+                                         Long taskId,
+                                         Integer page,
+                                         Integer pageSize);
+
+    /**
+     * Returns the comments added after the given comment, newest first. Meant for polling, so only the comments the
+     * caller does not have yet are transferred.
+     */
+    List<CommentSummary> getTaskCommentsSince(String serverTemplateId,
+                                              String containerId,
+                                              Long taskId,
+                                              Long sinceCommentId);
+
     List<TaskEventSummary> getTaskEvents(String serverTemplateId,
                                          String containerId,
                                          Long taskId,
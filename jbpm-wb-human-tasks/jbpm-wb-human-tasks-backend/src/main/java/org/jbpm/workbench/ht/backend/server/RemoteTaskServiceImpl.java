@@ -16,37 +16,83 @@
 
 package org.jbpm.workbench.ht.backend.server;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
+import org.dashbuilder.dataset.filter.CoreFunctionType;
 import org.jboss.errai.bus.server.annotations.Service;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.ht.model.CommentSummary;
 import org.jbpm.workbench.ht.model.TaskAssignmentSummary;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
 import org.jbpm.workbench.ht.model.TaskEventSummary;
 import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.TaskCompletedEvent;
 import org.jbpm.workbench.ht.service.TaskService;
+import org.jbpm.workbench.ht.util.TaskStatus;
 import org.jbpm.workbench.ks.integration.AbstractKieServerService;
+import org.jbpm.workbench.ks.integration.BulkOperationExecutor;
+import org.jbpm.workbench.ks.integration.TaskInboxCache;
 import org.kie.internal.identity.IdentityProvider;
 import org.kie.server.api.exception.KieServicesHttpException;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.api.model.definition.QueryParam;
 import org.kie.server.api.model.instance.TaskComment;
 import org.kie.server.api.model.instance.TaskEventInstance;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.client.QueryServicesClient;
 import org.kie.server.client.UserTaskServicesClient;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_COMMENT_DEPLOYMENT_ID;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_COMMENT_ID;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_COMMENT_TASK_ID;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_DEPLOYMENT_ID;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_DUE_DATE;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_NO_DUE_DATE;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_PRIORITY;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_STATUS;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.HUMAN_TASKS_NEXT_READY_DATASET;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.HUMAN_TASK_COMMENTS_DATASET;
 
 @Service
 @ApplicationScoped
 public class RemoteTaskServiceImpl extends AbstractKieServerService implements TaskService {
 
     public static int NOT_FOUND_ERROR_CODE = 404;
+    protected static final int FORBIDDEN_ERROR_CODE = 403;
+    protected static final int CONFLICT_ERROR_CODE = 409;
+
+    protected static final int DEFAULT_DETAILS_PAGE_SIZE = 10;
+    protected static final int COMMENTS_QUERY_PAGE_SIZE = 100;
+    protected static final int NEXT_TASK_CANDIDATES = 20;
+    protected static final int NEXT_TASK_MAX_PAGES = 5;
+    // tasks without due date come after the ones with a due date of the same priority, whatever the database
+    protected static final String NEXT_TASK_ORDER = COLUMN_PRIORITY + "," + COLUMN_NO_DUE_DATE + "," + COLUMN_DUE_DATE;
+
+    // column positions of the jbpmHumanTasksNextReady query
+    private static final int NEXT_TASK_ID_COLUMN = 0;
+    private static final int NEXT_TASK_DEPLOYMENT_ID_COLUMN = 1;
+
+    // column positions of the jbpmHumanTaskComments query
+    private static final int COMMENT_ID_COLUMN = 0;
+    private static final int COMMENT_TEXT_COLUMN = 1;
+    private static final int COMMENT_ADDED_BY_COLUMN = 2;
+    private static final int COMMENT_ADDED_AT_COLUMN = 3;
 
     @Inject
     private IdentityProvider identityProvider;
@@ -54,6 +100,12 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
     @Inject
     private Event<TaskCompletedEvent> taskCompletedEvent;
 
+    @Inject
+    private BulkOperationExecutor bulkOperationExecutor;
+
+    @Inject
+    private TaskInboxCache taskInboxCache;
+
     @Override
     public TaskSummary getTask(String serverTemplateId,
                                String containerId,
@@ -77,6 +129,210 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         }
     }
 
+    /**
+     * Fetches the requested parts concurrently. Kie server calls run on the bulk executor threads, while everything
+     * depending on the current identity (the assignment permissions) is evaluated on the calling thread.
+     */
+    @Override
+    public TaskDetails getTaskDetails(final String serverTemplateId,
+                                      final String containerId,
+                                      final Long taskId,
+                                      final Set<TaskDetailsPart> parts,
+                                      final Integer detailsPageSize) {
+        if (serverTemplateId == null || serverTemplateId.isEmpty()) {
+            return null;
+        }
+
+        final List<TaskDetailsPart> requestedParts = parts == null || parts.isEmpty() ?
+                Arrays.asList(TaskDetailsPart.values()) :
+                new ArrayList<>(parts);
+        final int pageSize = detailsPageSize == null || detailsPageSize <= 0 ? DEFAULT_DETAILS_PAGE_SIZE : detailsPageSize;
+        final TaskDetails details = new TaskDetails();
+        final AtomicReference<TaskInstance> assignmentTask = new AtomicReference<>();
+
+        bulkOperationExecutor.invokeAll(requestedParts,
+                                        requestedParts.size(),
+                                        part -> {
+                                            switch (part) {
+                                                case TASK:
+                                                    details.setTask(getTask(serverTemplateId,
+                                                                            containerId,
+                                                                            taskId));
+                                                    break;
+                                                case COMMENTS:
+                                                    details.setComments(getTaskComments(serverTemplateId,
+                                                                                        containerId,
+                                                                                        taskId,
+                                                                                        0,
+                                                                                        pageSize));
+                                                    break;
+                                                case EVENTS:
+                                                    details.setEvents(getTaskEvents(serverTemplateId,
+                                                                                    containerId,
+                                                                                    taskId,
+                                                                                    0,
+                                                                                    pageSize));
+                                                    break;
+                                                case ASSIGNMENT:
+                                                    assignmentTask.set(findTaskAssignment(serverTemplateId,
+                                                                                          containerId,
+                                                                                          taskId));
+                                                    break;
+                                            }
+                                            return part;
+                                        });
+
+        if (assignmentTask.get() != null) {
+            details.setAssignment(new TaskAssignmentSummaryMapper().apply(assignmentTask.get(),
+                                                                          identityProvider));
+        }
+        return details;
+    }
+
+    /**
+     * Reads the ready tasks the user is potential owner of, in priority and due date order as sorted by the kie server
+     * query, and claims them until one claim succeeds. A claim refused because the task is no longer ready means a
+     * colleague got the task first, the next candidate is tried; any other error is reported.
+     */
+    @Override
+    public TaskSummary claimNextTask(final String serverTemplateId,
+                                     final List<String> containerIds) {
+        if (serverTemplateId == null || serverTemplateId.isEmpty()) {
+            return null;
+        }
+
+        final UserTaskServicesClient client = getClient(serverTemplateId,
+                                                        UserTaskServicesClient.class);
+        final QueryServicesClient queryClient = getClient(serverTemplateId,
+                                                          QueryServicesClient.class);
+        final String user = identityProvider.getName();
+        final Set<Long> tried = new HashSet<>();
+
+        for (int page = 0; page < NEXT_TASK_MAX_PAGES; page++) {
+            final List<List> candidates = queryNextTasks(queryClient,
+                                                         containerIds,
+                                                         page);
+            for (List candidate : candidates) {
+                final Long taskId = ((Number) candidate.get(NEXT_TASK_ID_COLUMN)).longValue();
+                final String containerId = (String) candidate.get(NEXT_TASK_DEPLOYMENT_ID_COLUMN);
+                // a task shows once per matching potential owner group
+                if (!tried.add(taskId)) {
+                    continue;
+                }
+                try {
+                    client.claimTask(containerId,
+                                     taskId,
+                                     user);
+                } catch (KieServicesHttpException e) {
+                    if (isClaimConflict(e)) {
+                        continue;
+                    }
+                    throw e;
+                }
+                final TaskInstance claimed = client.getTaskInstance(containerId,
+                                                                    taskId,
+                                                                    true,
+                                                                    false,
+                                                                    true);
+                taskInboxCache.tasksChanged(serverTemplateId,
+                                            getTaskInboxEntities(claimed,
+                                                                 user,
+                                                                 null));
+                return toClaimedTask(claimed);
+            }
+
+            if (candidates.size() < NEXT_TASK_CANDIDATES) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ready tasks of the given containers, filtered by the potential owners of the current user on the kie server.
+     */
+    protected List<List> queryNextTasks(final QueryServicesClient queryClient,
+                                        final List<String> containerIds,
+                                        final int page) {
+        final List<QueryParam> params = new ArrayList<>();
+        params.add(new QueryParam(COLUMN_STATUS,
+                                  CoreFunctionType.EQUALS_TO.toString(),
+                                  singletonList(TaskStatus.TASK_STATUS_READY.getIdentifier())));
+        if (containerIds != null && !containerIds.isEmpty()) {
+            params.add(new QueryParam(COLUMN_DEPLOYMENT_ID,
+                                      CoreFunctionType.IN.toString(),
+                                      new ArrayList<>(containerIds)));
+        }
+
+        final QueryFilterSpec filterSpec = new QueryFilterSpec();
+        filterSpec.setParameters(params.toArray(new QueryParam[params.size()]));
+        filterSpec.setOrderBy(NEXT_TASK_ORDER);
+        filterSpec.setAscending(true);
+
+        final List<List> rows = queryClient.query(HUMAN_TASKS_NEXT_READY_DATASET,
+                                                  QueryServicesClient.QUERY_MAP_RAW,
+                                                  filterSpec,
+                                                  page,
+                                                  NEXT_TASK_CANDIDATES,
+                                                  List.class);
+        return rows == null ? emptyList() : rows;
+    }
+
+    protected boolean isClaimConflict(final KieServicesHttpException e) {
+        return e.getHttpCode() != null && (e.getHttpCode() == FORBIDDEN_ERROR_CODE || e.getHttpCode() == CONFLICT_ERROR_CODE);
+    }
+
+    protected TaskSummary toClaimedTask(final TaskInstance task) {
+        final TaskSummary summary = new TaskSummaryMapper().apply(task);
+        if (summary != null && task.getInputData() != null) {
+            task.getInputData().forEach((name, value) -> summary.addDomainData(name,
+                                                                               value == null ? null : String.valueOf(value)));
+        }
+        return summary;
+    }
+
+    /**
+     * Users and groups whose task lists are known to change with an operation, without reading the task: the acting
+     * user and the user or group the task is handed to. The lists of the other users and groups of the task are
+     * invalidated by the task events probe of the cache.
+     */
+    protected Set<String> getTaskInboxEntities(final String user,
+                                               final String targetEntity) {
+        final Set<String> entities = new HashSet<>();
+        entities.add(user);
+        if (targetEntity != null) {
+            entities.add(targetEntity);
+        }
+        return entities;
+    }
+
+    /**
+     * Users and groups whose task lists change with an operation on an already loaded task: its potential owners,
+     * business administrators and actual owner, and the acting user.
+     */
+    protected Set<String> getTaskInboxEntities(final TaskInstance task,
+                                               final String user,
+                                               final String targetEntity) {
+        if (task == null) {
+            return null;
+        }
+        final Set<String> entities = new HashSet<>();
+        if (task.getPotentialOwners() != null) {
+            entities.addAll(task.getPotentialOwners());
+        }
+        if (task.getBusinessAdmins() != null) {
+            entities.addAll(task.getBusinessAdmins());
+        }
+        if (task.getActualOwner() != null) {
+            entities.add(task.getActualOwner());
+        }
+        entities.add(user);
+        if (targetEntity != null) {
+            entities.add(targetEntity);
+        }
+        return entities;
+    }
+
     @Override
     public void updateTask(String serverTemplateId,
                            String containerId,
@@ -100,6 +356,9 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         client.setTaskExpirationDate(containerId,
                                      taskId,
                                      dueDate);
+        taskInboxCache.tasksChanged(serverTemplateId,
+                                    getTaskInboxEntities(identityProvider.getName(),
+                                                         null));
     }
 
     @Override
@@ -116,6 +375,9 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         client.claimTask(containerId,
                          taskId,
                          identityProvider.getName());
+        taskInboxCache.tasksChanged(serverTemplateId,
+                                    getTaskInboxEntities(identityProvider.getName(),
+                                                         null));
     }
 
     @Override
@@ -132,6 +394,9 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         client.releaseTask(containerId,
                            taskId,
                            identityProvider.getName());
+        taskInboxCache.tasksChanged(serverTemplateId,
+                                    getTaskInboxEntities(identityProvider.getName(),
+                                                         null));
     }
 
     @Override
@@ -148,6 +413,9 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         client.startTask(containerId,
                          taskId,
                          identityProvider.getName());
+        taskInboxCache.tasksChanged(serverTemplateId,
+                                    getTaskInboxEntities(identityProvider.getName(),
+                                                         null));
     }
 
     @Override
@@ -166,6 +434,9 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
                             taskId,
                             identityProvider.getName(),
                             output);
+        taskInboxCache.tasksChanged(serverTemplateId,
+                                    getTaskInboxEntities(identityProvider.getName(),
+                                                         null));
         taskCompletedEvent.fire(new TaskCompletedEvent(serverTemplateId,
                                                        containerId,
                                                        taskId));
@@ -185,6 +456,9 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         client.resumeTask(containerId,
                           taskId,
                           identityProvider.getName());
+        taskInboxCache.tasksChanged(serverTemplateId,
+                                    getTaskInboxEntities(identityProvider.getName(),
+                                                         null));
     }
 
     @Override
@@ -201,6 +475,140 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         client.suspendTask(containerId,
                            taskId,
                            identityProvider.getName());
+        taskInboxCache.tasksChanged(serverTemplateId,
+                                    getTaskInboxEntities(identityProvider.getName(),
+                                                         null));
+    }
+
+    @Override
+    public List<BulkOperationResult<Long>> claimTasks(final String serverTemplateId,
+                                                      final Map<String, List<Long>> containerTasks) {
+        return executeOnTasks(serverTemplateId,
+                              containerTasks,
+                              (client, containerId, taskId, user) -> client.claimTask(containerId,
+                                                                                      taskId,
+                                                                                      user));
+    }
+
+    @Override
+    public List<BulkOperationResult<Long>> releaseTasks(final String serverTemplateId,
+                                                        final Map<String, List<Long>> containerTasks) {
+        return executeOnTasks(serverTemplateId,
+                              containerTasks,
+                              (client, containerId, taskId, user) -> client.releaseTask(containerId,
+                                                                                        taskId,
+                                                                                        user));
+    }
+
+    @Override
+    public List<BulkOperationResult<Long>> startTasks(final String serverTemplateId,
+                                                      final Map<String, List<Long>> containerTasks) {
+        return executeOnTasks(serverTemplateId,
+                              containerTasks,
+                              (client, containerId, taskId, user) -> client.startTask(containerId,
+                                                                                      taskId,
+                                                                                      user));
+    }
+
+    @Override
+    public List<BulkOperationResult<Long>> completeTasks(final String serverTemplateId,
+                                                         final Map<String, List<Long>> containerTasks,
+                                                         final Map<String, Object> output) {
+        return executeOnTasks(serverTemplateId,
+                              containerTasks,
+                              (client, containerId, taskId, user) -> {
+                                  client.completeTask(containerId,
+                                                      taskId,
+                                                      user,
+                                                      output);
+                                  taskCompletedEvent.fire(new TaskCompletedEvent(serverTemplateId,
+                                                                                 containerId,
+                                                                                 taskId));
+                              });
+    }
+
+    @Override
+    public List<BulkOperationResult<Long>> resumeTasks(final String serverTemplateId,
+                                                       final Map<String, List<Long>> containerTasks) {
+        return executeOnTasks(serverTemplateId,
+                              containerTasks,
+                              (client, containerId, taskId, user) -> client.resumeTask(containerId,
+                                                                                       taskId,
+                                                                                       user));
+    }
+
+    @Override
+    public List<BulkOperationResult<Long>> suspendTasks(final String serverTemplateId,
+                                                        final Map<String, List<Long>> containerTasks) {
+        return executeOnTasks(serverTemplateId,
+                              containerTasks,
+                              (client, containerId, taskId, user) -> client.suspendTask(containerId,
+                                                                                        taskId,
+                                                                                        user));
+    }
+
+    @Override
+    public List<BulkOperationResult<Long>> delegateTasks(final String serverTemplateId,
+                                                         final Map<String, List<Long>> containerTasks,
+                                                         final String entity) {
+        return executeOnTasks(serverTemplateId,
+                              containerTasks,
+                              entity,
+                              (client, containerId, taskId, user) -> client.delegateTask(containerId,
+                                                                                         taskId,
+                                                                                         user,
+                                                                                         entity));
+    }
+
+    protected List<BulkOperationResult<Long>> executeOnTasks(final String serverTemplateId,
+                                                             final Map<String, List<Long>> containerTasks,
+                                                             final TaskOperation operation) {
+        return executeOnTasks(serverTemplateId,
+                              containerTasks,
+                              null,
+                              operation);
+    }
+
+    /**
+     * Runs a task operation for every task concurrently. The current user is resolved on the calling thread, as the
+     * identity is not available to the worker threads.
+     * @param targetEntity user or group the tasks are handed to, if any
+     */
+    protected List<BulkOperationResult<Long>> executeOnTasks(final String serverTemplateId,
+                                                             final Map<String, List<Long>> containerTasks,
+                                                             final String targetEntity,
+                                                             final TaskOperation operation) {
+        if (serverTemplateId == null || serverTemplateId.isEmpty() || containerTasks == null || containerTasks.isEmpty()) {
+            return emptyList();
+        }
+
+        final UserTaskServicesClient client = getClient(serverTemplateId,
+                                                        UserTaskServicesClient.class);
+        final String user = identityProvider.getName();
+        final List<Map.Entry<String, Long>> tasks = containerTasks.entrySet().stream()
+                .flatMap(containerTask -> containerTask.getValue().stream()
+                        .<Map.Entry<String, Long>>map(taskId -> new AbstractMap.SimpleImmutableEntry<>(containerTask.getKey(),
+                                                                                                       taskId)))
+                .collect(toList());
+
+        final List<BulkOperationResult<Long>> results = bulkOperationExecutor.invokeAll(tasks,
+                                                                                         task -> {
+                                                                                             try {
+                                                                                                 operation.execute(client,
+                                                                                                                   task.getKey(),
+                                                                                                                   task.getValue(),
+                                                                                                                   user);
+                                                                                                 return BulkOperationResult.success(task.getValue());
+                                                                                             } catch (RuntimeException e) {
+                                                                                                 return BulkOperationResult.failure(task.getValue(),
+                                                                                                                                    e.getMessage());
+                                                                                             }
+                                                                                         });
+        // the lists of the other users and groups of these tasks are invalidated by the next probe
+        taskInboxCache.tasksChanged(serverTemplateId,
+                                    getTaskInboxEntities(user,
+                                                         targetEntity));
+        return results;
     }
 
     @Override
@@ -271,7 +679,8 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         try {
             List<TaskComment> comments = client.getTaskCommentsByTaskId(containerId,
                                                                         taskId);
-            return comments.stream().map(c -> build(c)).sorted(Comparator.comparing(CommentSummary::getAddedAt).reversed()).collect(toList());
+            // newest first, as returned by the paged and incremental queries
+            return comments.stream().map(c -> build(c)).sorted(Comparator.comparing(CommentSummary::getId).reversed()).collect(toList());
         } catch (KieServicesHttpException kieException) {
             if (kieException.getHttpCode() == NOT_FOUND_ERROR_CODE) {
                 return emptyList();
@@ -281,6 +690,118 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         }
     }
 
+    @Override
+    public List<CommentSummary> getTaskComments(String serverTemplateId,
+                                                String containerId,
+                                                Long taskId,
+                                                Integer page,
+                                                Integer pageSize) {
+        if (serverTemplateId == null || serverTemplateId.isEmpty() || containerId == null || containerId.isEmpty()) {
+            return emptyList();
+        }
+
+        QueryServicesClient queryClient = getClient(serverTemplateId,
+                                                    QueryServicesClient.class);
+        return queryTaskComments(queryClient,
+                                 containerId,
+                                 taskId,
+                                 null,
+                                 page == null ? 0 : page,
+                                 pageSize == null ? COMMENTS_QUERY_PAGE_SIZE : pageSize);
+    }
+
+    @Override
+    public List<CommentSummary> getTaskCommentsSince(String serverTemplateId,
+                                                     String containerId,
+                                                     Long taskId,
+                                                     Long sinceCommentId) {
+        if (serverTemplateId == null || serverTemplateId.isEmpty() || containerId == null || containerId.isEmpty()) {
+            return emptyList();
+        }
+
+        return findTaskComments(serverTemplateId,
+                                containerId,
+                                taskId,
+                                sinceCommentId);
+    }
+
+    protected List<CommentSummary> findTaskComments(final String serverTemplateId,
+                                                    final String containerId,
+                                                    final Long taskId,
+                                                    final Long sinceCommentId) {
+        final QueryServicesClient queryClient = getClient(serverTemplateId,
+                                                          QueryServicesClient.class);
+        final List<CommentSummary> comments = new ArrayList<>();
+        int page = 0;
+        List<CommentSummary> rows;
+        do {
+            rows = queryTaskComments(queryClient,
+                                     containerId,
+                                     taskId,
+                                     sinceCommentId,
+                                     page++,
+                                     COMMENTS_QUERY_PAGE_SIZE);
+            comments.addAll(rows);
+        } while (rows.size() == COMMENTS_QUERY_PAGE_SIZE);
+        return comments;
+    }
+
+    /**
+     * Comments are filtered, sorted and paged by the kie server query, newest (highest id) first. The query is not
+     * bound to a container, so only comments of tasks of the given container are returned, as the container scoped
+     * comments endpoint does.
+     */
+    protected List<CommentSummary> queryTaskComments(final QueryServicesClient queryClient,
+                                                     final String containerId,
+                                                     final Long taskId,
+                                                     final Long sinceCommentId,
+                                                     final int page,
+                                                     final int pageSize) {
+        final List<QueryParam> params = new ArrayList<>();
+        params.add(new QueryParam(COLUMN_COMMENT_TASK_ID,
+                                  CoreFunctionType.EQUALS_TO.toString(),
+                                  singletonList(taskId)));
+        params.add(new QueryParam(COLUMN_COMMENT_DEPLOYMENT_ID,
+                                  CoreFunctionType.EQUALS_TO.toString(),
+                                  singletonList(containerId)));
+        if (sinceCommentId != null) {
+            params.add(new QueryParam(COLUMN_COMMENT_ID,
+                                      CoreFunctionType.GREATER_THAN.toString(),
+                                      singletonList(sinceCommentId)));
+        }
+
+        final QueryFilterSpec filterSpec = new QueryFilterSpec();
+        filterSpec.setParameters(params.toArray(new QueryParam[params.size()]));
+        filterSpec.setOrderBy(COLUMN_COMMENT_ID);
+        filterSpec.setAscending(false);
+
+        final List<List> rows = queryClient.query(HUMAN_TASK_COMMENTS_DATASET,
+                                                  QueryServicesClient.QUERY_MAP_RAW,
+                                                  filterSpec,
+                                                  page,
+                                                  pageSize,
+                                                  List.class);
+        if (rows == null) {
+            return emptyList();
+        }
+        return rows.stream().map(row -> buildComment(row)).collect(toList());
+    }
+
+    protected CommentSummary build(TaskComment comment) {
+        return new CommentSummary(comment.getId(),
+                                  comment.getText(),
+                                  comment.getAddedBy(),
+                                  comment.getAddedAt());
+    }
+
+    protected CommentSummary buildComment(final List row) {
+        final Object addedAt = row.get(COMMENT_ADDED_AT_COLUMN);
+        return new CommentSummary(((Number) row.get(COMMENT_ID_COLUMN)).longValue(),
+                                  (String) row.get(COMMENT_TEXT_COLUMN),
+                                  (String) row.get(COMMENT_ADDED_BY_COLUMN),
+                                  addedAt instanceof Number ? new Date(((Number) addedAt).longValue()) : (Date) addedAt);
+    }
+
     @Override
     public List<TaskEventSummary> getTaskEvents(String serverTemplateId,
                                                 String containerId,
@@ -315,11 +836,13 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
 
         UserTaskServicesClient client = getClient(serverTemplateId,
                                                   UserTaskServicesClient.class);
-
         client.delegateTask(containerId,
                             taskId,
                             identityProvider.getName(),
                             entity);
+        taskInboxCache.tasksChanged(serverTemplateId,
+                                    getTaskInboxEntities(identityProvider.getName(),
+                                                         entity));
     }
 
     @Override
@@ -333,11 +856,13 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
 
         UserTaskServicesClient client = getClient(serverTemplateId,
                                                   UserTaskServicesClient.class);
-
         client.forwardTask(containerId,
                            taskId,
                            identityProvider.getName(),
                            entity);
+        taskInboxCache.tasksChanged(serverTemplateId,
+                                    getTaskInboxEntities(identityProvider.getName(),
+                                                         entity));
     }
 
     @Override
@@ -348,16 +873,23 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
             return null;
         }
 
+        TaskInstance task = findTaskAssignment(serverTemplateId,
+                                               containerId,
+                                               taskId);
+        return task == null ? null : new TaskAssignmentSummaryMapper().apply(task, identityProvider);
+    }
+
+    protected TaskInstance findTaskAssignment(String serverTemplateId,
+                                              String containerId,
+                                              Long taskId) {
         UserTaskServicesClient client = getClient(serverTemplateId,
                                                   UserTaskServicesClient.class);
         try {
-            TaskInstance task = client.getTaskInstance(containerId,
-                                                       taskId,
-                                                       false,
-                                                       false,
-                                                       true);
-
-            return new TaskAssignmentSummaryMapper().apply(task, identityProvider);
+            return client.getTaskInstance(containerId,
+                                          taskId,
+                                          false,
+                                          false,
+                                          true);
         } catch (KieServicesHttpException kieException) {
             if (kieException.getHttpCode() == NOT_FOUND_ERROR_CODE) {
                 return null;
@@ -375,17 +907,6 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
 
     }
 
-    protected CommentSummary build(TaskComment comment) {
-        CommentSummary summary = new CommentSummary(
-                comment.getId(),
-                comment.getText(),
-                comment.getAddedBy(),
-                comment.getAddedAt()
-        );
-
-        return summary;
-    }
-
     protected TaskEventSummary build(TaskEventInstance event) {
 
         TaskEventSummary summary = new TaskEventSummary(
@@ -423,4 +944,13 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
             }
         }
     }
-}
\ No newline at end of file
+
+    @FunctionalInterface
+    protected interface TaskOperation {
+
+        void execute(UserTaskServicesClient client,
+                     String containerId,
+                     Long taskId,
+                     String user);
+    }
+}
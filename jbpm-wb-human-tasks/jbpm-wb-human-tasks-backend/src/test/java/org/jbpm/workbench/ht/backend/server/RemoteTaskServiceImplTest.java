@@ -20,29 +20,53 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import javax.enterprise.event.Event;
 
+import org.dashbuilder.dataset.filter.CoreFunctionType;
+import org.jbpm.workbench.common.model.BulkOperationResult;
+import org.jbpm.workbench.ht.model.CommentSummary;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
 import org.jbpm.workbench.ht.model.TaskEventSummary;
 import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.TaskCompletedEvent;
 import org.jbpm.workbench.ht.service.TaskService;
+import org.jbpm.workbench.ks.integration.BulkOperationExecutor;
 import org.jbpm.workbench.ks.integration.KieServerIntegration;
+import org.jbpm.workbench.ks.integration.TaskInboxCache;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.internal.identity.IdentityProvider;
+import org.kie.server.api.exception.KieServicesException;
+import org.kie.server.api.exception.KieServicesHttpException;
+import org.kie.server.api.model.instance.TaskComment;
 import org.kie.server.api.model.instance.TaskEventInstance;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.api.model.definition.QueryParam;
 import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.QueryServicesClient;
 import org.kie.server.client.UserTaskServicesClient;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import static java.lang.String.format;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_COMMENT_DEPLOYMENT_ID;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_DEPLOYMENT_ID;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_STATUS;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.HUMAN_TASKS_NEXT_READY_DATASET;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.HUMAN_TASK_COMMENTS_DATASET;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
@@ -63,9 +87,18 @@ public class RemoteTaskServiceImplTest {
     @Mock
     UserTaskServicesClient userTaskServicesClient;
 
+    @Mock
+    QueryServicesClient queryServicesClient;
+
     @Mock
     Event<TaskCompletedEvent> taskCompletedEvent;
 
+    @Mock
+    TaskInboxCache taskInboxCache;
+
+    @Spy
+    BulkOperationExecutor bulkOperationExecutor = new BulkOperationExecutor(Executors.newCachedThreadPool());
+
     @InjectMocks
     RemoteTaskServiceImpl remoteTaskService;
 
@@ -74,6 +107,7 @@ public class RemoteTaskServiceImplTest {
         when(identityProvider.getName()).thenReturn(CURRENT_USER);
         when(kieServerIntegration.getServerClient(anyString())).thenReturn(kieServicesClient);
         when(kieServicesClient.getServicesClient(UserTaskServicesClient.class)).thenReturn(userTaskServicesClient);
+        when(kieServicesClient.getServicesClient(QueryServicesClient.class)).thenReturn(queryServicesClient);
     }
 
     @Test
@@ -303,4 +337,378 @@ public class RemoteTaskServiceImplTest {
         assertEquals(eventInstance.getMessage(),
                      taskEventSummaries.get(0).getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testClaimTasks() {
+        final Map<String, List<Long>> containerTasks = new HashMap<>();
+        containerTasks.put("container1",
+                           Arrays.asList(1l,
+                                         2l));
+        containerTasks.put("container2",
+                           Collections.singletonList(3l));
+        doThrow(new KieServicesException("error")).when(userTaskServicesClient).claimTask("container1",
+                                                                                         2l,
+                                                                                         CURRENT_USER);
+        final List<BulkOperationResult<Long>> results = remoteTaskService.claimTasks("serverTemplateId",
+                                                                                     containerTasks);
+
+        verify(userTaskServicesClient).claimTask("container1",
+                                                 1l,
+                                                 CURRENT_USER);
+        verify(userTaskServicesClient).claimTask("container2",
+                                                 3l,
+                                                 CURRENT_USER);
+        assertEquals(3,
+                     results.size());
+        assertTrue(results.contains(BulkOperationResult.success(1l)));
+        assertTrue(results.contains(BulkOperationResult.failure(2l,
+                                                                "error")));
+        assertTrue(results.contains(BulkOperationResult.success(3l)));
+        verify(identityProvider).getName();
+        // no task is read for the bulk operation, the other task lists are left to the task events probe
+        verify(userTaskServicesClient,
+               never()).getTaskInstance(anyString(),
+                                        anyLong(),
+                                        anyBoolean(),
+                                        anyBoolean(),
+                                        anyBoolean());
+        verify(taskInboxCache).tasksChanged("serverTemplateId",
+                                            Collections.singleton(CURRENT_USER));
+    }
+
+    @Test
+    public void testCompleteTasks() {
+        final Map<String, Object> output = Collections.singletonMap("approved",
+                                                                    true);
+
+        final List<BulkOperationResult<Long>> results = remoteTaskService.completeTasks("serverTemplateId",
+                                                                                        Collections.singletonMap("containerId",
+                                                                                                                 Arrays.asList(1l,
+                                                                                                                               2l)),
+                                                                                        output);
+
+        verify(userTaskServicesClient).completeTask("containerId",
+                                                    1l,
+                                                    CURRENT_USER,
+                                                    output);
+        verify(userTaskServicesClient).completeTask("containerId",
+                                                    2l,
+                                                    CURRENT_USER,
+                                                    output);
+        verify(taskCompletedEvent,
+               times(2)).fire(any(TaskCompletedEvent.class));
+        assertTrue(results.stream().allMatch(BulkOperationResult::isSuccess));
+    }
+
+    @Test
+    public void testGetTaskDetailsAllParts() {
+        final TaskInstance task = TaskInstance.builder().id(1l).name("taskName").actualOwner(CURRENT_USER).status("Reserved").build();
+        when(userTaskServicesClient.findTaskById(1l)).thenReturn(task);
+        when(userTaskServicesClient.findTaskEvents("containerId",
+                                                   1l,
+                                                   0,
+                                                   RemoteTaskServiceImpl.DEFAULT_DETAILS_PAGE_SIZE,
+                                                   "id",
+                                                   false)).thenReturn(Collections.singletonList(TaskEventInstance.builder().id(1l).taskId(1l).build()));
+        when(userTaskServicesClient.getTaskInstance("containerId",
+                                                    1l,
+                                                    false,
+                                                    false,
+                                                    true)).thenReturn(task);
+
+        final TaskDetails details = remoteTaskService.getTaskDetails("serverTemplateId",
+                                                                     "containerId",
+                                                                     1l,
+                                                                     null,
+                                                                     null);
+
+        assertEquals("taskName",
+                     details.getTask().getName());
+        assertTrue(details.getComments().isEmpty());
+        assertEquals(1,
+                     details.getEvents().size());
+        assertEquals(CURRENT_USER,
+                     details.getAssignment().getActualOwner());
+        assertTrue(details.getAssignment().isDelegationAllowed());
+    }
+
+    @Test
+    public void testGetTaskDetailsRequestedPartsOnly() {
+
+        final TaskDetails details = remoteTaskService.getTaskDetails("serverTemplateId",
+                                                                     "containerId",
+                                                                     1l,
+                                                                     EnumSet.of(TaskDetailsPart.COMMENTS),
+                                                                     5);
+
+        assertNotNull(details.getComments());
+        // first page of the comments only
+        verify(queryServicesClient).query(eq(HUMAN_TASK_COMMENTS_DATASET),
+                                          eq(QueryServicesClient.QUERY_MAP_RAW),
+                                          any(QueryFilterSpec.class),
+                                          eq(0),
+                                          eq(5),
+                                          eq(List.class));
+        verify(userTaskServicesClient,
+               never()).getTaskCommentsByTaskId(anyString(),
+                                                any());
+        assertNull(details.getTask());
+        assertNull(details.getEvents());
+        assertNull(details.getAssignment());
+        verify(userTaskServicesClient,
+               never()).findTaskById(any());
+        verify(userTaskServicesClient,
+               never()).findTaskEvents(anyString(),
+                                       any(),
+                                       any(),
+                                       any(),
+                                       anyString(),
+                                       anyBoolean());
+        verify(userTaskServicesClient,
+               never()).getTaskInstance(anyString(),
+                                        any(),
+                                        anyBoolean(),
+                                        anyBoolean(),
+                                        anyBoolean());
+    }
+
+    @Test
+    public void testGetTaskCommentsPage() {
+        final Date addedAt = new Date();
+        when(queryServicesClient.query(eq(HUMAN_TASK_COMMENTS_DATASET),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(1),
+                                       eq(10),
+                                       eq(List.class))).thenReturn(Collections.singletonList(Arrays.asList(20,
+                                                                                                           "text",
+                                                                                                           "admin",
+                                                                                                           addedAt.getTime(),
+                                                                                                           1)));
+
+        final List<CommentSummary> comments = remoteTaskService.getTaskComments("serverTemplateId",
+                                                                                "containerId",
+                                                                                1l,
+                                                                                1,
+                                                                                10);
+
+        assertEquals(1,
+                     comments.size());
+        assertEquals(Long.valueOf(20),
+                     comments.get(0).getId());
+        assertEquals("text",
+                     comments.get(0).getText());
+        assertEquals("admin",
+                     comments.get(0).getAddedBy());
+        assertEquals(addedAt,
+                     comments.get(0).getAddedAt());
+
+        final ArgumentCaptor<QueryFilterSpec> filterSpec = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient).query(anyString(),
+                                          anyString(),
+                                          filterSpec.capture(),
+                                          anyInt(),
+                                          anyInt(),
+                                          eq(List.class));
+        assertEquals(2,
+                     filterSpec.getValue().getParameters().length);
+        assertEquals(COLUMN_COMMENT_DEPLOYMENT_ID,
+                     filterSpec.getValue().getParameters()[1].getColumn());
+        assertEquals(Collections.singletonList("containerId"),
+                     filterSpec.getValue().getParameters()[1].getValue());
+        assertFalse(filterSpec.getValue().isAscending());
+        verify(userTaskServicesClient,
+               never()).getTaskCommentsByTaskId(anyString(),
+                                                any());
+    }
+
+    @Test
+    public void testGetTaskCommentsSince() {
+        when(queryServicesClient.query(anyString(),
+                                       anyString(),
+                                       any(QueryFilterSpec.class),
+                                       anyInt(),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(Collections.singletonList(Arrays.asList(21L,
+                                                                                                           "new",
+                                                                                                           "admin",
+                                                                                                           new Date(),
+                                                                                                           1L)));
+
+        final List<CommentSummary> comments = remoteTaskService.getTaskCommentsSince("serverTemplateId",
+                                                                                     "containerId",
+                                                                                     1l,
+                                                                                     20l);
+
+        assertEquals(1,
+                     comments.size());
+        final ArgumentCaptor<QueryFilterSpec> filterSpec = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient).query(eq(HUMAN_TASK_COMMENTS_DATASET),
+                                          eq(QueryServicesClient.QUERY_MAP_RAW),
+                                          filterSpec.capture(),
+                                          eq(0),
+                                          eq(RemoteTaskServiceImpl.COMMENTS_QUERY_PAGE_SIZE),
+                                          eq(List.class));
+        assertEquals(3,
+                     filterSpec.getValue().getParameters().length);
+        assertEquals(Collections.singletonList(20l),
+                     filterSpec.getValue().getParameters()[2].getValue());
+    }
+
+    @Test
+    public void testGetAllTaskComments() {
+        final TaskComment older = TaskComment.builder().id(1l).text("older").addedBy("admin").addedAt(new Date()).build();
+        final TaskComment newer = TaskComment.builder().id(2l).text("newer").addedBy("admin").addedAt(new Date()).build();
+        when(userTaskServicesClient.getTaskCommentsByTaskId("containerId",
+                                                            1l)).thenReturn(Arrays.asList(older,
+                                                                                          newer));
+
+        final List<CommentSummary> comments = remoteTaskService.getTaskComments("serverTemplateId",
+                                                                                "containerId",
+                                                                                1l);
+
+        assertEquals(Arrays.asList(2l,
+                                   1l),
+                     comments.stream().map(CommentSummary::getId).collect(Collectors.toList()));
+        verify(queryServicesClient,
+               never()).query(anyString(),
+                              anyString(),
+                              any(QueryFilterSpec.class),
+                              anyInt(),
+                              anyInt(),
+                              eq(List.class));
+    }
+
+    @Test
+    public void testClaimNextTask() {
+        // rows as sorted by the query, task 3 shows twice as the user matches two of its potential owners
+        when(queryServicesClient.query(eq(HUMAN_TASKS_NEXT_READY_DATASET),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(0),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(Arrays.asList(Arrays.asList(3l,
+                                                                                               "containerId"),
+                                                                                 Arrays.asList(3l,
+                                                                                               "containerId"),
+                                                                                 Arrays.asList(2l,
+                                                                                               "containerId"),
+                                                                                 Arrays.asList(1l,
+                                                                                               "containerId")));
+        // a colleague claimed task 3 already
+        doThrow(new KieServicesHttpException("already claimed",
+                                             403,
+                                             "",
+                                             "")).when(userTaskServicesClient).claimTask("containerId",
+                                                                                         3l,
+                                                                                         CURRENT_USER);
+        when(userTaskServicesClient.getTaskInstance("containerId",
+                                                    2l,
+                                                    true,
+                                                    false,
+                                                    true)).thenReturn(TaskInstance.builder().id(2l).containerId("containerId").potentialOwners(Collections.singletonList("HR")).inputData(Collections.singletonMap("amount",
+                                                                                                                                                                                                                    100)).build());
+
+        final TaskSummary task = remoteTaskService.claimNextTask("serverTemplateId",
+                                                                 null);
+
+        assertEquals(Long.valueOf(2),
+                     task.getId());
+        assertEquals("100",
+                     task.getDomainDataValue("amount"));
+        verify(userTaskServicesClient).claimTask("containerId",
+                                                 3l,
+                                                 CURRENT_USER);
+        verify(userTaskServicesClient,
+               never()).claimTask("containerId",
+                                  1l,
+                                  CURRENT_USER);
+        verify(taskInboxCache).tasksChanged("serverTemplateId",
+                                            new HashSet<>(Arrays.asList("HR",
+                                                                        CURRENT_USER)));
+
+        final ArgumentCaptor<QueryFilterSpec> filterSpec = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient).query(anyString(),
+                                          anyString(),
+                                          filterSpec.capture(),
+                                          anyInt(),
+                                          anyInt(),
+                                          eq(List.class));
+        assertEquals("priority,noDueDate,dueDate",
+                     filterSpec.getValue().getOrderBy());
+        assertTrue(filterSpec.getValue().isAscending());
+        assertEquals(1,
+                     filterSpec.getValue().getParameters().length);
+        assertEquals(COLUMN_STATUS,
+                     filterSpec.getValue().getParameters()[0].getColumn());
+        assertEquals(Collections.singletonList("Ready"),
+                     filterSpec.getValue().getParameters()[0].getValue());
+    }
+
+    @Test
+    public void testClaimNextTaskInContainers() {
+        when(queryServicesClient.query(anyString(),
+                                       anyString(),
+                                       any(QueryFilterSpec.class),
+                                       anyInt(),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(Collections.emptyList());
+
+        assertNull(remoteTaskService.claimNextTask("serverTemplateId",
+                                                   Collections.singletonList("containerId")));
+
+        final ArgumentCaptor<QueryFilterSpec> filterSpec = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient).query(eq(HUMAN_TASKS_NEXT_READY_DATASET),
+                                          anyString(),
+                                          filterSpec.capture(),
+                                          eq(0),
+                                          anyInt(),
+                                          eq(List.class));
+        final QueryParam containerParam = filterSpec.getValue().getParameters()[1];
+        assertEquals(COLUMN_DEPLOYMENT_ID,
+                     containerParam.getColumn());
+        assertEquals(CoreFunctionType.IN.toString(),
+                     containerParam.getOperator());
+        assertEquals(Collections.singletonList("containerId"),
+                     containerParam.getValue());
+        verify(userTaskServicesClient,
+               never()).claimTask(anyString(),
+                                  any(),
+                                  anyString());
+    }
+
+    @Test
+    public void testClaimNextTaskFailure() {
+        when(queryServicesClient.query(anyString(),
+                                       anyString(),
+                                       any(QueryFilterSpec.class),
+                                       anyInt(),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(Arrays.asList(Arrays.asList(1l,
+                                                                                               "containerId"),
+                                                                                 Arrays.asList(2l,
+                                                                                               "containerId")));
+        doThrow(new KieServicesHttpException("server error",
+                                             500,
+                                             "",
+                                             "")).when(userTaskServicesClient).claimTask("containerId",
+                                                                                         1l,
+                                                                                         CURRENT_USER);
+
+        try {
+            remoteTaskService.claimNextTask("serverTemplateId",
+                                            null);
+            fail("Claim failure expected");
+        } catch (KieServicesHttpException e) {
+            assertEquals(Integer.valueOf(500),
+                         e.getHttpCode());
+        }
+        verify(userTaskServicesClient,
+               never()).claimTask("containerId",
+                                  2l,
+                                  CURRENT_USER);
+        verify(taskInboxCache,
+               never()).tasksChanged(anyString(),
+                                     any());
+    }
+}
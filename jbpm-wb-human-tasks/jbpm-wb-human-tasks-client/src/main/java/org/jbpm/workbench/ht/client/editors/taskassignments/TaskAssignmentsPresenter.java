@@ -15,6 +15,8 @@
  */
 package org.jbpm.workbench.ht.client.editors.taskassignments;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
@@ -29,6 +31,8 @@ import org.jboss.errai.common.client.api.RemoteCallback;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.resources.i18n.Constants;
 import org.jbpm.workbench.ht.model.TaskAssignmentSummary;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
 import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
 import org.jbpm.workbench.ht.service.TaskService;
@@ -104,9 +108,10 @@ public class TaskAssignmentsPresenter extends AbstractTaskPresenter {
             view.enableUserOrGroupInput(false);
             view.setPotentialOwnersInfo(emptyList());
 
-            taskService.call(new RemoteCallback<TaskAssignmentSummary>() {
+            taskService.call(new RemoteCallback<TaskDetails>() {
                 @Override
-                public void callback(final TaskAssignmentSummary response) {
+                public void callback(final TaskDetails details) {
+                    final TaskAssignmentSummary response = details == null ? null : details.getAssignment();
                     if (response == null || response.getPotOwnersString() == null || response.getPotOwnersString().isEmpty()) {
                         view.setPotentialOwnersInfo(singletonList(constants.No_Potential_Owners()));
                     } else {
@@ -115,9 +120,11 @@ public class TaskAssignmentsPresenter extends AbstractTaskPresenter {
                         view.enableUserOrGroupInput(response.isDelegationAllowed());
                     }
                 }
-            }).getTaskAssignmentDetails(getServerTemplateId(),
-                                        getContainerId(),
-                                        getTaskId());
+            }).getTaskDetails(getServerTemplateId(),
+                              getContainerId(),
+                              getTaskId(),
+                              new HashSet<>(Arrays.asList(TaskDetailsPart.ASSIGNMENT)),
+                              null);
         }
     }
 
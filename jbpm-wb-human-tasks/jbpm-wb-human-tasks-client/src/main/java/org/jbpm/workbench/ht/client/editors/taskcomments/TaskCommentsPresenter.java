@@ -15,9 +15,14 @@
  */
 package org.jbpm.workbench.ht.client.editors.taskcomments;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Observes;
@@ -28,11 +33,14 @@ import com.google.gwt.view.client.HasData;
 import com.google.gwt.view.client.ListDataProvider;
 import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.common.client.api.Caller;
+import org.jboss.errai.common.client.api.ErrorCallback;
 import org.jboss.errai.common.client.api.RemoteCallback;
 import org.jboss.errai.security.shared.api.identity.User;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.resources.i18n.Constants;
 import org.jbpm.workbench.ht.model.CommentSummary;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
 import org.jbpm.workbench.ht.model.events.TaskCompletedEvent;
 import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
@@ -42,6 +50,8 @@ import org.uberfire.client.mvp.UberView;
 @Dependent
 public class TaskCommentsPresenter extends AbstractTaskPresenter {
 
+    public static final int PAGE_SIZE = 10;
+
     private final TaskCommentsView view;
     private final Caller<TaskService> taskService;
     private final ListDataProvider<CommentSummary> dataProvider = new ListDataProvider<CommentSummary>();
@@ -49,6 +59,7 @@ public class TaskCommentsPresenter extends AbstractTaskPresenter {
     private User identity;
     private boolean forLog = false;
     private boolean forAdmin = false;
+    private int currentPage = 0;
 
     @Inject
     public TaskCommentsPresenter(TaskCommentsView view,
@@ -72,22 +83,85 @@ public class TaskCommentsPresenter extends AbstractTaskPresenter {
         return dataProvider;
     }
 
+    public int getPageSize() {
+        return PAGE_SIZE;
+    }
+
     public void refreshComments() {
+        currentPage = 0;
+        loadComments();
+    }
+
+    public void loadMoreComments() {
+        currentPage++;
+        loadComments();
+    }
+
+    protected void loadComments() {
+        final int page = currentPage;
+        if (page == 0) {
+            taskService.call((TaskDetails details) -> onCommentsLoaded(page,
+                                                                      details == null ? Collections.emptyList() : details.getComments()),
+                             getCommentsErrorCallback()).getTaskDetails(getServerTemplateId(),
+                                                                        getContainerId(),
+                                                                        getTaskId(),
+                                                                        new HashSet<>(Arrays.asList(TaskDetailsPart.COMMENTS)),
+                                                                        getPageSize());
+        } else {
+            taskService.call((List<CommentSummary> comments) -> onCommentsLoaded(page,
+                                                                                 comments),
+                             getCommentsErrorCallback()).getTaskComments(getServerTemplateId(),
+                                                                         getContainerId(),
+                                                                         getTaskId(),
+                                                                         page,
+                                                                         getPageSize());
+        }
+    }
+
+    protected void onCommentsLoaded(final int page,
+                                    final List<CommentSummary> comments) {
+        if (page == 0) {
+            dataProvider.getList().clear();
+        }
+        // comments added since the first page was loaded shift the following pages
+        final Set<Long> displayed = dataProvider.getList().stream().map(CommentSummary::getId).collect(Collectors.toSet());
+        comments.stream().filter(comment -> !displayed.contains(comment.getId())).forEach(dataProvider.getList()::add);
+        view.hideLoadButton(comments.size() < getPageSize());
+        view.redrawDataGrid();
+    }
+
+    protected ErrorCallback<Message> getCommentsErrorCallback() {
+        return (Message message, Throwable throwable) -> {
+            if (throwable.getMessage().contains("cannot find container")) {
+                view.setErrorMessage(constants.TaskCommentsNotAvailable(getContainerId()));
+                return false;
+            } else {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Fetches only the comments added after the newest one already displayed, falls back to a full refresh when
+     * nothing is displayed yet.
+     */
+    public void loadNewComments() {
+        if (dataProvider.getList().isEmpty()) {
+            refreshComments();
+            return;
+        }
+
+        final Long latestCommentId = dataProvider.getList().get(0).getId();
         taskService.call((List<CommentSummary> comments) -> {
-                             dataProvider.getList().clear();
-                             dataProvider.getList().addAll(comments);
-                             view.redrawDataGrid();
-                         },
-                         (Message message, Throwable throwable) -> {
-                             if (throwable.getMessage().contains("cannot find container")) {
-                                 view.setErrorMessage(constants.TaskCommentsNotAvailable(getContainerId()));
-                                 return false;
-                             } else {
-                                 return true;
-                             }
-                         }).getTaskComments(getServerTemplateId(),
-                                            getContainerId(),
-                                            getTaskId());
+            if (!comments.isEmpty()) {
+                dataProvider.getList().addAll(0,
+                                              comments);
+                view.redrawDataGrid();
+            }
+        }).getTaskCommentsSince(getServerTemplateId(),
+                                getContainerId(),
+                                getTaskId(),
+                                latestCommentId);
     }
 
     public void addTaskComment(final String text) {
@@ -109,7 +183,7 @@ public class TaskCommentsPresenter extends AbstractTaskPresenter {
                 new RemoteCallback<Void>() {
                     @Override
                     public void callback(Void response) {
-                        refreshComments();
+                        loadNewComments();
                         view.clearCommentInput();
                     }
                 }
@@ -154,7 +228,7 @@ public class TaskCommentsPresenter extends AbstractTaskPresenter {
 
     public void onTaskRefreshedEvent(@Observes final TaskRefreshedEvent event) {
         if (isSameTaskFromEvent().test(event)) {
-            refreshComments();
+            loadNewComments();
         }
     }
 
@@ -177,5 +251,7 @@ public class TaskCommentsPresenter extends AbstractTaskPresenter {
         void newCommentsEnabled(Boolean enabled);
 
         void setErrorMessage(String message);
+
+        void hideLoadButton(boolean hidden);
     }
 }
@@ -99,6 +99,14 @@ public class TaskCommentsViewImpl extends Composite implements TaskCommentsPrese
     @DataField
     HTMLDivElement listContainer;
 
+    @Inject
+    @DataField
+    HTMLDivElement loadDiv;
+
+    @Inject
+    @DataField
+    Button loadMoreCommentsButton = GWT.create(Button.class);
+
     private Constants constants = GWT.create(Constants.class);
 
     private TaskCommentsPresenter presenter;
@@ -115,6 +123,10 @@ public class TaskCommentsViewImpl extends Composite implements TaskCommentsPrese
 
     @Override
     public void redrawDataGrid() {
+        // every loaded page is shown, more comments are fetched with the load more button
+        commentsListGrid.setVisibleRange(0,
+                                         Math.max(COMMENTS_PER_PAGE,
+                                                  presenter.getDataProvider().getList().size()));
         commentsListGrid.refresh();
         commentsListGrid.redraw();
     }
@@ -143,6 +155,7 @@ public class TaskCommentsViewImpl extends Composite implements TaskCommentsPrese
         presenter.addDataDisplay(commentsListGrid);
 
         addCommentButton.setText(constants.Add_Comment());
+        loadMoreCommentsButton.setText(constants.LoadMore());
         newTaskCommentLabel.setText(constants.Comment());
     }
 
@@ -151,6 +164,20 @@ public class TaskCommentsViewImpl extends Composite implements TaskCommentsPrese
         presenter.addTaskComment(newTaskCommentTextArea.getText());
     }
 
+    @EventHandler("loadMoreCommentsButton")
+    public void loadMoreCommentsButton(ClickEvent e) {
+        presenter.loadMoreComments();
+    }
+
+    @Override
+    public void hideLoadButton(final boolean hidden) {
+        if (hidden) {
+            loadDiv.classList.add("hidden");
+        } else {
+            loadDiv.classList.remove("hidden");
+        }
+    }
+
     @Override
     public void displayNotification(String text) {
         notification.fire(new NotificationEvent(text));
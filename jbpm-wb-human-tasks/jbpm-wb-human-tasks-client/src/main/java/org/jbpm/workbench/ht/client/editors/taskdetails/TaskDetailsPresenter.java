@@ -15,7 +15,9 @@
  */
 package org.jbpm.workbench.ht.client.editors.taskdetails;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Event;
@@ -27,6 +29,8 @@ import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.resources.i18n.Constants;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
 import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
@@ -133,7 +137,8 @@ public class TaskDetailsPresenter extends AbstractTaskPresenter {
     public void onTaskRefreshedEvent(@Observes final TaskRefreshedEvent event) {
         if (isSameTaskFromEvent().test(event)) {
             taskService.call(
-                    (TaskSummary task) -> {
+                    (TaskDetails details) -> {
+                        final TaskSummary task = details == null ? null : details.getTask();
                         if (task != null) {
                             setTaskDetails(translationService.format(task.getStatus()),
                                            task.getDescription(),
@@ -143,9 +148,11 @@ public class TaskDetailsPresenter extends AbstractTaskPresenter {
                                            task.getProcessInstanceId(),
                                            task.getProcessId());
                         }
-                    }).getTask(getServerTemplateId(),
-                               getContainerId(),
-                               getTaskId());
+                    }).getTaskDetails(getServerTemplateId(),
+                                      getContainerId(),
+                                      getTaskId(),
+                                      new HashSet<>(Arrays.asList(TaskDetailsPart.TASK)),
+                                      null);
         }
     }
 
@@ -16,6 +16,9 @@
 package org.jbpm.workbench.ht.client.editors.tasklogs;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +31,8 @@ import com.google.gwt.user.client.ui.IsWidget;
 import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.common.client.ui.ElementWrapperWidget;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
 import org.jbpm.workbench.ht.model.TaskEventSummary;
 import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
@@ -75,18 +80,30 @@ public class TaskLogsPresenter extends AbstractTaskPresenter {
     }
 
     public void loadTaskLogs() {
-        taskService.call((final List<TaskEventSummary> events) -> {
-            if (currentPage == 0) {
-                visibleLogs = new ArrayList();
-            }
-            visibleLogs.addAll(events);
-            view.hideLoadButton(events.size() < PAGE_SIZE);
-            view.setLogs(visibleLogs.stream().collect(Collectors.toList()));
-        }).getTaskEvents(getServerTemplateId(),
-                         getContainerId(),
-                         getTaskId(),
-                         currentPage,
-                         getPageSize());
+        if (currentPage == 0) {
+            taskService.call((final TaskDetails details) -> {
+                onTaskLogsLoaded(details == null ? Collections.emptyList() : details.getEvents());
+            }).getTaskDetails(getServerTemplateId(),
+                              getContainerId(),
+                              getTaskId(),
+                              new HashSet<>(Arrays.asList(TaskDetailsPart.EVENTS)),
+                              getPageSize());
+        } else {
+            taskService.call((final List<TaskEventSummary> events) -> onTaskLogsLoaded(events)).getTaskEvents(getServerTemplateId(),
+                                                                                                              getContainerId(),
+                                                                                                              getTaskId(),
+                                                                                                              currentPage,
+                                                                                                              getPageSize());
+        }
+    }
+
+    protected void onTaskLogsLoaded(final List<TaskEventSummary> events) {
+        if (currentPage == 0) {
+            visibleLogs = new ArrayList();
+        }
+        visibleLogs.addAll(events);
+        view.hideLoadButton(events.size() < PAGE_SIZE);
+        view.setLogs(visibleLogs.stream().collect(Collectors.toList()));
     }
 
     public void loadMoreProcessInstanceLogs() {
@@ -18,10 +18,13 @@ package org.jbpm.workbench.ht.client.editors.taskslist;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.enterprise.event.Event;
@@ -44,6 +47,8 @@ import org.jbpm.workbench.common.client.list.AbstractMultiGridPresenter;
 import org.jbpm.workbench.common.client.list.ListTable;
 import org.jbpm.workbench.common.client.list.MultiGridView;
 import org.jbpm.workbench.common.client.menu.RefreshMenuBuilder;
+import org.jbpm.workbench.common.client.util.BulkOperationNotifications;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
 import org.jbpm.workbench.ht.client.resources.i18n.Constants;
@@ -54,6 +59,7 @@ import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
 import org.jbpm.workbench.ht.service.TaskService;
 import org.jbpm.workbench.ht.util.TaskStatus;
+import org.jbpm.workbench.ks.events.TaskInboxChangedEvent;
 import org.uberfire.client.workbench.events.BeforeClosePlaceEvent;
 import org.uberfire.mvp.PlaceRequest;
 import org.uberfire.mvp.impl.DefaultPlaceRequest;
@@ -271,6 +277,88 @@ public abstract class AbstractTaskListPresenter<V extends AbstractTaskListPresen
                       task.getId());
     }
 
+    public void bulkClaim(final List<TaskSummary> tasks) {
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+        final Map<String, List<Long>> containerTasks = groupByContainer(tasks,
+                                                                        getClaimActionCondition(),
+                                                                        task -> constants.TaskCanNotBeClaimed(String.valueOf(task.getId())));
+        if (containerTasks.isEmpty()) {
+            return;
+        }
+        taskService.call((List<BulkOperationResult<Long>> results) -> onBulkOperationCompleted(results))
+                .claimTasks(getSelectedServerTemplate(),
+                            containerTasks);
+    }
+
+    public void bulkRelease(final List<TaskSummary> tasks) {
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+        final Map<String, List<Long>> containerTasks = groupByContainer(tasks,
+                                                                        getReleaseActionCondition(),
+                                                                        task -> constants.TaskCanNotBeReleased(String.valueOf(task.getId())));
+        if (containerTasks.isEmpty()) {
+            return;
+        }
+        taskService.call((List<BulkOperationResult<Long>> results) -> onBulkOperationCompleted(results))
+                .releaseTasks(getSelectedServerTemplate(),
+                              containerTasks);
+    }
+
+    public void bulkResume(final List<TaskSummary> tasks) {
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+        final Map<String, List<Long>> containerTasks = groupByContainer(tasks,
+                                                                        getResumeActionCondition(),
+                                                                        task -> constants.TaskCanNotBeResumed(String.valueOf(task.getId())));
+        if (containerTasks.isEmpty()) {
+            return;
+        }
+        taskService.call((List<BulkOperationResult<Long>> results) -> onBulkOperationCompleted(results))
+                .resumeTasks(getSelectedServerTemplate(),
+                             containerTasks);
+    }
+
+    /**
+     * Groups the ids of the tasks the action applies to by container, the others are reported in one notification.
+     */
+    protected Map<String, List<Long>> groupByContainer(final List<TaskSummary> tasks,
+                                                       final Predicate<TaskSummary> actionCondition,
+                                                       final Function<TaskSummary, String> notApplicableMessage) {
+        final Map<String, List<Long>> containerTasks = new HashMap<>();
+        final List<TaskSummary> notApplicable = new ArrayList<>();
+        for (TaskSummary task : tasks) {
+            if (actionCondition.test(task)) {
+                containerTasks.computeIfAbsent(task.getDeploymentId(),
+                                               key -> new ArrayList<>()).add(task.getId());
+            } else {
+                notApplicable.add(task);
+            }
+        }
+        BulkOperationNotifications.notifyItems(notApplicable,
+                                               notApplicableMessage,
+                                               view::displayNotification);
+        return containerTasks;
+    }
+
+    protected void onBulkOperationCompleted(final List<BulkOperationResult<Long>> results) {
+        if (results != null) {
+            final List<BulkOperationResult<Long>> failures = results.stream()
+                    .filter(result -> !result.isSuccess())
+                    .collect(Collectors.toList());
+            view.displayNotification(constants.TasksBulkOperationCompleted(results.size() - failures.size(),
+                                                                           failures.size()));
+            BulkOperationNotifications.notifyItems(failures,
+                                                   result -> constants.TaskBulkOperationFailed(String.valueOf(result.getId()),
+                                                                                               result.getErrorMessage()),
+                                                   view::displayNotification);
+        }
+        refreshGrid();
+    }
+
     public Menus getMenus() { //To be used by subclass methods annotated with @WorkbenchMenu
         return MenuFactory
                 .newTopLevelCustomMenu(new RefreshMenuBuilder(this)).endMenu()
@@ -312,6 +400,16 @@ public abstract class AbstractTaskListPresenter<V extends AbstractTaskListPresen
         refreshGrid();
     }
 
+    /**
+     * The event only names the server template, lists of users whose tasks did not change are reloaded from the server
+     * cache.
+     */
+    public void onTaskInboxChangedEvent(@Observes TaskInboxChangedEvent event) {
+        if (event.getServerTemplateId() != null && event.getServerTemplateId().equals(getSelectedServerTemplate())) {
+            refreshGrid();
+        }
+    }
+
     public void onTaskDetailsClosed(@Observes BeforeClosePlaceEvent closed) {
         if (PerspectiveIds.TASK_DETAILS_SCREEN.equals(closed.getPlace().getIdentifier())) {
             selectedTask = null;
@@ -22,13 +22,17 @@ import java.util.List;
 import java.util.Set;
 import javax.inject.Inject;
 
+import com.google.gwt.core.client.GWT;
 import com.google.gwt.dom.client.BrowserEvents;
 import com.google.gwt.dom.client.Style;
 import com.google.gwt.user.cellview.client.Column;
 import com.google.gwt.user.cellview.client.RowStyles;
 import com.google.gwt.view.client.CellPreviewEvent;
+import org.gwtbootstrap3.client.ui.AnchorListItem;
+import org.gwtbootstrap3.client.ui.constants.IconType;
 import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jbpm.workbench.common.client.list.AbstractMultiGridView;
+import org.jbpm.workbench.common.client.list.ExtendedPagedTable;
 import org.jbpm.workbench.common.client.list.ListTable;
 import org.jbpm.workbench.common.client.util.ConditionalAction;
 import org.jbpm.workbench.common.client.util.DateUtils;
@@ -50,7 +54,8 @@ public abstract class AbstractTaskListView<P extends AbstractTaskListPresenter>
 
     @Override
     public List<String> getBannedColumns() {
-        return Arrays.asList(COLUMN_NAME,
+        return Arrays.asList(COL_ID_SELECT,
+                             COLUMN_NAME,
                              COL_ID_ACTIONS);
     }
 
@@ -76,10 +81,13 @@ public abstract class AbstractTaskListView<P extends AbstractTaskListPresenter>
     public void initColumns(ListTable<TaskSummary> extendedPagedTable) {
         initCellPreview(extendedPagedTable);
 
+        final ColumnMeta<TaskSummary> checkColumnMeta = initChecksColumn(extendedPagedTable);
         ColumnMeta<TaskSummary> actionsColumnMeta = initActionsColumn();
         extendedPagedTable.addSelectionIgnoreColumn(actionsColumnMeta.getColumn());
+        extendedPagedTable.addSelectionIgnoreColumn(checkColumnMeta.getColumn());
 
         List<ColumnMeta<TaskSummary>> columnMetas = new ArrayList<ColumnMeta<TaskSummary>>();
+        columnMetas.add(checkColumnMeta);
         columnMetas.add(new ColumnMeta<>(
                 createNumberColumn(COLUMN_TASK_ID,
                                    task -> task.getId()),
@@ -169,6 +177,9 @@ public abstract class AbstractTaskListView<P extends AbstractTaskListPresenter>
         }
 
         extendedPagedTable.addColumns(columnMetas);
+        extendedPagedTable.setColumnWidth(checkColumnMeta.getColumn(),
+                                          CHECK_COLUMN_WIDTH,
+                                          Style.Unit.PX);
         extendedPagedTable.setColumnWidth(actionsColumnMeta.getColumn(),
                                           ACTIONS_COLUMN_WIDTH,
                                           Style.Unit.PX);
@@ -235,6 +246,51 @@ public abstract class AbstractTaskListView<P extends AbstractTaskListPresenter>
         );
     }
 
+    @Override
+    public List<AnchorListItem> getBulkActionsItems(final ExtendedPagedTable<TaskSummary> extendedPagedTable) {
+        final List<AnchorListItem> bulkActionsItems = new ArrayList<>();
+        bulkActionsItems.add(getBulkClaim(extendedPagedTable));
+        bulkActionsItems.add(getBulkRelease(extendedPagedTable));
+        bulkActionsItems.add(getBulkResume(extendedPagedTable));
+        return bulkActionsItems;
+    }
+
+    protected AnchorListItem getBulkClaim(final ExtendedPagedTable<TaskSummary> extendedPagedTable) {
+        final AnchorListItem bulkClaimNavLink = GWT.create(AnchorListItem.class);
+        bulkClaimNavLink.setText(constants.Bulk_Claim());
+        bulkClaimNavLink.setIcon(IconType.USER);
+        bulkClaimNavLink.setIconFixedWidth(true);
+        bulkClaimNavLink.addClickHandler(event -> {
+            presenter.bulkClaim(extendedPagedTable.getSelectedItems());
+            extendedPagedTable.deselectAllItems();
+        });
+        return bulkClaimNavLink;
+    }
+
+    protected AnchorListItem getBulkRelease(final ExtendedPagedTable<TaskSummary> extendedPagedTable) {
+        final AnchorListItem bulkReleaseNavLink = GWT.create(AnchorListItem.class);
+        bulkReleaseNavLink.setText(constants.Bulk_Release());
+        bulkReleaseNavLink.setIcon(IconType.USERS);
+        bulkReleaseNavLink.setIconFixedWidth(true);
+        bulkReleaseNavLink.addClickHandler(event -> {
+            presenter.bulkRelease(extendedPagedTable.getSelectedItems());
+            extendedPagedTable.deselectAllItems();
+        });
+        return bulkReleaseNavLink;
+    }
+
+    protected AnchorListItem getBulkResume(final ExtendedPagedTable<TaskSummary> extendedPagedTable) {
+        final AnchorListItem bulkResumeNavLink = GWT.create(AnchorListItem.class);
+        bulkResumeNavLink.setText(constants.Bulk_Resume());
+        bulkResumeNavLink.setIcon(IconType.PLAY);
+        bulkResumeNavLink.setIconFixedWidth(true);
+        bulkResumeNavLink.addClickHandler(event -> {
+            presenter.bulkResume(extendedPagedTable.getSelectedItems());
+            extendedPagedTable.deselectAllItems();
+        });
+        return bulkResumeNavLink;
+    }
+
     public void addDomainSpecifColumns(ListTable<TaskSummary> extendedPagedTable,
                                        Set<String> columns) {
 
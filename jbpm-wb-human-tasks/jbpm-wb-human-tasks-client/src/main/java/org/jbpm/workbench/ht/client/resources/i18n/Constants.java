@@ -115,6 +115,8 @@ public interface Constants extends Messages {
 
     String Add_Comment();
 
+    String LoadMore();
+
     String Task_Must_Have_A_Name();
 
     String Create();
@@ -219,6 +221,24 @@ public interface Constants extends Messages {
 
     String TaskSuspended(String taskId);
 
+    String TasksBulkOperationCompleted(int succeeded,
+                                       int failed);
+
+    String TaskBulkOperationFailed(String taskId,
+                                   String error);
+
+    String Bulk_Claim();
+
+    String Bulk_Release();
+
+    String Bulk_Resume();
+
+    String TaskCanNotBeClaimed(String taskId);
+
+    String TaskCanNotBeReleased(String taskId);
+
+    String TaskCanNotBeResumed(String taskId);
+
     String TaskSuccessfullyForwarded();
 
     String ReminderSentTo(String userName);
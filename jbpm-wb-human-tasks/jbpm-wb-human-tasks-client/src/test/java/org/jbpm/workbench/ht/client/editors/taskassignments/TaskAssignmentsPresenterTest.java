@@ -17,6 +17,8 @@ package org.jbpm.workbench.ht.client.editors.taskassignments;
 
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
 import javax.enterprise.event.Event;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
@@ -25,6 +27,8 @@ import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenterTest;
 import org.jbpm.workbench.ht.client.resources.i18n.Constants;
 import org.jbpm.workbench.ht.model.TaskAssignmentSummary;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
 import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
 import org.jbpm.workbench.ht.service.TaskService;
@@ -46,6 +50,7 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
 
     private static final String CURRENT_USER = "Jan";
     private static final String OTHER_USER = "OTHER_USER";
+    private static final Set<TaskDetailsPart> ASSIGNMENT_PART = new HashSet<>(Arrays.asList(TaskDetailsPart.ASSIGNMENT));
 
     @Mock
     private TaskAssignmentsPresenter.TaskAssignmentsView viewMock;
@@ -76,6 +81,17 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
         );
     }
 
+    private void mockTaskAssignment(final Long taskId,
+                                    final TaskAssignmentSummary assignment) {
+        final TaskDetails details = new TaskDetails();
+        details.setAssignment(assignment);
+        when(taskService.getTaskDetails(anyString(),
+                                        anyString(),
+                                        eq(taskId),
+                                        eq(ASSIGNMENT_PART),
+                                        any())).thenReturn(details);
+    }
+
     @Test
     public void delegationButtonDisabled_whenDelegationSuccessful() {
         final long TASK_ID = 1;
@@ -86,9 +102,8 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
         task.setPotOwnersString(Arrays.asList(CURRENT_USER));
         task.setDelegationAllowed(true);
 
-        when(taskService.getTaskAssignmentDetails(anyString(),
-                                                  anyString(),
-                                                  eq(TASK_ID))).thenReturn(task);
+        mockTaskAssignment(TASK_ID,
+                           task);
         boolean isForLog = false;
         TaskSelectionEvent event = new TaskSelectionEvent("serverTemplateId",
                                                           "containerId",
@@ -145,9 +160,8 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
         task.setTaskId(COMPLETED_TASK_ID);
         task.setStatus(TASK_STATUS_COMPLETED.getIdentifier());
         task.setPotOwnersString(Arrays.asList(CURRENT_USER));
-        when(taskService.getTaskAssignmentDetails(anyString(),
-                                                  anyString(),
-                                                  eq(COMPLETED_TASK_ID))).thenReturn(task);
+        mockTaskAssignment(COMPLETED_TASK_ID,
+                           task);
         task.setDelegationAllowed(false);
 
         // When task in status Completed is selected
@@ -187,9 +201,8 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
         task.setActualOwner(OTHER_USER);
         task.setPotOwnersString(Arrays.asList(OTHER_USER));
         task.setDelegationAllowed(false);
-        when(taskService.getTaskAssignmentDetails(anyString(),
-                                                  anyString(),
-                                                  eq(TASK_OWNED_BY_SOMEONE_ELSE_ID))).thenReturn(task);
+        mockTaskAssignment(TASK_OWNED_BY_SOMEONE_ELSE_ID,
+                           task);
 
         // When task not owned by Current user
         boolean isForLog = false;
@@ -228,9 +241,8 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
         task.setActualOwner(CURRENT_USER);
         task.setPotOwnersString(Arrays.asList(CURRENT_USER));
         task.setDelegationAllowed(true);
-        when(taskService.getTaskAssignmentDetails(anyString(),
-                                                  anyString(),
-                                                  eq(TASK_OWNED_BY_CURRENT_USER))).thenReturn(task);
+        mockTaskAssignment(TASK_OWNED_BY_CURRENT_USER,
+                           task);
 
         // When task not owned by Current user
 
@@ -272,9 +284,8 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
         TaskAssignmentSummary ts = new TaskAssignmentSummary();
         ts.setPotOwnersString(Arrays.asList("owner1",
                                             "owner2"));
-        when(taskService.getTaskAssignmentDetails(eq(serverTemplateId),
-                                                  eq(containerId),
-                                                  eq(taskId))).thenReturn(ts);
+        mockTaskAssignment(taskId,
+                           ts);
 
         presenter.onTaskSelectionEvent(event);
 
@@ -296,8 +307,10 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
 
         presenter.onTaskSelectionEvent(event);
 
-        verify(taskService).getTaskAssignmentDetails(serverTemplateId,
-                                                     containerId,
-                                                     taskId);
+        verify(taskService).getTaskDetails(serverTemplateId,
+                                           containerId,
+                                           taskId,
+                                           ASSIGNMENT_PART,
+                                           null);
     }
 }
\ No newline at end of file
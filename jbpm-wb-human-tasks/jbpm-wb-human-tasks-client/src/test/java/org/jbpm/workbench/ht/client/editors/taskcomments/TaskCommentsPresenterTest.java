@@ -15,8 +15,13 @@
  */
 package org.jbpm.workbench.ht.client.editors.taskcomments;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.jboss.errai.security.shared.api.identity.User;
@@ -24,6 +29,8 @@ import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenterTest;
 import org.jbpm.workbench.ht.client.editors.taskcomments.TaskCommentsPresenter.TaskCommentsView;
 import org.jbpm.workbench.ht.model.CommentSummary;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
 import org.jbpm.workbench.ht.model.events.TaskCompletedEvent;
 import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
@@ -36,6 +43,7 @@ import org.uberfire.mocks.CallerMock;
 
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -46,6 +54,7 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
 
     private static final Long TASK_ID = 1L;
     private static final Long COMMENT_ID = 1L;
+    private static final Set<TaskDetailsPart> COMMENTS_PART = new HashSet<>(Arrays.asList(TaskDetailsPart.COMMENTS));
 
     private CallerMock<TaskService> callerMock;
 
@@ -74,6 +83,29 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
         presenter = new TaskCommentsPresenter(view,
                                               callerMock,
                                               identity);
+        mockFirstPage(Collections.emptyList());
+    }
+
+    private void mockFirstPage(final List<CommentSummary> comments) {
+        final TaskDetails details = new TaskDetails();
+        details.setComments(comments);
+        when(commentsService.getTaskDetails(anyString(),
+                                            anyString(),
+                                            anyLong(),
+                                            any(),
+                                            anyInt())).thenReturn(details);
+    }
+
+    private void verifyFirstPageLoaded(final String serverTemplateId,
+                                       final String containerId,
+                                       final Long taskId,
+                                       final int times) {
+        verify(commentsService,
+               times(times)).getTaskDetails(serverTemplateId,
+                                            containerId,
+                                            taskId,
+                                            COMMENTS_PART,
+                                            TaskCommentsPresenter.PAGE_SIZE);
     }
 
     @Test
@@ -98,9 +130,10 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
         presenter.onTaskSelectionEvent(event);
 
         //Then comments for given task loaded & comment grid refreshed
-        verify(commentsService).getTaskComments(serverTemplateId,
-                                                containerId,
-                                                TASK_ID);
+        verifyFirstPageLoaded(serverTemplateId,
+                              containerId,
+                              TASK_ID,
+                              1);
         verify(view).redrawDataGrid();
 
         //When task Refreshed
@@ -109,10 +142,53 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
                                                               TASK_ID));
 
         //Then comments for given task loaded & comment grid refreshed
-        verify(commentsService,
-               times(2)).getTaskComments(serverTemplateId,
-                                         containerId,
-                                         TASK_ID);
+        verifyFirstPageLoaded(serverTemplateId,
+                              containerId,
+                              TASK_ID,
+                              2);
+        verify(view,
+               times(2)).redrawDataGrid();
+    }
+
+    @Test
+    public void onlyNewCommentsLoadedWhenTaskRefreshed() {
+        String serverTemplateId = "serverTemplateId";
+        String containerId = "containerId";
+        CommentSummary comment1 = new CommentSummary(1l,
+                                                     "commentText",
+                                                     "ByTest",
+                                                     new Date());
+        CommentSummary comment2 = new CommentSummary(2l,
+                                                     "newCommentText",
+                                                     "ByTest",
+                                                     new Date());
+        mockFirstPage(Collections.singletonList(comment1));
+        when(commentsService.getTaskCommentsSince(serverTemplateId,
+                                                  containerId,
+                                                  TASK_ID,
+                                                  1l)).thenReturn(Collections.singletonList(comment2));
+
+        presenter.onTaskSelectionEvent(new TaskSelectionEvent(serverTemplateId,
+                                                              containerId,
+                                                              TASK_ID,
+                                                              "task",
+                                                              true,
+                                                              false));
+        presenter.onTaskRefreshedEvent(new TaskRefreshedEvent(serverTemplateId,
+                                                              containerId,
+                                                              TASK_ID));
+
+        verifyFirstPageLoaded(serverTemplateId,
+                              containerId,
+                              TASK_ID,
+                              1);
+        verify(commentsService).getTaskCommentsSince(serverTemplateId,
+                                                     containerId,
+                                                     TASK_ID,
+                                                     1l);
+        assertEquals(Arrays.asList(comment2,
+                                   comment1),
+                     presenter.getDataProvider().getList());
         verify(view,
                times(2)).redrawDataGrid();
     }
@@ -170,9 +246,11 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
                                    eq(COMMENT_ID));
         // Input cleared
         verify(view).clearCommentInput();
-        verify(commentsService).getTaskComments(anyString(),
-                                                anyString(),
-                                                anyLong());
+        verify(commentsService).getTaskDetails(anyString(),
+                                               anyString(),
+                                               anyLong(),
+                                               eq(COMMENTS_PART),
+                                               eq(TaskCommentsPresenter.PAGE_SIZE));
         verify(view).redrawDataGrid();
     }
 
@@ -192,15 +270,14 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
                                                      "commentText",
                                                      "ByTest",
                                                      new Date());
-        when(commentsService.getTaskComments(eq(serverTemplateId),
-                                             eq(containerId),
-                                             eq(taskId))).thenReturn(Arrays.asList(comment1));
+        mockFirstPage(Arrays.asList(comment1));
 
         presenter.onTaskSelectionEvent(event);
 
-        verify(commentsService).getTaskComments(serverTemplateId,
-                                                containerId,
-                                                taskId);
+        verifyFirstPageLoaded(serverTemplateId,
+                              containerId,
+                              taskId,
+                              1);
         verify(view).newCommentsEnabled(false);
     }
 
@@ -220,18 +297,58 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
                                                      "commentText",
                                                      "ByTest",
                                                      new Date());
-        when(commentsService.getTaskComments(eq(serverTemplateId),
-                                             eq(containerId),
-                                             eq(taskId))).thenReturn(Arrays.asList(comment1));
+        mockFirstPage(Arrays.asList(comment1));
 
         presenter.onTaskSelectionEvent(event);
 
-        verify(commentsService).getTaskComments(serverTemplateId,
-                                                containerId,
-                                                taskId);
+        verifyFirstPageLoaded(serverTemplateId,
+                              containerId,
+                              taskId,
+                              1);
         verify(view).newCommentsEnabled(true);
     }
 
+    @Test
+    public void moreCommentsLoadedOnDemand() {
+        String serverTemplateId = "serverTemplateId";
+        String containerId = "containerId";
+        final List<CommentSummary> firstPage = new ArrayList<>();
+        for (long id = TaskCommentsPresenter.PAGE_SIZE + 1; id > 1; id--) {
+            firstPage.add(new CommentSummary(id,
+                                             "commentText",
+                                             "ByTest",
+                                             new Date()));
+        }
+        CommentSummary oldestComment = new CommentSummary(1l,
+                                                          "commentText",
+                                                          "ByTest",
+                                                          new Date());
+        mockFirstPage(firstPage);
+        // a comment added meanwhile shifts the last comment of the first page to the second one
+        when(commentsService.getTaskComments(serverTemplateId,
+                                             containerId,
+                                             TASK_ID,
+                                             1,
+                                             TaskCommentsPresenter.PAGE_SIZE)).thenReturn(Arrays.asList(firstPage.get(TaskCommentsPresenter.PAGE_SIZE - 1),
+                                                                                                        oldestComment));
+
+        presenter.onTaskSelectionEvent(new TaskSelectionEvent(serverTemplateId,
+                                                              containerId,
+                                                              TASK_ID,
+                                                              "task",
+                                                              true,
+                                                              false));
+        verify(view).hideLoadButton(false);
+
+        presenter.loadMoreComments();
+
+        verify(view).hideLoadButton(true);
+        assertEquals(TaskCommentsPresenter.PAGE_SIZE + 1,
+                     presenter.getDataProvider().getList().size());
+        assertEquals(oldestComment,
+                     presenter.getDataProvider().getList().get(TaskCommentsPresenter.PAGE_SIZE));
+    }
+
     @Test
     public void testDeleteCommentConditionForLog() {
         TaskSelectionEvent event = new TaskSelectionEvent("serverTemplateId",
@@ -15,12 +15,17 @@
  */
 package org.jbpm.workbench.ht.client.editors.taskdetails;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenterTest;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
+import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
 import org.jbpm.workbench.ht.service.TaskService;
@@ -169,6 +174,43 @@ public class TaskDetailsPresenterTest extends AbstractTaskPresenterTest {
                      argument.getValue().getTaskId());
     }
 
+    @Test
+    public void testTaskDetailsReloadedWhenTaskRefreshed() {
+        when(translationService.format(any())).thenReturn("InProgress");
+        String serverTemplateId = "serverTemplateId";
+        String containerId = "containerId";
+        Long taskId = 1L;
+        final TaskDetails details = new TaskDetails();
+        details.setTask(TaskSummary.builder()
+                                .id(taskId)
+                                .status("InProgress")
+                                .actualOwner("Owner")
+                                .priority(3)
+                                .build());
+        when(taskService.getTaskDetails(serverTemplateId,
+                                        containerId,
+                                        taskId,
+                                        new HashSet<>(Arrays.asList(TaskDetailsPart.TASK)),
+                                        null)).thenReturn(details);
+
+        presenter.onTaskSelectionEvent(new TaskSelectionEvent(serverTemplateId,
+                                                              containerId,
+                                                              taskId,
+                                                              "task",
+                                                              true,
+                                                              false));
+        presenter.onTaskRefreshedEvent(new TaskRefreshedEvent(serverTemplateId,
+                                                              containerId,
+                                                              taskId));
+
+        verify(viewMock).setUser("Owner");
+        verify(viewMock).setTaskPriority("3");
+        verify(taskService,
+               never()).getTask(anyString(),
+                                anyString(),
+                                anyLong());
+    }
+
     private void verifySetTaskDetails(String actualOwner,
                                       String status,
                                       String priority) {
@@ -21,12 +21,16 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.jboss.errai.common.client.api.Caller;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenterTest;
+import org.jbpm.workbench.ht.model.TaskDetails;
+import org.jbpm.workbench.ht.model.TaskDetailsPart;
 import org.jbpm.workbench.ht.model.TaskEventSummary;
 import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
@@ -41,9 +45,11 @@ import org.uberfire.mocks.CallerMock;
 
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -55,6 +61,7 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
     private static final Long TASK_ID = 1L;
     private static String serverTemplateId = "serverTemplateId";
     private static String containerId = "containerId";
+    private static final Set<TaskDetailsPart> EVENTS_PART = new HashSet<>(Arrays.asList(TaskDetailsPart.EVENTS));
 
     @Mock
     private TaskService taskService;
@@ -77,11 +84,22 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
         remoteTaskServiceCaller = new CallerMock<TaskService>(taskService);
         presenter = new TaskLogsPresenter(taskLogsView,
                                           remoteTaskServiceCaller);
-        when(taskService.getTaskEvents(serverTemplateId,
-                                       containerId,
-                                       TASK_ID,
-                                       0,
-                                       10)).thenReturn(createEventSummariesForTask(TASK_ID));
+        when(taskService.getTaskDetails(anyString(),
+                                        anyString(),
+                                        anyLong(),
+                                        any(),
+                                        anyInt())).thenReturn(createTaskDetails(emptyList()));
+        when(taskService.getTaskDetails(serverTemplateId,
+                                        containerId,
+                                        TASK_ID,
+                                        EVENTS_PART,
+                                        10)).thenReturn(createTaskDetails(createEventSummariesForTask(TASK_ID)));
+    }
+
+    private TaskDetails createTaskDetails(final List<TaskEventSummary> events) {
+        final TaskDetails details = new TaskDetails();
+        details.setEvents(events);
+        return details;
     }
 
     @Test
@@ -90,11 +108,11 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
                                                               containerId,
                                                               TASK_ID));
 
-        verify(taskService).getTaskEvents(serverTemplateId,
-                                          containerId,
-                                          TASK_ID,
-                                          0,
-                                          10);
+        verify(taskService).getTaskDetails(serverTemplateId,
+                                           containerId,
+                                           TASK_ID,
+                                           EVENTS_PART,
+                                           10);
         ArgumentCaptor<List> argumentDESC = ArgumentCaptor.forClass(List.class);
         verify(taskLogsView).setLogs(argumentDESC.capture());
         assertEquals(3,
@@ -115,11 +133,11 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
 
         //Logs retrieved and text area refreshed
         verify(taskService,
-               times(2)).getTaskEvents(anyString(),
-                                       anyString(),
-                                       anyLong(),
-                                       anyInt(),
-                                       anyInt());
+               times(2)).getTaskDetails(anyString(),
+                                        anyString(),
+                                        anyLong(),
+                                        eq(EVENTS_PART),
+                                        anyInt());
         verify(taskLogsView,
                times(2)).setLogs(emptyList());
     }
@@ -137,11 +155,11 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
                                                               TASK_ID + 1));
 
         //Logs retrieved and text area refreshed
-        verify(taskService).getTaskEvents(anyString(),
-                                          anyString(),
-                                          anyLong(),
-                                          anyInt(),
-                                          anyInt());
+        verify(taskService).getTaskDetails(anyString(),
+                                           anyString(),
+                                           anyLong(),
+                                           eq(EVENTS_PART),
+                                           anyInt());
         verify(taskLogsView).setLogs(emptyList());
     }
 
@@ -152,12 +170,12 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
         for (int i = 0; i < testAllLogsSize; i++) {
             allLogs.add(mock(TaskEventSummary.class));
         }
-        when(taskService.getTaskEvents(serverTemplateId,
-                                       containerId,
-                                       TASK_ID,
-                                       0,
-                                       10)).thenReturn(allLogs.subList(0,
-                                                                       10));
+        when(taskService.getTaskDetails(serverTemplateId,
+                                        containerId,
+                                        TASK_ID,
+                                        EVENTS_PART,
+                                        10)).thenReturn(createTaskDetails(allLogs.subList(0,
+                                                                                          10)));
         when(taskService.getTaskEvents(serverTemplateId,
                                        containerId,
                                        TASK_ID,
@@ -173,11 +191,11 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
         verify(taskLogsView).setLogs(argumentDESC.capture());
         assertEquals(presenter.getPageSize(),
                      argumentDESC.getValue().size());
-        verify(taskService).getTaskEvents(serverTemplateId,
-                                          containerId,
-                                          TASK_ID,
-                                          0,
-                                          10);
+        verify(taskService).getTaskDetails(serverTemplateId,
+                                           containerId,
+                                           TASK_ID,
+                                           EVENTS_PART,
+                                           10);
 
         presenter.loadMoreProcessInstanceLogs();
         verify(taskService).getTaskEvents(serverTemplateId,
@@ -16,10 +16,13 @@
 
 package org.jbpm.workbench.ht.client.editors.taskslist;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import javax.enterprise.event.Event;
@@ -40,6 +43,8 @@ import org.jbpm.workbench.common.client.filters.active.ActiveFilterItem;
 import org.jbpm.workbench.common.client.filters.basic.BasicFilterAddEvent;
 import org.jbpm.workbench.common.client.filters.basic.BasicFilterRemoveEvent;
 import org.jbpm.workbench.common.client.list.ListTable;
+import org.jbpm.workbench.common.client.util.BulkOperationNotifications;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
 import org.jbpm.workbench.ht.client.resources.i18n.Constants;
@@ -47,6 +52,7 @@ import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.TaskCompletedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
 import org.jbpm.workbench.ht.service.TaskService;
+import org.jbpm.workbench.ks.events.TaskInboxChangedEvent;
 import org.junit.Before;
 import org.junit.Test;
 import org.kie.server.controller.api.model.spec.Capability;
@@ -246,6 +252,87 @@ public abstract class AbstractTaskListPresenterTest {
                                        TASK_ID);
     }
 
+    @Test
+    public void bulkClaimTest() {
+        final List<TaskSummary> tasks = Arrays.asList(TaskSummary.builder().id(1L).deploymentId(TASK_DEPLOYMENT_ID).status(TASK_STATUS_READY.getIdentifier()).build(),
+                                                      TaskSummary.builder().id(2L).deploymentId(TASK_DEPLOYMENT_ID).status(TASK_STATUS_READY.getIdentifier()).build(),
+                                                      TaskSummary.builder().id(3L).deploymentId("otherDeploymentId").status(TASK_STATUS_READY.getIdentifier()).build());
+        final Map<String, List<Long>> containerTasks = new HashMap<>();
+        containerTasks.put(TASK_DEPLOYMENT_ID,
+                           Arrays.asList(1L,
+                                         2L));
+        containerTasks.put("otherDeploymentId",
+                           singletonList(3L));
+        when(taskService.claimTasks("",
+                                    containerTasks)).thenReturn(Arrays.asList(BulkOperationResult.success(1L),
+                                                                              BulkOperationResult.success(2L),
+                                                                              BulkOperationResult.failure(3L,
+                                                                                                          "error")));
+
+        getPresenter().bulkClaim(tasks);
+
+        verify(taskService).claimTasks("",
+                                       containerTasks);
+        verify(viewMock,
+               times(2)).displayNotification(any());
+    }
+
+    @Test
+    public void bulkClaimFailuresNotifiedOnceTest() {
+        final List<TaskSummary> tasks = new ArrayList<>();
+        final List<BulkOperationResult<Long>> results = new ArrayList<>();
+        for (long id = 1; id <= BulkOperationNotifications.MAX_ITEMS_SHOWN + 2; id++) {
+            tasks.add(TaskSummary.builder().id(id).deploymentId(TASK_DEPLOYMENT_ID).status(TASK_STATUS_READY.getIdentifier()).build());
+            results.add(BulkOperationResult.failure(id,
+                                                    "error"));
+        }
+        when(taskService.claimTasks(eq(""),
+                                    any())).thenReturn(results);
+
+        getPresenter().bulkClaim(tasks);
+
+        verify(viewMock).displayNotification(Constants.INSTANCE.TasksBulkOperationCompleted(0,
+                                                                                            results.size()));
+        verify(viewMock).displayNotification(BulkOperationNotifications.describeItems(results,
+                                                                                      result -> Constants.INSTANCE.TaskBulkOperationFailed(String.valueOf(result.getId()),
+                                                                                                                                           result.getErrorMessage())));
+        verify(viewMock,
+               times(2)).displayNotification(any());
+    }
+
+    @Test
+    public void bulkClaimOnlyReadyTasksTest() {
+        final List<TaskSummary> tasks = Arrays.asList(TaskSummary.builder().id(1L).deploymentId(TASK_DEPLOYMENT_ID).status(TASK_STATUS_READY.getIdentifier()).build(),
+                                                      TaskSummary.builder().id(2L).deploymentId(TASK_DEPLOYMENT_ID).status(TASK_STATUS_IN_PROGRESS.getIdentifier()).build());
+
+        getPresenter().bulkClaim(tasks);
+
+        verify(taskService).claimTasks("",
+                                       singletonMap(TASK_DEPLOYMENT_ID,
+                                                    singletonList(1L)));
+        verify(viewMock).displayNotification(BulkOperationNotifications.describeItems(singletonList(tasks.get(1)),
+                                                                                      task -> Constants.INSTANCE.TaskCanNotBeClaimed(String.valueOf(task.getId()))));
+    }
+
+    @Test
+    public void bulkResumeWithoutSuspendedTasksTest() {
+        getPresenter().bulkResume(singletonList(TaskSummary.builder().id(1L).deploymentId(TASK_DEPLOYMENT_ID).status(TASK_STATUS_READY.getIdentifier()).build()));
+
+        verify(taskService,
+               never()).resumeTasks(any(),
+                                    any());
+        verify(viewMock).displayNotification(Constants.INSTANCE.TaskCanNotBeResumed("1"));
+    }
+
+    @Test
+    public void bulkReleaseEmptySelectionTest() {
+        getPresenter().bulkRelease(emptyList());
+
+        verify(taskService,
+               never()).releaseTasks(any(),
+                                     any());
+    }
+
     @Test
     public void suspendTaskTest() {
         final TaskSummary task = TaskSummary.builder().id(TASK_ID).deploymentId(TASK_DEPLOYMENT_ID).build();
@@ -560,6 +647,25 @@ public abstract class AbstractTaskListPresenterTest {
                                                      eq(true));
     }
 
+    @Test
+    public void testOnTaskInboxChangedEventForSelectedServerTemplateOnly() {
+        final String serverTemplateId = "serverTemplateId";
+        getPresenter().setSelectedServerTemplate(new ServerTemplate(serverTemplateId,
+                                                                    null,
+                                                                    singletonList(Capability.PROCESS.name()),
+                                                                    emptyMap(),
+                                                                    emptyList()));
+
+        getPresenter().onTaskInboxChangedEvent(new TaskInboxChangedEvent("otherServerTemplateId"));
+        getPresenter().onTaskInboxChangedEvent(new TaskInboxChangedEvent(null));
+        getPresenter().onTaskInboxChangedEvent(new TaskInboxChangedEvent(serverTemplateId));
+
+        //Refreshed for the server template selection and the event of the selected server template
+        verify(extendedPagedTable,
+               times(2)).setVisibleRangeAndClearData(any(),
+                                                     eq(true));
+    }
+
     protected static BeforeClosePlaceEvent newCloseEventMock(String placeId) {
         final BeforeClosePlaceEvent event = mock(BeforeClosePlaceEvent.class);
         when(event.getPlace()).thenReturn(new DefaultPlaceRequest(placeId));
@@ -20,8 +20,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.user.cellview.client.RowStyles;
+import com.google.gwtmockito.GwtMock;
+import org.gwtbootstrap3.client.ui.AnchorListItem;
 import org.jbpm.workbench.common.client.list.AbstractMultiGridViewTest;
+import org.jbpm.workbench.common.client.list.ExtendedPagedTable;
 import org.jbpm.workbench.common.client.list.ListTable;
 import org.jbpm.workbench.ht.client.resources.HumanTaskResources;
 import org.jbpm.workbench.ht.model.TaskSummary;
@@ -31,6 +36,7 @@ import org.uberfire.ext.services.shared.preferences.GridGlobalPreferences;
 import org.uberfire.ext.widgets.table.client.ColumnMeta;
 
 import static org.jbpm.workbench.common.client.list.AbstractMultiGridView.COL_ID_ACTIONS;
+import static org.jbpm.workbench.common.client.list.AbstractMultiGridView.COL_ID_SELECT;
 import static org.jbpm.workbench.ht.util.TaskStatus.*;
 import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_NAME;
 import static org.junit.Assert.*;
@@ -38,19 +44,23 @@ import static org.mockito.Mockito.*;
 
 public abstract class AbstractTaskListViewTest extends AbstractMultiGridViewTest<TaskSummary> {
 
+    @GwtMock
+    private AnchorListItem anchorListItem;
+
     public abstract AbstractTaskListView getView();
 
     public abstract AbstractTaskListPresenter getPresenter();
 
     @Override
     public List<String> getExpectedBannedColumns() {
-        return Arrays.asList(COLUMN_NAME,
+        return Arrays.asList(COL_ID_SELECT,
+                             COLUMN_NAME,
                              COL_ID_ACTIONS);
     }
 
     @Override
     public Integer getExpectedNumberOfColumns() {
-        return 15;
+        return 16;
     }
 
     @Test
@@ -108,5 +118,26 @@ public abstract class AbstractTaskListViewTest extends AbstractMultiGridViewTest
                                                                1));
     }
 
+    @Test
+    public void testBulkActions() {
+        doAnswer(invocation -> {
+            ClickHandler handler = (ClickHandler) invocation.getArguments()[0];
+            handler.onClick(mock(ClickEvent.class));
+            return null;
+        }).when(anchorListItem).addClickHandler(any());
+        final ExtendedPagedTable table = mock(ExtendedPagedTable.class);
+        final List<TaskSummary> selectedTasks = Arrays.asList(TaskSummary.builder().id(1L).build());
+        when(table.getSelectedItems()).thenReturn(selectedTasks);
+
+        assertEquals(3,
+                     getView().getBulkActionsItems(table).size());
+
+        verify(getPresenter()).bulkClaim(selectedTasks);
+        verify(getPresenter()).bulkRelease(selectedTasks);
+        verify(getPresenter()).bulkResume(selectedTasks);
+        verify(table,
+               times(3)).deselectAllItems();
+    }
+
     public abstract List<String> getExpectedInitialColumns();
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.events;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Event pushed to the clients when the tasks of a server template changed, so open task lists can refresh. It does not
+ * name the affected users and groups, as it is delivered to every session.
+ */
+@Portable
+public class TaskInboxChangedEvent {
+
+    private String serverTemplateId;
+
+    public TaskInboxChangedEvent() {
+    }
+
+    public TaskInboxChangedEvent(String serverTemplateId) {
+        this.serverTemplateId = serverTemplateId;
+    }
+
+    public String getServerTemplateId() {
+        return serverTemplateId;
+    }
+
+    public void setServerTemplateId(String serverTemplateId) {
+        this.serverTemplateId = serverTemplateId;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskInboxChangedEvent{" +
+                "serverTemplateId='" + serverTemplateId + '\'' +
+                '}';
+    }
+}
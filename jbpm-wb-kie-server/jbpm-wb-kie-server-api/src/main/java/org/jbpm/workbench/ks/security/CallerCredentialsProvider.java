@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.security;
+
+import java.util.concurrent.Callable;
+
+import org.kie.server.client.CredentialsProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Credentials provider of the user clients. The wrapped providers read the credentials from the request or the
+ * container subject, both only bound to the thread serving the request. Tasks handed to other threads are wrapped
+ * with {@link #withCallerCredentials(Callable)}, which reads the credentials on the calling thread and uses them for
+ * the remote calls made by the task.
+ */
+public class CallerCredentialsProvider implements CredentialsProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(CallerCredentialsProvider.class);
+
+    private static final ThreadLocal<String> CALLER_AUTHORIZATION = new ThreadLocal<>();
+
+    private final CredentialsProvider delegate;
+
+    public CallerCredentialsProvider(final CredentialsProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getHeaderName() {
+        return delegate.getHeaderName();
+    }
+
+    @Override
+    public String getAuthorization() {
+        final String callerAuthorization = CALLER_AUTHORIZATION.get();
+        if (callerAuthorization != null) {
+            return callerAuthorization;
+        }
+        return delegate.getAuthorization();
+    }
+
+    public <V> Callable<V> withCallerCredentials(final Callable<V> task) {
+        final String authorization = getCallerAuthorization();
+        return () -> {
+            final String previous = CALLER_AUTHORIZATION.get();
+            setCallerAuthorization(authorization);
+            try {
+                return task.call();
+            } finally {
+                setCallerAuthorization(previous);
+            }
+        };
+    }
+
+    public Runnable withCallerCredentials(final Runnable task) {
+        final String authorization = getCallerAuthorization();
+        return () -> {
+            final String previous = CALLER_AUTHORIZATION.get();
+            setCallerAuthorization(authorization);
+            try {
+                task.run();
+            } finally {
+                setCallerAuthorization(previous);
+            }
+        };
+    }
+
+    public String getCallerAuthorization() {
+        try {
+            return getAuthorization();
+        } catch (RuntimeException | LinkageError e) {
+            // no request or security API available on this thread, tasks run with the providers' own lookup
+            logger.debug("Unable to read the caller credentials due to {}",
+                         e.toString());
+            return null;
+        }
+    }
+
+    private static void setCallerAuthorization(final String authorization) {
+        if (authorization == null) {
+            CALLER_AUTHORIZATION.remove();
+        } else {
+            CALLER_AUTHORIZATION.set(authorization);
+        }
+    }
+}
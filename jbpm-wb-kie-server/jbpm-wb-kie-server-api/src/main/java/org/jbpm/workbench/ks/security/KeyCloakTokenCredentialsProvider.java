@@ -57,6 +57,9 @@ public class KeyCloakTokenCredentialsProvider implements CredentialsProvider {
     @Override
     public String getAuthorization() {
         HttpServletRequest request = SecurityIntegrationFilter.getRequest();
+        if (request == null) {
+            return null;
+        }
 
         Principal principal = request.getUserPrincipal();
         if (principal != null) {
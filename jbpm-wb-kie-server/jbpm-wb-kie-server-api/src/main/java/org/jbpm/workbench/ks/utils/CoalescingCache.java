@@ -0,0 +1,202 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.utils;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Values loaded on demand and kept for a time to live. Concurrent requests for a key that is being loaded wait for
+ * that load instead of running their own. Failed loads are not cached, the waiting requests get the error and the
+ * next request loads again. An entry invalidated while it is being loaded is not kept, so a load started before a
+ * change does not fill the cache with the previous data.
+ * <p>
+ * The time to live starts once the value is available, a time to live of zero or less disables the cache. Expired
+ * entries are purged when the cache grows over the purge threshold.
+ * @param <K> key type
+ * @param <V> value type, cached values are shared by all the requests and must not be modified
+ */
+public class CoalescingCache<K, V> {
+
+    public static final int DEFAULT_PURGE_THRESHOLD = 1000;
+
+    private final ConcurrentMap<K, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+
+    private final long ttl;
+
+    private final int purgeThreshold;
+
+    private final String description;
+
+    public CoalescingCache(final long ttl,
+                           final String description) {
+        this(ttl,
+             DEFAULT_PURGE_THRESHOLD,
+             description);
+    }
+
+    public CoalescingCache(final long ttl,
+                           final int purgeThreshold,
+                           final String description) {
+        this.ttl = ttl;
+        this.purgeThreshold = purgeThreshold;
+        this.description = description;
+    }
+
+    public boolean isEnabled() {
+        return ttl > 0;
+    }
+
+    public V get(final K key,
+                 final Supplier<V> loader) {
+        return get(key,
+                   null,
+                   loader);
+    }
+
+    /**
+     * @param version what the value is loaded from (e.g. the raw content being parsed), a cached value loaded from a
+     * different version is loaded again
+     */
+    public V get(final K key,
+                 final Object version,
+                 final Supplier<V> loader) {
+        try {
+            return call(key,
+                        version,
+                        loader::get);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // suppliers do not throw checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public V call(final K key,
+                  final Callable<V> loader) throws Exception {
+        return call(key,
+                    null,
+                    loader);
+    }
+
+    public V call(final K key,
+                  final Object version,
+                  final Callable<V> loader) throws Exception {
+        if (!isEnabled()) {
+            return loader.call();
+        }
+
+        while (true) {
+            final long now = System.currentTimeMillis();
+            final CacheEntry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(now) && Objects.equals(entry.version,
+                                                                         version)) {
+                return await(entry);
+            }
+            final CacheEntry<V> newEntry = new CacheEntry<>(version);
+            final boolean installed = entry == null ? entries.putIfAbsent(key,
+                                                                          newEntry) == null : entries.replace(key,
+                                                                                                              entry,
+                                                                                                              newEntry);
+            if (installed) {
+                purgeExpired(now);
+                return load(key,
+                            newEntry,
+                            loader);
+            }
+        }
+    }
+
+    public void invalidate(final K key) {
+        if (key != null) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateIf(final Predicate<K> keyPredicate) {
+        entries.keySet().removeIf(keyPredicate);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    protected V load(final K key,
+                     final CacheEntry<V> entry,
+                     final Callable<V> loader) throws Exception {
+        try {
+            final V value = loader.call();
+            final long loadedAt = System.currentTimeMillis();
+            entry.expiresAt = loadedAt > Long.MAX_VALUE - ttl ? Long.MAX_VALUE : loadedAt + ttl;
+            entry.future.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            entries.remove(key,
+                           entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    protected V await(final CacheEntry<V> entry) throws Exception {
+        try {
+            return entry.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + description,
+                                            e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    protected void purgeExpired(final long now) {
+        if (entries.size() > purgeThreshold) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        }
+    }
+
+    protected static class CacheEntry<V> {
+
+        private final Object version;
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        // entries being loaded never expire, the ttl starts once the value is available
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        CacheEntry(final Object version) {
+            this.version = version;
+        }
+
+        boolean isExpired(final long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.jbpm.workbench.ks.utils;
 
 import java.util.Arrays;
 
+import org.jbpm.workbench.ks.security.CallerCredentialsProvider;
 import org.jbpm.workbench.ks.security.KeyCloakTokenCredentialsProvider;
 import org.kie.server.api.KieServerConstants;
 import org.kie.server.api.marshalling.MarshallingFormat;
@@ -113,7 +114,7 @@ public class KieServerUtils {
         return kieServicesClient;
     }
 
-    public static CredentialsProvider getCredentialsProvider() {
+    public static CallerCredentialsProvider getCredentialsProvider() {
         CredentialsProvider credentialsProvider;
         try {
             credentialsProvider = new KeyCloakTokenCredentialsProvider();
@@ -122,7 +123,7 @@ public class KieServerUtils {
         }
         LOGGER.debug("{} initialized for the client.",
                      credentialsProvider.getClass().getName());
-        return credentialsProvider;
+        return new CallerCredentialsProvider(credentialsProvider);
     }
 
     public static CredentialsProvider getAdminCredentialsProvider() {
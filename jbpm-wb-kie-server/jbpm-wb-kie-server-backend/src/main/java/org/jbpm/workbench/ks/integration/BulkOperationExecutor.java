@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jbpm.workbench.ks.security.CallerCredentialsProvider;
+import org.jbpm.workbench.ks.utils.KieServerUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.commons.concurrent.Managed;
+
+/**
+ * Runs the operations of bulk requests (one per item or per batch of items) concurrently on the managed executor,
+ * never having more than the given number of operations in flight at the same time. Operations run with the
+ * credentials of the calling user, see {@link CallerCredentialsProvider}.
+ */
+@ApplicationScoped
+public class BulkOperationExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkOperationExecutor.class);
+
+    public static final int DEFAULT_CONCURRENCY = Integer.getInteger("org.jbpm.wb.bulk.concurrency",
+                                                                     4);
+    public static final int DEFAULT_BATCH_SIZE = Integer.getInteger("org.jbpm.wb.bulk.batch.size",
+                                                                    100);
+
+    private ExecutorService executorService;
+
+    private CallerCredentialsProvider credentialsProvider;
+
+    public BulkOperationExecutor() {
+    }
+
+    @Inject
+    public BulkOperationExecutor(@Managed ExecutorService executorService) {
+        this(executorService,
+             KieServerUtils.getCredentialsProvider());
+    }
+
+    public BulkOperationExecutor(final ExecutorService executorService,
+                                 final CallerCredentialsProvider credentialsProvider) {
+        this.executorService = executorService;
+        this.credentialsProvider = credentialsProvider;
+    }
+
+    public <T, R> List<R> invokeAll(final List<T> items,
+                                    final Function<T, R> operation) {
+        return invokeAll(items,
+                         DEFAULT_CONCURRENCY,
+                         operation);
+    }
+
+    /**
+     * Applies the operation to every item using at most <code>concurrency</code> threads, the calling thread included.
+     * Results are returned in the order of the items. All items are processed even if some operations fail, the first
+     * failure is then rethrown.
+     */
+    @SuppressWarnings("unchecked")
+    public <T, R> List<R> invokeAll(final List<T> items,
+                                    final int concurrency,
+                                    final Function<T, R> operation) {
+        if (items == null || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final Object[] results = new Object[items.size()];
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(items.size());
+
+        final Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < items.size()) {
+                try {
+                    results[index] = operation.apply(items.get(index));
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null,
+                                          e);
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+
+        final int workers = Math.min(Math.max(1,
+                                              concurrency),
+                                     items.size());
+        final Runnable callerWorker = workers > 1 ? credentialsProvider.withCallerCredentials(worker) : worker;
+        for (int i = 1; i < workers; i++) {
+            try {
+                executorService.execute(callerWorker);
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Executor rejected bulk operation worker, continuing with {} worker(s)",
+                             i);
+                break;
+            }
+        }
+
+        // calling thread takes part in the work so the operation progresses even when the executor is busy
+        worker.run();
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for bulk operation to complete",
+                                            e);
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        final List<R> resultList = new ArrayList<>(items.size());
+        for (Object result : results) {
+            resultList.add((R) result);
+        }
+        return resultList;
+    }
+
+    public static <T> List<List<T>> partition(final List<T> items,
+                                              final int size) {
+        final List<List<T>> partitions = new ArrayList<>();
+        if (items == null || items.isEmpty()) {
+            return partitions;
+        }
+        final int batchSize = Math.max(1,
+                                       size);
+        for (int i = 0; i < items.size(); i += batchSize) {
+            partitions.add(new ArrayList<>(items.subList(i,
+                                                         Math.min(i + batchSize,
+                                                                  items.size()))));
+        }
+        return partitions;
+    }
+}
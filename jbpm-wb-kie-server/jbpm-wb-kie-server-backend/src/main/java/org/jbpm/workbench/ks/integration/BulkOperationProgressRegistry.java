@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jbpm.workbench.common.model.BulkOperationProgress;
+import org.kie.internal.identity.IdentityProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Progress of the bulk operations running on this node, by batch id. Progress is only handed to the user that
+ * submitted the batch, who polls it while the (blocking) bulk request is running. Finished batches are kept for a
+ * while so the last poll sees the final counts.
+ */
+@ApplicationScoped
+public class BulkOperationProgressRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkOperationProgressRegistry.class);
+
+    protected static final long DEFAULT_RETENTION = Long.getLong("org.jbpm.wb.bulk.progress.retention",
+                                                                 60000);
+
+    private final ConcurrentMap<String, Tracker> trackers = new ConcurrentHashMap<>();
+
+    private IdentityProvider identityProvider;
+
+    private long retention = DEFAULT_RETENTION;
+
+    public BulkOperationProgressRegistry() {
+    }
+
+    @Inject
+    public BulkOperationProgressRegistry(final IdentityProvider identityProvider) {
+        this.identityProvider = identityProvider;
+    }
+
+    protected BulkOperationProgressRegistry(final IdentityProvider identityProvider,
+                                            final long retention) {
+        this(identityProvider);
+        this.retention = retention;
+    }
+
+    /**
+     * Registers the batch for the calling user. A batch without id is tracked but can not be polled.
+     */
+    public Tracker start(final String batchId,
+                         final int total) {
+        purgeFinished(System.currentTimeMillis());
+        final Tracker tracker = new Tracker(batchId,
+                                            getCaller(),
+                                            total);
+        if (batchId != null) {
+            trackers.put(batchId,
+                         tracker);
+        }
+        return tracker;
+    }
+
+    /**
+     * @return the progress of the batch, null when it is unknown or was submitted by another user
+     */
+    public BulkOperationProgress getProgress(final String batchId) {
+        if (batchId == null) {
+            return null;
+        }
+        final Tracker tracker = trackers.get(batchId);
+        if (tracker == null || tracker.isExpired(System.currentTimeMillis()) || !Objects.equals(tracker.owner,
+                                                                                                getCaller())) {
+            return null;
+        }
+        return tracker.getProgress();
+    }
+
+    protected int size() {
+        return trackers.size();
+    }
+
+    protected void purgeFinished(final long now) {
+        trackers.values().removeIf(tracker -> tracker.isExpired(now));
+    }
+
+    protected String getCaller() {
+        try {
+            return identityProvider == null ? null : identityProvider.getName();
+        } catch (RuntimeException e) {
+            // no request bound to this thread
+            LOGGER.debug("Unable to read the caller identity due to {}",
+                         e.toString());
+            return null;
+        }
+    }
+
+    public class Tracker {
+
+        private final String batchId;
+        private final String owner;
+        private final int total;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile long finishedAt = Long.MAX_VALUE;
+
+        Tracker(final String batchId,
+                final String owner,
+                final int total) {
+            this.batchId = batchId;
+            this.owner = owner;
+            this.total = total;
+        }
+
+        /**
+         * Called by the workers every time items are done, from any thread.
+         */
+        public void processed(final int count,
+                              final int failedCount) {
+            failed.addAndGet(failedCount);
+            processed.addAndGet(count);
+        }
+
+        /**
+         * Called once the bulk operation returned or failed, starts the retention of the final counts.
+         */
+        public void finish() {
+            finishedAt = System.currentTimeMillis();
+        }
+
+        public BulkOperationProgress getProgress() {
+            return new BulkOperationProgress(batchId,
+                                             processed.get(),
+                                             failed.get(),
+                                             total,
+                                             finishedAt != Long.MAX_VALUE);
+        }
+
+        boolean isExpired(final long now) {
+            return finishedAt != Long.MAX_VALUE && now - finishedAt >= retention;
+        }
+    }
+}
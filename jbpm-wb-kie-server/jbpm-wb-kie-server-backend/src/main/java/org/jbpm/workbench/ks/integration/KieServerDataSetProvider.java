@@ -22,6 +22,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map.Entry;
 import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
 
 import org.dashbuilder.dataprovider.DataSetProvider;
 import org.dashbuilder.dataprovider.DataSetProviderType;
@@ -61,6 +62,9 @@ public class KieServerDataSetProvider extends AbstractKieServerService implement
     public static final DataSetProviderType TYPE = new KieServerDataSetProviderType();
     private static final Logger LOGGER = LoggerFactory.getLogger(KieServerDataSetProvider.class);
 
+    @Inject
+    private TaskInboxCache taskInboxCache;
+
     @Override
     public DataSetProviderType getType() {
         return TYPE;
@@ -118,6 +122,26 @@ public class KieServerDataSetProvider extends AbstractKieServerService implement
         final QueryServicesClient queryClient = getClient(dataSetLookup.getServerTemplateId(),
                                                           QueryServicesClient.class);
 
+        if (!dataSetLookup.testMode() && taskInboxCache.isCacheable((RemoteDataSetDef) def)) {
+            return taskInboxCache.lookup(dataSetLookup.getServerTemplateId(),
+                                         dataSetLookup,
+                                         queryClient,
+                                         () -> queryDataSet(def,
+                                                            lookup,
+                                                            dataSetLookup,
+                                                            queryClient));
+        }
+
+        return queryDataSet(def,
+                            lookup,
+                            dataSetLookup,
+                            queryClient);
+    }
+
+    protected DataSet queryDataSet(DataSetDef def,
+                                   DataSetLookup lookup,
+                                   ConsoleDataSetLookup dataSetLookup,
+                                   QueryServicesClient queryClient) throws Exception {
         List<QueryParam> filterParams = new ArrayList<>();
         QueryFilterSpec filterSpec = new QueryFilterSpec();
         // apply filtering
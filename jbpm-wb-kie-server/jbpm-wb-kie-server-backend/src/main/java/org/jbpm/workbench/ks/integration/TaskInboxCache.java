@@ -0,0 +1,371 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
+
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.filter.CoreFunctionType;
+import org.jbpm.workbench.ks.events.TaskInboxChangedEvent;
+import org.kie.internal.identity.IdentityProvider;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.api.model.definition.QueryParam;
+import org.kie.server.client.QueryServicesClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the results of the user filtered task queries (potential owner and business administrator task lists) per
+ * user and group set. Those queries join the potential owners and groups and are issued by every open task list on
+ * each refresh.
+ * <p>
+ * Task changes are detected with a probe on the highest task event id (a primary key lookup), run at most once per
+ * interval and server template. Every task lifecycle change (creation, claim, completion, skip, exit on process abort,
+ * ...) logs a task event, whichever workbench node or REST client made it; only the lists of the users and groups
+ * assigned to the tasks with new events are invalidated. Changes that log no task event show up once the cached lists
+ * expire. Every invalidation is pushed to the clients with a {@link TaskInboxChangedEvent} that only names the server
+ * template; the lists of the users whose tasks did not change are then reloaded from this cache.
+ */
+@ApplicationScoped
+public class TaskInboxCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskInboxCache.class);
+
+    public static final String TASK_EVENTS_LAST_ID_QUERY = "jbpmTaskEventsLastId";
+    public static final String TASK_EVENTS_ASSIGNMENTS_QUERY = "jbpmTaskEventsAssignments";
+
+    protected static final String COLUMN_TASK_EVENT_ID = "id";
+    // beyond this many assignment rows the new task events are considered to affect everyone
+    protected static final int MAX_EVENT_ASSIGNMENTS = 1000;
+
+    protected static final long DEFAULT_PROBE_INTERVAL = Long.getLong("org.jbpm.wb.task.inbox.probe.interval",
+                                                                      5000);
+    protected static final long DEFAULT_MAX_AGE = Long.getLong("org.jbpm.wb.task.inbox.cache.ttl",
+                                                               60000);
+    protected static final int MAX_ENTRIES = Integer.getInteger("org.jbpm.wb.task.inbox.cache.size",
+                                                                1000);
+
+    private static final String FILTERED_PO_TASK = "FILTERED_PO_TASK";
+    private static final String FILTERED_BA_TASK = "FILTERED_BA_TASK";
+
+    private final Map<InboxKey, InboxEntry> entries = Collections.synchronizedMap(new LinkedHashMap<InboxKey, InboxEntry>(16,
+                                                                                                                       0.75f,
+                                                                                                                       true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<InboxKey, InboxEntry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    });
+
+    private final ConcurrentMap<String, TemplateState> templates = new ConcurrentHashMap<>();
+
+    private IdentityProvider identityProvider;
+
+    private Event<TaskInboxChangedEvent> inboxChangedEvent;
+
+    private long probeInterval = DEFAULT_PROBE_INTERVAL;
+
+    private long maxAge = DEFAULT_MAX_AGE;
+
+    public TaskInboxCache() {
+    }
+
+    @Inject
+    public TaskInboxCache(final IdentityProvider identityProvider,
+                          final Event<TaskInboxChangedEvent> inboxChangedEvent) {
+        this.identityProvider = identityProvider;
+        this.inboxChangedEvent = inboxChangedEvent;
+    }
+
+    protected TaskInboxCache(final IdentityProvider identityProvider,
+                             final Event<TaskInboxChangedEvent> inboxChangedEvent,
+                             final long probeInterval,
+                             final long maxAge) {
+        this(identityProvider,
+             inboxChangedEvent);
+        this.probeInterval = probeInterval;
+        this.maxAge = maxAge;
+    }
+
+    public boolean isCacheable(final RemoteDataSetDef def) {
+        return maxAge > 0 && (FILTERED_PO_TASK.equals(def.getQueryTarget()) || FILTERED_BA_TASK.equals(def.getQueryTarget()));
+    }
+
+    public DataSet lookup(final String serverTemplateId,
+                          final DataSetLookup lookup,
+                          final QueryServicesClient queryClient,
+                          final DataSetLoader loader) throws Exception {
+        final TemplateState state = templates.computeIfAbsent(serverTemplateId,
+                                                              id -> new TemplateState());
+        if (!probe(serverTemplateId,
+                   state,
+                   queryClient)) {
+            return loader.load();
+        }
+
+        final List<String> roles = identityProvider.getRoles() == null ?
+                Collections.emptyList() :
+                new ArrayList<>(new TreeSet<>(identityProvider.getRoles()));
+        final InboxKey key = new InboxKey(serverTemplateId,
+                                          identityProvider.getName(),
+                                          roles,
+                                          lookup.cloneInstance());
+        final long now = System.currentTimeMillis();
+        final InboxEntry entry = entries.get(key);
+        if (entry != null && now - entry.loadedAt < maxAge) {
+            return entry.dataSet.cloneInstance();
+        }
+
+        final long generation = state.generation.get();
+        final DataSet dataSet = loader.load();
+        // do not keep a result that may have been loaded before an invalidation
+        if (generation == state.generation.get()) {
+            entries.put(key,
+                        new InboxEntry(dataSet.cloneInstance(),
+                                       now));
+        }
+        return dataSet;
+    }
+
+    /**
+     * Drops all the cached task lists of the server template and notifies all the clients.
+     */
+    public void invalidate(final String serverTemplateId) {
+        invalidate(serverTemplateId,
+                   null);
+    }
+
+    /**
+     * Drops the cached task lists of the given users and groups and notifies the clients of the server template.
+     * @param entities user and group ids, null when the affected users are not known
+     */
+    public void invalidate(final String serverTemplateId,
+                           final Collection<String> entities) {
+        if (serverTemplateId == null) {
+            return;
+        }
+        final TemplateState state = templates.get(serverTemplateId);
+        if (state != null) {
+            state.generation.incrementAndGet();
+        }
+        final Set<String> affected = entities == null ? null : new HashSet<>(entities);
+        entries.keySet().removeIf(key -> key.serverTemplateId.equals(serverTemplateId) && (affected == null || key.isAffected(affected)));
+        inboxChangedEvent.fire(new TaskInboxChangedEvent(serverTemplateId));
+    }
+
+    /**
+     * Called after the task operations of this workbench. The task lists of the given users and groups, known without
+     * reading the tasks, are dropped at once; the next lookup probes the task events without waiting for the probe
+     * interval, which invalidates the lists of the other users and groups of the changed tasks.
+     * @param entities acting user and user or group the tasks were handed to
+     */
+    public void tasksChanged(final String serverTemplateId,
+                             final Collection<String> entities) {
+        if (serverTemplateId == null) {
+            return;
+        }
+        final TemplateState state = templates.get(serverTemplateId);
+        if (state != null) {
+            state.probedAt = Long.MIN_VALUE / 2;
+        }
+        invalidate(serverTemplateId,
+                   entities);
+    }
+
+    /**
+     * Checks the highest task event id of the server template, at most once per probe interval. Returns false when the
+     * probe is not available, in that case results are not cached.
+     */
+    protected boolean probe(final String serverTemplateId,
+                            final TemplateState state,
+                            final QueryServicesClient queryClient) {
+        if (System.currentTimeMillis() - state.probedAt < probeInterval) {
+            return state.version != null;
+        }
+        synchronized (state) {
+            final long now = System.currentTimeMillis();
+            if (now - state.probedAt < probeInterval) {
+                return state.version != null;
+            }
+            Long version;
+            try {
+                final List<List> rows = queryClient.query(TASK_EVENTS_LAST_ID_QUERY,
+                                                          QueryServicesClient.QUERY_MAP_RAW,
+                                                          new QueryFilterSpec(),
+                                                          0,
+                                                          1,
+                                                          List.class);
+                final Object lastId = rows == null || rows.isEmpty() || rows.get(0).isEmpty() ? null : rows.get(0).get(0);
+                version = lastId instanceof Number ? ((Number) lastId).longValue() : 0L;
+            } catch (RuntimeException e) {
+                LOGGER.debug("Unable to probe the task events of server template {}",
+                             serverTemplateId,
+                             e);
+                version = null;
+            }
+            final Long previous = state.version;
+            state.version = version;
+            state.probedAt = now;
+            if (previous != null && version != null && version > previous) {
+                invalidate(serverTemplateId,
+                           findChangedTaskEntities(serverTemplateId,
+                                                   queryClient,
+                                                   previous));
+            } else if (version == null) {
+                entries.keySet().removeIf(key -> key.serverTemplateId.equals(serverTemplateId));
+            }
+            return version != null;
+        }
+    }
+
+    /**
+     * @return the acting users, actual owners, potential owners and business administrators of the tasks with events
+     * after the given event, null when they could not be read or are too many to tell
+     */
+    protected Set<String> findChangedTaskEntities(final String serverTemplateId,
+                                                  final QueryServicesClient queryClient,
+                                                  final Long lastEventId) {
+        try {
+            final QueryFilterSpec filterSpec = new QueryFilterSpec();
+            filterSpec.setParameters(new QueryParam[]{new QueryParam(COLUMN_TASK_EVENT_ID,
+                                                                     CoreFunctionType.GREATER_THAN.toString(),
+                                                                     Collections.singletonList(lastEventId))});
+            final List<List> rows = queryClient.query(TASK_EVENTS_ASSIGNMENTS_QUERY,
+                                                      QueryServicesClient.QUERY_MAP_RAW,
+                                                      filterSpec,
+                                                      0,
+                                                      MAX_EVENT_ASSIGNMENTS,
+                                                      List.class);
+            if (rows == null) {
+                return new HashSet<>();
+            }
+            if (rows.size() >= MAX_EVENT_ASSIGNMENTS) {
+                return null;
+            }
+            final Set<String> entities = new HashSet<>();
+            // columns: event id, acting user, actual owner, potential owner, business administrator
+            rows.forEach(row -> row.stream().skip(1).filter(Objects::nonNull).forEach(entity -> entities.add(entity.toString())));
+            return entities;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to read the assignments of changed tasks of server template {}",
+                         serverTemplateId,
+                         e);
+            return null;
+        }
+    }
+
+    protected int size() {
+        return entries.size();
+    }
+
+    @FunctionalInterface
+    public interface DataSetLoader {
+
+        DataSet load() throws Exception;
+    }
+
+    protected static class TemplateState {
+
+        private volatile long probedAt = Long.MIN_VALUE / 2;
+        private volatile Long version;
+        private final AtomicLong generation = new AtomicLong();
+    }
+
+    private static class InboxEntry {
+
+        private final DataSet dataSet;
+        private final long loadedAt;
+
+        InboxEntry(final DataSet dataSet,
+                   final long loadedAt) {
+            this.dataSet = dataSet;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private static class InboxKey {
+
+        private final String serverTemplateId;
+        private final String user;
+        private final List<String> roles;
+        private final DataSetLookup lookup;
+
+        InboxKey(final String serverTemplateId,
+                 final String user,
+                 final List<String> roles,
+                 final DataSetLookup lookup) {
+            this.serverTemplateId = serverTemplateId;
+            this.user = user;
+            this.roles = roles;
+            this.lookup = lookup;
+        }
+
+        boolean isAffected(final Set<String> entities) {
+            return entities.contains(user) || roles.stream().anyMatch(entities::contains);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            InboxKey that = (InboxKey) o;
+            return Objects.equals(serverTemplateId,
+                                  that.serverTemplateId) &&
+                    Objects.equals(user,
+                                   that.user) &&
+                    Objects.equals(roles,
+                                   that.roles) &&
+                    Objects.equals(lookup,
+                                   that.lookup);
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidMultipleUnaryOperators")
+        public int hashCode() {
+            int result = Objects.hash(serverTemplateId,
+                                      user,
+                                      roles);
+            result = ~~result;
+            // the lookup is only partially hashed, its operations take part in equals
+            result = 31 * result + Objects.hash(lookup.getDataSetUUID(),
+                                                lookup.getRowOffset(),
+                                                lookup.getNumberOfRows());
+            result = ~~result;
+            return result;
+        }
+    }
+}
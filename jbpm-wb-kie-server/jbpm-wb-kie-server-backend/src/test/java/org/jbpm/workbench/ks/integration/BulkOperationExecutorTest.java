@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jbpm.workbench.ks.security.CallerCredentialsProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.client.CredentialsProvider;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class BulkOperationExecutorTest {
+
+    private ExecutorService executorService;
+
+    private BulkOperationExecutor bulkOperationExecutor;
+
+    @Before
+    public void setup() {
+        executorService = Executors.newFixedThreadPool(4);
+        bulkOperationExecutor = new BulkOperationExecutor(executorService);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testResultsKeepItemOrder() {
+        final List<Integer> items = IntStream.range(0,
+                                                    50).boxed().collect(Collectors.toList());
+
+        final List<Integer> results = bulkOperationExecutor.invokeAll(items,
+                                                                      3,
+                                                                      i -> i * 2);
+
+        assertEquals(items.stream().map(i -> i * 2).collect(Collectors.toList()),
+                     results);
+    }
+
+    @Test
+    public void testConcurrencyLimit() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        bulkOperationExecutor.invokeAll(IntStream.range(0,
+                                                        20).boxed().collect(Collectors.toList()),
+                                        2,
+                                        i -> {
+                                            maxRunning.accumulateAndGet(running.incrementAndGet(),
+                                                                        Math::max);
+                                            try {
+                                                Thread.sleep(5);
+                                            } catch (InterruptedException e) {
+                                                Thread.currentThread().interrupt();
+                                            }
+                                            return running.decrementAndGet();
+                                        });
+
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testAllItemsProcessedBeforeFailureIsRethrown() {
+        final AtomicInteger processed = new AtomicInteger();
+        try {
+            bulkOperationExecutor.invokeAll(Arrays.asList(1,
+                                                          2,
+                                                          3,
+                                                          4),
+                                            2,
+                                            i -> {
+                                                processed.incrementAndGet();
+                                                if (i == 2) {
+                                                    throw new IllegalArgumentException("error");
+                                                }
+                                                return i;
+                                            });
+            fail("Failure should have been rethrown");
+        } catch (IllegalArgumentException e) {
+            assertEquals("error",
+                         e.getMessage());
+        }
+        assertEquals(4,
+                     processed.get());
+    }
+
+    @Test
+    public void testRunsOnCallingThreadWhenExecutorRejects() {
+        final ExecutorService rejectingExecutor = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException()).when(rejectingExecutor).execute(any(Runnable.class));
+        final Thread caller = Thread.currentThread();
+
+        final List<Boolean> results = new BulkOperationExecutor(rejectingExecutor).invokeAll(Arrays.asList(1,
+                                                                                                          2,
+                                                                                                          3),
+                                                                                            3,
+                                                                                            i -> Thread.currentThread() == caller);
+
+        assertEquals(Arrays.asList(true,
+                                   true,
+                                   true),
+                     results);
+    }
+
+    @Test
+    public void testWorkersUseCallerCredentials() throws Exception {
+        final Thread caller = Thread.currentThread();
+        final CredentialsProvider requestCredentialsProvider = mock(CredentialsProvider.class);
+        // like the request and subject based providers, credentials are only available on the calling thread
+        when(requestCredentialsProvider.getAuthorization()).then(invocation -> Thread.currentThread() == caller ? "Bearer token" : null);
+        final CallerCredentialsProvider credentialsProvider = new CallerCredentialsProvider(requestCredentialsProvider);
+
+        final List<String> authorizations = new BulkOperationExecutor(executorService,
+                                                                      credentialsProvider).invokeAll(IntStream.range(0,
+                                                                                                                     20).boxed().collect(Collectors.toList()),
+                                                                                                     4,
+                                                                                                     i -> {
+                                                                                                         try {
+                                                                                                             Thread.sleep(5);
+                                                                                                         } catch (InterruptedException e) {
+                                                                                                             Thread.currentThread().interrupt();
+                                                                                                         }
+                                                                                                         return credentialsProvider.getAuthorization();
+                                                                                                     });
+
+        assertTrue(authorizations.stream().allMatch("Bearer token"::equals));
+        // worker threads are given back to the pool without the caller credentials
+        assertNull(executorService.submit(credentialsProvider::getAuthorization).get());
+    }
+
+    @Test
+    public void testPartition() {
+        final List<List<Integer>> partitions = BulkOperationExecutor.partition(Arrays.asList(1,
+                                                                                             2,
+                                                                                             3,
+                                                                                             4,
+                                                                                             5),
+                                                                               2);
+
+        assertEquals(3,
+                     partitions.size());
+        assertEquals(Arrays.asList(5),
+                     partitions.get(2));
+        assertTrue(BulkOperationExecutor.partition(null,
+                                                   2).isEmpty());
+    }
+}
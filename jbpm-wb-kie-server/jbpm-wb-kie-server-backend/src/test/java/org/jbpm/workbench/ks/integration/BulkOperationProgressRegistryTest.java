@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.integration;
+
+import org.jbpm.workbench.common.model.BulkOperationProgress;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.internal.identity.IdentityProvider;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class BulkOperationProgressRegistryTest {
+
+    private IdentityProvider identityProvider;
+
+    @Before
+    public void setup() {
+        identityProvider = mock(IdentityProvider.class);
+        when(identityProvider.getName()).thenReturn("user");
+    }
+
+    @Test
+    public void testProgress() {
+        final BulkOperationProgressRegistry registry = new BulkOperationProgressRegistry(identityProvider);
+
+        final BulkOperationProgressRegistry.Tracker tracker = registry.start("batchId",
+                                                                             10);
+        tracker.processed(4,
+                          1);
+
+        BulkOperationProgress progress = registry.getProgress("batchId");
+        assertEquals("batchId",
+                     progress.getBatchId());
+        assertEquals(4,
+                     progress.getProcessed());
+        assertEquals(1,
+                     progress.getFailed());
+        assertEquals(10,
+                     progress.getTotal());
+        assertFalse(progress.isFinished());
+
+        tracker.processed(6,
+                          0);
+        tracker.finish();
+
+        progress = registry.getProgress("batchId");
+        assertEquals(10,
+                     progress.getProcessed());
+        assertTrue(progress.isFinished());
+    }
+
+    @Test
+    public void testProgressOnlyForSubmittingUser() {
+        final BulkOperationProgressRegistry registry = new BulkOperationProgressRegistry(identityProvider);
+        registry.start("batchId",
+                       10);
+
+        when(identityProvider.getName()).thenReturn("otherUser");
+
+        assertNull(registry.getProgress("batchId"));
+        assertNull(registry.getProgress("unknownBatchId"));
+        assertNull(registry.getProgress(null));
+    }
+
+    @Test
+    public void testFinishedBatchesPurged() {
+        final BulkOperationProgressRegistry registry = new BulkOperationProgressRegistry(identityProvider,
+                                                                                         0);
+        final BulkOperationProgressRegistry.Tracker running = registry.start("running",
+                                                                             1);
+        registry.start("finished",
+                       1).finish();
+
+        assertNull(registry.getProgress("finished"));
+        registry.start(null,
+                       1);
+
+        // batches without id are not registered, running ones are kept
+        assertEquals(1,
+                     registry.size());
+        assertNotNull(registry.getProgress("running"));
+        running.finish();
+        assertNull(registry.getProgress("running"));
+    }
+}
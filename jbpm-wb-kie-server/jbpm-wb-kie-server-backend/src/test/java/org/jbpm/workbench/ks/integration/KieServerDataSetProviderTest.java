@@ -80,6 +80,9 @@ public class KieServerDataSetProviderTest {
     @Mock
     RemoteDataSetDef dataSetDef;
 
+    @Mock
+    TaskInboxCache taskInboxCache;
+
     @Before
     public void setUp() {
         when(kieServerIntegration.getServerClient("servereTemplateId")).thenReturn(kieServicesClient);
@@ -368,4 +371,27 @@ public class KieServerDataSetProviderTest {
                                                                          columnGroup,
                                                                          groupFunction));
     }
+
+    @Test
+    public void lookupUserTasksDataSetUsesInboxCacheTest() throws Exception {
+        DataSetLookup lookup = new DataSetLookup();
+        lookup.setDataSetUUID("");
+        when(taskInboxCache.isCacheable(dataSetDef)).thenReturn(true);
+
+        kieServerDataSetProvider.lookupDataSet(dataSetDef,
+                                               ConsoleDataSetLookup.fromInstance(lookup,
+                                                                                 "servereTemplateId"));
+
+        verify(taskInboxCache).lookup(eq("servereTemplateId"),
+                                      any(DataSetLookup.class),
+                                      eq(queryServicesClient),
+                                      any(TaskInboxCache.DataSetLoader.class));
+        verify(queryServicesClient,
+               never()).query(anyString(),
+                              anyString(),
+                              any(QueryFilterSpec.class),
+                              anyInt(),
+                              anyInt(),
+                              any());
+    }
 }
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.enterprise.event.Event;
+
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetFactory;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.jbpm.workbench.ks.events.TaskInboxChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.internal.identity.IdentityProvider;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.client.QueryServicesClient;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TaskInboxCacheTest {
+
+    private static final String SERVER_TEMPLATE_ID = "serverTemplateId";
+
+    @Mock
+    IdentityProvider identityProvider;
+
+    @Mock
+    Event<TaskInboxChangedEvent> inboxChangedEvent;
+
+    @Mock
+    QueryServicesClient queryClient;
+
+    @Mock
+    RemoteDataSetDef dataSetDef;
+
+    private TaskInboxCache cache;
+
+    private AtomicInteger loads = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        when(identityProvider.getName()).thenReturn("user");
+        when(identityProvider.getRoles()).thenReturn(Arrays.asList("managers",
+                                                                   "HR"));
+        mockLastModification(1L);
+        // probe on every lookup
+        cache = new TaskInboxCache(identityProvider,
+                                   inboxChangedEvent,
+                                   0,
+                                   60000);
+    }
+
+    private void mockLastModification(final Long lastId) {
+        when(queryClient.query(eq(TaskInboxCache.TASK_EVENTS_LAST_ID_QUERY),
+                               anyString(),
+                               any(QueryFilterSpec.class),
+                               anyInt(),
+                               anyInt(),
+                               eq(List.class))).thenReturn(Collections.singletonList(Collections.singletonList(lastId)));
+    }
+
+    private void mockNewTaskAssignments(final String potentialOwner) {
+        mockTaskEventAssignments(null,
+                                 null,
+                                 potentialOwner);
+    }
+
+    private void mockTaskEventAssignments(final String actingUser,
+                                          final String actualOwner,
+                                          final String potentialOwner) {
+        when(queryClient.query(eq(TaskInboxCache.TASK_EVENTS_ASSIGNMENTS_QUERY),
+                               anyString(),
+                               any(QueryFilterSpec.class),
+                               anyInt(),
+                               anyInt(),
+                               eq(List.class))).thenReturn(Collections.singletonList(Arrays.asList(2L,
+                                                                                                   actingUser,
+                                                                                                   actualOwner,
+                                                                                                   potentialOwner,
+                                                                                                   null)));
+    }
+
+    private DataSetLookup newLookup(final int offset) {
+        final DataSetLookup lookup = new DataSetLookup();
+        lookup.setDataSetUUID("jbpmHumanTasksWithUser");
+        lookup.setRowOffset(offset);
+        lookup.setNumberOfRows(10);
+        return lookup;
+    }
+
+    private DataSet lookup(final DataSetLookup lookup) throws Exception {
+        return cache.lookup(SERVER_TEMPLATE_ID,
+                            lookup,
+                            queryClient,
+                            () -> {
+                                loads.incrementAndGet();
+                                return DataSetFactory.newEmptyDataSet();
+                            });
+    }
+
+    @Test
+    public void testUserFilteredTaskQueriesAreCacheable() {
+        when(dataSetDef.getQueryTarget()).thenReturn("FILTERED_PO_TASK");
+        assertTrue(cache.isCacheable(dataSetDef));
+
+        when(dataSetDef.getQueryTarget()).thenReturn("FILTERED_BA_TASK");
+        assertTrue(cache.isCacheable(dataSetDef));
+
+        when(dataSetDef.getQueryTarget()).thenReturn("CUSTOM");
+        assertFalse(cache.isCacheable(dataSetDef));
+    }
+
+    @Test
+    public void testSameLookupServedFromCache() throws Exception {
+        assertNotNull(lookup(newLookup(0)));
+        assertNotNull(lookup(newLookup(0)));
+
+        assertEquals(1,
+                     loads.get());
+
+        lookup(newLookup(10));
+
+        assertEquals(2,
+                     loads.get());
+    }
+
+    @Test
+    public void testCacheIsPerUser() throws Exception {
+        lookup(newLookup(0));
+        when(identityProvider.getName()).thenReturn("otherUser");
+        lookup(newLookup(0));
+
+        assertEquals(2,
+                     loads.get());
+    }
+
+    @Test
+    public void testNewTaskInvalidatesAssignedUsers() throws Exception {
+        lookup(newLookup(0));
+        mockNewTaskAssignments("HR");
+        mockLastModification(2L);
+        lookup(newLookup(0));
+
+        assertEquals(2,
+                     loads.get());
+        final ArgumentCaptor<TaskInboxChangedEvent> event = ArgumentCaptor.forClass(TaskInboxChangedEvent.class);
+        verify(inboxChangedEvent).fire(event.capture());
+        assertEquals(SERVER_TEMPLATE_ID,
+                     event.getValue().getServerTemplateId());
+    }
+
+    @Test
+    public void testNewTaskKeepsOtherUsersCached() throws Exception {
+        lookup(newLookup(0));
+        mockNewTaskAssignments("otherUser");
+        mockLastModification(2L);
+        lookup(newLookup(0));
+
+        assertEquals(1,
+                     loads.get());
+    }
+
+    @Test
+    public void testTaskChangedElsewhereInvalidatesOwner() throws Exception {
+        lookup(newLookup(0));
+        // e.g. a task owned by the user completed through another workbench node or the REST api
+        mockTaskEventAssignments("admin",
+                                 "user",
+                                 "otherGroup");
+        mockLastModification(2L);
+        lookup(newLookup(0));
+
+        assertEquals(2,
+                     loads.get());
+        final ArgumentCaptor<QueryFilterSpec> filterSpec = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryClient).query(eq(TaskInboxCache.TASK_EVENTS_ASSIGNMENTS_QUERY),
+                                  anyString(),
+                                  filterSpec.capture(),
+                                  anyInt(),
+                                  anyInt(),
+                                  eq(List.class));
+        assertEquals(TaskInboxCache.COLUMN_TASK_EVENT_ID,
+                     filterSpec.getValue().getParameters()[0].getColumn());
+        assertEquals(Collections.singletonList(1L),
+                     filterSpec.getValue().getParameters()[0].getValue());
+    }
+
+    @Test
+    public void testNewTaskAssignmentsNotReadable() throws Exception {
+        lookup(newLookup(0));
+        when(queryClient.query(eq(TaskInboxCache.TASK_EVENTS_ASSIGNMENTS_QUERY),
+                               anyString(),
+                               any(QueryFilterSpec.class),
+                               anyInt(),
+                               anyInt(),
+                               eq(List.class))).thenThrow(new RuntimeException("query not found"));
+        mockLastModification(2L);
+        lookup(newLookup(0));
+
+        assertEquals(2,
+                     loads.get());
+        final ArgumentCaptor<TaskInboxChangedEvent> event = ArgumentCaptor.forClass(TaskInboxChangedEvent.class);
+        verify(inboxChangedEvent).fire(event.capture());
+        assertEquals(SERVER_TEMPLATE_ID,
+                     event.getValue().getServerTemplateId());
+    }
+
+    @Test
+    public void testInvalidateOtherUsers() throws Exception {
+        lookup(newLookup(0));
+        cache.invalidate(SERVER_TEMPLATE_ID,
+                         Collections.singletonList("otherUser"));
+
+        assertEquals(1,
+                     cache.size());
+        lookup(newLookup(0));
+        assertEquals(1,
+                     loads.get());
+    }
+
+    @Test
+    public void testInvalidateUserGroup() throws Exception {
+        lookup(newLookup(0));
+        cache.invalidate(SERVER_TEMPLATE_ID,
+                         Collections.singletonList("managers"));
+
+        assertEquals(0,
+                     cache.size());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        lookup(newLookup(0));
+        cache.invalidate(SERVER_TEMPLATE_ID);
+
+        assertEquals(0,
+                     cache.size());
+        verify(inboxChangedEvent).fire(any(TaskInboxChangedEvent.class));
+
+        lookup(newLookup(0));
+        assertEquals(2,
+                     loads.get());
+    }
+
+    @Test
+    public void testTasksChangedProbesOnNextLookup() throws Exception {
+        cache = new TaskInboxCache(identityProvider,
+                                   inboxChangedEvent,
+                                   60000,
+                                   60000);
+        lookup(newLookup(0));
+        cache.tasksChanged(SERVER_TEMPLATE_ID,
+                           Collections.singletonList("otherUser"));
+        // the task was handed over by another user, the lists of its potential owners change too
+        mockTaskEventAssignments("otherUser",
+                                 null,
+                                 "HR");
+        mockLastModification(2L);
+        lookup(newLookup(0));
+
+        assertEquals(2,
+                     loads.get());
+        verify(queryClient,
+               times(2)).query(eq(TaskInboxCache.TASK_EVENTS_LAST_ID_QUERY),
+                               anyString(),
+                               any(QueryFilterSpec.class),
+                               anyInt(),
+                               anyInt(),
+                               eq(List.class));
+    }
+
+    @Test
+    public void testNotCachedWhenProbeFails() throws Exception {
+        when(queryClient.query(anyString(),
+                               anyString(),
+                               any(QueryFilterSpec.class),
+                               anyInt(),
+                               anyInt(),
+                               eq(List.class))).thenThrow(new RuntimeException("query not found"));
+
+        lookup(newLookup(0));
+        lookup(newLookup(0));
+
+        assertEquals(2,
+                     loads.get());
+        assertEquals(0,
+                     cache.size());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.pr.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Request to recover the active node instances of a definition node (matched by node name or node definition id, at
+ * least one of them is required) across many process instances. Instances are either the given ids (within the
+ * container) or all active instances of the process. {@link NodeRecoveryAction#TRIGGER_NEXT} triggers the target node
+ * and then cancels the matched node instance.
+ */
+@Portable
+public class NodeRecoveryBatch implements Serializable {
+
+    private static final long serialVersionUID = 3658146603328734216L;
+
+    private String serverTemplateId;
+    private String containerId;
+    private String processId;
+    private List<Long> processInstanceIds = new ArrayList<>();
+    private String nodeName;
+    private String nodeId;
+    private NodeRecoveryAction action;
+    private Long targetNodeId;
+    private Integer maxOperationsPerSecond;
+
+    public NodeRecoveryBatch() {
+    }
+
+    public String getServerTemplateId() {
+        return serverTemplateId;
+    }
+
+    public void setServerTemplateId(String serverTemplateId) {
+        this.serverTemplateId = serverTemplateId;
+    }
+
+    public String getContainerId() {
+        return containerId;
+    }
+
+    public void setContainerId(String containerId) {
+        this.containerId = containerId;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public void setProcessId(String processId) {
+        this.processId = processId;
+    }
+
+    public List<Long> getProcessInstanceIds() {
+        return processInstanceIds;
+    }
+
+    public void setProcessInstanceIds(List<Long> processInstanceIds) {
+        this.processInstanceIds = processInstanceIds;
+    }
+
+    public String getNodeName() {
+        return nodeName;
+    }
+
+    public void setNodeName(String nodeName) {
+        this.nodeName = nodeName;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public NodeRecoveryAction getAction() {
+        return action;
+    }
+
+    public void setAction(NodeRecoveryAction action) {
+        this.action = action;
+    }
+
+    public Long getTargetNodeId() {
+        return targetNodeId;
+    }
+
+    public void setTargetNodeId(Long targetNodeId) {
+        this.targetNodeId = targetNodeId;
+    }
+
+    public Integer getMaxOperationsPerSecond() {
+        return maxOperationsPerSecond;
+    }
+
+    public void setMaxOperationsPerSecond(Integer maxOperationsPerSecond) {
+        this.maxOperationsPerSecond = maxOperationsPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return "NodeRecoveryBatch{" +
+                "serverTemplateId='" + serverTemplateId + '\'' +
+                ", containerId='" + containerId + '\'' +
+                ", processId='" + processId + '\'' +
+                ", processInstanceIds=" + processInstanceIds +
+                ", nodeName='" + nodeName + '\'' +
+                ", nodeId='" + nodeId + '\'' +
+                ", action=" + action +
+                ", targetNodeId=" + targetNodeId +
+                ", maxOperationsPerSecond=" + maxOperationsPerSecond +
+                '}';
+    }
+}
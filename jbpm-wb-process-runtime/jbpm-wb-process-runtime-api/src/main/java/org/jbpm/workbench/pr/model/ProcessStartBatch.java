@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.pr.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Request to start one process instance per parameter map (row). When a correlation key column is set, the value of
+ * that entry is used as the correlation key of the row and is not passed as a process variable.
+ */
+@Portable
+public class ProcessStartBatch implements Serializable {
+
+    private static final long serialVersionUID = -4375012950846120173L;
+
+    private String batchId;
+    private String serverTemplateId;
+    private String containerId;
+    private String processId;
+    private String correlationKeyColumn;
+    private List<Map<String, Object>> parameters = new ArrayList<>();
+    private Integer concurrency;
+    private Integer maxStartsPerSecond;
+
+    public ProcessStartBatch() {
+    }
+
+    public ProcessStartBatch(final String batchId,
+                             final String serverTemplateId,
+                             final String containerId,
+                             final String processId,
+                             final List<Map<String, Object>> parameters) {
+        this.batchId = batchId;
+        this.serverTemplateId = serverTemplateId;
+        this.containerId = containerId;
+        this.processId = processId;
+        this.parameters = parameters;
+    }
+
+    /**
+     * @return id chosen by the client to poll the progress of the batch with
+     * {@link org.jbpm.workbench.pr.service.ProcessService#getBatchProgress(String)}
+     */
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(String batchId) {
+        this.batchId = batchId;
+    }
+
+    public String getServerTemplateId() {
+        return serverTemplateId;
+    }
+
+    public void setServerTemplateId(String serverTemplateId) {
+        this.serverTemplateId = serverTemplateId;
+    }
+
+    public String getContainerId() {
+        return containerId;
+    }
+
+    public void setContainerId(String containerId) {
+        this.containerId = containerId;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public void setProcessId(String processId) {
+        this.processId = processId;
+    }
+
+    public String getCorrelationKeyColumn() {
+        return correlationKeyColumn;
+    }
+
+    public void setCorrelationKeyColumn(String correlationKeyColumn) {
+        this.correlationKeyColumn = correlationKeyColumn;
+    }
+
+    public List<Map<String, Object>> getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(List<Map<String, Object>> parameters) {
+        this.parameters = parameters;
+    }
+
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Integer getMaxStartsPerSecond() {
+        return maxStartsPerSecond;
+    }
+
+    public void setMaxStartsPerSecond(Integer maxStartsPerSecond) {
+        this.maxStartsPerSecond = maxStartsPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessStartBatch{" +
+                "batchId='" + batchId + '\'' +
+                ", serverTemplateId='" + serverTemplateId + '\'' +
+                ", containerId='" + containerId + '\'' +
+                ", processId='" + processId + '\'' +
+                ", correlationKeyColumn='" + correlationKeyColumn + '\'' +
+                ", rows=" + (parameters == null ? 0 : parameters.size()) +
+                ", concurrency=" + concurrency +
+                ", maxStartsPerSecond=" + maxStartsPerSecond +
+                '}';
+    }
+}
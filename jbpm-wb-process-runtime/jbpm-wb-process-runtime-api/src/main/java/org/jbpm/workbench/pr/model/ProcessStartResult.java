@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.pr.model;
+
+import java.io.Serializable;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Outcome of a single row of a {@link ProcessStartBatch}: either the id of the started process instance or the error.
+ */
+@Portable
+public class ProcessStartResult implements Serializable {
+
+    private static final long serialVersionUID = 6126377408532164957L;
+
+    private int row;
+    private Long processInstanceId;
+    private String errorMessage;
+
+    public ProcessStartResult() {
+    }
+
+    public ProcessStartResult(final int row,
+                              final Long processInstanceId,
+                              final String errorMessage) {
+        this.row = row;
+        this.processInstanceId = processInstanceId;
+        this.errorMessage = errorMessage;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public Long getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    public void setProcessInstanceId(Long processInstanceId) {
+        this.processInstanceId = processInstanceId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isSuccess() {
+        return processInstanceId != null;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidMultipleUnaryOperators")
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + row;
+        hash = ~~hash;
+        hash = 31 * hash + (this.processInstanceId != null ? this.processInstanceId.hashCode() : 0);
+        hash = ~~hash;
+        hash = 31 * hash + (this.errorMessage != null ? this.errorMessage.hashCode() : 0);
+        hash = ~~hash;
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final ProcessStartResult other = (ProcessStartResult) obj;
+        if (this.row != other.row) {
+            return false;
+        }
+        if (this.processInstanceId == null ? other.processInstanceId != null : !this.processInstanceId.equals(other.processInstanceId)) {
+            return false;
+        }
+        if (this.errorMessage == null ? other.errorMessage != null : !this.errorMessage.equals(other.errorMessage)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessStartResult{" +
+                "row=" + row +
+                ", processInstanceId=" + processInstanceId +
+                ", errorMessage='" + errorMessage + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.pr.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Request to reschedule the timers of many process instances at once. Instances are either the given ids (within
+ * the container) or all active instances of the process; only timers named after the given node are updated when a
+ * timer name is set.
+ */
+@Portable
+public class TimerRescheduleBatch implements Serializable {
+
+    private static final long serialVersionUID = -2086543118791305240L;
+
+    private String serverTemplateId;
+    private String containerId;
+    private String processId;
+    private List<Long> processInstanceIds = new ArrayList<>();
+    private String timerName;
+    private Long delay;
+    private Long period;
+    private Integer repeatLimit;
+    private Boolean relative = Boolean.FALSE;
+
+    public TimerRescheduleBatch() {
+    }
+
+    public String getServerTemplateId() {
+        return serverTemplateId;
+    }
+
+    public void setServerTemplateId(String serverTemplateId) {
+        this.serverTemplateId = serverTemplateId;
+    }
+
+    public String getContainerId() {
+        return containerId;
+    }
+
+    public void setContainerId(String containerId) {
+        this.containerId = containerId;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public void setProcessId(String processId) {
+        this.processId = processId;
+    }
+
+    public List<Long> getProcessInstanceIds() {
+        return processInstanceIds;
+    }
+
+    public void setProcessInstanceIds(List<Long> processInstanceIds) {
+        this.processInstanceIds = processInstanceIds;
+    }
+
+    public String getTimerName() {
+        return timerName;
+    }
+
+    public void setTimerName(String timerName) {
+        this.timerName = timerName;
+    }
+
+    public Long getDelay() {
+        return delay;
+    }
+
+    public void setDelay(Long delay) {
+        this.delay = delay;
+    }
+
+    public Long getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Long period) {
+        this.period = period;
+    }
+
+    public Integer getRepeatLimit() {
+        return repeatLimit;
+    }
+
+    public void setRepeatLimit(Integer repeatLimit) {
+        this.repeatLimit = repeatLimit;
+    }
+
+    public Boolean isRelative() {
+        return relative;
+    }
+
+    public void setRelative(Boolean relative) {
+        this.relative = relative;
+    }
+
+    @Override
+    public String toString() {
+        return "TimerRescheduleBatch{" +
+                "serverTemplateId='" + serverTemplateId + '\'' +
+                ", containerId='" + containerId + '\'' +
+                ", processId='" + processId + '\'' +
+                ", processInstanceIds=" + processInstanceIds +
+                ", timerName='" + timerName + '\'' +
+                ", delay=" + delay +
+                ", period=" + period +
+                ", repeatLimit=" + repeatLimit +
+                ", relative=" + relative +
+                '}';
+    }
+}
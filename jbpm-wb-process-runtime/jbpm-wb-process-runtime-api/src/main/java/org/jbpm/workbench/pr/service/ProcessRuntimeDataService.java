@@ -19,6 +19,7 @@ package org.jbpm.workbench.pr.service;
 import java.util.List;
 
 import org.jboss.errai.bus.server.annotations.Remote;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.pr.model.*;
 
 @Remote
@@ -70,6 +71,10 @@ public interface ProcessRuntimeDataService {
     void rescheduleTimerInstance(ProcessInstanceKey processInstanceKey,
                                  TimerInstanceSummary summary);
 
+    List<BulkOperationResult<Long>> rescheduleTimerInstances(TimerRescheduleBatch batch);
+
+    List<BulkOperationResult<Long>> recoverProcessInstanceNodes(NodeRecoveryBatch batch);
+
     ProcessInstanceSummary getProcessInstanceByCorrelationKey(String serverTemplateId,
                                                               String correlationKey);                                 
 }
@@ -20,15 +20,19 @@ import java.util.List;
 import java.util.Map;
 
 import org.jboss.errai.bus.server.annotations.Remote;
+import org.jbpm.workbench.common.model.BulkOperationProgress;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.pr.model.ProcessInstanceKey;
+import org.jbpm.workbench.pr.model.ProcessStartBatch;
+import org.jbpm.workbench.pr.model.ProcessStartResult;
 
 @Remote
 public interface ProcessService {
 
     void abortProcessInstance(ProcessInstanceKey processInstance);
 
-    void abortProcessInstances(String serverTemplateId,
-                               Map<String, List<Long>> containerInstances);
+    List<BulkOperationResult<Long>> abortProcessInstances(String serverTemplateId,
+                                                          Map<String, List<Long>> containerInstances);
 
     Long startProcess(String serverTemplateId,
                       String containerId,
@@ -36,15 +40,28 @@ public interface ProcessService {
                       String correlationKey,
                       Map<String, Object> params);
 
+    /**
+     * Starts one process instance per row of the batch, a failing row does not stop the others.
+     * @return the result of every row, in the order of the batch rows
+     */
+    List<ProcessStartResult> startProcesses(ProcessStartBatch batch);
+
+    /**
+     * Progress of a {@link #startProcesses(ProcessStartBatch)} call of the current user still running on this node,
+     * polled while the call is in flight.
+     * @return null when no batch with that id was submitted by the current user
+     */
+    BulkOperationProgress getBatchProgress(String batchId);
+
     List<String> getAvailableSignals(String serverTemplateId,
                                      String containerId,
                                      Long processInstanceId);
 
-    void signalProcessInstances(String serverTemplateId,
-                                List<String> containers,
-                                List<Long> processInstanceId,
-                                String signal,
-                                Object event);
+    List<BulkOperationResult<Long>> signalProcessInstances(String serverTemplateId,
+                                                           List<String> containers,
+                                                           List<Long> processInstanceId,
+                                                           String signal,
+                                                           Object event);
 
     void setProcessVariable(String serverTemplateId,
                             String deploymentId,
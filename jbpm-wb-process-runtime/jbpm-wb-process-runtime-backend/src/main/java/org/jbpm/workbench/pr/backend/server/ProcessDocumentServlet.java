@@ -15,8 +15,18 @@
  */
 package org.jbpm.workbench.pr.backend.server;
 
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
 import java.text.MessageFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.inject.Inject;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -25,9 +35,12 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.jbpm.workbench.ks.integration.KieServerIntegration;
+import org.jbpm.workbench.ks.utils.KieServerUtils;
 import org.kie.server.api.model.instance.DocumentInstance;
+import org.kie.server.client.CredentialsProvider;
 import org.kie.server.client.DocumentServicesClient;
 import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.impl.AbstractKieServicesClientImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.uberfire.server.util.FileServletUtil;
@@ -41,6 +54,14 @@ public class ProcessDocumentServlet extends HttpServlet {
     public static final String INVALID_DOCUMENT = "Unable to retrieve document with id \"{0}\"";
     public static final String INVALID_PARAMS = "Invalid parameters to servlet: templateid: \"{0}\", docid: \"{1}\"";
 
+    // maximum amount of document content held in memory per download
+    protected static final int BUFFER_SIZE = Integer.getInteger("org.jbpm.wb.documents.download.buffer",
+                                                                64 * 1024);
+    protected static final int TIMEOUT = 60000;
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("filename=\"?([^\";]+)\"?");
+
     @Inject
     private KieServerIntegration kieServerIntegration;
 
@@ -53,26 +74,40 @@ public class ProcessDocumentServlet extends HttpServlet {
             String templateId = FileServletUtil.encodeFileNamePart(request.getParameter("templateid"));
             String docId = FileServletUtil.encodeFileNamePart(request.getParameter("docid"));
 
-            if (templateId == null || docId == null) {
+            if (templateId == null || docId == null || !isValidDocumentId(docId)) {
                 logger.error(MessageFormat.format(INVALID_PARAMS,
                                                   templateId,
                                                   docId));
                 return;
             }
 
+            final String eTag = getETag(docId,
+                                        request.getParameter("lastModified"));
+            if (eTag != null) {
+                response.setHeader("ETag",
+                                   eTag);
+                if (matchesETag(request.getHeader("If-None-Match"),
+                                eTag)) {
+                    response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                    return;
+                }
+            }
+
             KieServicesClient kieServicesClient = kieServerIntegration.getServerClient(templateId);
             if (kieServicesClient != null) {
-                DocumentServicesClient documentServicesClient = kieServicesClient.getServicesClient(DocumentServicesClient.class);
-                DocumentInstance documentInstance = documentServicesClient.getDocument(docId);
-
-                if (documentInstance != null) {
-                    response.setContentType("application/octet-stream");
-                    response.setHeader("Content-Disposition",
-                                       "attachment; filename=\"" + documentInstance.getName() + "\"");
-                    response.getOutputStream().write(documentInstance.getContent());
-                } else {
-                    logger.error(MessageFormat.format(INVALID_DOCUMENT,
-                                                      docId));
+                final String range = getRequestedRange(request,
+                                                       eTag);
+                try (DocumentContent documentContent = openDocumentContent(kieServicesClient,
+                                                                           docId,
+                                                                           range)) {
+                    if (documentContent != null) {
+                        writeDocument(response,
+                                      range,
+                                      documentContent);
+                    } else {
+                        logger.error(MessageFormat.format(INVALID_DOCUMENT,
+                                                          docId));
+                    }
                 }
             } else {
                 logger.error(MessageFormat.format(INVALID_SERVICES_CLIENT,
@@ -86,8 +121,295 @@ public class ProcessDocumentServlet extends HttpServlet {
         }
     }
 
+    /**
+     * Document ids end up in the path of the KIE Server url, relative segments would reach other endpoints.
+     */
+    protected boolean isValidDocumentId(final String docId) {
+        return !docId.trim().isEmpty() && !".".equals(docId) && !"..".equals(docId);
+    }
+
+    /**
+     * Download links carry the last modification of the document they were generated for, without it there is no
+     * reliable validator and no ETag is sent.
+     */
+    protected String getETag(final String docId,
+                             final String lastModified) {
+        if (lastModified == null || !lastModified.matches("\\d+")) {
+            return null;
+        }
+        return "\"" + docId + "-" + lastModified + "\"";
+    }
+
+    /**
+     * @return the single byte range requested, or null when the whole document has to be sent
+     */
+    protected String getRequestedRange(final HttpServletRequest request,
+                                       final String eTag) {
+        final String range = request.getHeader("Range");
+        final String ifRange = request.getHeader("If-Range");
+        if (range == null || (ifRange != null && !ifRange.equals(eTag))) {
+            return null;
+        }
+        final Matcher matcher = RANGE_PATTERN.matcher(range.trim());
+        // multiple or malformed ranges are ignored and the whole document is sent
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+        return range.trim();
+    }
+
+    protected void writeDocument(final HttpServletResponse response,
+                                 final String range,
+                                 final DocumentContent documentContent) throws IOException {
+        if (documentContent.getStatus() == HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE) {
+            response.setHeader("Content-Range",
+                               documentContent.getContentRange());
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        final long length = documentContent.getLength();
+        long start = 0;
+        long count = length;
+        if (documentContent.getStatus() == HttpServletResponse.SC_PARTIAL_CONTENT) {
+            // the KIE Server already served the range
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader("Content-Range",
+                               documentContent.getContentRange());
+        } else if (length >= 0 && range != null) {
+            // whole document received, only the requested range is sent
+            final Matcher matcher = RANGE_PATTERN.matcher(range);
+            matcher.matches();
+            long end = length - 1;
+            if (matcher.group(1).isEmpty()) {
+                start = Math.max(0,
+                                 length - Long.parseLong(matcher.group(2)));
+            } else {
+                start = Long.parseLong(matcher.group(1));
+                if (!matcher.group(2).isEmpty()) {
+                    end = Math.min(Long.parseLong(matcher.group(2)),
+                                   end);
+                }
+            }
+            if (start >= length || start > end) {
+                response.setHeader("Content-Range",
+                                   "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            count = end - start + 1;
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader("Content-Range",
+                               "bytes " + start + "-" + end + "/" + length);
+        }
+
+        response.setContentType("application/octet-stream");
+        response.setHeader("Content-Disposition",
+                           "attachment; filename=\"" + documentContent.getName() + "\"");
+        response.setHeader("Accept-Ranges",
+                           length < 0 ? "none" : "bytes");
+        if (count >= 0) {
+            response.setHeader("Content-Length",
+                               String.valueOf(count));
+        }
+
+        copy(documentContent.getInputStream(),
+             response.getOutputStream(),
+             start,
+             count);
+    }
+
+    protected boolean matchesETag(final String ifNoneMatch,
+                                  final String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            final String value = candidate.trim();
+            if ("*".equals(value) || eTag.equals(value) || ("W/" + eTag).equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected void copy(final InputStream input,
+                        final OutputStream output,
+                        final long start,
+                        final long count) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        long toSkip = start;
+        while (toSkip > 0) {
+            final long skipped = input.skip(toSkip);
+            if (skipped > 0) {
+                toSkip -= skipped;
+            } else if (input.read() == -1) {
+                return;
+            } else {
+                toSkip--;
+            }
+        }
+
+        long remaining = count < 0 ? Long.MAX_VALUE : count;
+        while (remaining > 0) {
+            final int read = input.read(buffer,
+                                        0,
+                                        (int) Math.min(buffer.length,
+                                                       remaining));
+            if (read == -1) {
+                break;
+            }
+            output.write(buffer,
+                         0,
+                         read);
+            remaining -= read;
+        }
+        output.flush();
+    }
+
+    protected DocumentContent openDocumentContent(final KieServicesClient kieServicesClient,
+                                                  final String docId,
+                                                  final String range) throws IOException {
+        if (kieServicesClient instanceof AbstractKieServicesClientImpl) {
+            return openRemoteDocumentContent(((AbstractKieServicesClientImpl) kieServicesClient).getLoadBalancer().getUrl(),
+                                             docId,
+                                             range);
+        }
+
+        // clients not based on REST can only provide the whole content at once
+        DocumentServicesClient documentServicesClient = kieServicesClient.getServicesClient(DocumentServicesClient.class);
+        DocumentInstance documentInstance = documentServicesClient.getDocument(docId);
+        if (documentInstance == null) {
+            return null;
+        }
+        final byte[] content = documentInstance.getContent();
+        return new DocumentContent(documentInstance.getName(),
+                                   HttpServletResponse.SC_OK,
+                                   content.length,
+                                   null,
+                                   new ByteArrayInputStream(content),
+                                   null);
+    }
+
+    /**
+     * The range is sent to the KIE Server, so that resuming a download only transfers the missing part. Servers
+     * ignoring it answer with the whole document.
+     */
+    protected DocumentContent openRemoteDocumentContent(final String serverUrl,
+                                                        final String docId,
+                                                        final String range) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(getDocumentContentUrl(serverUrl,
+                                                                                               docId)).openConnection();
+        final CredentialsProvider credentialsProvider = KieServerUtils.getCredentialsProvider();
+        connection.setRequestProperty(credentialsProvider.getHeaderName(),
+                                      credentialsProvider.getAuthorization());
+        connection.setRequestProperty("Accept",
+                                      "application/octet-stream");
+        if (range != null) {
+            connection.setRequestProperty("Range",
+                                          range);
+        }
+        connection.setConnectTimeout(TIMEOUT);
+        connection.setReadTimeout(TIMEOUT);
+
+        final int status = connection.getResponseCode();
+        if (status == HttpURLConnection.HTTP_OK || status == HttpURLConnection.HTTP_PARTIAL) {
+            String name = docId;
+            final String contentDisposition = connection.getHeaderField("Content-Disposition");
+            if (contentDisposition != null) {
+                final Matcher matcher = FILE_NAME_PATTERN.matcher(contentDisposition);
+                if (matcher.find()) {
+                    name = matcher.group(1);
+                }
+            }
+            return new DocumentContent(name,
+                                       status,
+                                       connection.getContentLengthLong(),
+                                       connection.getHeaderField("Content-Range"),
+                                       connection.getInputStream(),
+                                       connection);
+        }
+        if (status == HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE) {
+            return new DocumentContent(docId,
+                                       status,
+                                       0,
+                                       connection.getHeaderField("Content-Range"),
+                                       new ByteArrayInputStream(new byte[0]),
+                                       connection);
+        }
+        connection.disconnect();
+        return null;
+    }
+
+    protected String getDocumentContentUrl(final String serverUrl,
+                                           final String docId) throws UnsupportedEncodingException {
+        return serverUrl + "/documents/" + URLEncoder.encode(docId,
+                                                             "UTF-8").replace("+",
+                                                                              "%20") + "/content";
+    }
+
     // for testing
     public void setKieServerIntegration(KieServerIntegration kieServerIntegration) {
         this.kieServerIntegration = kieServerIntegration;
     }
+
+    protected static class DocumentContent implements Closeable {
+
+        private final String name;
+        private final int status;
+        private final long length;
+        private final String contentRange;
+        private final InputStream inputStream;
+        private final HttpURLConnection connection;
+
+        /**
+         * @param status {@link HttpServletResponse#SC_OK} for the whole document, {@link HttpServletResponse#SC_PARTIAL_CONTENT}
+         * when the content is the range described by <code>contentRange</code>
+         * @param length length of the content, negative when unknown
+         */
+        public DocumentContent(final String name,
+                               final int status,
+                               final long length,
+                               final String contentRange,
+                               final InputStream inputStream,
+                               final HttpURLConnection connection) {
+            this.name = name;
+            this.status = status;
+            this.length = length;
+            this.contentRange = contentRange;
+            this.inputStream = inputStream;
+            this.connection = connection;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public String getContentRange() {
+            return contentRange;
+        }
+
+        public InputStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                inputStream.close();
+            } finally {
+                if (connection != null) {
+                    connection.disconnect();
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.pr.backend.server;
+
+import java.util.function.Supplier;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.jbpm.workbench.ks.utils.CoalescingCache;
+import org.jbpm.workbench.pr.model.ProcessInstanceKey;
+import org.jbpm.workbench.pr.model.ProcessInstanceSummary;
+
+/**
+ * Keeps process instance summaries for a few seconds so that the tabs of an instance, and several users looking at
+ * the same instance, share a single remote call. Concurrent requests for an instance that is being loaded wait for
+ * that load instead of issuing their own. Entries are invalidated by the workbench operations that change an instance.
+ */
+@ApplicationScoped
+public class ProcessInstanceSummaryCache {
+
+    protected static final long DEFAULT_TTL = Long.getLong("org.jbpm.wb.process.instance.cache.ttl",
+                                                           3000);
+
+    private final CoalescingCache<ProcessInstanceKey, ProcessInstanceSummary> cache;
+
+    public ProcessInstanceSummaryCache() {
+        this(DEFAULT_TTL);
+    }
+
+    protected ProcessInstanceSummaryCache(final long ttl) {
+        this.cache = new CoalescingCache<>(ttl,
+                                           "process instance");
+    }
+
+    public ProcessInstanceSummary get(final ProcessInstanceKey key,
+                                      final Supplier<ProcessInstanceSummary> loader) {
+        return cache.get(key,
+                         loader);
+    }
+
+    public void invalidate(final ProcessInstanceKey key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidate(final String serverTemplateId,
+                           final String deploymentId,
+                           final Long processInstanceId) {
+        invalidate(new ProcessInstanceKey(serverTemplateId,
+                                          deploymentId,
+                                          processInstanceId));
+    }
+
+    protected int size() {
+        return cache.size();
+    }
+}
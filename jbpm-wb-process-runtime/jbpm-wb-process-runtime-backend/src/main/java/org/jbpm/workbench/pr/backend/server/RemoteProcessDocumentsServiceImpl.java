@@ -18,33 +18,65 @@ package org.jbpm.workbench.pr.backend.server;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 import javax.enterprise.context.ApplicationScoped;
-import javax.inject.Inject;
 
+import org.dashbuilder.dataset.filter.CoreFunctionType;
 import org.jboss.errai.bus.server.annotations.Service;
 import org.jbpm.document.Document;
 import org.jbpm.document.service.impl.util.DocumentDownloadLinkGenerator;
 import org.jbpm.workbench.common.model.QueryFilter;
+import org.jbpm.workbench.ks.integration.AbstractKieServerService;
 import org.jbpm.workbench.pr.model.DocumentSummary;
-import org.jbpm.workbench.pr.model.ProcessVariableSummary;
+import org.jbpm.workbench.pr.model.ProcessInstanceKey;
 import org.jbpm.workbench.pr.service.ProcessDocumentsService;
-import org.jbpm.workbench.pr.service.ProcessVariablesService;
+import org.kie.server.api.exception.KieServicesHttpException;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.api.model.definition.QueryParam;
+import org.kie.server.api.model.definition.VariablesDefinition;
+import org.kie.server.client.ProcessServicesClient;
+import org.kie.server.client.QueryServicesClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.uberfire.paging.PageResponse;
 
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.jbpm.workbench.pr.model.ProcessInstanceDataSetConstants.PROCESS_INSTANCE_ID;
+import static org.jbpm.workbench.pr.model.ProcessInstanceDataSetConstants.PROCESS_INSTANCE_WITH_VARIABLES_DATASET;
+import static org.jbpm.workbench.pr.model.ProcessInstanceDataSetConstants.VARIABLE_ID;
+import static org.jbpm.workbench.pr.model.ProcessInstanceDataSetConstants.VARIABLE_NAME;
+
 @Service
 @ApplicationScoped
-public class RemoteProcessDocumentsServiceImpl implements ProcessDocumentsService {
+public class RemoteProcessDocumentsServiceImpl extends AbstractKieServerService implements ProcessDocumentsService {
 
     private static final Logger logger = LoggerFactory.getLogger(RemoteProcessDocumentsServiceImpl.class);
     protected static final String JBPM_DOCUMENT = "org.jbpm.document.Document";
+    protected static final int DOCUMENT_QUERY_PAGE_SIZE = 100;
+    protected static final int DOCUMENT_INDEX_CACHE_SIZE = Integer.getInteger("org.jbpm.wb.documents.index.size",
+                                                                             500);
+
+    // column positions of the jbpmProcessInstancesWithVariables query
+    private static final int VARIABLE_ID_COLUMN = 2;
+    private static final int VARIABLE_VALUE_COLUMN = 4;
 
-    @Inject
-    private ProcessVariablesService processVariablesService;
+    private static final Pattern PROPERTIES_SEPARATOR = Pattern.compile(Pattern.quote(Document.PROPERTIES_SEPARATOR));
+    private static final ThreadLocal<SimpleDateFormat> DOCUMENT_DATE_FORMAT = ThreadLocal.withInitial(() -> new SimpleDateFormat(Document.DOCUMENT_DATE_PATTERN));
+
+    private final Map<ProcessInstanceKey, DocumentIndex> documentIndexes = Collections.synchronizedMap(new LinkedHashMap<ProcessInstanceKey, DocumentIndex>(16,
+                                                                                                                                                          0.75f,
+                                                                                                                                                          true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ProcessInstanceKey, DocumentIndex> eldest) {
+            return size() > DOCUMENT_INDEX_CACHE_SIZE;
+        }
+    });
 
     @Override
     public PageResponse<DocumentSummary> getData(QueryFilter filter) {
@@ -55,7 +87,7 @@ public class RemoteProcessDocumentsServiceImpl implements ProcessDocumentsServic
         response.setTotalRowSizeExact(true);
         response.setTotalRowSize(documents.size());
 
-        if (!documents.isEmpty()) {
+        if (!documents.isEmpty() && filter.getOffset() < documents.size()) {
             if (documents.size() > (filter.getCount() + filter.getOffset())) {
                 response.setPageRowList(new ArrayList<DocumentSummary>(documents.subList(filter.getOffset(),
                                                                                          filter.getOffset() + filter.getCount())));
@@ -66,40 +98,173 @@ public class RemoteProcessDocumentsServiceImpl implements ProcessDocumentsServic
                 response.setLastPage(true);
             }
         } else {
-            response.setPageRowList(new ArrayList<DocumentSummary>(documents));
+            response.setPageRowList(new ArrayList<DocumentSummary>());
             response.setLastPage(true);
         }
         return response;
     }
 
-    private List<DocumentSummary> getDocuments(QueryFilter filter) throws NumberFormatException {
-
-        String serverTemplateId = (String) filter.getParams().get("serverTemplateId");
-
-        Collection<ProcessVariableSummary> processVariables = processVariablesService.getData(filter).getPageRowList();
-        SimpleDateFormat sdf = new SimpleDateFormat(Document.DOCUMENT_DATE_PATTERN);
-        List<DocumentSummary> documents = new ArrayList<DocumentSummary>();
-        for (ProcessVariableSummary pv : processVariables) {
-            if (JBPM_DOCUMENT.equals(pv.getType()) &&
-                    pv.getNewValue() != null && !pv.getNewValue().isEmpty()) {
-                String[] values = pv.getNewValue().split(Document.PROPERTIES_SEPARATOR);
-                if (values.length == 4) {
-                    Date lastModified = null;
-                    try {
-                        lastModified = sdf.parse(values[2]);
-                    } catch (ParseException ex) {
-                        logger.error("Can not parse last modified date!",
-                                     ex);
-                    }
-                    documents.add(new DocumentSummary(values[0],
-                                                      lastModified,
-                                                      Long.valueOf(values[1]),
-                                                      DocumentDownloadLinkGenerator.generateDownloadLink(serverTemplateId,
-                                                                                                         values[3])));
+    protected List<DocumentSummary> getDocuments(QueryFilter filter) {
+        if (filter.getParams() == null || filter.getParams().get("processInstanceId") == null) {
+            return Collections.emptyList();
+        }
+
+        final String serverTemplateId = (String) filter.getParams().get("serverTemplateId");
+        final String deploymentId = (String) filter.getParams().get("deploymentId");
+        final String processId = (String) filter.getParams().get("processDefId");
+        final ProcessInstanceKey processInstanceKey = new ProcessInstanceKey(serverTemplateId,
+                                                                             deploymentId,
+                                                                             Long.valueOf((String) filter.getParams().get("processInstanceId")));
+
+        final QueryServicesClient queryServicesClient = getClient(serverTemplateId,
+                                                                  QueryServicesClient.class);
+
+        // the latest variable log id acts as the version of the index, any variable change bumps it
+        final Long version = getLatestVariableId(queryServicesClient,
+                                                 processInstanceKey.getProcessInstanceId());
+
+        final DocumentIndex cached = documentIndexes.get(processInstanceKey);
+        if (cached != null && cached.getVersion().equals(version)) {
+            return cached.getDocuments();
+        }
+
+        final DocumentIndex index = new DocumentIndex(version,
+                                                      buildDocuments(queryServicesClient,
+                                                                     processInstanceKey,
+                                                                     processId));
+        documentIndexes.put(processInstanceKey,
+                            index);
+        return index.getDocuments();
+    }
+
+    protected Long getLatestVariableId(final QueryServicesClient queryServicesClient,
+                                       final Long processInstanceId) {
+        final QueryFilterSpec filterSpec = new QueryFilterSpec();
+        filterSpec.setParameters(new QueryParam[]{processInstanceParam(processInstanceId)});
+        filterSpec.setOrderBy(VARIABLE_ID);
+        filterSpec.setAscending(false);
+
+        final List<List> rows = queryServicesClient.query(PROCESS_INSTANCE_WITH_VARIABLES_DATASET,
+                                                          QueryServicesClient.QUERY_MAP_RAW,
+                                                          filterSpec,
+                                                          0,
+                                                          1,
+                                                          List.class);
+        if (rows == null || rows.isEmpty()) {
+            return -1L;
+        }
+        return ((Number) rows.get(0).get(VARIABLE_ID_COLUMN)).longValue();
+    }
+
+    protected List<DocumentSummary> buildDocuments(final QueryServicesClient queryServicesClient,
+                                                   final ProcessInstanceKey processInstanceKey,
+                                                   final String processId) {
+        final List<String> documentVariables = getDocumentVariables(processInstanceKey,
+                                                                    processId);
+        if (documentVariables.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final QueryFilterSpec filterSpec = new QueryFilterSpec();
+        filterSpec.setParameters(new QueryParam[]{
+                processInstanceParam(processInstanceKey.getProcessInstanceId()),
+                new QueryParam(VARIABLE_NAME,
+                               CoreFunctionType.IN.toString(),
+                               documentVariables)
+        });
+        filterSpec.setOrderBy(VARIABLE_ID);
+        filterSpec.setAscending(true);
+
+        final List<DocumentSummary> documents = new ArrayList<DocumentSummary>();
+        int page = 0;
+        List<List> rows;
+        do {
+            rows = queryServicesClient.query(PROCESS_INSTANCE_WITH_VARIABLES_DATASET,
+                                             QueryServicesClient.QUERY_MAP_RAW,
+                                             filterSpec,
+                                             page++,
+                                             DOCUMENT_QUERY_PAGE_SIZE,
+                                             List.class);
+            for (List row : rows) {
+                final DocumentSummary document = parseDocument(processInstanceKey.getServerTemplateId(),
+                                                               (String) row.get(VARIABLE_VALUE_COLUMN));
+                if (document != null) {
+                    documents.add(document);
                 }
             }
+        } while (rows.size() == DOCUMENT_QUERY_PAGE_SIZE);
+
+        return Collections.unmodifiableList(documents);
+    }
+
+    protected List<String> getDocumentVariables(final ProcessInstanceKey processInstanceKey,
+                                                final String processId) {
+        final ProcessServicesClient processClient = getClient(processInstanceKey.getServerTemplateId(),
+                                                              ProcessServicesClient.class);
+        try {
+            final VariablesDefinition vars = processClient.getProcessVariableDefinitions(processInstanceKey.getDeploymentId(),
+                                                                                        processId);
+            return vars.getVariables().entrySet().stream()
+                    .filter(variable -> JBPM_DOCUMENT.equals(variable.getValue()))
+                    .map(Map.Entry::getKey)
+                    .collect(toList());
+        } catch (KieServicesHttpException kieException) {
+            // without variable definitions document variables can not be identified
+            return Collections.emptyList();
+        }
+    }
+
+    protected DocumentSummary parseDocument(final String serverTemplateId,
+                                            final String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        final String[] values = PROPERTIES_SEPARATOR.split(value);
+        if (values.length != 4) {
+            return null;
+        }
+        Date lastModified = null;
+        try {
+            lastModified = DOCUMENT_DATE_FORMAT.get().parse(values[2]);
+        } catch (ParseException ex) {
+            logger.error("Can not parse last modified date!",
+                         ex);
         }
-        return documents;
+        String downloadLink = DocumentDownloadLinkGenerator.generateDownloadLink(serverTemplateId,
+                                                                                 values[3]);
+        if (lastModified != null) {
+            // lets the download servlet validate cached copies of this version of the document
+            downloadLink += "&lastModified=" + lastModified.getTime();
+        }
+        return new DocumentSummary(values[0],
+                                   lastModified,
+                                   Long.valueOf(values[1]),
+                                   downloadLink);
     }
 
-}
\ No newline at end of file
+    private QueryParam processInstanceParam(final Long processInstanceId) {
+        return new QueryParam(PROCESS_INSTANCE_ID,
+                              CoreFunctionType.EQUALS_TO.toString(),
+                              singletonList(processInstanceId));
+    }
+
+    private static class DocumentIndex {
+
+        private final Long version;
+        private final List<DocumentSummary> documents;
+
+        DocumentIndex(final Long version,
+                      final List<DocumentSummary> documents) {
+            this.version = version;
+            this.documents = documents;
+        }
+
+        Long getVersion() {
+            return version;
+        }
+
+        List<DocumentSummary> getDocuments() {
+            return documents;
+        }
+    }
+}
@@ -16,14 +16,21 @@
 
 package org.jbpm.workbench.pr.backend.server;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.jboss.errai.bus.server.annotations.Service;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.ks.integration.AbstractKieServerService;
+import org.jbpm.workbench.ks.integration.BulkOperationExecutor;
+import org.jbpm.workbench.ks.integration.BulkRateLimiter;
 import org.jbpm.workbench.pr.model.NodeInstanceSummary;
+import org.jbpm.workbench.pr.model.NodeRecoveryAction;
+import org.jbpm.workbench.pr.model.NodeRecoveryBatch;
 import org.jbpm.workbench.pr.model.ProcessDefinitionKey;
 import org.jbpm.workbench.pr.model.ProcessInstanceDiagramSummary;
 import org.jbpm.workbench.pr.model.ProcessInstanceKey;
@@ -31,12 +38,14 @@ import org.jbpm.workbench.pr.model.ProcessInstanceSummary;
 import org.jbpm.workbench.pr.model.ProcessSummary;
 import org.jbpm.workbench.pr.model.TaskDefSummary;
 import org.jbpm.workbench.pr.model.TimerInstanceSummary;
+import org.jbpm.workbench.pr.model.TimerRescheduleBatch;
 import org.jbpm.workbench.pr.model.WorkItemSummary;
 import org.jbpm.workbench.pr.service.ProcessImageService;
 import org.jbpm.workbench.pr.service.ProcessRuntimeDataService;
 import org.kie.internal.process.CorrelationKey;
 import org.kie.internal.process.CorrelationProperty;
 import org.kie.server.api.exception.KieServicesHttpException;
+import org.kie.server.api.model.admin.TimerInstance;
 import org.kie.server.api.model.definition.ProcessDefinition;
 import org.kie.server.api.model.definition.UserTaskDefinitionList;
 import org.kie.server.api.model.instance.NodeInstance;
@@ -47,6 +56,7 @@ import org.kie.server.client.QueryServicesClient;
 import org.kie.server.client.admin.ProcessAdminServicesClient;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 @Service
@@ -58,18 +68,27 @@ public class RemoteProcessRuntimeDataServiceImpl extends AbstractKieServerServic
     @Inject
     private ProcessImageService processImageService;
 
+    @Inject
+    private BulkOperationExecutor bulkOperationExecutor;
+
+    @Inject
+    private ProcessInstanceSummaryCache processInstanceSummaryCache;
+
     @Override
     public ProcessInstanceSummary getProcessInstance(ProcessInstanceKey processInstanceKey) {
         if (processInstanceKey == null || processInstanceKey.isValid() == false) {
             return null;
         }
 
-        QueryServicesClient queryServicesClient = getClient(processInstanceKey.getServerTemplateId(),
-                                                            QueryServicesClient.class);
+        return processInstanceSummaryCache.get(processInstanceKey,
+                                               () -> {
+                                                   QueryServicesClient queryServicesClient = getClient(processInstanceKey.getServerTemplateId(),
+                                                                                                       QueryServicesClient.class);
 
-        ProcessInstance processInstance = queryServicesClient.findProcessInstanceById(processInstanceKey.getProcessInstanceId());
+                                                   ProcessInstance processInstance = queryServicesClient.findProcessInstanceById(processInstanceKey.getProcessInstanceId());
 
-        return new ProcessInstanceSummaryMapper(processInstanceKey.getServerTemplateId()).apply(processInstance);
+                                                   return new ProcessInstanceSummaryMapper(processInstanceKey.getServerTemplateId()).apply(processInstance);
+                                               });
     }
 
     @Override
@@ -160,6 +179,7 @@ public class RemoteProcessRuntimeDataServiceImpl extends AbstractKieServerServic
         servicesClient.triggerNode(processInstanceKey.getDeploymentId(),
                                    processInstanceKey.getProcessInstanceId(),
                                    nodeId);
+        processInstanceSummaryCache.invalidate(processInstanceKey);
     }
 
     @Override
@@ -174,6 +194,7 @@ public class RemoteProcessRuntimeDataServiceImpl extends AbstractKieServerServic
         servicesClient.cancelNodeInstance(processInstanceKey.getDeploymentId(),
                                           processInstanceKey.getProcessInstanceId(),
                                           nodeInstanceId);
+        processInstanceSummaryCache.invalidate(processInstanceKey);
     }
 
     @Override
@@ -188,6 +209,7 @@ public class RemoteProcessRuntimeDataServiceImpl extends AbstractKieServerServic
         servicesClient.retriggerNodeInstance(processInstanceKey.getDeploymentId(),
                                              processInstanceKey.getProcessInstanceId(),
                                              nodeInstanceId);
+        processInstanceSummaryCache.invalidate(processInstanceKey);
     }
 
     @Override
@@ -216,6 +238,180 @@ public class RemoteProcessRuntimeDataServiceImpl extends AbstractKieServerServic
         }
     }
 
+    @Override
+    public List<BulkOperationResult<Long>> rescheduleTimerInstances(final TimerRescheduleBatch batch) {
+        if (batch == null || batch.getServerTemplateId() == null || batch.getServerTemplateId().isEmpty()) {
+            return emptyList();
+        }
+        if (batch.isRelative() == null) {
+            throw new IllegalArgumentException("Relative or absolute rescheduling has to be chosen");
+        }
+
+        final List<ProcessInstanceKey> processInstances = findProcessInstances(batch.getServerTemplateId(),
+                                                                               batch.getContainerId(),
+                                                                               batch.getProcessId(),
+                                                                               batch.getProcessInstanceIds());
+        if (processInstances.isEmpty()) {
+            return emptyList();
+        }
+
+        final ProcessAdminServicesClient servicesClient = getClient(batch.getServerTemplateId(),
+                                                                    ProcessAdminServicesClient.class);
+        return bulkOperationExecutor.invokeAll(processInstances,
+                                               processInstance -> rescheduleTimerInstances(servicesClient,
+                                                                                           processInstance,
+                                                                                           batch));
+    }
+
+    protected BulkOperationResult<Long> rescheduleTimerInstances(final ProcessAdminServicesClient servicesClient,
+                                                                 final ProcessInstanceKey processInstance,
+                                                                 final TimerRescheduleBatch batch) {
+        if (processInstance.isValid() == false) {
+            return BulkOperationResult.failure(processInstance.getProcessInstanceId(),
+                                               "Invalid process instance " + processInstance);
+        }
+        try {
+            final List<TimerInstance> timers = servicesClient.getTimerInstances(processInstance.getDeploymentId(),
+                                                                                processInstance.getProcessInstanceId()).stream()
+                    .filter(timer -> batch.getTimerName() == null || batch.getTimerName().isEmpty() || batch.getTimerName().equals(timer.getTimerName()))
+                    .collect(toList());
+            if (timers.isEmpty()) {
+                return BulkOperationResult.failure(processInstance.getProcessInstanceId(),
+                                                   "No matching timer found");
+            }
+            for (TimerInstance timer : timers) {
+                final TimerInstanceSummary summary = new TimerInstanceSummaryMapper().apply(timer);
+                if (batch.getDelay() != null) {
+                    summary.setDelay(batch.getDelay());
+                } else if (batch.isRelative() && summary.getNextFireTime() != null) {
+                    // relative delays start now, keep the time left until the next fire instead of the configured delay
+                    summary.setDelay(Math.max(0,
+                                              TimeUnit.MILLISECONDS.toSeconds(summary.getNextFireTime().getTime() - System.currentTimeMillis())));
+                }
+                if (batch.getPeriod() != null) {
+                    summary.setPeriod(batch.getPeriod());
+                }
+                if (batch.getRepeatLimit() != null) {
+                    summary.setRepeatLimit(batch.getRepeatLimit());
+                }
+                summary.setRelative(batch.isRelative());
+                rescheduleTimerInstance(processInstance,
+                                        summary);
+            }
+            return BulkOperationResult.success(processInstance.getProcessInstanceId());
+        } catch (RuntimeException e) {
+            return BulkOperationResult.failure(processInstance.getProcessInstanceId(),
+                                               e.getMessage());
+        }
+    }
+
+    @Override
+    public List<BulkOperationResult<Long>> recoverProcessInstanceNodes(final NodeRecoveryBatch batch) {
+        if (batch == null || batch.getServerTemplateId() == null || batch.getServerTemplateId().isEmpty() || batch.getAction() == null) {
+            return emptyList();
+        }
+        if ((batch.getNodeId() == null || batch.getNodeId().isEmpty()) && (batch.getNodeName() == null || batch.getNodeName().isEmpty())) {
+            throw new IllegalArgumentException("Node id or node name is required to select the node instances to recover");
+        }
+        if (batch.getAction() == NodeRecoveryAction.TRIGGER_NEXT && batch.getTargetNodeId() == null) {
+            throw new IllegalArgumentException("Target node is required to trigger the next node");
+        }
+
+        final List<ProcessInstanceKey> processInstances = findProcessInstances(batch.getServerTemplateId(),
+                                                                               batch.getContainerId(),
+                                                                               batch.getProcessId(),
+                                                                               batch.getProcessInstanceIds());
+        if (processInstances.isEmpty()) {
+            return emptyList();
+        }
+
+        final ProcessAdminServicesClient servicesClient = getClient(batch.getServerTemplateId(),
+                                                                    ProcessAdminServicesClient.class);
+        final BulkRateLimiter rateLimiter = new BulkRateLimiter(batch.getMaxOperationsPerSecond() == null ? 0 : batch.getMaxOperationsPerSecond());
+        return bulkOperationExecutor.invokeAll(processInstances,
+                                               processInstance -> {
+                                                   rateLimiter.acquire();
+                                                   return recoverProcessInstanceNodes(servicesClient,
+                                                                                      processInstance,
+                                                                                      batch);
+                                               });
+    }
+
+    protected BulkOperationResult<Long> recoverProcessInstanceNodes(final ProcessAdminServicesClient servicesClient,
+                                                                    final ProcessInstanceKey processInstance,
+                                                                    final NodeRecoveryBatch batch) {
+        if (processInstance.isValid() == false) {
+            return BulkOperationResult.failure(processInstance.getProcessInstanceId(),
+                                               "Invalid process instance " + processInstance);
+        }
+        try {
+            final List<NodeInstance> nodeInstances = servicesClient.getActiveNodeInstances(processInstance.getDeploymentId(),
+                                                                                           processInstance.getProcessInstanceId()).stream()
+                    .filter(nodeInstance -> (batch.getNodeId() == null || batch.getNodeId().equals(nodeInstance.getNodeId()))
+                            && (batch.getNodeName() == null || batch.getNodeName().equals(nodeInstance.getName())))
+                    .collect(toList());
+            if (nodeInstances.isEmpty()) {
+                return BulkOperationResult.failure(processInstance.getProcessInstanceId(),
+                                                   "No matching active node instance found");
+            }
+            if (batch.getAction() == NodeRecoveryAction.TRIGGER_NEXT) {
+                triggerProcessInstanceNode(processInstance,
+                                           batch.getTargetNodeId());
+            }
+            for (NodeInstance nodeInstance : nodeInstances) {
+                if (batch.getAction() == NodeRecoveryAction.RETRIGGER) {
+                    reTriggerProcessInstanceNode(processInstance,
+                                                 nodeInstance.getId());
+                } else {
+                    cancelProcessInstanceNode(processInstance,
+                                              nodeInstance.getId());
+                }
+            }
+            return BulkOperationResult.success(processInstance.getProcessInstanceId());
+        } catch (RuntimeException e) {
+            return BulkOperationResult.failure(processInstance.getProcessInstanceId(),
+                                               e.getMessage());
+        }
+    }
+
+    /**
+     * Resolves the process instances targeted by a bulk operation: the given ids when present, otherwise all active
+     * instances of the process, loaded page by page.
+     */
+    protected List<ProcessInstanceKey> findProcessInstances(final String serverTemplateId,
+                                                            final String containerId,
+                                                            final String processId,
+                                                            final List<Long> processInstanceIds) {
+        if (processInstanceIds != null && !processInstanceIds.isEmpty()) {
+            return processInstanceIds.stream()
+                    .map(id -> new ProcessInstanceKey(serverTemplateId,
+                                                      containerId,
+                                                      id))
+                    .collect(toList());
+        }
+        if (processId == null || processId.isEmpty()) {
+            return emptyList();
+        }
+
+        final QueryServicesClient queryServicesClient = getClient(serverTemplateId,
+                                                                  QueryServicesClient.class);
+        final List<ProcessInstanceKey> processInstances = new ArrayList<>();
+        int page = 0;
+        List<ProcessInstance> instances;
+        do {
+            instances = queryServicesClient.findProcessInstancesByProcessId(processId,
+                                                                            singletonList(org.kie.api.runtime.process.ProcessInstance.STATE_ACTIVE),
+                                                                            page++,
+                                                                            BulkOperationExecutor.DEFAULT_BATCH_SIZE);
+            instances.stream()
+                    .filter(instance -> containerId == null || containerId.isEmpty() || containerId.equals(instance.getContainerId()))
+                    .forEach(instance -> processInstances.add(new ProcessInstanceKey(serverTemplateId,
+                                                                                     instance.getContainerId(),
+                                                                                     instance.getId())));
+        } while (instances.size() == BulkOperationExecutor.DEFAULT_BATCH_SIZE);
+        return processInstances;
+    }
+
     @Override
     public List<ProcessSummary> getProcesses(String serverTemplateId,
                                              Integer page,
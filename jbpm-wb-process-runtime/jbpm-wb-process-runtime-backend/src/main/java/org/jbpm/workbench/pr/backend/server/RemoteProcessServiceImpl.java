@@ -16,23 +16,53 @@
 
 package org.jbpm.workbench.pr.backend.server;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
 
 import org.jboss.errai.bus.server.annotations.Service;
+import org.jbpm.workbench.common.model.BulkOperationProgress;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.ks.integration.AbstractKieServerService;
+import org.jbpm.workbench.ks.integration.BulkOperationExecutor;
+import org.jbpm.workbench.ks.integration.BulkOperationProgressRegistry;
+import org.jbpm.workbench.ks.integration.BulkRateLimiter;
 import org.jbpm.workbench.pr.backend.server.model.RemoteCorrelationKey;
 import org.jbpm.workbench.pr.model.ProcessInstanceKey;
+import org.jbpm.workbench.pr.model.ProcessStartBatch;
+import org.jbpm.workbench.pr.model.ProcessStartResult;
 import org.jbpm.workbench.pr.service.ProcessService;
 import org.kie.internal.process.CorrelationKey;
 import org.kie.server.client.ProcessServicesClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.stream.Collectors.toList;
 
 @Service
 @ApplicationScoped
 public class RemoteProcessServiceImpl extends AbstractKieServerService implements ProcessService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RemoteProcessServiceImpl.class);
+
+    protected static final int MAX_START_CONCURRENCY = 16;
+
+    @Inject
+    private BulkOperationExecutor bulkOperationExecutor;
+
+    @Inject
+    private BulkOperationProgressRegistry progressRegistry;
+
+    @Inject
+    private ProcessInstanceSummaryCache processInstanceSummaryCache;
+
     @Override
     public void abortProcessInstance(ProcessInstanceKey processInstance) {
         ProcessServicesClient client = getClient(processInstance.getServerTemplateId(),
@@ -41,17 +71,19 @@ public class RemoteProcessServiceImpl extends AbstractKieServerService implement
 
         client.abortProcessInstance(processInstance.getDeploymentId(),
                                     processInstance.getProcessInstanceId());
+        processInstanceSummaryCache.invalidate(processInstance);
     }
 
     @Override
-    public void abortProcessInstances(String serverTemplateId,
-                                      Map<String, List<Long>> containerInstances) {
+    public List<BulkOperationResult<Long>> abortProcessInstances(String serverTemplateId,
+                                                                 Map<String, List<Long>> containerInstances) {
         ProcessServicesClient client = getClient(serverTemplateId,
                                                  ProcessServicesClient.class);
-        containerInstances.forEach((container, instances) ->
-                                           client.abortProcessInstances(container,
-                                                                        instances)
-        );
+        return processInBatches(serverTemplateId,
+                                containerInstances,
+                                "abort",
+                                batch -> client.abortProcessInstances(batch.getContainerId(),
+                                                                      batch.getProcessInstanceIds()));
     }
 
     @Override
@@ -79,6 +111,79 @@ public class RemoteProcessServiceImpl extends AbstractKieServerService implement
                                    params);
     }
 
+    @Override
+    public List<ProcessStartResult> startProcesses(final ProcessStartBatch batch) {
+        final List<Map<String, Object>> rows = batch.getParameters() == null ? Collections.emptyList() : batch.getParameters();
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final ProcessServicesClient client = getClient(batch.getServerTemplateId(),
+                                                       batch.getContainerId(),
+                                                       ProcessServicesClient.class);
+        final BulkRateLimiter rateLimiter = new BulkRateLimiter(batch.getMaxStartsPerSecond() == null ? 0 : batch.getMaxStartsPerSecond());
+        final int concurrency = batch.getConcurrency() == null ? BulkOperationExecutor.DEFAULT_CONCURRENCY : Math.min(batch.getConcurrency(),
+                                                                                                                     MAX_START_CONCURRENCY);
+        final BulkOperationProgressRegistry.Tracker progress = progressRegistry.start(batch.getBatchId(),
+                                                                                     rows.size());
+        try {
+            return bulkOperationExecutor.invokeAll(IntStream.range(0,
+                                                                   rows.size()).boxed().collect(toList()),
+                                                   concurrency,
+                                                   row -> {
+                                                       rateLimiter.acquire();
+                                                       final ProcessStartResult result = startProcess(client,
+                                                                                                      batch,
+                                                                                                      row,
+                                                                                                      rows.get(row));
+                                                       progress.processed(1,
+                                                                          result.isSuccess() ? 0 : 1);
+                                                       return result;
+                                                   });
+        } finally {
+            progress.finish();
+        }
+    }
+
+    @Override
+    public BulkOperationProgress getBatchProgress(final String batchId) {
+        return progressRegistry.getProgress(batchId);
+    }
+
+    protected ProcessStartResult startProcess(final ProcessServicesClient client,
+                                              final ProcessStartBatch batch,
+                                              final int row,
+                                              final Map<String, Object> params) {
+        try {
+            final Map<String, Object> variables = params == null ? new HashMap<>() : new HashMap<>(params);
+            final Object correlationKey = batch.getCorrelationKeyColumn() == null ? null : variables.remove(batch.getCorrelationKeyColumn());
+
+            final Long processInstanceId;
+            if (correlationKey != null && !correlationKey.toString().isEmpty()) {
+                processInstanceId = client.startProcess(batch.getContainerId(),
+                                                        batch.getProcessId(),
+                                                        new RemoteCorrelationKey(correlationKey.toString()),
+                                                        variables);
+            } else {
+                processInstanceId = client.startProcess(batch.getContainerId(),
+                                                        batch.getProcessId(),
+                                                        variables);
+            }
+            return new ProcessStartResult(row,
+                                          processInstanceId,
+                                          null);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Failed to start process '{}' for row {} of batch '{}'",
+                         batch.getProcessId(),
+                         row,
+                         batch.getBatchId(),
+                         e);
+            return new ProcessStartResult(row,
+                                          null,
+                                          e.getMessage());
+        }
+    }
+
     @Override
     public List<String> getAvailableSignals(String serverTemplateId,
                                             String containerId,
@@ -92,30 +197,72 @@ public class RemoteProcessServiceImpl extends AbstractKieServerService implement
     }
 
     @Override
-    public void signalProcessInstances(String serverTemplateId,
-                                       List<String> containers,
-                                       List<Long> processInstanceId,
-                                       String signal,
-                                       Object event) {
-        if (new HashSet<String>(containers).size() == 1) {
-            ProcessServicesClient client = getClient(serverTemplateId,
-                                                     containers.get(0),
-                                                     ProcessServicesClient.class);
-            client.signalProcessInstances(containers.get(0),
-                                          processInstanceId,
-                                          signal,
-                                          event);
-        } else {
-            for (int i = 0; i < processInstanceId.size(); i++) {
-                ProcessServicesClient client = getClient(serverTemplateId,
-                                                         containers.get(i),
-                                                         ProcessServicesClient.class);
-                client.signalProcessInstance(containers.get(i),
-                                             processInstanceId.get(i),
-                                             signal,
-                                             event);
-            }
+    public List<BulkOperationResult<Long>> signalProcessInstances(String serverTemplateId,
+                                                                  List<String> containers,
+                                                                  List<Long> processInstanceId,
+                                                                  String signal,
+                                                                  Object event) {
+        final Map<String, List<Long>> containerInstances = new LinkedHashMap<>();
+        for (int i = 0; i < processInstanceId.size(); i++) {
+            containerInstances.computeIfAbsent(containers.get(i),
+                                               c -> new ArrayList<>()).add(processInstanceId.get(i));
         }
+
+        return processInBatches(serverTemplateId,
+                                containerInstances,
+                                "signal",
+                                batch -> getClient(serverTemplateId,
+                                                   batch.getContainerId(),
+                                                   ProcessServicesClient.class).signalProcessInstances(batch.getContainerId(),
+                                                                                                       batch.getProcessInstanceIds(),
+                                                                                                       signal,
+                                                                                                       event));
+    }
+
+    /**
+     * Splits the instances of every container in chunks and runs the operation for each chunk concurrently. A failing
+     * chunk does not stop the others, its instances are reported as failed with the error of the chunk.
+     */
+    protected List<BulkOperationResult<Long>> processInBatches(final String serverTemplateId,
+                                                               final Map<String, List<Long>> containerInstances,
+                                                               final String operationName,
+                                                               final Consumer<ContainerBatch> operation) {
+        return bulkOperationExecutor.invokeAll(toContainerBatches(containerInstances),
+                                               batch -> {
+                                                   try {
+                                                       operation.accept(batch);
+                                                       batch.getProcessInstanceIds().forEach(id -> processInstanceSummaryCache.invalidate(serverTemplateId,
+                                                                                                                                          batch.getContainerId(),
+                                                                                                                                          id));
+                                                       return batch.getProcessInstanceIds().stream()
+                                                               .map(BulkOperationResult::success)
+                                                               .collect(toList());
+                                                   } catch (RuntimeException e) {
+                                                       LOGGER.warn("Failed to {} process instances {} of container '{}': {}",
+                                                                   operationName,
+                                                                   batch.getProcessInstanceIds(),
+                                                                   batch.getContainerId(),
+                                                                   e.getMessage());
+                                                       return batch.getProcessInstanceIds().stream()
+                                                               .map(id -> BulkOperationResult.failure(id,
+                                                                                                      e.getMessage()))
+                                                               .collect(toList());
+                                                   }
+                                               })
+                .stream()
+                .flatMap(List::stream)
+                .collect(toList());
+    }
+
+    protected List<ContainerBatch> toContainerBatches(final Map<String, List<Long>> containerInstances) {
+        final List<ContainerBatch> batches = new ArrayList<>();
+        containerInstances.forEach((container, instances) ->
+                                           BulkOperationExecutor.partition(instances,
+                                                                           BulkOperationExecutor.DEFAULT_BATCH_SIZE)
+                                                   .forEach(chunk -> batches.add(new ContainerBatch(container,
+                                                                                                    chunk)))
+        );
+        return batches;
     }
 
     @Override
@@ -132,5 +279,28 @@ public class RemoteProcessServiceImpl extends AbstractKieServerService implement
                                   processInstanceId,
                                   variableName,
                                   value);
+        processInstanceSummaryCache.invalidate(serverTemplateId,
+                                               containerId,
+                                               processInstanceId);
+    }
+
+    protected static class ContainerBatch {
+
+        private final String containerId;
+        private final List<Long> processInstanceIds;
+
+        ContainerBatch(final String containerId,
+                       final List<Long> processInstanceIds) {
+            this.containerId = containerId;
+            this.processInstanceIds = processInstanceIds;
+        }
+
+        String getContainerId() {
+            return containerId;
+        }
+
+        List<Long> getProcessInstanceIds() {
+            return processInstanceIds;
+        }
     }
-}
\ No newline at end of file
+}
@@ -15,6 +15,7 @@
  */
 package org.jbpm.workbench.pr.backend.server;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.text.MessageFormat;
@@ -182,6 +183,187 @@ public class ProcessDocumentServletTest {
                      new String(((ProcessDocumentServletTest.StubServletOutputStream) response.getOutputStream()).getContent()));
     }
 
+    @Test
+    public void testRetrieveDocumentRange() throws Exception {
+        when(kieServerIntegration.getServerClient(anyString())).thenReturn(kieServicesClient);
+        when(kieServicesClient.getServicesClient(any())).thenReturn(documentServicesClient);
+        when(documentServicesClient.getDocument(anyString())).thenReturn(documentInstance);
+        when(documentInstance.getName()).thenReturn("testdoc.properties");
+        when(documentInstance.getContent()).thenReturn("sampleContent".getBytes());
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(request.getParameter("templateid")).thenReturn("kie-server-id");
+        when(request.getParameter("docid")).thenReturn("AAAA-BBBB-CCCC-DDDD");
+        when(request.getHeader("Range")).thenReturn("bytes=6-");
+        ProcessDocumentServletTest.StubServletOutputStream stubServletOutputStream = new ProcessDocumentServletTest.StubServletOutputStream();
+        when(response.getOutputStream()).thenReturn(stubServletOutputStream);
+
+        ProcessDocumentServlet processDocServlet = new ProcessDocumentServlet();
+        processDocServlet.setKieServerIntegration(kieServerIntegration);
+        processDocServlet.doGet(request,
+                                response);
+
+        verify(response).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        verify(response).setHeader("Content-Range",
+                                   "bytes 6-12/13");
+        verify(response).setHeader("Content-Length",
+                                   "7");
+        assertEquals("Content",
+                     new String(stubServletOutputStream.getContent()));
+    }
+
+    @Test
+    public void testRetrieveDocumentUnsatisfiableRange() throws Exception {
+        when(kieServerIntegration.getServerClient(anyString())).thenReturn(kieServicesClient);
+        when(kieServicesClient.getServicesClient(any())).thenReturn(documentServicesClient);
+        when(documentServicesClient.getDocument(anyString())).thenReturn(documentInstance);
+        when(documentInstance.getContent()).thenReturn("sampleContent".getBytes());
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(request.getParameter("templateid")).thenReturn("kie-server-id");
+        when(request.getParameter("docid")).thenReturn("AAAA-BBBB-CCCC-DDDD");
+        when(request.getHeader("Range")).thenReturn("bytes=20-30");
+
+        ProcessDocumentServlet processDocServlet = new ProcessDocumentServlet();
+        processDocServlet.setKieServerIntegration(kieServerIntegration);
+        processDocServlet.doGet(request,
+                                response);
+
+        verify(response).setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        verify(response).setHeader("Content-Range",
+                                   "bytes */13");
+        verify(response,
+               never()).getOutputStream();
+    }
+
+    @Test
+    public void testRetrieveNotModifiedDocument() throws Exception {
+        when(kieServerIntegration.getServerClient(anyString())).thenReturn(kieServicesClient);
+        when(kieServicesClient.getServicesClient(any())).thenReturn(documentServicesClient);
+        when(documentServicesClient.getDocument(anyString())).thenReturn(documentInstance);
+        when(documentInstance.getContent()).thenReturn("sampleContent".getBytes());
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(request.getParameter("templateid")).thenReturn("kie-server-id");
+        when(request.getParameter("docid")).thenReturn("AAAA-BBBB-CCCC-DDDD");
+        when(request.getParameter("lastModified")).thenReturn("1500000000000");
+        when(request.getHeader("If-None-Match")).thenReturn("\"AAAA-BBBB-CCCC-DDDD-1500000000000\"");
+
+        ProcessDocumentServlet processDocServlet = new ProcessDocumentServlet();
+        processDocServlet.setKieServerIntegration(kieServerIntegration);
+        processDocServlet.doGet(request,
+                                response);
+
+        verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response,
+               never()).getOutputStream();
+        verify(documentServicesClient,
+               never()).getDocument(anyString());
+    }
+
+    @Test
+    public void testRetrieveModifiedDocument() throws Exception {
+        when(kieServerIntegration.getServerClient(anyString())).thenReturn(kieServicesClient);
+        when(kieServicesClient.getServicesClient(any())).thenReturn(documentServicesClient);
+        when(documentServicesClient.getDocument(anyString())).thenReturn(documentInstance);
+        when(documentInstance.getName()).thenReturn("testdoc.properties");
+        when(documentInstance.getContent()).thenReturn("sampleContent".getBytes());
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(request.getParameter("templateid")).thenReturn("kie-server-id");
+        when(request.getParameter("docid")).thenReturn("AAAA-BBBB-CCCC-DDDD");
+        when(request.getParameter("lastModified")).thenReturn("1600000000000");
+        when(request.getHeader("If-None-Match")).thenReturn("\"AAAA-BBBB-CCCC-DDDD-1500000000000\"");
+        ProcessDocumentServletTest.StubServletOutputStream stubServletOutputStream = new ProcessDocumentServletTest.StubServletOutputStream();
+        when(response.getOutputStream()).thenReturn(stubServletOutputStream);
+
+        ProcessDocumentServlet processDocServlet = new ProcessDocumentServlet();
+        processDocServlet.setKieServerIntegration(kieServerIntegration);
+        processDocServlet.doGet(request,
+                                response);
+
+        verify(response,
+               never()).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response).setHeader("ETag",
+                                   "\"AAAA-BBBB-CCCC-DDDD-1600000000000\"");
+        assertEquals("sampleContent",
+                     new String(stubServletOutputStream.getContent()));
+    }
+
+    @Test
+    public void testRetrieveRangeFromServer() throws Exception {
+        when(kieServerIntegration.getServerClient(anyString())).thenReturn(kieServicesClient);
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(request.getParameter("templateid")).thenReturn("kie-server-id");
+        when(request.getParameter("docid")).thenReturn("AAAA-BBBB-CCCC-DDDD");
+        when(request.getHeader("Range")).thenReturn("bytes=6-");
+        ProcessDocumentServletTest.StubServletOutputStream stubServletOutputStream = new ProcessDocumentServletTest.StubServletOutputStream();
+        when(response.getOutputStream()).thenReturn(stubServletOutputStream);
+
+        final String[] requestedRange = new String[1];
+        ProcessDocumentServlet processDocServlet = new ProcessDocumentServlet() {
+            @Override
+            protected DocumentContent openDocumentContent(final KieServicesClient kieServicesClient,
+                                                          final String docId,
+                                                          final String range) {
+                requestedRange[0] = range;
+                return new DocumentContent("testdoc.properties",
+                                           HttpServletResponse.SC_PARTIAL_CONTENT,
+                                           7,
+                                           "bytes 6-12/13",
+                                           new ByteArrayInputStream("Content".getBytes()),
+                                           null);
+            }
+        };
+        processDocServlet.setKieServerIntegration(kieServerIntegration);
+        processDocServlet.doGet(request,
+                                response);
+
+        assertEquals("bytes=6-",
+                     requestedRange[0]);
+        verify(response).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        verify(response).setHeader("Content-Range",
+                                   "bytes 6-12/13");
+        verify(response).setHeader("Content-Length",
+                                   "7");
+        assertEquals("Content",
+                     new String(stubServletOutputStream.getContent()));
+    }
+
+    @Test
+    public void testInvalidDocumentId() throws Exception {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(request.getParameter("templateid")).thenReturn("kie-server-id");
+        when(request.getParameter("docid")).thenReturn("..");
+
+        ProcessDocumentServlet processDocServlet = new ProcessDocumentServlet();
+        processDocServlet.setKieServerIntegration(kieServerIntegration);
+        processDocServlet.doGet(request,
+                                response);
+
+        verify(kieServerIntegration,
+               never()).getServerClient(anyString());
+        verify(loggingAppender).doAppend(loggingEventArgumentCaptor.capture());
+        assertEquals(MessageFormat.format(ProcessDocumentServlet.INVALID_PARAMS,
+                                          "kie-server-id",
+                                          ".."),
+                     loggingEventArgumentCaptor.getValue().getFormattedMessage());
+    }
+
+    @Test
+    public void testDocumentContentUrlEncoded() throws Exception {
+        assertEquals("http://localhost:8080/kie-server/services/rest/server/documents/a%2F..%2Fb%20c%3Fd/content",
+                     new ProcessDocumentServlet().getDocumentContentUrl("http://localhost:8080/kie-server/services/rest/server",
+                                                                        "a/../b c?d"));
+    }
+
     protected class StubServletOutputStream extends ServletOutputStream {
 
         public ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.pr.backend.server;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jbpm.workbench.pr.model.ProcessInstanceKey;
+import org.jbpm.workbench.pr.model.ProcessInstanceSummary;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ProcessInstanceSummaryCacheTest {
+
+    private final ProcessInstanceKey key = new ProcessInstanceKey("serverTemplateId",
+                                                                  "containerId",
+                                                                  1L);
+
+    @Test
+    public void testCachedUntilInvalidated() {
+        final ProcessInstanceSummaryCache cache = new ProcessInstanceSummaryCache(60000);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.get(key,
+                  () -> newSummary(loads));
+        cache.get(key,
+                  () -> newSummary(loads));
+        assertEquals(1,
+                     loads.get());
+
+        cache.invalidate("serverTemplateId",
+                         "containerId",
+                         1L);
+        cache.get(key,
+                  () -> newSummary(loads));
+        assertEquals(2,
+                     loads.get());
+    }
+
+    @Test
+    public void testExpiredEntryReloaded() throws Exception {
+        final ProcessInstanceSummaryCache cache = new ProcessInstanceSummaryCache(1);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.get(key,
+                  () -> newSummary(loads));
+        Thread.sleep(10);
+        cache.get(key,
+                  () -> newSummary(loads));
+
+        assertEquals(2,
+                     loads.get());
+    }
+
+    @Test
+    public void testConcurrentRequestsCoalesced() throws Exception {
+        final ProcessInstanceSummaryCache cache = new ProcessInstanceSummaryCache(60000);
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<ProcessInstanceSummary> first = executor.submit(() -> cache.get(key,
+                                                                                         () -> {
+                                                                                             loading.countDown();
+                                                                                             try {
+                                                                                                 release.await();
+                                                                                             } catch (InterruptedException e) {
+                                                                                                 Thread.currentThread().interrupt();
+                                                                                             }
+                                                                                             return newSummary(loads);
+                                                                                         }));
+            assertTrue(loading.await(5,
+                                     TimeUnit.SECONDS));
+            final Future<ProcessInstanceSummary> second = executor.submit(() -> cache.get(key,
+                                                                                          () -> newSummary(loads)));
+            release.countDown();
+
+            assertSame(first.get(5,
+                                 TimeUnit.SECONDS),
+                       second.get(5,
+                                  TimeUnit.SECONDS));
+            assertEquals(1,
+                         loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailureNotCached() {
+        final ProcessInstanceSummaryCache cache = new ProcessInstanceSummaryCache(60000);
+        final AtomicInteger loads = new AtomicInteger();
+
+        try {
+            cache.get(key,
+                      () -> {
+                          throw new IllegalStateException("error");
+                      });
+            fail("Load failure should be propagated");
+        } catch (IllegalStateException e) {
+            assertEquals("error",
+                         e.getMessage());
+        }
+        assertNotNull(cache.get(key,
+                                () -> newSummary(loads)));
+        assertEquals(1,
+                     loads.get());
+    }
+
+    private ProcessInstanceSummary newSummary(final AtomicInteger loads) {
+        loads.incrementAndGet();
+        final ProcessInstanceSummary summary = new ProcessInstanceSummary();
+        summary.setId(key.getProcessInstanceId());
+        return summary;
+    }
+}
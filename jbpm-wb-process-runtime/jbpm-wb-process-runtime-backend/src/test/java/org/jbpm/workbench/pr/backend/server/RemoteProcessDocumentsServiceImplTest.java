@@ -18,17 +18,26 @@ package org.jbpm.workbench.pr.backend.server;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import org.jbpm.document.Document;
 import org.jbpm.workbench.common.model.PortableQueryFilter;
 import org.jbpm.workbench.common.model.QueryFilter;
+import org.jbpm.workbench.ks.integration.KieServerIntegration;
 import org.jbpm.workbench.pr.model.DocumentSummary;
-import org.jbpm.workbench.pr.model.ProcessVariableSummary;
-import org.jbpm.workbench.pr.service.ProcessVariablesService;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.api.model.definition.VariablesDefinition;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.ProcessServicesClient;
+import org.kie.server.client.QueryServicesClient;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -36,53 +45,113 @@ import org.uberfire.paging.PageResponse;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static org.jbpm.workbench.pr.model.ProcessInstanceDataSetConstants.PROCESS_INSTANCE_WITH_VARIABLES_DATASET;
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RemoteProcessDocumentsServiceImplTest {
 
     private final String serverTemplateId = "serverTemplateId";
+    private final String deploymentId = "deploymentId";
+    private final String processId = "processId";
 
     @Mock
-    private ProcessVariablesService processVariablesService;
+    private KieServerIntegration kieServerIntegration;
+
+    @Mock
+    private QueryServicesClient queryServicesClient;
+
+    @Mock
+    private ProcessServicesClient processServicesClient;
 
     @InjectMocks
     private RemoteProcessDocumentsServiceImpl processDocumentsService;
 
-    private static ProcessVariableSummary newDocumentVariable() {
-        return new ProcessVariableSummary("",
-                                          "",
-                                          1l,
-                                          "",
-                                          "docId" + Document.PROPERTIES_SEPARATOR + "1" + Document.PROPERTIES_SEPARATOR + new SimpleDateFormat(Document.DOCUMENT_DATE_PATTERN).format(new Date()) + Document.PROPERTIES_SEPARATOR + "1",
-                                          0l,
-                                          RemoteProcessDocumentsServiceImpl.JBPM_DOCUMENT);
+    private static List<Object> newDocumentRow(long variableId) {
+        return Arrays.asList(1,
+                             "processId",
+                             variableId,
+                             "document",
+                             "docId" + Document.PROPERTIES_SEPARATOR + "1" + Document.PROPERTIES_SEPARATOR + new SimpleDateFormat(Document.DOCUMENT_DATE_PATTERN).format(new Date()) + Document.PROPERTIES_SEPARATOR + "1");
     }
 
-    @Test
-    public void testGetData() {
-        PageResponse<ProcessVariableSummary> variablesResponse = new PageResponse<>();
-        variablesResponse.setPageRowList(singletonList(newDocumentVariable()));
+    @Before
+    public void setup() {
+        final KieServicesClient kieServicesClient = mock(KieServicesClient.class);
+        when(kieServerIntegration.getServerClient(anyString())).thenReturn(kieServicesClient);
+        when(kieServicesClient.getServicesClient(QueryServicesClient.class)).thenReturn(queryServicesClient);
+        when(kieServicesClient.getServicesClient(ProcessServicesClient.class)).thenReturn(processServicesClient);
+
+        final Map<String, String> variables = new HashMap<>();
+        variables.put("document",
+                      RemoteProcessDocumentsServiceImpl.JBPM_DOCUMENT);
+        variables.put("name",
+                      "String");
+        when(processServicesClient.getProcessVariableDefinitions(deploymentId,
+                                                                 processId)).thenReturn(new VariablesDefinition(variables));
+    }
 
-        when(processVariablesService.getData(any())).thenReturn(variablesResponse);
+    private void mockLatestVariableId(long variableId) {
+        List<List> rows = new ArrayList<>();
+        rows.add(newDocumentRow(variableId));
+        when(queryServicesClient.query(eq(PROCESS_INSTANCE_WITH_VARIABLES_DATASET),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(0),
+                                       eq(1),
+                                       eq(List.class))).thenReturn(rows);
+    }
 
-        QueryFilter queryFilter = new PortableQueryFilter(0,
-                                                          10,
-                                                          false,
-                                                          "",
-                                                          "",
-                                                          false,
-                                                          null,
-                                                          singletonMap(serverTemplateId,
-                                                                       serverTemplateId));
+    private void mockDocuments(int totalItems) {
+        List<List> rows = new ArrayList<>();
+        IntStream.range(0,
+                        totalItems).forEach(i -> rows.add(newDocumentRow(i)));
+        when(queryServicesClient.query(eq(PROCESS_INSTANCE_WITH_VARIABLES_DATASET),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(0),
+                                       eq(RemoteProcessDocumentsServiceImpl.DOCUMENT_QUERY_PAGE_SIZE),
+                                       eq(List.class))).thenReturn(rows);
+    }
+
+    private QueryFilter newQueryFilter() {
+        final Map<String, Object> params = new HashMap<>();
+        params.put("serverTemplateId",
+                   serverTemplateId);
+        params.put("deploymentId",
+                   deploymentId);
+        params.put("processDefId",
+                   processId);
+        params.put("processInstanceId",
+                   "1");
+        return new PortableQueryFilter(0,
+                                       10,
+                                       false,
+                                       "",
+                                       "",
+                                       false,
+                                       null,
+                                       params);
+    }
+
+    @Test
+    public void testGetData() {
+        mockLatestVariableId(1);
+        mockDocuments(1);
 
-        final PageResponse<DocumentSummary> response = processDocumentsService.getData(queryFilter);
+        final PageResponse<DocumentSummary> response = processDocumentsService.getData(newQueryFilter());
 
         assertEquals(1,
                      response.getTotalRowSize());
         assertEquals(0,
                      response.getStartRowIndex());
+        assertEquals("docId",
+                     response.getPageRowList().get(0).getDocumentId());
+        assertNotNull(response.getPageRowList().get(0).getDocumentLastModified());
         assertTrue(response.isTotalRowSizeExact());
         assertTrue(response.isFirstPage());
         assertTrue(response.isLastPage());
@@ -91,32 +160,72 @@ public class RemoteProcessDocumentsServiceImplTest {
     @Test
     public void testGetDataPaginated() {
         int totalItems = 12;
+        mockLatestVariableId(totalItems);
+        mockDocuments(totalItems);
 
-        PageResponse<ProcessVariableSummary> variablesResponse = new PageResponse<>();
-        variablesResponse.setPageRowList(new ArrayList<>());
-        IntStream.range(0,
-                        totalItems).forEach(i -> variablesResponse.getPageRowList().add(newDocumentVariable()));
-
-        when(processVariablesService.getData(any())).thenReturn(variablesResponse);
-
-        QueryFilter queryFilter = new PortableQueryFilter(0,
-                                                          10,
-                                                          false,
-                                                          "",
-                                                          "",
-                                                          false,
-                                                          null,
-                                                          singletonMap(serverTemplateId,
-                                                                       serverTemplateId));
-
-        final PageResponse<DocumentSummary> response = processDocumentsService.getData(queryFilter);
+        final PageResponse<DocumentSummary> response = processDocumentsService.getData(newQueryFilter());
 
         assertEquals(totalItems,
                      response.getTotalRowSize());
+        assertEquals(10,
+                     response.getPageRowList().size());
         assertEquals(0,
                      response.getStartRowIndex());
         assertTrue(response.isTotalRowSizeExact());
         assertTrue(response.isFirstPage());
         assertFalse(response.isLastPage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetDataWithoutDocumentVariables() {
+        when(processServicesClient.getProcessVariableDefinitions(deploymentId,
+                                                                 processId)).thenReturn(new VariablesDefinition(singletonMap("name",
+                                                                                                                             "String")));
+        mockLatestVariableId(1);
+
+        final PageResponse<DocumentSummary> response = processDocumentsService.getData(newQueryFilter());
+
+        assertEquals(0,
+                     response.getTotalRowSize());
+        assertTrue(response.getPageRowList().isEmpty());
+        verify(queryServicesClient,
+               never()).query(anyString(),
+                              anyString(),
+                              any(QueryFilterSpec.class),
+                              eq(0),
+                              eq(RemoteProcessDocumentsServiceImpl.DOCUMENT_QUERY_PAGE_SIZE),
+                              eq(List.class));
+    }
+
+    @Test
+    public void testDocumentIndexCachedUntilVariablesChange() {
+        mockLatestVariableId(1);
+        mockDocuments(1);
+
+        processDocumentsService.getData(newQueryFilter());
+        processDocumentsService.getData(newQueryFilter());
+
+        verify(processServicesClient).getProcessVariableDefinitions(deploymentId,
+                                                                    processId);
+        verify(queryServicesClient).query(anyString(),
+                                          anyString(),
+                                          any(QueryFilterSpec.class),
+                                          eq(0),
+                                          eq(RemoteProcessDocumentsServiceImpl.DOCUMENT_QUERY_PAGE_SIZE),
+                                          eq(List.class));
+
+        mockLatestVariableId(2);
+        processDocumentsService.getData(newQueryFilter());
+
+        verify(processServicesClient,
+               times(2)).getProcessVariableDefinitions(deploymentId,
+                                                       processId);
+        verify(queryServicesClient,
+               times(2)).query(anyString(),
+                               anyString(),
+                               any(QueryFilterSpec.class),
+                               eq(0),
+                               eq(RemoteProcessDocumentsServiceImpl.DOCUMENT_QUERY_PAGE_SIZE),
+                               eq(List.class));
+    }
+}
@@ -21,15 +21,21 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Executors;
 
+import org.jbpm.workbench.common.model.BulkOperationResult;
+import org.jbpm.workbench.ks.integration.BulkOperationExecutor;
 import org.jbpm.workbench.ks.integration.KieServerIntegration;
 import org.jbpm.workbench.pr.model.NodeInstanceSummary;
+import org.jbpm.workbench.pr.model.NodeRecoveryAction;
+import org.jbpm.workbench.pr.model.NodeRecoveryBatch;
 import org.jbpm.workbench.pr.model.ProcessDefinitionKey;
 import org.jbpm.workbench.pr.model.ProcessInstanceDiagramSummary;
 import org.jbpm.workbench.pr.model.ProcessInstanceKey;
 import org.jbpm.workbench.pr.model.ProcessNodeSummary;
 import org.jbpm.workbench.pr.model.ProcessSummary;
 import org.jbpm.workbench.pr.model.TimerInstanceSummary;
+import org.jbpm.workbench.pr.model.TimerRescheduleBatch;
 import org.jbpm.workbench.pr.model.TimerSummary;
 import org.jbpm.workbench.pr.model.WorkItemSummary;
 import org.jbpm.workbench.pr.service.ProcessImageService;
@@ -50,8 +56,10 @@ import org.kie.server.client.KieServicesClient;
 import org.kie.server.client.ProcessServicesClient;
 import org.kie.server.client.QueryServicesClient;
 import org.kie.server.client.admin.ProcessAdminServicesClient;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import static java.lang.String.format;
@@ -65,11 +73,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -97,6 +110,12 @@ public class RemoteProcessRuntimeDataServiceImplTest {
     @Mock
     private ProcessImageService processImageService;
 
+    @Spy
+    private BulkOperationExecutor bulkOperationExecutor = new BulkOperationExecutor(Executors.newCachedThreadPool());
+
+    @Spy
+    private ProcessInstanceSummaryCache processInstanceSummaryCache = new ProcessInstanceSummaryCache();
+
     @InjectMocks
     private RemoteProcessRuntimeDataServiceImpl service;
 
@@ -520,4 +539,196 @@ public class RemoteProcessRuntimeDataServiceImplTest {
 
         verifyNoMoreInteractions(processAdminServicesClient);
     }
-}
\ No newline at end of file
+
+    private TimerInstance newTimerInstance(final Long id,
+                                           final String name) {
+        return TimerInstance.builder()
+                .id(id)
+                .timerName(name)
+                .delay(1l)
+                .period(2l)
+                .repeatLimit(3)
+                .build();
+    }
+
+    @Test
+    public void testRescheduleTimerInstancesByProcessInstanceIds() {
+        when(processAdminServicesClient.getTimerInstances(containerId,
+                                                          1l)).thenReturn(Arrays.asList(newTimerInstance(10l,
+                                                                                                         "SLA"),
+                                                                                        newTimerInstance(11l,
+                                                                                                         "other")));
+        when(processAdminServicesClient.getTimerInstances(containerId,
+                                                          2l)).thenReturn(singletonList(newTimerInstance(20l,
+                                                                                                         "other")));
+        final TimerRescheduleBatch batch = new TimerRescheduleBatch();
+        batch.setServerTemplateId(serverTemplateId);
+        batch.setContainerId(containerId);
+        batch.setProcessInstanceIds(Arrays.asList(1l,
+                                                  2l));
+        batch.setTimerName("SLA");
+        batch.setDelay(60l);
+
+        final List<BulkOperationResult<Long>> results = service.rescheduleTimerInstances(batch);
+
+        verify(processAdminServicesClient).updateTimer(containerId,
+                                                       1l,
+                                                       10l,
+                                                       60l,
+                                                       2l,
+                                                       3);
+        verify(processAdminServicesClient,
+               never()).updateTimer(eq(containerId),
+                                    eq(2l),
+                                    anyLong(),
+                                    anyLong(),
+                                    anyLong(),
+                                    anyInt());
+        assertEquals(2,
+                     results.size());
+        assertEquals(BulkOperationResult.success(1l),
+                     results.get(0));
+        assertEquals(Long.valueOf(2l),
+                     results.get(1).getId());
+        assertTrue(!results.get(1).isSuccess());
+    }
+
+    @Test
+    public void testRescheduleTimerInstancesByProcessId() {
+        final ProcessInstance processInstance = ProcessInstance.builder()
+                .id(processInstanceId)
+                .containerId(containerId)
+                .build();
+        when(queryServicesClient.findProcessInstancesByProcessId(eq(processId),
+                                                                 any(List.class),
+                                                                 eq(0),
+                                                                 eq(BulkOperationExecutor.DEFAULT_BATCH_SIZE))).thenReturn(singletonList(processInstance));
+        final TimerInstance timer = newTimerInstance(10l,
+                                                     "SLA");
+        timer.setNextFireTime(new Date(System.currentTimeMillis() + 1800000));
+        when(processAdminServicesClient.getTimerInstances(containerId,
+                                                          processInstanceId)).thenReturn(singletonList(timer));
+        final TimerRescheduleBatch batch = new TimerRescheduleBatch();
+        batch.setServerTemplateId(serverTemplateId);
+        batch.setProcessId(processId);
+        batch.setPeriod(5l);
+        batch.setRelative(true);
+
+        final List<BulkOperationResult<Long>> results = service.rescheduleTimerInstances(batch);
+
+        final ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+        verify(processAdminServicesClient).updateTimerRelative(eq(containerId),
+                                                               eq(processInstanceId),
+                                                               eq(10l),
+                                                               delay.capture(),
+                                                               eq(5l),
+                                                               eq(3));
+        // the remaining time until the next fire is kept, not the configured delay
+        assertThat(delay.getValue()).isBetween(1790l,
+                                               1800l);
+        assertEquals(singletonList(BulkOperationResult.success(processInstanceId)),
+                     results);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRescheduleTimerInstancesWithoutRelative() {
+        final TimerRescheduleBatch batch = new TimerRescheduleBatch();
+        batch.setServerTemplateId(serverTemplateId);
+        batch.setProcessId(processId);
+        batch.setRelative(null);
+
+        service.rescheduleTimerInstances(batch);
+    }
+
+    private NodeRecoveryBatch newNodeRecoveryBatch(final NodeRecoveryAction action) {
+        when(processAdminServicesClient.getActiveNodeInstances(containerId,
+                                                               1l)).thenReturn(Arrays.asList(NodeInstance.builder().id(10l).nodeId("_5").name("Service").build(),
+                                                                                             NodeInstance.builder().id(11l).nodeId("_6").name("Other").build()));
+        when(processAdminServicesClient.getActiveNodeInstances(containerId,
+                                                               2l)).thenReturn(singletonList(NodeInstance.builder().id(20l).nodeId("_6").name("Other").build()));
+        final NodeRecoveryBatch batch = new NodeRecoveryBatch();
+        batch.setServerTemplateId(serverTemplateId);
+        batch.setContainerId(containerId);
+        batch.setProcessInstanceIds(Arrays.asList(1l,
+                                                  2l));
+        batch.setNodeName("Service");
+        batch.setAction(action);
+        return batch;
+    }
+
+    @Test
+    public void testRecoverProcessInstanceNodesRetrigger() {
+        final List<BulkOperationResult<Long>> results = service.recoverProcessInstanceNodes(newNodeRecoveryBatch(NodeRecoveryAction.RETRIGGER));
+
+        verify(processAdminServicesClient).retriggerNodeInstance(containerId,
+                                                                 1l,
+                                                                 10l);
+        verify(processAdminServicesClient,
+               never()).retriggerNodeInstance(containerId,
+                                              1l,
+                                              11l);
+        assertEquals(BulkOperationResult.success(1l),
+                     results.get(0));
+        assertTrue(!results.get(1).isSuccess());
+    }
+
+    @Test
+    public void testRecoverProcessInstanceNodesTriggerNext() {
+        final NodeRecoveryBatch batch = newNodeRecoveryBatch(NodeRecoveryAction.TRIGGER_NEXT);
+        batch.setTargetNodeId(7l);
+
+        service.recoverProcessInstanceNodes(batch);
+
+        verify(processAdminServicesClient).triggerNode(containerId,
+                                                       1l,
+                                                       7l);
+        verify(processAdminServicesClient).cancelNodeInstance(containerId,
+                                                              1l,
+                                                              10l);
+        verify(processAdminServicesClient,
+               never()).triggerNode(containerId,
+                                    2l,
+                                    7l);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecoverProcessInstanceNodesTriggerNextWithoutTarget() {
+        service.recoverProcessInstanceNodes(newNodeRecoveryBatch(NodeRecoveryAction.TRIGGER_NEXT));
+    }
+
+    @Test
+    public void testRecoverProcessInstanceNodesWithoutNode() {
+        final NodeRecoveryBatch batch = newNodeRecoveryBatch(NodeRecoveryAction.CANCEL);
+        batch.setNodeName(null);
+
+        try {
+            service.recoverProcessInstanceNodes(batch);
+            fail("Node id or name should be required");
+        } catch (IllegalArgumentException e) {
+            verify(processAdminServicesClient,
+                   never()).cancelNodeInstance(anyString(),
+                                               anyLong(),
+                                               anyLong());
+        }
+    }
+
+    @Test
+    public void testGetProcessInstanceCached() {
+        final ProcessInstanceKey instanceKey = new ProcessInstanceKey(serverTemplateId,
+                                                                      containerId,
+                                                                      processInstanceId);
+        when(queryServicesClient.findProcessInstanceById(processInstanceId)).thenReturn(ProcessInstance.builder().id(processInstanceId).containerId(containerId).processId(processId).build());
+
+        service.getProcessInstance(instanceKey);
+        service.getProcessInstance(instanceKey);
+
+        verify(queryServicesClient).findProcessInstanceById(processInstanceId);
+
+        service.cancelProcessInstanceNode(instanceKey,
+                                          2l);
+        service.getProcessInstance(instanceKey);
+
+        verify(queryServicesClient,
+               times(2)).findProcessInstanceById(processInstanceId);
+    }
+}
@@ -21,19 +21,34 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import org.jbpm.workbench.common.model.BulkOperationProgress;
+import org.jbpm.workbench.common.model.BulkOperationResult;
+import org.jbpm.workbench.ks.integration.BulkOperationExecutor;
+import org.jbpm.workbench.ks.integration.BulkOperationProgressRegistry;
 import org.jbpm.workbench.ks.integration.KieServerIntegration;
+import org.jbpm.workbench.pr.backend.server.model.RemoteCorrelationKey;
+import org.jbpm.workbench.pr.model.ProcessStartBatch;
+import org.jbpm.workbench.pr.model.ProcessStartResult;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.internal.identity.IdentityProvider;
+import org.kie.server.api.exception.KieServicesException;
 import org.kie.server.client.KieServicesClient;
 import org.kie.server.client.ProcessServicesClient;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
@@ -48,6 +63,17 @@ public class RemoteProcessServiceImplTest {
     @Mock
     private KieServerIntegration kieServerIntegration;
 
+    @Spy
+    private BulkOperationExecutor bulkOperationExecutor = new BulkOperationExecutor(Executors.newCachedThreadPool());
+
+    private IdentityProvider identityProvider = mock(IdentityProvider.class);
+
+    @Spy
+    private BulkOperationProgressRegistry progressRegistry = new BulkOperationProgressRegistry(identityProvider);
+
+    @Spy
+    private ProcessInstanceSummaryCache processInstanceSummaryCache = new ProcessInstanceSummaryCache();
+
     @InjectMocks
     private RemoteProcessServiceImpl remoteProcessService;
 
@@ -107,6 +133,50 @@ public class RemoteProcessServiceImplTest {
         verifyNoMoreInteractions(processServicesClientMock);
     }
 
+    @Test
+    public void bulkAbortProcessInstancesTest_largeContainerSplitInChunks() {
+        final List<Long> processInstanceIds = LongStream.rangeClosed(1,
+                                                                     BulkOperationExecutor.DEFAULT_BATCH_SIZE + 1).boxed().collect(Collectors.toList());
+
+        final List<BulkOperationResult<Long>> results = remoteProcessService.abortProcessInstances(SERVER_TEMPLATE_ID,
+                                                                                                   singletonMap("containerId",
+                                                                                                                processInstanceIds));
+
+        verify(processServicesClientMock).abortProcessInstances("containerId",
+                                                                processInstanceIds.subList(0,
+                                                                                           BulkOperationExecutor.DEFAULT_BATCH_SIZE));
+        verify(processServicesClientMock).abortProcessInstances("containerId",
+                                                                singletonList((long) BulkOperationExecutor.DEFAULT_BATCH_SIZE + 1));
+        assertEquals(processInstanceIds.size(),
+                     results.size());
+        assertTrue(results.stream().allMatch(BulkOperationResult::isSuccess));
+    }
+
+    @Test
+    public void bulkAbortProcessInstancesTest_failedContainerDoesNotStopOthers() {
+        final Map<String, List<Long>> containerInstance = new HashMap<>();
+        containerInstance.put("containerId_1",
+                              Arrays.asList(1L));
+        containerInstance.put("containerId_2",
+                              Arrays.asList(2L,
+                                            3L));
+        doThrow(new KieServicesException("error")).when(processServicesClientMock).abortProcessInstances(eq("containerId_2"),
+                                                                                                        any());
+
+        final List<BulkOperationResult<Long>> results = remoteProcessService.abortProcessInstances(SERVER_TEMPLATE_ID,
+                                                                                                   containerInstance);
+
+        verify(processServicesClientMock).abortProcessInstances("containerId_1",
+                                                                Arrays.asList(1L));
+        assertEquals(3,
+                     results.size());
+        assertTrue(results.contains(BulkOperationResult.success(1L)));
+        assertTrue(results.contains(BulkOperationResult.failure(2L,
+                                                                "error")));
+        assertTrue(results.contains(BulkOperationResult.failure(3L,
+                                                                "error")));
+    }
+
     private final String signal = "signal";
 
     private final Object event = new Object();
@@ -147,24 +217,157 @@ public class RemoteProcessServiceImplTest {
 
     @Test
     public void bulkSignalProcessInstancesTest_multipleProcessInstancesMultipleContainers() {
+        final List<String> containerIds = new ArrayList<>(Arrays.asList("containerId_1",
+                                                                        "containerId_2",
+                                                                        "containerId_1"));
+        final List<Long> processInstanceIds = new ArrayList<>(Arrays.asList(1L,
+                                                                            2L,
+                                                                            3L));
+
+        final List<BulkOperationResult<Long>> results = remoteProcessService.signalProcessInstances(SERVER_TEMPLATE_ID,
+                                                                                                    containerIds,
+                                                                                                    processInstanceIds,
+                                                                                                    signal,
+                                                                                                    event);
+        verify(processServicesClientMock).signalProcessInstances("containerId_1",
+                                                                 Arrays.asList(1L,
+                                                                               3L),
+                                                                 signal,
+                                                                 event);
+        verify(processServicesClientMock).signalProcessInstances("containerId_2",
+                                                                 singletonList(2L),
+                                                                 signal,
+                                                                 event);
+        verifyNoMoreInteractions(processServicesClientMock);
+        assertEquals(3,
+                     results.size());
+        assertTrue(results.stream().allMatch(BulkOperationResult::isSuccess));
+    }
+
+    @Test
+    public void bulkSignalProcessInstancesTest_failedContainerReported() {
         final List<String> containerIds = new ArrayList<>(Arrays.asList("containerId_1",
                                                                         "containerId_2"));
         final List<Long> processInstanceIds = new ArrayList<>(Arrays.asList(1L,
                                                                             2L));
+        doThrow(new KieServicesException("error")).when(processServicesClientMock).signalProcessInstances(eq("containerId_2"),
+                                                                                                         any(),
+                                                                                                         anyString(),
+                                                                                                         any());
 
-        remoteProcessService.signalProcessInstances(SERVER_TEMPLATE_ID,
-                                                    containerIds,
-                                                    processInstanceIds,
-                                                    signal,
-                                                    event);
-        verify(processServicesClientMock).signalProcessInstance(containerIds.get(0),
-                                                                processInstanceIds.get(0),
-                                                                signal,
-                                                                event);
-        verify(processServicesClientMock).signalProcessInstance(containerIds.get(1),
-                                                                processInstanceIds.get(1),
-                                                                signal,
-                                                                event);
-        verifyNoMoreInteractions(processServicesClientMock);
+        final List<BulkOperationResult<Long>> results = remoteProcessService.signalProcessInstances(SERVER_TEMPLATE_ID,
+                                                                                                    containerIds,
+                                                                                                    processInstanceIds,
+                                                                                                    signal,
+                                                                                                    event);
+
+        assertEquals(Arrays.asList(BulkOperationResult.success(1L),
+                                   BulkOperationResult.failure(2L,
+                                                               "error")),
+                     results);
+    }
+
+    @Test
+    public void startProcessesTest() {
+        final Map<String, Object> row1 = new HashMap<>();
+        row1.put("name",
+                 "first");
+        row1.put("key",
+                 "key1");
+        final Map<String, Object> row2 = singletonMap("name",
+                                                      "second");
+        final Map<String, Object> row3 = singletonMap("name",
+                                                      "third");
+        final ProcessStartBatch batch = new ProcessStartBatch("batchId",
+                                                              SERVER_TEMPLATE_ID,
+                                                              "containerId",
+                                                              "processId",
+                                                              Arrays.asList(row1,
+                                                                            row2,
+                                                                            row3));
+        batch.setCorrelationKeyColumn("key");
+        when(processServicesClientMock.startProcess(eq("containerId"),
+                                                    eq("processId"),
+                                                    any(RemoteCorrelationKey.class),
+                                                    eq(singletonMap("name",
+                                                                    "first")))).thenReturn(1L);
+        when(processServicesClientMock.startProcess("containerId",
+                                                    "processId",
+                                                    row2)).thenReturn(2L);
+        when(processServicesClientMock.startProcess("containerId",
+                                                    "processId",
+                                                    row3)).thenThrow(new KieServicesException("error"));
+        when(identityProvider.getName()).thenReturn("user");
+
+        final List<ProcessStartResult> results = remoteProcessService.startProcesses(batch);
+
+        assertEquals(Arrays.asList(new ProcessStartResult(0,
+                                                          1L,
+                                                          null),
+                                   new ProcessStartResult(1,
+                                                          2L,
+                                                          null),
+                                   new ProcessStartResult(2,
+                                                          null,
+                                                          "error")),
+                     results);
+
+        final BulkOperationProgress progress = remoteProcessService.getBatchProgress("batchId");
+        assertEquals(3,
+                     progress.getProcessed());
+        assertEquals(1,
+                     progress.getFailed());
+        assertEquals(3,
+                     progress.getTotal());
+        assertTrue(progress.isFinished());
+
+        // progress is only handed to the user that submitted the batch
+        when(identityProvider.getName()).thenReturn("otherUser");
+        assertNull(remoteProcessService.getBatchProgress("batchId"));
+    }
+
+    @Test
+    public void startProcessesProgressWhileRunningTest() {
+        final Map<String, Object> row1 = singletonMap("name",
+                                                      "first");
+        final Map<String, Object> row2 = singletonMap("name",
+                                                      "second");
+        final ProcessStartBatch batch = new ProcessStartBatch("batchId",
+                                                              SERVER_TEMPLATE_ID,
+                                                              "containerId",
+                                                              "processId",
+                                                              Arrays.asList(row1,
+                                                                            row2));
+        batch.setConcurrency(1);
+        final List<BulkOperationProgress> polled = new ArrayList<>();
+        when(processServicesClientMock.startProcess("containerId",
+                                                    "processId",
+                                                    row1)).thenReturn(1L);
+        when(processServicesClientMock.startProcess("containerId",
+                                                    "processId",
+                                                    row2)).thenAnswer(invocation -> {
+            polled.add(remoteProcessService.getBatchProgress("batchId"));
+            return 2L;
+        });
+
+        remoteProcessService.startProcesses(batch);
+
+        assertEquals(1,
+                     polled.get(0).getProcessed());
+        assertEquals(2,
+                     polled.get(0).getTotal());
+        assertFalse(polled.get(0).isFinished());
+    }
+
+    @Test
+    public void startProcessesEmptyBatchTest() {
+        final List<ProcessStartResult> results = remoteProcessService.startProcesses(new ProcessStartBatch("batchId",
+                                                                                                           SERVER_TEMPLATE_ID,
+                                                                                                           "containerId",
+                                                                                                           "processId",
+                                                                                                           null));
+
+        assertTrue(results.isEmpty());
+        verifyZeroInteractions(processServicesClientMock);
     }
 }
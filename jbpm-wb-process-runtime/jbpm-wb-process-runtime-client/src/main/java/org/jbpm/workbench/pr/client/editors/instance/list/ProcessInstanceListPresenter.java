@@ -38,6 +38,8 @@ import org.jbpm.workbench.common.client.list.ExtendedPagedTable;
 import org.jbpm.workbench.common.client.list.MultiGridView;
 import org.jbpm.workbench.common.client.menu.PrimaryActionMenuBuilder;
 import org.jbpm.workbench.common.client.menu.RefreshMenuBuilder;
+import org.jbpm.workbench.common.client.util.BulkOperationNotifications;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
 import org.jbpm.workbench.forms.client.display.process.QuickNewProcessInstancePopup;
@@ -296,8 +298,18 @@ public class ProcessInstanceListPresenter extends AbstractMultiGridPresenter<Pro
     }
 
     public void abortProcessInstances(Map<String, List<Long>> containerInstances) {
-        processService.call((Void v) -> refreshGrid()).abortProcessInstances(getSelectedServerTemplate(),
-                                                                             containerInstances);
+        processService.call((List<BulkOperationResult<Long>> results) -> {
+            if (results != null) {
+                BulkOperationNotifications.notifyItems(results.stream()
+                                                               .filter(result -> !result.isSuccess())
+                                                               .collect(Collectors.toList()),
+                                                       result -> constants.Aborting_Process_Instance_Failed(result.getId(),
+                                                                                                            result.getErrorMessage()),
+                                                       view::displayNotification);
+            }
+            refreshGrid();
+        }).abortProcessInstances(getSelectedServerTemplate(),
+                                 containerInstances);
     }
 
     public void bulkSignal(List<ProcessInstanceSummary> processInstances) {
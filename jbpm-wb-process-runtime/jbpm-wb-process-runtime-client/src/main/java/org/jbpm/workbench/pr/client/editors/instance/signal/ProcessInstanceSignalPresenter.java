@@ -19,6 +19,7 @@ package org.jbpm.workbench.pr.client.editors.instance.signal;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
@@ -26,6 +27,8 @@ import javax.inject.Inject;
 import com.google.gwt.core.client.GWT;
 import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.common.client.api.RemoteCallback;
+import org.jbpm.workbench.common.client.util.BulkOperationNotifications;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.pr.client.resources.i18n.Constants;
 import org.jbpm.workbench.pr.events.ProcessInstancesUpdateEvent;
 import org.jbpm.workbench.pr.service.ProcessService;
@@ -92,7 +95,15 @@ public class ProcessInstanceSignalPresenter {
             view.displayNotification(constants.Signaling_Process_Instance() + " (" + constants.Id() + " = " + processInstanceId + ") " + constants.Signal() + " = "
                                              + view.getSignalRefText() + " - " + constants.Signal_Data() + " = " + view.getEventText());
         }
-        processService.call((Void v) -> {
+        processService.call((List<BulkOperationResult<Long>> results) -> {
+                                if (results != null) {
+                                    BulkOperationNotifications.notifyItems(results.stream()
+                                                                                   .filter(result -> !result.isSuccess())
+                                                                                   .collect(Collectors.toList()),
+                                                                           result -> constants.Signaling_Process_Instance_Failed(result.getId(),
+                                                                                                                                 result.getErrorMessage()),
+                                                                           view::displayNotification);
+                                }
                                 processInstancesUpdatedEvent.fire(new ProcessInstancesUpdateEvent(0L));
                                 placeManager.closePlace(place);
                             }
@@ -79,12 +79,18 @@ public interface Constants extends Messages {
 
     String Aborting_Process_Instance(Object id);
 
+    String Aborting_Process_Instance_Failed(Object id,
+                                            String error);
+
     String Signaling_Process_Instance();
 
     String Signal_Name_Required();
 
     String Signaling_Process_Instance_Not_Allowed(Object id);
 
+    String Signaling_Process_Instance_Failed(Object id,
+                                             String error);
+
     String Bulk_Signal();
 
     String ProcessInstanceBreadcrumb(Long processInstanceId);
@@ -40,6 +40,8 @@ import org.jbpm.workbench.common.client.filters.basic.BasicFilterRemoveEvent;
 import org.jbpm.workbench.common.client.list.ExtendedPagedTable;
 import org.jbpm.workbench.common.client.list.ListTable;
 import org.jbpm.workbench.common.client.menu.ServerTemplateSelectorMenuBuilder;
+import org.jbpm.workbench.common.client.util.BulkOperationNotifications;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.filter.FilterSettingsJSONMarshaller;
 import org.jbpm.workbench.df.client.filter.FilterSettingsManager;
@@ -319,6 +321,43 @@ public class ProcessInstanceListPresenterTest {
                                                      eq(containerInstance));
     }
 
+    @Test
+    public void abortProcessInstancesFailureNotifiedTest() {
+        final Map<String, List<Long>> containerInstance = singletonMap("container",
+                                                                       Arrays.asList(1L,
+                                                                                     2L));
+        when(processService.abortProcessInstances(anyString(),
+                                                  anyMap())).thenReturn(Arrays.asList(BulkOperationResult.success(1L),
+                                                                                      BulkOperationResult.failure(2L,
+                                                                                                                  "error")));
+
+        presenter.abortProcessInstances(containerInstance);
+
+        verify(viewMock).displayNotification(Constants.INSTANCE.Aborting_Process_Instance_Failed(2L,
+                                                                                                 "error"));
+    }
+
+    @Test
+    public void abortProcessInstancesFailuresNotifiedOnceTest() {
+        final List<Long> processInstanceIds = new ArrayList<>();
+        final List<BulkOperationResult<Long>> results = new ArrayList<>();
+        for (long id = 1; id <= BulkOperationNotifications.MAX_ITEMS_SHOWN + 2; id++) {
+            processInstanceIds.add(id);
+            results.add(BulkOperationResult.failure(id,
+                                                    "error"));
+        }
+        when(processService.abortProcessInstances(anyString(),
+                                                  anyMap())).thenReturn(results);
+
+        presenter.abortProcessInstances(singletonMap("container",
+                                                     processInstanceIds));
+
+        verify(viewMock).displayNotification(BulkOperationNotifications.describeItems(results,
+                                                                                      result -> Constants.INSTANCE.Aborting_Process_Instance_Failed(result.getId(),
+                                                                                                                                                    result.getErrorMessage())));
+        verify(viewMock).displayNotification(anyString());
+    }
+
     @Test
     public void bulkAbortProcessInstancesTest() {
         final Map<String, List<Long>> containerInstance = new HashMap<>();
@@ -15,11 +15,14 @@
  */
 package org.jbpm.workbench.pr.client.editors.instance.signal;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import javax.enterprise.event.Event;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.jbpm.workbench.common.client.util.BulkOperationNotifications;
+import org.jbpm.workbench.common.model.BulkOperationResult;
 import org.jbpm.workbench.pr.client.resources.i18n.Constants;
 import org.jbpm.workbench.pr.events.ProcessInstancesUpdateEvent;
 import org.jbpm.workbench.pr.service.ProcessService;
@@ -117,4 +120,57 @@ public class ProcessInstanceSignalPresenterTest {
                                                       eq(signalRef),
                                                       eq(eventText));
     }
+
+    @Test
+    public void signalProcessInstancesFailureNotifiedTest() {
+        String signalRef = "SIGNAL_REF";
+        List<Long> processInstanceIds = Arrays.asList(PI_ID,
+                                                      PI_ID2);
+        when(processService.signalProcessInstances(anyString(),
+                                                   anyList(),
+                                                   anyList(),
+                                                   anyString(),
+                                                   any())).thenReturn(Arrays.asList(BulkOperationResult.success(PI_ID),
+                                                                                    BulkOperationResult.failure(PI_ID2,
+                                                                                                                "error")));
+
+        presenter.onStartup(place);
+        presenter.onOpen();
+        when(view.getSignalRefText()).thenReturn(signalRef);
+        when(view.getEventText()).thenReturn("");
+        presenter.signalProcessInstances(processInstanceIds);
+
+        verify(view).displayNotification(Constants.INSTANCE.Signaling_Process_Instance_Failed(PI_ID2,
+                                                                                             "error"));
+        verify(processInstancesUpdatedEvent).fire(any(ProcessInstancesUpdateEvent.class));
+        verify(placeManager).closePlace(place);
+    }
+
+    @Test
+    public void signalProcessInstancesFailuresNotifiedOnceTest() {
+        final List<Long> processInstanceIds = new ArrayList<>();
+        final List<BulkOperationResult<Long>> results = new ArrayList<>();
+        for (long id = 1; id <= BulkOperationNotifications.MAX_ITEMS_SHOWN + 2; id++) {
+            processInstanceIds.add(id);
+            results.add(BulkOperationResult.failure(id,
+                                                    "error"));
+        }
+        when(processService.signalProcessInstances(anyString(),
+                                                   anyList(),
+                                                   anyList(),
+                                                   anyString(),
+                                                   any())).thenReturn(results);
+
+        presenter.onStartup(place);
+        presenter.onOpen();
+        when(view.getSignalRefText()).thenReturn("SIGNAL_REF");
+        when(view.getEventText()).thenReturn("");
+        presenter.signalProcessInstances(processInstanceIds);
+
+        verify(view).displayNotification(BulkOperationNotifications.describeItems(results,
+                                                                                  result -> Constants.INSTANCE.Signaling_Process_Instance_Failed(result.getId(),
+                                                                                                                                                 result.getErrorMessage())));
+        verify(view,
+               times(processInstanceIds.size() + 1)).displayNotification(anyString());
+    }
 }
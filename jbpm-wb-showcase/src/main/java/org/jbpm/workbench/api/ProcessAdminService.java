@@ -16,17 +16,22 @@
 
 package org.jbpm.workbench.api;
 
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.errai.bus.server.annotations.Remote;
+import org.jbpm.workbench.pr.model.ProcessStartResult;
 
 @Remote
 public interface ProcessAdminService {
 
-    void generateMockInstances(String serverTemplateId,
-                               String containerId,
-                               String processId,
-                               String correlationKey,
-                               Map<String, Object> params,
-                               Integer amountOfInstances);
+    /**
+     * @return the rows that failed to start, empty when every instance was created
+     */
+    List<ProcessStartResult> generateMockInstances(String serverTemplateId,
+                                                   String containerId,
+                                                   String processId,
+                                                   String correlationKey,
+                                                   Map<String, Object> params,
+                                                   Integer amountOfInstances);
 }
\ No newline at end of file
@@ -43,6 +43,10 @@ public interface ProcessAdminConstants extends Messages {
 
     String ProcessInstancesSuccessfullyCreated();
 
+    String ProcessInstancesCreationFailed(int failed,
+                                          int total,
+                                          String errorMessage);
+
     String ServerTemplate();
 
     String Reset();
@@ -29,6 +29,7 @@ import org.jboss.errai.common.client.api.Caller;
 import org.jbpm.workbench.api.ProcessAdminService;
 import org.jbpm.workbench.client.i18n.ProcessAdminConstants;
 import org.jbpm.workbench.pr.model.ProcessDefinitionKey;
+import org.jbpm.workbench.pr.model.ProcessStartResult;
 import org.jbpm.workbench.pr.model.ProcessSummary;
 import org.jbpm.workbench.pr.service.ProcessRuntimeDataService;
 import org.kie.server.controller.api.model.spec.ServerTemplateList;
@@ -101,7 +102,15 @@ public class ProcessAdminSettingsPresenter {
                                                                                        ProcessVariableSummary::getVariableValue));
 
         instancesAdminServices.call(
-                p -> view.displayNotification(constants.ProcessInstancesSuccessfullyCreated()))
+                (List<ProcessStartResult> failed) -> {
+                    if (failed == null || failed.isEmpty()) {
+                        view.displayNotification(constants.ProcessInstancesSuccessfullyCreated());
+                    } else {
+                        view.displayNotification(constants.ProcessInstancesCreationFailed(failed.size(),
+                                                                                          amountOfTasks,
+                                                                                          failed.get(0).getErrorMessage()));
+                    }
+                })
                 .generateMockInstances(serverTemplateId,
                                        summary.getDeploymentId(),
                                        summary.getProcessDefId(),
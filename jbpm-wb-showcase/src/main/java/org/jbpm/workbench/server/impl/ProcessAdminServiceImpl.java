@@ -15,12 +15,18 @@
  */
 package org.jbpm.workbench.server.impl;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.jboss.errai.bus.server.annotations.Service;
+import org.jbpm.workbench.pr.model.ProcessStartBatch;
+import org.jbpm.workbench.pr.model.ProcessStartResult;
 import org.jbpm.workbench.pr.service.ProcessService;
 import org.jbpm.workbench.api.ProcessAdminService;
 
@@ -28,23 +34,39 @@ import org.jbpm.workbench.api.ProcessAdminService;
 @ApplicationScoped
 public class ProcessAdminServiceImpl implements ProcessAdminService {
 
+    private static final String CORRELATION_KEY_COLUMN = "correlationKey";
+
     @Inject
     private ProcessService processService;
 
     @Override
-    public void generateMockInstances(final String serverTemplateId,
-                                      final String containerId,
-                                      final String processId,
-                                      final String correlationKey,
-                                      final Map<String, Object> params,
-                                      final Integer amountOfInstances) {
-        IntStream.range(0,
-                        amountOfInstances)
-                .forEach(e -> processService.startProcess(
-                        serverTemplateId,
-                        containerId,
-                        processId,
-                        correlationKey,
-                        params));
+    public List<ProcessStartResult> generateMockInstances(final String serverTemplateId,
+                                                          final String containerId,
+                                                          final String processId,
+                                                          final String correlationKey,
+                                                          final Map<String, Object> params,
+                                                          final Integer amountOfInstances) {
+        final boolean withCorrelationKey = correlationKey != null && !correlationKey.isEmpty();
+        final ProcessStartBatch batch = new ProcessStartBatch(UUID.randomUUID().toString(),
+                                                              serverTemplateId,
+                                                              containerId,
+                                                              processId,
+                                                              IntStream.range(0,
+                                                                              amountOfInstances)
+                                                                      .mapToObj(i -> {
+                                                                          final Map<String, Object> row = params == null ? new HashMap<>() : new HashMap<>(params);
+                                                                          if (withCorrelationKey) {
+                                                                              row.put(CORRELATION_KEY_COLUMN,
+                                                                                      correlationKey);
+                                                                          }
+                                                                          return row;
+                                                                      })
+                                                                      .collect(Collectors.toList()));
+        if (withCorrelationKey) {
+            batch.setCorrelationKeyColumn(CORRELATION_KEY_COLUMN);
+        }
+        return processService.startProcesses(batch).stream()
+                .filter(result -> !result.isSuccess())
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
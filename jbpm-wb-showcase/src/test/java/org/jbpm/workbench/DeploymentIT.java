@@ -139,8 +139,16 @@ public class DeploymentIT {
                               "tasksMonitoring");
         assertQueryDefinition(queryServicesClient,
                               "jbpmRequestList");
+        assertQueryDefinition(queryServicesClient,
+                              "jbpmRequestHealth");
+        assertQueryDefinition(queryServicesClient,
+                              "jbpmRequestThroughput");
+        assertQueryDefinition(queryServicesClient,
+                              "jbpmRequestBatch");
         assertQueryDefinition(queryServicesClient,
                               "jbpmExecutionErrorList");
+        assertQueryDefinition(queryServicesClient,
+                              "jbpmExecutionErrorBatch");
         assertQueryDefinition(queryServicesClient,
                               "jbpmHumanTasks");
         assertQueryDefinition(queryServicesClient,
@@ -149,6 +157,10 @@ public class DeploymentIT {
                               "jbpmHumanTasksWithAdmin");
         assertQueryDefinition(queryServicesClient,
                               "jbpmHumanTasksWithVariables");
+        assertQueryDefinition(queryServicesClient,
+                              "jbpmTaskEventsLastId");
+        assertQueryDefinition(queryServicesClient,
+                              "jbpmTaskEventsAssignments");
     }
 
     private void assertQueryDefinition(final QueryServicesClient client,